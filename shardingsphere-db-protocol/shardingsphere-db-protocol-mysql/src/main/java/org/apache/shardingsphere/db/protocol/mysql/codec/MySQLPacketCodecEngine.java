@@ -85,6 +85,7 @@ public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine<M
     
     @Override
     public void encode(final ChannelHandlerContext context, final MySQLPacket message, final ByteBuf out) {
+        int startIndex = out.writerIndex();
         MySQLPacketPayload payload = new MySQLPacketPayload(prepareMessageHeader(out).markWriterIndex(), context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get());
         try {
             message.write(payload);
@@ -95,7 +96,7 @@ public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine<M
             SQLException unknownSQLException = new UnknownSQLException(ex).toSQLException();
             new MySQLErrPacket(1, unknownSQLException.getErrorCode(), unknownSQLException.getSQLState(), unknownSQLException.getMessage()).write(payload);
         } finally {
-            updateMessageHeader(out, message.getSequenceId());
+            updateMessageHeader(out, startIndex, message.getSequenceId());
         }
     }
     
@@ -103,9 +104,10 @@ public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine<M
         return out.writeInt(0);
     }
     
-    private void updateMessageHeader(final ByteBuf byteBuf, final int sequenceId) {
-        byteBuf.setMediumLE(0, byteBuf.readableBytes() - PAYLOAD_LENGTH - SEQUENCE_LENGTH);
-        byteBuf.setByte(3, sequenceId);
+    private void updateMessageHeader(final ByteBuf byteBuf, final int startIndex, final int sequenceId) {
+        int messageLength = byteBuf.readerIndex() + byteBuf.readableBytes() - startIndex;
+        byteBuf.setMediumLE(startIndex, messageLength - PAYLOAD_LENGTH - SEQUENCE_LENGTH);
+        byteBuf.setByte(startIndex + PAYLOAD_LENGTH, sequenceId);
     }
     
     @Override
@@ -45,6 +45,7 @@ import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -156,6 +157,31 @@ public final class MySQLPacketCodecEngineTest {
         verify(byteBuf).setByte(3, 2);
     }
     
+    @Test
+    public void assertEncodeMultiplePacketsIntoSameByteBuf() {
+        MySQLPacket firstMessage = mock(MySQLPacket.class);
+        when(firstMessage.getSequenceId()).thenReturn(1);
+        doAnswer(invocation -> {
+            ((MySQLPacketPayload) invocation.getArgument(0)).writeInt4(1);
+            return null;
+        }).when(firstMessage).write(any(MySQLPacketPayload.class));
+        MySQLPacket secondMessage = mock(MySQLPacket.class);
+        when(secondMessage.getSequenceId()).thenReturn(2);
+        doAnswer(invocation -> {
+            ((MySQLPacketPayload) invocation.getArgument(0)).writeInt2(1);
+            return null;
+        }).when(secondMessage).write(any(MySQLPacketPayload.class));
+        MySQLPacketCodecEngine engine = new MySQLPacketCodecEngine();
+        ByteBuf actual = Unpooled.buffer();
+        engine.encode(context, firstMessage, actual);
+        engine.encode(context, secondMessage, actual);
+        assertThat(actual.readableBytes(), is(14));
+        assertThat(actual.getMediumLE(0), is(4));
+        assertThat(actual.getByte(3), is((byte) 1));
+        assertThat(actual.getMediumLE(8), is(2));
+        assertThat(actual.getByte(11), is((byte) 2));
+    }
+    
     @Test
     public void assertCreatePacketPayload() {
         assertThat(new MySQLPacketCodecEngine().createPacketPayload(byteBuf, StandardCharsets.UTF_8).getByteBuf(), is(byteBuf));
@@ -107,6 +107,8 @@ public final class OpenGaussPacketCodecEngine implements DatabasePacketCodecEngi
     
     @Override
     public void encode(final ChannelHandlerContext context, final PostgreSQLPacket message, final ByteBuf out) {
+        int startIndex = out.writerIndex();
+        out.markWriterIndex();
         boolean isPostgreSQLIdentifierPacket = message instanceof PostgreSQLIdentifierPacket;
         if (isPostgreSQLIdentifierPacket) {
             prepareMessageHeader(out, ((PostgreSQLIdentifierPacket) message).getIdentifier().getValue());
@@ -126,7 +128,7 @@ public final class OpenGaussPacketCodecEngine implements DatabasePacketCodecEngi
             errorResponsePacket.write(payload);
         } finally {
             if (isPostgreSQLIdentifierPacket) {
-                updateMessageLength(out);
+                updateMessageLength(out, startIndex);
             }
         }
     }
@@ -136,8 +138,9 @@ public final class OpenGaussPacketCodecEngine implements DatabasePacketCodecEngi
         out.writeInt(0);
     }
     
-    private void updateMessageLength(final ByteBuf out) {
-        out.setInt(1, out.readableBytes() - MESSAGE_TYPE_LENGTH);
+    private void updateMessageLength(final ByteBuf out, final int startIndex) {
+        int messageLength = out.readerIndex() + out.readableBytes() - startIndex;
+        out.setInt(startIndex + MESSAGE_TYPE_LENGTH, messageLength - MESSAGE_TYPE_LENGTH);
     }
     
     @Override
@@ -179,6 +179,10 @@ METADATA
     : M E T A D A T A
     ;
 
+STATISTICS
+    : S T A T I S T I C S
+    ;
+
 SQL_PARSER
     : S Q L UL_ P A R S E R
     ;
@@ -55,6 +55,10 @@ refreshTableMetadata
     : REFRESH TABLE METADATA refreshScope?
     ;
 
+refreshTableStatistics
+    : REFRESH TABLE STATISTICS tableName?
+    ;
+
 showTableMetadata
     : SHOW TABLE METADATA tableName (COMMA tableName*)? (FROM databaseName)?
     ;
@@ -48,6 +48,7 @@ execute
     | alterDefaultSingleTableRule
     | dropDefaultSingleTableRule
     | refreshTableMetadata
+    | refreshTableStatistics
     | showTableMetadata
     | showSQLParserRule
     | alterSQLParserRule
@@ -52,6 +52,8 @@ public final class DatabaseDiscoveryDataSourceRule {
     
     private volatile String primaryDataSourceName;
     
+    private volatile Map<String, Long> replicationDelayMilliseconds = Collections.emptyMap();
+    
     public DatabaseDiscoveryDataSourceRule(final DatabaseDiscoveryDataSourceRuleConfiguration config,
                                            final Properties props, final DatabaseDiscoveryProviderAlgorithm databaseDiscoveryProviderAlgorithm) {
         checkConfiguration(config);
@@ -93,6 +95,22 @@ public final class DatabaseDiscoveryDataSourceRule {
         disabledDataSourceNames.remove(dataSourceName);
     }
     
+    /**
+     * Update replication delay milliseconds of data source.
+     *
+     * @param dataSourceName data source name
+     * @param delayMilliseconds replication delay milliseconds
+     */
+    public synchronized void updateReplicationDelayMilliseconds(final String dataSourceName, final long delayMilliseconds) {
+        Long originalDelayMilliseconds = replicationDelayMilliseconds.get(dataSourceName);
+        if (null != originalDelayMilliseconds && delayMilliseconds == originalDelayMilliseconds) {
+            return;
+        }
+        Map<String, Long> result = new HashMap<>(replicationDelayMilliseconds);
+        result.put(dataSourceName, delayMilliseconds);
+        replicationDelayMilliseconds = Collections.unmodifiableMap(result);
+    }
+    
     /**
      * Change primary data source name.
      *
@@ -196,6 +196,11 @@ public final class DatabaseDiscoveryRule implements DatabaseRule, DataSourceCont
         return dataSourceRules.get(dataSourceName).getReplicaDataSourceNames();
     }
     
+    @Override
+    public Map<String, Long> getReplicationDelayMilliseconds(final String dataSourceName) {
+        return dataSourceRules.get(dataSourceName).getReplicationDelayMilliseconds();
+    }
+    
     @Override
     public void updateStatus(final DataSourceStatusChangedEvent event) {
         StorageNodeDataSourceChangedEvent dataSourceChangedEvent = (StorageNodeDataSourceChangedEvent) event;
@@ -206,6 +211,7 @@ public final class DatabaseDiscoveryRule implements DatabaseRule, DataSourceCont
         } else {
             dataSourceRule.enableDataSource(dataSourceChangedEvent.getQualifiedDatabase().getDataSourceName());
         }
+        dataSourceRule.updateReplicationDelayMilliseconds(dataSourceChangedEvent.getQualifiedDatabase().getDataSourceName(), dataSourceChangedEvent.getDataSource().getReplicationDelayMilliseconds());
     }
     
     @Override
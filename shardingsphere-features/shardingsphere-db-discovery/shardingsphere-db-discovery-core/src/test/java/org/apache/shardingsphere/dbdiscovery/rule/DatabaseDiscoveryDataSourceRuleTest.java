@@ -65,6 +65,14 @@ public final class DatabaseDiscoveryDataSourceRuleTest {
         assertThat(databaseDiscoveryDataSourceRule.getDataSourceMapper(), is(getExpectedDataSourceMapper()));
     }
     
+    @Test
+    public void assertUpdateReplicationDelayMilliseconds() {
+        Map<String, Long> originalDelays = databaseDiscoveryDataSourceRule.getReplicationDelayMilliseconds();
+        databaseDiscoveryDataSourceRule.updateReplicationDelayMilliseconds("ds_1", 1000L);
+        assertThat(databaseDiscoveryDataSourceRule.getReplicationDelayMilliseconds(), is(Collections.singletonMap("ds_1", 1000L)));
+        assertThat(originalDelays, is(Collections.emptyMap()));
+    }
+    
     private Map<String, Collection<String>> getExpectedDataSourceMapper() {
         Map<String, Collection<String>> result = new LinkedHashMap<>(2, 1);
         result.put("test_pr", Collections.singletonList("ds_1"));
@@ -39,6 +39,9 @@ public final class OpenGaussNormalReplicationDatabaseDiscoveryProviderAlgorithm
     
     private static final String QUERY_DB_ROLE = "SELECT local_role,db_state FROM pg_stat_get_stream_replications()";
     
+    private static final String QUERY_REPLICATION_DELAY = "SELECT CASE WHEN pg_last_xlog_receive_location() = pg_last_xlog_replay_location() THEN 0 "
+            + "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000 END AS delay_milliseconds";
+    
     private Properties props;
     
     @Override
@@ -65,7 +68,13 @@ public final class OpenGaussNormalReplicationDatabaseDiscoveryProviderAlgorithm
         try (
                 Connection connection = replicaDataSource.getConnection();
                 Statement statement = connection.createStatement()) {
-            return new ReplicaDataSourceStatus(isOnlineDataSource(statement), 0L);
+            return new ReplicaDataSourceStatus(isOnlineDataSource(statement), queryReplicationDelayMilliseconds(statement));
+        }
+    }
+    
+    private long queryReplicationDelayMilliseconds(final Statement statement) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery(QUERY_REPLICATION_DELAY)) {
+            return resultSet.next() ? Math.max(resultSet.getLong("delay_milliseconds"), 0L) : 0L;
         }
     }
     
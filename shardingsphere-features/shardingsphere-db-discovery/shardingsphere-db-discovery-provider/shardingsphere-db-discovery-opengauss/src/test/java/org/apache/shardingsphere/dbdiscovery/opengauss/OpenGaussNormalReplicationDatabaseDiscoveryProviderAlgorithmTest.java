@@ -17,12 +17,15 @@
 
 package org.apache.shardingsphere.dbdiscovery.opengauss;
 
+import org.apache.shardingsphere.dbdiscovery.spi.ReplicaDataSourceStatus;
 import org.junit.Test;
 
 import javax.sql.DataSource;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
@@ -35,6 +38,24 @@ public final class OpenGaussNormalReplicationDatabaseDiscoveryProviderAlgorithmT
         assertTrue(new OpenGaussNormalReplicationDatabaseDiscoveryProviderAlgorithm().isPrimaryInstance(mockDatSource()));
     }
     
+    @Test
+    public void assertLoadReplicaStatus() throws SQLException {
+        DataSource dataSource = mock(DataSource.class, RETURNS_DEEP_STUBS);
+        ResultSet roleResultSet = mock(ResultSet.class);
+        when(dataSource.getConnection().createStatement().executeQuery("SELECT local_role,db_state FROM pg_stat_get_stream_replications()")).thenReturn(roleResultSet);
+        when(roleResultSet.next()).thenReturn(true, false);
+        when(roleResultSet.getString("local_role")).thenReturn("Standby");
+        when(roleResultSet.getString("db_state")).thenReturn("Normal");
+        ResultSet delayResultSet = mock(ResultSet.class);
+        when(dataSource.getConnection().createStatement().executeQuery("SELECT CASE WHEN pg_last_xlog_receive_location() = pg_last_xlog_replay_location() THEN 0 "
+                + "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000 END AS delay_milliseconds")).thenReturn(delayResultSet);
+        when(delayResultSet.next()).thenReturn(true, false);
+        when(delayResultSet.getLong("delay_milliseconds")).thenReturn(1500L);
+        ReplicaDataSourceStatus actual = new OpenGaussNormalReplicationDatabaseDiscoveryProviderAlgorithm().loadReplicaStatus(dataSource);
+        assertTrue(actual.isOnline());
+        assertThat(actual.getReplicationDelayMilliseconds(), is(1500L));
+    }
+    
     private DataSource mockDatSource() throws SQLException {
         DataSource result = mock(DataSource.class, RETURNS_DEEP_STUBS);
         ResultSet resultSet = mock(ResultSet.class);
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.spi.cipher;
+
+import javax.crypto.Cipher;
+import java.security.GeneralSecurityException;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.function.Supplier;
+
+/**
+ * Cipher pool.
+ * 
+ * <p>An initialized cipher is borrowed for one call and returned afterwards, so reuse does not depend on the calling thread
+ * and works on shared or virtual thread executors. At most {@code maxIdleSize} idle ciphers are retained.</p>
+ */
+public final class CipherPool {
+    
+    private final Supplier<Cipher> cipherFactory;
+    
+    private final Queue<Cipher> idleCiphers;
+    
+    public CipherPool(final Supplier<Cipher> cipherFactory) {
+        this(cipherFactory, Runtime.getRuntime().availableProcessors());
+    }
+    
+    public CipherPool(final Supplier<Cipher> cipherFactory, final int maxIdleSize) {
+        this.cipherFactory = cipherFactory;
+        idleCiphers = new ArrayBlockingQueue<>(maxIdleSize);
+    }
+    
+    /**
+     * Encrypt or decrypt data with a pooled cipher.
+     * 
+     * <p>The cipher is dropped instead of returned to the pool if the operation fails.</p>
+     *
+     * @param input input data
+     * @return output data
+     * @throws GeneralSecurityException general security exception
+     */
+    public byte[] doFinal(final byte[] input) throws GeneralSecurityException {
+        Cipher cipher = Optional.ofNullable(idleCiphers.poll()).orElseGet(cipherFactory);
+        byte[] result = cipher.doFinal(input);
+        idleCiphers.offer(cipher);
+        return result;
+    }
+}
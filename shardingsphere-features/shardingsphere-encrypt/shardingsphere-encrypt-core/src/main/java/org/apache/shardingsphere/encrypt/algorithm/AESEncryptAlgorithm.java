@@ -22,15 +22,13 @@ import lombok.Getter;
 import lombok.SneakyThrows;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.apache.shardingsphere.encrypt.spi.cipher.CipherPool;
 import org.apache.shardingsphere.encrypt.spi.context.EncryptContext;
 
 import javax.crypto.Cipher;
-import javax.crypto.NoSuchPaddingException;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.Properties;
@@ -45,12 +43,16 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm<Object, Strin
     @Getter
     private Properties props;
     
-    private byte[] secretKey;
+    private CipherPool encryptCipherPool;
+    
+    private CipherPool decryptCipherPool;
     
     @Override
     public void init(final Properties props) {
         this.props = props;
-        secretKey = createSecretKey(props);
+        SecretKeySpec secretKeySpec = new SecretKeySpec(createSecretKey(props), getType());
+        encryptCipherPool = new CipherPool(() -> createCipher(Cipher.ENCRYPT_MODE, secretKeySpec));
+        decryptCipherPool = new CipherPool(() -> createCipher(Cipher.DECRYPT_MODE, secretKeySpec));
     }
     
     private byte[] createSecretKey(final Properties props) {
@@ -64,7 +66,7 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm<Object, Strin
         if (null == plainValue) {
             return null;
         }
-        byte[] result = getCipher(Cipher.ENCRYPT_MODE).doFinal(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
+        byte[] result = encryptCipherPool.doFinal(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
         return Base64.getEncoder().encodeToString(result);
     }
     
@@ -74,13 +76,14 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm<Object, Strin
         if (null == cipherValue) {
             return null;
         }
-        byte[] result = getCipher(Cipher.DECRYPT_MODE).doFinal(Base64.getDecoder().decode(cipherValue));
+        byte[] result = decryptCipherPool.doFinal(Base64.getDecoder().decode(cipherValue));
         return new String(result, StandardCharsets.UTF_8);
     }
     
-    private Cipher getCipher(final int decryptMode) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidKeyException {
+    @SneakyThrows(GeneralSecurityException.class)
+    private Cipher createCipher(final int cipherMode, final SecretKeySpec secretKeySpec) {
         Cipher result = Cipher.getInstance(getType());
-        result.init(decryptMode, new SecretKeySpec(secretKey, getType()));
+        result.init(cipherMode, secretKeySpec);
         return result;
     }
     
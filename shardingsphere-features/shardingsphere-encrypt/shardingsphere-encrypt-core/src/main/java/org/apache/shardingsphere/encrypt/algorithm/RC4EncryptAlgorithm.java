@@ -57,6 +57,7 @@ public final class RC4EncryptAlgorithm implements EncryptAlgorithm<Object, Strin
             throw new EncryptAlgorithmInitializationException("RC4", "Key length has to be between " + KEY_MIN_LENGTH + " and " + (SBOX_LENGTH - 1));
         }
         this.key = key;
+        sBox = initSBox(key);
     }
     
     @Override
@@ -86,7 +87,7 @@ public final class RC4EncryptAlgorithm implements EncryptAlgorithm<Object, Strin
      * @see <a href="http://en.wikipedia.org/wiki/RC4#Pseudo-random_generation_algorithm_.28PRGA.29">Pseudo-random generation algorithm</a>
      */
     private byte[] crypt(final byte[] message) {
-        sBox = initSBox(key);
+        int[] sBox = this.sBox.clone();
         byte[] result = new byte[message.length];
         int i = 0;
         int j = 0;
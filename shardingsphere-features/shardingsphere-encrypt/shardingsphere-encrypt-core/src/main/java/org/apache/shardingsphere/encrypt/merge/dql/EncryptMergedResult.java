@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.encrypt.merge.dql;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.encrypt.spi.context.EncryptContext;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
@@ -24,6 +25,7 @@ import org.apache.shardingsphere.infra.merge.result.MergedResult;
 
 import java.io.InputStream;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Optional;
 
@@ -33,28 +35,50 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public final class EncryptMergedResult implements MergedResult {
     
+    private static final ColumnDecryptor NOT_ENCRYPTED_COLUMN = new ColumnDecryptor(null, null);
+    
     private final EncryptAlgorithmMetaData metaData;
     
     private final MergedResult mergedResult;
     
+    private ColumnDecryptor[] columnDecryptors = new ColumnDecryptor[0];
+    
     @Override
     public boolean next() throws SQLException {
         return mergedResult.next();
     }
     
-    @SuppressWarnings({"rawtypes", "unchecked"})
+    @SuppressWarnings("unchecked")
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        ColumnDecryptor columnDecryptor = getColumnDecryptor(columnIndex);
+        if (NOT_ENCRYPTED_COLUMN == columnDecryptor) {
+            return mergedResult.getValue(columnIndex, type);
+        }
+        Object cipherValue = mergedResult.getValue(columnIndex, Object.class);
+        return null == cipherValue ? null : columnDecryptor.getEncryptAlgorithm().decrypt(cipherValue, columnDecryptor.getEncryptContext());
+    }
+    
+    private ColumnDecryptor getColumnDecryptor(final int columnIndex) {
+        if (columnIndex >= columnDecryptors.length) {
+            columnDecryptors = Arrays.copyOf(columnDecryptors, columnIndex + 1);
+        }
+        ColumnDecryptor result = columnDecryptors[columnIndex];
+        if (null == result) {
+            result = createColumnDecryptor(columnIndex);
+            columnDecryptors[columnIndex] = result;
+        }
+        return result;
+    }
+    
+    @SuppressWarnings("rawtypes")
+    private ColumnDecryptor createColumnDecryptor(final int columnIndex) {
         Optional<EncryptContext> encryptContext = metaData.findEncryptContext(columnIndex);
         if (!encryptContext.isPresent() || !metaData.isQueryWithCipherColumn(encryptContext.get().getTableName(), encryptContext.get().getColumnName())) {
-            return mergedResult.getValue(columnIndex, type);
+            return NOT_ENCRYPTED_COLUMN;
         }
         Optional<EncryptAlgorithm> encryptAlgorithm = metaData.findEncryptor(encryptContext.get().getTableName(), encryptContext.get().getColumnName());
-        if (!encryptAlgorithm.isPresent()) {
-            return mergedResult.getValue(columnIndex, type);
-        }
-        Object cipherValue = mergedResult.getValue(columnIndex, Object.class);
-        return null == cipherValue ? null : encryptAlgorithm.get().decrypt(cipherValue, encryptContext.get());
+        return encryptAlgorithm.map(optional -> new ColumnDecryptor(optional, encryptContext.get())).orElse(NOT_ENCRYPTED_COLUMN);
     }
     
     @Override
@@ -71,4 +95,19 @@ public final class EncryptMergedResult implements MergedResult {
     public boolean wasNull() throws SQLException {
         return mergedResult.wasNull();
     }
+    
+    @Override
+    public void close() throws SQLException {
+        mergedResult.close();
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    @SuppressWarnings("rawtypes")
+    private static final class ColumnDecryptor {
+        
+        private final EncryptAlgorithm encryptAlgorithm;
+        
+        private final EncryptContext encryptContext;
+    }
 }
@@ -28,6 +28,8 @@ import org.apache.shardingsphere.encrypt.rewrite.parameter.rewriter.EncryptPredi
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
 import org.apache.shardingsphere.encrypt.rule.aware.EncryptRuleAware;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.rewrite.parameter.rewriter.ParameterRewriter;
 import org.apache.shardingsphere.infra.rewrite.parameter.rewriter.ParameterRewriterBuilder;
@@ -53,13 +55,15 @@ public final class EncryptParameterRewriterBuilder implements ParameterRewriterB
     
     private final Collection<EncryptCondition> encryptConditions;
     
+    private final ConfigurationProperties props;
+    
     @SuppressWarnings("rawtypes")
     @Override
     public Collection<ParameterRewriter> getParameterRewriters() {
         Collection<ParameterRewriter> result = new LinkedList<>();
         addParameterRewriter(result, new EncryptAssignmentParameterRewriter());
         addParameterRewriter(result, new EncryptPredicateParameterRewriter());
-        addParameterRewriter(result, new EncryptInsertValueParameterRewriter());
+        addParameterRewriter(result, new EncryptInsertValueParameterRewriter(props.<Integer>getValue(ConfigurationPropertyKey.ENCRYPT_INSERT_VALUES_EXECUTOR_SIZE)));
         addParameterRewriter(result, new EncryptInsertOnDuplicateKeyUpdateValueParameterRewriter());
         return result;
     }
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.encrypt.rewrite.parameter.rewriter;
 
 import com.google.common.base.Preconditions;
+import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import org.apache.shardingsphere.encrypt.context.EncryptContextBuilder;
 import org.apache.shardingsphere.encrypt.exception.UnsupportedEncryptInsertValueException;
@@ -33,6 +34,7 @@ import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilde
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.GroupedParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.StandardParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.rewriter.ParameterRewriter;
+import org.apache.shardingsphere.infra.util.exception.sql.UnknownSQLException;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
 import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.InsertStatementHandler;
@@ -43,13 +45,24 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Insert value parameter rewriter for encrypt.
  */
+@RequiredArgsConstructor
 @Setter
 public final class EncryptInsertValueParameterRewriter implements ParameterRewriter<InsertStatementContext>, EncryptRuleAware, DatabaseNameAware {
     
+    private static final int PARALLEL_ENCRYPT_THRESHOLD = 1000;
+    
+    private static final int MIN_PARALLEL_ENCRYPT_CHUNK_SIZE = 250;
+    
+    private final int parallelExecutorSize;
+    
     private EncryptRule encryptRule;
     
     private String databaseName;
@@ -76,6 +89,13 @@ public final class EncryptInsertValueParameterRewriter implements ParameterRewri
     private void encryptInsertValues(final GroupedParameterBuilder parameterBuilder, final InsertStatementContext insertStatementContext,
                                      final EncryptAlgorithm<?, ?> encryptAlgorithm, final EncryptAlgorithm<?, ?> assistEncryptAlgorithm, final EncryptContext encryptContext) {
         int columnIndex = getColumnIndex(parameterBuilder, insertStatementContext, encryptContext.getColumnName());
+        if (parallelExecutorSize > 0 && insertStatementContext.getGroupedParameters().size() >= PARALLEL_ENCRYPT_THRESHOLD) {
+            Optional<ExecutorService> executorService = encryptRule.findInsertValuesExecutorService(parallelExecutorSize);
+            if (executorService.isPresent()) {
+                encryptInsertValuesInParallel(executorService.get(), parameterBuilder, insertStatementContext, columnIndex, encryptAlgorithm, assistEncryptAlgorithm, encryptContext);
+                return;
+            }
+        }
         int count = 0;
         for (List<Object> each : insertStatementContext.getGroupedParameters()) {
             int parameterIndex = insertStatementContext.getInsertValueContexts().get(count).getParameterIndex(columnIndex);
@@ -92,6 +112,80 @@ public final class EncryptInsertValueParameterRewriter implements ParameterRewri
         }
     }
     
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private void encryptInsertValuesInParallel(final ExecutorService executorService, final GroupedParameterBuilder parameterBuilder, final InsertStatementContext insertStatementContext,
+                                               final int columnIndex, final EncryptAlgorithm encryptAlgorithm, final EncryptAlgorithm assistEncryptor, final EncryptContext encryptContext) {
+        int rowCount = insertStatementContext.getGroupedParameters().size();
+        int[] rowIndexes = new int[rowCount];
+        Object[] originalValues = new Object[rowCount];
+        int valueCount = 0;
+        int count = 0;
+        for (List<Object> each : insertStatementContext.getGroupedParameters()) {
+            if (!each.isEmpty() && insertStatementContext.getInsertValueContexts().get(count).getValueExpressions().get(columnIndex) instanceof ParameterMarkerExpressionSegment) {
+                rowIndexes[valueCount] = count;
+                originalValues[valueCount] = insertStatementContext.getInsertValueContexts().get(count).getLiteralValue(columnIndex)
+                        .orElseThrow(() -> new UnsupportedEncryptInsertValueException(columnIndex));
+                valueCount++;
+            }
+            count++;
+        }
+        if (null != assistEncryptor) {
+            Preconditions.checkArgument(encryptRule.findAssistedQueryColumn(encryptContext.getTableName(), encryptContext.getColumnName()).isPresent(), "Can not find assisted query Column Name");
+        }
+        boolean plainColumnPresent = encryptRule.findPlainColumn(encryptContext.getTableName(), encryptContext.getColumnName()).isPresent();
+        Object[] cipherValues = new Object[valueCount];
+        Object[] assistedQueryValues = null == assistEncryptor ? null : new Object[valueCount];
+        int chunkSize = Math.max(MIN_PARALLEL_ENCRYPT_CHUNK_SIZE, (valueCount + parallelExecutorSize) / (parallelExecutorSize + 1));
+        Collection<Future<?>> futures = new LinkedList<>();
+        for (int start = chunkSize; start < valueCount; start += chunkSize) {
+            int from = start;
+            int to = Math.min(start + chunkSize, valueCount);
+            Runnable encryptChunk = () -> encryptValues(encryptAlgorithm, assistEncryptor, encryptContext, originalValues, cipherValues, assistedQueryValues, from, to);
+            try {
+                futures.add(executorService.submit(encryptChunk));
+            } catch (final RejectedExecutionException ex) {
+                encryptChunk.run();
+            }
+        }
+        encryptValues(encryptAlgorithm, assistEncryptor, encryptContext, originalValues, cipherValues, assistedQueryValues, 0, Math.min(chunkSize, valueCount));
+        for (Future<?> each : futures) {
+            waitForEncryption(each);
+        }
+        for (int i = 0; i < valueCount; i++) {
+            int parameterIndex = insertStatementContext.getInsertValueContexts().get(rowIndexes[i]).getParameterIndex(columnIndex);
+            addEncryptedParameters(parameterBuilder.getParameterBuilders().get(rowIndexes[i]), parameterIndex, cipherValues[i],
+                    null == assistedQueryValues ? null : assistedQueryValues[i], null != assistedQueryValues, plainColumnPresent ? originalValues[i] : null, plainColumnPresent);
+        }
+    }
+    
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private void encryptValues(final EncryptAlgorithm encryptAlgorithm, final EncryptAlgorithm assistEncryptor, final EncryptContext encryptContext,
+                               final Object[] originalValues, final Object[] cipherValues, final Object[] assistedQueryValues, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            cipherValues[i] = encryptAlgorithm.encrypt(originalValues[i], encryptContext);
+            if (null != assistedQueryValues) {
+                assistedQueryValues[i] = assistEncryptor.encrypt(originalValues[i], encryptContext);
+            }
+        }
+    }
+    
+    private void waitForEncryption(final Future<?> future) {
+        try {
+            future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new UnknownSQLException(ex);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            if (ex.getCause() instanceof Error) {
+                throw (Error) ex.getCause();
+            }
+            throw new UnknownSQLException(ex);
+        }
+    }
+    
     private int getColumnIndex(final GroupedParameterBuilder parameterBuilder, final InsertStatementContext insertStatementContext, final String encryptLogicColumnName) {
         List<String> columnNames;
         if (parameterBuilder.getDerivedColumnName().isPresent()) {
@@ -106,21 +200,29 @@ public final class EncryptInsertValueParameterRewriter implements ParameterRewri
     @SuppressWarnings({"rawtypes", "unchecked"})
     private void encryptInsertValue(final EncryptAlgorithm encryptAlgorithm, final EncryptAlgorithm assistEncryptor, final int parameterIndex,
                                     final Object originalValue, final StandardParameterBuilder parameterBuilder, final EncryptContext encryptContext) {
-        parameterBuilder.addReplacedParameters(parameterIndex, encryptAlgorithm.encrypt(originalValue, encryptContext));
-        Collection<Object> addedParameters = new LinkedList<>();
+        Object cipherValue = encryptAlgorithm.encrypt(originalValue, encryptContext);
+        Object assistedQueryValue = null;
         if (null != assistEncryptor) {
             Optional<String> assistedColumnName = encryptRule.findAssistedQueryColumn(encryptContext.getTableName(), encryptContext.getColumnName());
             Preconditions.checkArgument(assistedColumnName.isPresent(), "Can not find assisted query Column Name");
-            addedParameters.add(assistEncryptor.encrypt(originalValue, encryptContext));
+            assistedQueryValue = assistEncryptor.encrypt(originalValue, encryptContext);
         }
-        if (encryptRule.findPlainColumn(encryptContext.getTableName(), encryptContext.getColumnName()).isPresent()) {
-            addedParameters.add(originalValue);
+        boolean plainColumnPresent = encryptRule.findPlainColumn(encryptContext.getTableName(), encryptContext.getColumnName()).isPresent();
+        addEncryptedParameters(parameterBuilder, parameterIndex, cipherValue, assistedQueryValue, null != assistEncryptor, originalValue, plainColumnPresent);
+    }
+    
+    private void addEncryptedParameters(final StandardParameterBuilder parameterBuilder, final int parameterIndex, final Object cipherValue,
+                                        final Object assistedQueryValue, final boolean assistedQueryColumnPresent, final Object plainValue, final boolean plainColumnPresent) {
+        parameterBuilder.addReplacedParameters(parameterIndex, cipherValue);
+        if (!assistedQueryColumnPresent && !plainColumnPresent) {
+            return;
         }
-        if (!addedParameters.isEmpty()) {
-            if (!parameterBuilder.getAddedIndexAndParameters().containsKey(parameterIndex)) {
-                parameterBuilder.getAddedIndexAndParameters().put(parameterIndex, new LinkedList<>());
-            }
-            parameterBuilder.getAddedIndexAndParameters().get(parameterIndex).addAll(addedParameters);
+        Collection<Object> addedParameters = parameterBuilder.getAddedIndexAndParameters().computeIfAbsent(parameterIndex, key -> new LinkedList<>());
+        if (assistedQueryColumnPresent) {
+            addedParameters.add(assistedQueryValue);
+        }
+        if (plainColumnPresent) {
+            addedParameters.add(plainValue);
         }
     }
 }
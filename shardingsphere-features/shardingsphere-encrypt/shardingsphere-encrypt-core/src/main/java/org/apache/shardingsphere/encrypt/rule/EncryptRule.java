@@ -26,9 +26,12 @@ import org.apache.shardingsphere.encrypt.factory.EncryptAlgorithmFactory;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 import org.apache.shardingsphere.encrypt.spi.context.EncryptContext;
 import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.rewrite.sql.token.generator.aware.SchemaMetaDataAware;
 import org.apache.shardingsphere.infra.rule.identifier.scope.DatabaseRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.ResourceHeldRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
 
 import java.util.Collection;
@@ -38,11 +41,14 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Encrypt rule.
  */
-public final class EncryptRule implements DatabaseRule, TableContainedRule {
+public final class EncryptRule implements DatabaseRule, TableContainedRule, ResourceHeldRule<ExecutorServiceManager> {
+    
+    private static final String INSERT_VALUES_EXECUTOR_NAME_FORMAT = "EncryptInsertValues-%d";
     
     @Getter
     private final RuleConfiguration configuration;
@@ -55,6 +61,10 @@ public final class EncryptRule implements DatabaseRule, TableContainedRule {
     @Getter
     private final boolean queryWithCipherColumn;
     
+    private ExecutorServiceManager insertValuesExecutorServiceManager;
+    
+    private boolean closed;
+    
     public EncryptRule(final EncryptRuleConfiguration ruleConfig) {
         configuration = ruleConfig;
         ruleConfig.getEncryptors().forEach((key, value) -> encryptors.put(key, EncryptAlgorithmFactory.newInstance(value)));
@@ -271,4 +281,45 @@ public final class EncryptRule implements DatabaseRule, TableContainedRule {
             }
         }
     }
+    
+    /**
+     * Find executor service to encrypt insert values in parallel.
+     * 
+     * <p>The executor service is created with executor size on first call, and closed when the rule is stale.</p>
+     *
+     * @param executorSize executor size
+     * @return executor service, empty if the rule is stale
+     */
+    public synchronized Optional<ExecutorService> findInsertValuesExecutorService(final int executorSize) {
+        if (closed) {
+            return Optional.empty();
+        }
+        if (null == insertValuesExecutorServiceManager) {
+            insertValuesExecutorServiceManager = new ExecutorServiceManager(executorSize, INSERT_VALUES_EXECUTOR_NAME_FORMAT);
+        }
+        return Optional.of(insertValuesExecutorServiceManager.getExecutorService());
+    }
+    
+    @Override
+    public synchronized ExecutorServiceManager getResource() {
+        return insertValuesExecutorServiceManager;
+    }
+    
+    @Override
+    public void addResource(final ShardingSphereDatabase database) {
+    }
+    
+    @Override
+    public void closeStaleResource(final String databaseName) {
+        closeStaleResource();
+    }
+    
+    @Override
+    public synchronized void closeStaleResource() {
+        closed = true;
+        if (null != insertValuesExecutorServiceManager) {
+            insertValuesExecutorServiceManager.close();
+            insertValuesExecutorServiceManager = null;
+        }
+    }
 }
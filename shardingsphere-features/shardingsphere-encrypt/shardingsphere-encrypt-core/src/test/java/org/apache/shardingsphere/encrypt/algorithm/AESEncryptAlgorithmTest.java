@@ -24,11 +24,20 @@ import org.apache.shardingsphere.infra.config.algorithm.AlgorithmConfiguration;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.security.GeneralSecurityException;
+import java.util.Collection;
+import java.util.LinkedList;
 import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 
 public final class AESEncryptAlgorithmTest {
@@ -68,6 +77,37 @@ public final class AESEncryptAlgorithmTest {
         assertThat(actual.toString(), is("test"));
     }
     
+    @Test
+    public void assertDecryptAfterInvalidCipherValue() {
+        try {
+            encryptAlgorithm.decrypt("dGVzdA==", mock(EncryptContext.class));
+            fail("Expected exception for invalid cipher value.");
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            assertThat(ex, instanceOf(GeneralSecurityException.class));
+        }
+        for (int i = 0; i < 3; i++) {
+            assertThat(encryptAlgorithm.decrypt("dSpPiyENQGDUXMKFMJPGWA==", mock(EncryptContext.class)).toString(), is("test"));
+        }
+    }
+    
+    @Test
+    public void assertEncryptConcurrently() throws InterruptedException, ExecutionException {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            Collection<Future<String>> futures = new LinkedList<>();
+            for (int i = 0; i < 32; i++) {
+                futures.add(executorService.submit(() -> encryptAlgorithm.encrypt("test", mock(EncryptContext.class))));
+            }
+            for (Future<String> each : futures) {
+                assertThat(each.get(), is("dSpPiyENQGDUXMKFMJPGWA=="));
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+    
     @Test
     public void assertDecryptNullValue() {
         assertNull(encryptAlgorithm.decrypt(null, mock(EncryptContext.class)));
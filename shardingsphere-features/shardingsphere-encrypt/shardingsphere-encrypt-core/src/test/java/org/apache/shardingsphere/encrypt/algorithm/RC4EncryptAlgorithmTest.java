@@ -52,6 +52,14 @@ public final class RC4EncryptAlgorithmTest {
         assertThat(encryptAlgorithm.encrypt("test", mock(EncryptContext.class)), is("4Tn7lQ=="));
     }
     
+    @Test
+    public void assertEncodeRepeatedly() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(encryptAlgorithm.encrypt("test", mock(EncryptContext.class)), is("4Tn7lQ=="));
+            assertThat(encryptAlgorithm.decrypt("4Tn7lQ==", mock(EncryptContext.class)).toString(), is("test"));
+        }
+    }
+    
     @Test
     public void assertEncryptNullValue() {
         assertNull(encryptAlgorithm.encrypt(null, mock(EncryptContext.class)));
@@ -38,6 +38,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -103,6 +104,24 @@ public final class EncryptMergedResultTest {
         assertNull(new EncryptMergedResult(metaData, mergedResult).getValue(1, String.class));
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertGetValueWithResolvedColumnDecryptor() throws SQLException {
+        when(mergedResult.getValue(1, Object.class)).thenReturn("VALUE");
+        EncryptAlgorithm<String, String> encryptAlgorithm = mock(EncryptAlgorithm.class);
+        EncryptContext encryptContext = EncryptContextBuilder.build(DefaultDatabase.LOGIC_NAME, DefaultDatabase.LOGIC_NAME, "t_encrypt", "order_id");
+        when(encryptAlgorithm.decrypt("VALUE", encryptContext)).thenReturn("ORIGINAL_VALUE");
+        when(metaData.findEncryptContext(1)).thenReturn(Optional.of(encryptContext));
+        when(metaData.isQueryWithCipherColumn("t_encrypt", "order_id")).thenReturn(true);
+        when(metaData.findEncryptor("t_encrypt", "order_id")).thenReturn(Optional.of(encryptAlgorithm));
+        EncryptMergedResult actual = new EncryptMergedResult(metaData, mergedResult);
+        for (int i = 0; i < 3; i++) {
+            assertThat(actual.getValue(1, String.class), is("ORIGINAL_VALUE"));
+        }
+        verify(metaData).findEncryptContext(1);
+        verify(metaData).findEncryptor("t_encrypt", "order_id");
+    }
+    
     @Test
     public void assertGetCalendarValue() throws SQLException {
         Calendar calendar = Calendar.getInstance();
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.rewrite.parameter.rewriter;
+
+import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.apache.shardingsphere.encrypt.spi.context.EncryptContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.database.DefaultDatabase;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.GroupedParameterBuilder;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.InsertColumnsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLInsertStatement;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class EncryptInsertValueParameterRewriterTest {
+    
+    private final ExecutorService executorService = Executors.newFixedThreadPool(4);
+    
+    private EncryptRule encryptRule;
+    
+    @Before
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public void setUp() {
+        EncryptAlgorithm encryptAlgorithm = mock(EncryptAlgorithm.class);
+        when(encryptAlgorithm.encrypt(any(), any(EncryptContext.class))).thenAnswer(invocation -> "cipher_" + invocation.getArgument(0));
+        EncryptAlgorithm assistEncryptAlgorithm = mock(EncryptAlgorithm.class);
+        when(assistEncryptAlgorithm.encrypt(any(), any(EncryptContext.class))).thenAnswer(invocation -> "assist_" + invocation.getArgument(0));
+        encryptRule = mock(EncryptRule.class);
+        when(encryptRule.findEncryptor("t_user", "pwd")).thenReturn(Optional.of(encryptAlgorithm));
+        when(encryptRule.findAssistedQueryEncryptor("t_user", "pwd")).thenReturn(Optional.of(assistEncryptAlgorithm));
+        when(encryptRule.findAssistedQueryColumn("t_user", "pwd")).thenReturn(Optional.of("pwd_assist"));
+        when(encryptRule.findPlainColumn("t_user", "pwd")).thenReturn(Optional.of("pwd_plain"));
+    }
+    
+    @After
+    public void tearDown() {
+        executorService.shutdown();
+    }
+    
+    @Test
+    public void assertRewriteWithFewRows() {
+        assertRewrite(new EncryptInsertValueParameterRewriter(4), 3);
+        verify(encryptRule, never()).findInsertValuesExecutorService(anyInt());
+    }
+    
+    @Test
+    public void assertRewriteWithManyRowsWhenParallelDisabled() {
+        assertRewrite(new EncryptInsertValueParameterRewriter(0), 2500);
+        verify(encryptRule, never()).findInsertValuesExecutorService(anyInt());
+    }
+    
+    @Test
+    public void assertRewriteWithManyRowsInParallel() {
+        when(encryptRule.findInsertValuesExecutorService(4)).thenReturn(Optional.of(executorService));
+        assertRewrite(new EncryptInsertValueParameterRewriter(4), 2500);
+    }
+    
+    @Test
+    public void assertRewriteWithManyRowsWhenExecutorClosed() {
+        when(encryptRule.findInsertValuesExecutorService(4)).thenReturn(Optional.empty());
+        assertRewrite(new EncryptInsertValueParameterRewriter(4), 2500);
+    }
+    
+    @Test
+    public void assertRewriteWithManyRowsWhenExecutorRejected() {
+        executorService.shutdown();
+        when(encryptRule.findInsertValuesExecutorService(4)).thenReturn(Optional.of(executorService));
+        assertRewrite(new EncryptInsertValueParameterRewriter(4), 2500);
+    }
+    
+    private void assertRewrite(final EncryptInsertValueParameterRewriter rewriter, final int rowCount) {
+        rewriter.setEncryptRule(encryptRule);
+        rewriter.setDatabaseName(DefaultDatabase.LOGIC_NAME);
+        InsertStatementContext insertStatementContext = createInsertStatementContext(rowCount);
+        GroupedParameterBuilder parameterBuilder = new GroupedParameterBuilder(insertStatementContext.getGroupedParameters(), Collections.emptyList());
+        rewriter.rewrite(parameterBuilder, insertStatementContext, insertStatementContext.getGroupedParameters().get(0));
+        assertThat(parameterBuilder.getParameterBuilders().size(), is(rowCount));
+        for (int i = 0; i < rowCount; i++) {
+            assertThat(parameterBuilder.getParameterBuilders().get(i).getParameters(), is(Arrays.asList(i, "cipher_pwd_" + i, "assist_pwd_" + i, "pwd_" + i)));
+        }
+    }
+    
+    private InsertStatementContext createInsertStatementContext(final int rowCount) {
+        InsertStatement insertStatement = new MySQLInsertStatement();
+        insertStatement.setTable(new SimpleTableSegment(new TableNameSegment(0, 0, new IdentifierValue("t_user"))));
+        insertStatement.setInsertColumns(new InsertColumnsSegment(0, 0, Arrays.asList(new ColumnSegment(0, 0, new IdentifierValue("id")), new ColumnSegment(0, 0, new IdentifierValue("pwd")))));
+        List<Object> parameters = new ArrayList<>(rowCount * 2);
+        for (int i = 0; i < rowCount; i++) {
+            List<ExpressionSegment> valueExpressions = Arrays.asList(new ParameterMarkerExpressionSegment(0, 0, i * 2), new ParameterMarkerExpressionSegment(0, 0, i * 2 + 1));
+            insertStatement.getValues().add(new InsertValuesSegment(0, 0, valueExpressions));
+            parameters.add(i);
+            parameters.add("pwd_" + i);
+        }
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        return new InsertStatementContext(Collections.singletonMap(DefaultDatabase.LOGIC_NAME, database), parameters, insertStatement, DefaultDatabase.LOGIC_NAME);
+    }
+}
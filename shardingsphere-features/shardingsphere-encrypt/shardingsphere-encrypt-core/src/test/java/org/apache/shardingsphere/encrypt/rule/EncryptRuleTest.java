@@ -37,6 +37,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.ExecutorService;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
@@ -156,6 +157,18 @@ public final class EncryptRuleTest {
         assertThat(new EncryptRule(createEncryptRuleConfiguration()).getTables(), is(Collections.singleton("t_encrypt")));
     }
     
+    @Test
+    public void assertFindInsertValuesExecutorServiceUntilCloseStaleResource() {
+        EncryptRule actual = new EncryptRule(createEncryptRuleConfiguration());
+        assertNull(actual.getResource());
+        Optional<ExecutorService> executorService = actual.findInsertValuesExecutorService(2);
+        assertTrue(executorService.isPresent());
+        assertThat(actual.findInsertValuesExecutorService(2), is(executorService));
+        actual.closeStaleResource(DefaultDatabase.LOGIC_NAME);
+        assertNull(actual.getResource());
+        assertFalse(actual.findInsertValuesExecutorService(2).isPresent());
+    }
+    
     @Test
     public void assertGetTableWithLowercase() {
         assertThat(new EncryptRule(createEncryptRuleConfigurationWithUpperCaseLogicTable()).getTables(), is(Collections.singleton("t_encrypt")));
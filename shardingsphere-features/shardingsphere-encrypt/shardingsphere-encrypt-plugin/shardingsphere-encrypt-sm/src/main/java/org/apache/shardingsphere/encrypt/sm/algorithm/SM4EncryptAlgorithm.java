@@ -21,6 +21,7 @@ import com.google.common.base.Preconditions;
 import lombok.Getter;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.apache.shardingsphere.encrypt.spi.cipher.CipherPool;
 import org.apache.shardingsphere.encrypt.spi.context.EncryptContext;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
 import org.bouncycastle.pqc.math.linearalgebra.ByteUtils;
@@ -70,6 +71,10 @@ public final class SM4EncryptAlgorithm implements EncryptAlgorithm<Object, Strin
     
     private String sm4ModePadding;
     
+    private CipherPool encryptCipherPool;
+    
+    private CipherPool decryptCipherPool;
+    
     @Override
     public void init(final Properties props) {
         this.props = props;
@@ -78,6 +83,8 @@ public final class SM4EncryptAlgorithm implements EncryptAlgorithm<Object, Strin
         sm4ModePadding = "SM4/" + sm4Mode + "/" + sm4Padding;
         sm4Key = createSm4Key(props);
         sm4Iv = createSm4Iv(props, sm4Mode);
+        encryptCipherPool = new CipherPool(() -> createCipher(Cipher.ENCRYPT_MODE));
+        decryptCipherPool = new CipherPool(() -> createCipher(Cipher.DECRYPT_MODE));
     }
     
     private String createSm4Mode(final Properties props) {
@@ -117,8 +124,9 @@ public final class SM4EncryptAlgorithm implements EncryptAlgorithm<Object, Strin
         return null == plainValue ? null : ByteUtils.toHexString(encrypt(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8)));
     }
     
+    @SneakyThrows
     private byte[] encrypt(final byte[] plainValue) {
-        return handle(plainValue, Cipher.ENCRYPT_MODE);
+        return encryptCipherPool.doFinal(plainValue);
     }
     
     @SneakyThrows
@@ -127,21 +135,22 @@ public final class SM4EncryptAlgorithm implements EncryptAlgorithm<Object, Strin
         return null == cipherValue ? null : new String(decrypt(ByteUtils.fromHexString(cipherValue)), StandardCharsets.UTF_8);
     }
     
+    @SneakyThrows
     private byte[] decrypt(final byte[] cipherValue) {
-        return handle(cipherValue, Cipher.DECRYPT_MODE);
+        return decryptCipherPool.doFinal(cipherValue);
     }
     
     @SneakyThrows
-    private byte[] handle(final byte[] input, final int mode) {
-        Cipher cipher = Cipher.getInstance(sm4ModePadding, BouncyCastleProvider.PROVIDER_NAME);
+    private Cipher createCipher(final int mode) {
+        Cipher result = Cipher.getInstance(sm4ModePadding, BouncyCastleProvider.PROVIDER_NAME);
         SecretKeySpec secretKeySpec = new SecretKeySpec(sm4Key, "SM4");
         Optional<byte[]> sm4Iv = Optional.ofNullable(this.sm4Iv);
         if (sm4Iv.isPresent()) {
-            cipher.init(mode, secretKeySpec, new IvParameterSpec(sm4Iv.get()));
+            result.init(mode, secretKeySpec, new IvParameterSpec(sm4Iv.get()));
         } else {
-            cipher.init(mode, secretKeySpec);
+            result.init(mode, secretKeySpec);
         }
-        return cipher.doFinal(input);
+        return result;
     }
     
     @Override
@@ -30,4 +30,10 @@ public final class DynamicReadwriteSplittingStrategyConfiguration {
     private final String autoAwareDataSourceName;
     
     private final String writeDataSourceQueryEnabled;
+    
+    private final String maxReplicationDelayMilliseconds;
+    
+    public DynamicReadwriteSplittingStrategyConfiguration(final String autoAwareDataSourceName, final String writeDataSourceQueryEnabled) {
+        this(autoAwareDataSourceName, writeDataSourceQueryEnabled, null);
+    }
 }
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance;
+
+import com.google.common.base.Preconditions;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.shardingsphere.infra.context.transaction.TransactionConnectionContext;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency.DataSourceLatencyRegistry;
+import org.apache.shardingsphere.readwritesplitting.spi.ReadQueryLoadBalanceAlgorithm;
+
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency aware read query load-balance algorithm.
+ * 
+ * <p>Picks two random read data sources and routes to the one with lower score,
+ * the score is calculated by exponentially weighted moving average latency and in flight executions collected from SQL execution.
+ * Latencies are collected into the registry of the readwrite-splitting rule which algorithm belongs to.</p>
+ */
+@Getter
+public final class LatencyAwareReadQueryLoadBalanceAlgorithm implements ReadQueryLoadBalanceAlgorithm {
+    
+    private static final String DECAY_TIME_MILLISECONDS_KEY = "decay-time-milliseconds";
+    
+    private static final long DEFAULT_DECAY_TIME_MILLISECONDS = 10000L;
+    
+    private Properties props = new Properties();
+    
+    private long decayNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_DECAY_TIME_MILLISECONDS);
+    
+    @Getter(AccessLevel.NONE)
+    @Setter
+    private volatile DataSourceLatencyRegistry latencyRegistry = new DataSourceLatencyRegistry();
+    
+    @Override
+    public void init(final Properties props) {
+        this.props = props;
+        long decayTimeMilliseconds = Long.parseLong(props.getProperty(DECAY_TIME_MILLISECONDS_KEY, String.valueOf(DEFAULT_DECAY_TIME_MILLISECONDS)));
+        Preconditions.checkArgument(decayTimeMilliseconds > 0, "%s must be positive.", DECAY_TIME_MILLISECONDS_KEY);
+        decayNanos = TimeUnit.MILLISECONDS.toNanos(decayTimeMilliseconds);
+    }
+    
+    @Override
+    public String getDataSource(final String name, final String writeDataSourceName, final List<String> readDataSourceNames, final TransactionConnectionContext context) {
+        if (context.isInTransaction()) {
+            return writeDataSourceName;
+        }
+        int size = readDataSourceNames.size();
+        if (1 == size) {
+            return readDataSourceNames.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int firstIndex = random.nextInt(size);
+        int secondIndex = random.nextInt(size - 1);
+        if (secondIndex >= firstIndex) {
+            secondIndex++;
+        }
+        String first = readDataSourceNames.get(firstIndex);
+        String second = readDataSourceNames.get(secondIndex);
+        long nowNanos = System.nanoTime();
+        DataSourceLatencyRegistry latencyRegistry = this.latencyRegistry;
+        return latencyRegistry.get(first).getScore(nowNanos, decayNanos) <= latencyRegistry.get(second).getScore(nowNanos, decayNanos) ? first : second;
+    }
+    
+    @Override
+    public String getType() {
+        return "LATENCY_AWARE";
+    }
+}
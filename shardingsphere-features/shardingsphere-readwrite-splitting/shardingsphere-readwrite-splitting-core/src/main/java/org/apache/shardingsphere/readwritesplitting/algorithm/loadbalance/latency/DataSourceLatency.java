@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latency of data source, which tracks exponentially weighted moving average of execution time and in flight executions.
+ */
+public final class DataSourceLatency {
+    
+    private static final double SMOOTHING_FACTOR = 0.3D;
+    
+    private static final int FAILURE_PENALTY_FACTOR = 2;
+    
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    
+    private final AtomicLong averageLatencyBits = new AtomicLong(Double.doubleToLongBits(0D));
+    
+    private volatile long lastUpdateNanos = System.nanoTime();
+    
+    /**
+     * Mark execution started.
+     */
+    public void start() {
+        inFlightCount.incrementAndGet();
+    }
+    
+    /**
+     * Mark execution finished.
+     *
+     * @param elapsedNanos elapsed time of execution in nanoseconds
+     * @param failed whether execution failed
+     */
+    public void finish(final long elapsedNanos, final boolean failed) {
+        inFlightCount.decrementAndGet();
+        long previousBits;
+        long nextBits;
+        do {
+            previousBits = averageLatencyBits.get();
+            double previous = Double.longBitsToDouble(previousBits);
+            double sample = failed ? Math.max(elapsedNanos, previous) * FAILURE_PENALTY_FACTOR : elapsedNanos;
+            nextBits = Double.doubleToLongBits(0D == previous ? sample : previous + SMOOTHING_FACTOR * (sample - previous));
+        } while (!averageLatencyBits.compareAndSet(previousBits, nextBits));
+        lastUpdateNanos = System.nanoTime();
+    }
+    
+    /**
+     * Get in flight count.
+     *
+     * @return in flight count
+     */
+    public int getInFlightCount() {
+        return inFlightCount.get();
+    }
+    
+    /**
+     * Get average latency, which decays toward zero while data source receives no execution so that it is probed again.
+     *
+     * @param nowNanos current time in nanoseconds
+     * @param decayNanos decay time in nanoseconds
+     * @return average latency in nanoseconds
+     */
+    public double getAverageLatency(final long nowNanos, final long decayNanos) {
+        double result = Double.longBitsToDouble(averageLatencyBits.get());
+        long idleNanos = nowNanos - lastUpdateNanos;
+        return idleNanos <= 0 ? result : result * Math.exp(-(double) idleNanos / decayNanos);
+    }
+    
+    /**
+     * Get score, lower is better.
+     *
+     * @param nowNanos current time in nanoseconds
+     * @param decayNanos decay time in nanoseconds
+     * @return score
+     */
+    public double getScore(final long nowNanos, final long decayNanos) {
+        return (getAverageLatency(nowNanos, decayNanos) + 1D) * (Math.max(getInFlightCount(), 0) + 1);
+    }
+}
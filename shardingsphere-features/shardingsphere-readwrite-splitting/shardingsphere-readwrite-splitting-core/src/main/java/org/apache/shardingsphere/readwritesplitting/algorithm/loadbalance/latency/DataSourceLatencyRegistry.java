@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Data source latency registry of readwrite-splitting rule.
+ */
+public final class DataSourceLatencyRegistry {
+    
+    private final Map<String, DataSourceLatency> latencies = new ConcurrentHashMap<>();
+    
+    /**
+     * Get latency of data source.
+     *
+     * @param dataSourceName data source name
+     * @return latency of data source
+     */
+    public DataSourceLatency get(final String dataSourceName) {
+        DataSourceLatency result = latencies.get(dataSourceName);
+        return null == result ? latencies.computeIfAbsent(dataSourceName, key -> new DataSourceLatency()) : result;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.readwritesplitting.hook;
+
+import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
+import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency.DataSourceLatency;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency.DataSourceLatencyRegistry;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingRule;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Latency collecting SQL execution hook for read query load-balance.
+ */
+public final class LatencyCollectingSQLExecutionHook implements SQLExecutionHook {
+    
+    private DataSourceLatency latency;
+    
+    private long startNanos;
+    
+    @Override
+    public void start(final String dataSourceName, final String sql, final List<Object> parameters,
+                      final DataSourceMetaData dataSourceMetaData, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
+        Optional<DataSourceLatencyRegistry> latencyRegistry = findLatencyRegistry(shardingExecuteDataMap.get(ExecutorDataMap.RULES_KEY));
+        if (!latencyRegistry.isPresent()) {
+            return;
+        }
+        latency = latencyRegistry.get().get(dataSourceName);
+        latency.start();
+        startNanos = System.nanoTime();
+    }
+    
+    private Optional<DataSourceLatencyRegistry> findLatencyRegistry(final Object rules) {
+        if (!(rules instanceof Collection)) {
+            return Optional.empty();
+        }
+        for (Object each : (Collection<?>) rules) {
+            if (each instanceof ReadwriteSplittingRule) {
+                return ((ReadwriteSplittingRule) each).findLatencyRegistry();
+            }
+        }
+        return Optional.empty();
+    }
+    
+    @Override
+    public void finishSuccess() {
+        finish(false);
+    }
+    
+    @Override
+    public void finishFailure(final Exception cause) {
+        finish(true);
+    }
+    
+    private void finish(final boolean failed) {
+        if (null == latency) {
+            return;
+        }
+        latency.finish(System.nanoTime() - startNanos, failed);
+        latency = null;
+    }
+}
@@ -29,6 +29,8 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.SelectStatementHandler;
 
+import java.util.List;
+
 /**
  * Data source router for readwrite-splitting.
  */
@@ -46,15 +48,14 @@ public final class ReadwriteSplittingDataSourceRouter {
      * @return data source name
      */
     public String route(final SQLStatementContext<?> sqlStatementContext) {
-        if (isPrimaryRoute(sqlStatementContext)) {
+        if (isWriteRouteStatement(sqlStatementContext) || isHintWriteRouteOnly(sqlStatementContext)) {
             return rule.getWriteDataSource();
         }
-        return rule.getLoadBalancer().getDataSource(rule.getName(), rule.getWriteDataSource(), rule.getEnabledReplicaDataSources(),
-                connectionContext.getTransactionConnectionContext());
-    }
-    
-    private boolean isPrimaryRoute(final SQLStatementContext<?> sqlStatementContext) {
-        return isWriteRouteStatement(sqlStatementContext) || isHintWriteRouteOnly(sqlStatementContext) || isAllowWriteDataSourceQuery();
+        List<String> enabledReplicaDataSources = rule.getEnabledReplicaDataSources();
+        if (enabledReplicaDataSources.isEmpty() && isAllowWriteDataSourceQuery()) {
+            return rule.getWriteDataSource();
+        }
+        return rule.getLoadBalancer().getDataSource(rule.getName(), rule.getWriteDataSource(), enabledReplicaDataSources, connectionContext.getTransactionConnectionContext());
     }
     
     private boolean isWriteRouteStatement(final SQLStatementContext<?> sqlStatementContext) {
@@ -75,7 +76,7 @@ public final class ReadwriteSplittingDataSourceRouter {
     }
     
     private boolean isAllowWriteDataSourceQuery() {
-        return rule.getEnabledReplicaDataSources().isEmpty() && (rule.getReadwriteSplittingStrategy() instanceof DynamicReadwriteSplittingStrategy)
+        return rule.getReadwriteSplittingStrategy() instanceof DynamicReadwriteSplittingStrategy
                 && ((DynamicReadwriteSplittingStrategy) rule.getReadwriteSplittingStrategy()).isAllowWriteDataSourceQuery();
     }
 }
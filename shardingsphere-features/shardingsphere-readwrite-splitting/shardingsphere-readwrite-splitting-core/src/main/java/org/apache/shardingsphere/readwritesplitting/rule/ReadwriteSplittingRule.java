@@ -34,6 +34,8 @@ import org.apache.shardingsphere.infra.util.expr.InlineExpressionParser;
 import org.apache.shardingsphere.mode.metadata.storage.StorageNodeStatus;
 import org.apache.shardingsphere.mode.metadata.storage.event.StorageNodeDataSourceChangedEvent;
 import org.apache.shardingsphere.readwritesplitting.algorithm.config.AlgorithmProvidedReadwriteSplittingRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.LatencyAwareReadQueryLoadBalanceAlgorithm;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency.DataSourceLatencyRegistry;
 import org.apache.shardingsphere.readwritesplitting.api.ReadwriteSplittingRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.api.strategy.DynamicReadwriteSplittingStrategyConfiguration;
@@ -64,6 +66,8 @@ public final class ReadwriteSplittingRule implements DatabaseRule, DataSourceCon
     
     private final Map<String, ReadwriteSplittingDataSourceRule> dataSourceRules;
     
+    private final DataSourceLatencyRegistry latencyRegistry;
+    
     public ReadwriteSplittingRule(final ReadwriteSplittingRuleConfiguration ruleConfig, final Collection<ShardingSphereRule> builtRules) {
         configuration = ruleConfig;
         ruleConfig.getLoadBalancers().forEach((key, value) -> loadBalancers.put(key, ReadQueryLoadBalanceAlgorithmFactory.newInstance(value)));
@@ -71,6 +75,7 @@ public final class ReadwriteSplittingRule implements DatabaseRule, DataSourceCon
         for (ReadwriteSplittingDataSourceRuleConfiguration each : ruleConfig.getDataSources()) {
             dataSourceRules.putAll(createReadwriteSplittingDataSourceRules(each, builtRules));
         }
+        latencyRegistry = createLatencyRegistry();
     }
     
     public ReadwriteSplittingRule(final AlgorithmProvidedReadwriteSplittingRuleConfiguration ruleConfig, final Collection<ShardingSphereRule> builtRules) {
@@ -80,6 +85,18 @@ public final class ReadwriteSplittingRule implements DatabaseRule, DataSourceCon
         for (ReadwriteSplittingDataSourceRuleConfiguration each : ruleConfig.getDataSources()) {
             dataSourceRules.putAll(createReadwriteSplittingDataSourceRules(each, builtRules));
         }
+        latencyRegistry = createLatencyRegistry();
+    }
+    
+    private DataSourceLatencyRegistry createLatencyRegistry() {
+        Collection<LatencyAwareReadQueryLoadBalanceAlgorithm> latencyAwareLoadBalancers = loadBalancers.values().stream()
+                .filter(each -> each instanceof LatencyAwareReadQueryLoadBalanceAlgorithm).map(each -> (LatencyAwareReadQueryLoadBalanceAlgorithm) each).collect(Collectors.toList());
+        if (latencyAwareLoadBalancers.isEmpty()) {
+            return null;
+        }
+        DataSourceLatencyRegistry result = new DataSourceLatencyRegistry();
+        latencyAwareLoadBalancers.forEach(each -> each.setLatencyRegistry(result));
+        return result;
     }
     
     private Map<String, ReadwriteSplittingDataSourceRule> createReadwriteSplittingDataSourceRules(final ReadwriteSplittingDataSourceRuleConfiguration config,
@@ -133,7 +150,8 @@ public final class ReadwriteSplittingRule implements DatabaseRule, DataSourceCon
     private ReadwriteSplittingDataSourceRuleConfiguration createDynamicDataSourceRuleConfiguration(final ReadwriteSplittingDataSourceRuleConfiguration config, final int index,
                                                                                                    final List<String> readwriteDataSourceNames, final List<String> autoAwareDataSourceNames) {
         return new ReadwriteSplittingDataSourceRuleConfiguration(readwriteDataSourceNames.get(index), null,
-                new DynamicReadwriteSplittingStrategyConfiguration(autoAwareDataSourceNames.get(index), config.getDynamicStrategy().getWriteDataSourceQueryEnabled()), config.getLoadBalancerName());
+                new DynamicReadwriteSplittingStrategyConfiguration(autoAwareDataSourceNames.get(index), config.getDynamicStrategy().getWriteDataSourceQueryEnabled(),
+                        config.getDynamicStrategy().getMaxReplicationDelayMilliseconds()), config.getLoadBalancerName());
     }
     
     /**
@@ -212,4 +230,13 @@ public final class ReadwriteSplittingRule implements DatabaseRule, DataSourceCon
     public String getType() {
         return ReadwriteSplittingRule.class.getSimpleName();
     }
+    
+    /**
+     * Find data source latency registry which latency aware load balancers of rule read from.
+     *
+     * @return found data source latency registry
+     */
+    public Optional<DataSourceLatencyRegistry> findLatencyRegistry() {
+        return Optional.ofNullable(latencyRegistry);
+    }
 }
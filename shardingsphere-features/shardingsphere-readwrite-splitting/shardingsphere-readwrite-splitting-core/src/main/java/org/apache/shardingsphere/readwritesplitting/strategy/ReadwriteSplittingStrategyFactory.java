@@ -57,6 +57,8 @@ public final class ReadwriteSplittingStrategyFactory {
                                                                                              final Collection<ShardingSphereRule> builtRules) {
         Optional<ShardingSphereRule> dynamicDataSourceStrategy = builtRules.stream().filter(each -> each instanceof DynamicDataSourceContainedRule).findFirst();
         boolean allowWriteDataSourceQuery = Strings.isNullOrEmpty(dynamicConfig.getWriteDataSourceQueryEnabled()) ? Boolean.TRUE : Boolean.parseBoolean(dynamicConfig.getWriteDataSourceQueryEnabled());
-        return new DynamicReadwriteSplittingStrategy(dynamicConfig.getAutoAwareDataSourceName(), allowWriteDataSourceQuery, (DynamicDataSourceContainedRule) dynamicDataSourceStrategy.get());
+        long maxReplicationDelayMilliseconds = Strings.isNullOrEmpty(dynamicConfig.getMaxReplicationDelayMilliseconds()) ? -1L : Long.parseLong(dynamicConfig.getMaxReplicationDelayMilliseconds());
+        return new DynamicReadwriteSplittingStrategy(dynamicConfig.getAutoAwareDataSourceName(), allowWriteDataSourceQuery, maxReplicationDelayMilliseconds,
+                (DynamicDataSourceContainedRule) dynamicDataSourceStrategy.get());
     }
 }
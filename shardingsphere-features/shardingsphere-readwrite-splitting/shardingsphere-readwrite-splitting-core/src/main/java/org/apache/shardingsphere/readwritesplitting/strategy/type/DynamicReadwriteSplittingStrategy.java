@@ -26,6 +26,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Dynamic readwrite splitting strategy.
@@ -38,8 +40,14 @@ public final class DynamicReadwriteSplittingStrategy implements ReadwriteSplitti
     
     private final boolean allowWriteDataSourceQuery;
     
+    private final long maxReplicationDelayMilliseconds;
+    
     private final DynamicDataSourceContainedRule dynamicDataSource;
     
+    public DynamicReadwriteSplittingStrategy(final String autoAwareDataSourceName, final boolean allowWriteDataSourceQuery, final DynamicDataSourceContainedRule dynamicDataSource) {
+        this(autoAwareDataSourceName, allowWriteDataSourceQuery, -1L, dynamicDataSource);
+    }
+    
     @Override
     public String getWriteDataSource() {
         return dynamicDataSource.getPrimaryDataSourceName(autoAwareDataSourceName);
@@ -47,7 +55,25 @@ public final class DynamicReadwriteSplittingStrategy implements ReadwriteSplitti
     
     @Override
     public List<String> getReadDataSources() {
-        return new ArrayList<>(dynamicDataSource.getReplicaDataSourceNames(autoAwareDataSourceName));
+        List<String> result = new ArrayList<>(dynamicDataSource.getReplicaDataSourceNames(autoAwareDataSourceName));
+        if (!isReplicationDelayLimited() || result.isEmpty()) {
+            return result;
+        }
+        Map<String, Long> replicationDelayMilliseconds = dynamicDataSource.getReplicationDelayMilliseconds(autoAwareDataSourceName);
+        if (replicationDelayMilliseconds.isEmpty()) {
+            return result;
+        }
+        List<String> inDelayLimitResult = result.stream().filter(each -> replicationDelayMilliseconds.getOrDefault(each, 0L) <= maxReplicationDelayMilliseconds).collect(Collectors.toList());
+        return inDelayLimitResult.isEmpty() && !allowWriteDataSourceQuery ? result : inDelayLimitResult;
+    }
+    
+    /**
+     * Judge whether replication delay of read data sources is limited.
+     *
+     * @return replication delay is limited or not
+     */
+    public boolean isReplicationDelayLimited() {
+        return maxReplicationDelayMilliseconds >= 0L;
     }
     
     @Override
@@ -31,4 +31,6 @@ public final class YamlDynamicReadwriteSplittingStrategyConfiguration implements
     private String autoAwareDataSourceName;
     
     private String writeDataSourceQueryEnabled;
+    
+    private String maxReplicationDelayMilliseconds;
 }
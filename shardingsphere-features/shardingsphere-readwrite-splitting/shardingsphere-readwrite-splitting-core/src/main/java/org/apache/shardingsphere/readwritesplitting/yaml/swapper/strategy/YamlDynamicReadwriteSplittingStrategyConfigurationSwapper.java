@@ -33,6 +33,7 @@ public final class YamlDynamicReadwriteSplittingStrategyConfigurationSwapper
         YamlDynamicReadwriteSplittingStrategyConfiguration result = new YamlDynamicReadwriteSplittingStrategyConfiguration();
         result.setAutoAwareDataSourceName(config.getAutoAwareDataSourceName());
         result.setWriteDataSourceQueryEnabled(config.getWriteDataSourceQueryEnabled());
+        result.setMaxReplicationDelayMilliseconds(config.getMaxReplicationDelayMilliseconds());
         return result;
     }
     
@@ -40,7 +41,7 @@ public final class YamlDynamicReadwriteSplittingStrategyConfigurationSwapper
     public DynamicReadwriteSplittingStrategyConfiguration swapToObject(final YamlDynamicReadwriteSplittingStrategyConfiguration config) {
         DynamicReadwriteSplittingStrategyConfiguration result = null;
         if (null != config) {
-            result = new DynamicReadwriteSplittingStrategyConfiguration(config.getAutoAwareDataSourceName(), config.getWriteDataSourceQueryEnabled());
+            result = new DynamicReadwriteSplittingStrategyConfiguration(config.getAutoAwareDataSourceName(), config.getWriteDataSourceQueryEnabled(), config.getMaxReplicationDelayMilliseconds());
         }
         return result;
     }
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance;
+
+import org.apache.shardingsphere.infra.context.transaction.TransactionConnectionContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
+import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
+import org.apache.shardingsphere.readwritesplitting.algorithm.config.AlgorithmProvidedReadwriteSplittingRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency.DataSourceLatencyRegistry;
+import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.api.strategy.StaticReadwriteSplittingStrategyConfiguration;
+import org.apache.shardingsphere.readwritesplitting.hook.LatencyCollectingSQLExecutionHook;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingRule;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class LatencyAwareReadQueryLoadBalanceAlgorithmTest {
+    
+    private final LatencyAwareReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = new LatencyAwareReadQueryLoadBalanceAlgorithm();
+    
+    private ReadwriteSplittingRule rule;
+    
+    private DataSourceLatencyRegistry latencyRegistry;
+    
+    @Before
+    public void setUp() {
+        loadBalanceAlgorithm.init(new Properties());
+        rule = createReadwriteSplittingRule(loadBalanceAlgorithm);
+        latencyRegistry = rule.findLatencyRegistry().orElseThrow(IllegalStateException::new);
+    }
+    
+    private ReadwriteSplittingRule createReadwriteSplittingRule(final LatencyAwareReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm) {
+        ReadwriteSplittingDataSourceRuleConfiguration dataSourceRuleConfig = new ReadwriteSplittingDataSourceRuleConfiguration(
+                "ds", new StaticReadwriteSplittingStrategyConfiguration("test_write_ds", Arrays.asList("test_read_ds_1", "test_read_ds_2")), null, "latency_aware");
+        return new ReadwriteSplittingRule(new AlgorithmProvidedReadwriteSplittingRuleConfiguration(
+                Collections.singleton(dataSourceRuleConfig), Collections.singletonMap("latency_aware", loadBalanceAlgorithm)), Collections.emptyList());
+    }
+    
+    @Test
+    public void assertGetDataSourceInTransaction() {
+        TransactionConnectionContext context = new TransactionConnectionContext();
+        context.setInTransaction(true);
+        assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", Arrays.asList("test_read_ds_1", "test_read_ds_2"), context), is("test_write_ds"));
+    }
+    
+    @Test
+    public void assertGetDataSourceWithSingleReplica() {
+        assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", Collections.singletonList("test_read_ds_1"), new TransactionConnectionContext()), is("test_read_ds_1"));
+    }
+    
+    @Test
+    public void assertGetDataSourceWithLowerLatency() {
+        latencyRegistry.get("latency_read_ds_slow").finish(TimeUnit.MILLISECONDS.toNanos(50L), false);
+        latencyRegistry.get("latency_read_ds_fast").finish(TimeUnit.MILLISECONDS.toNanos(1L), false);
+        List<String> readDataSourceNames = Arrays.asList("latency_read_ds_slow", "latency_read_ds_fast");
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames, new TransactionConnectionContext()), is("latency_read_ds_fast"));
+        }
+    }
+    
+    @Test
+    public void assertGetDataSourceWithFewerInFlightExecutions() {
+        latencyRegistry.get("in_flight_read_ds_busy").finish(TimeUnit.MILLISECONDS.toNanos(1L), false);
+        latencyRegistry.get("in_flight_read_ds_idle").finish(TimeUnit.MILLISECONDS.toNanos(1L), false);
+        for (int i = 0; i < 10; i++) {
+            latencyRegistry.get("in_flight_read_ds_busy").start();
+        }
+        List<String> readDataSourceNames = Arrays.asList("in_flight_read_ds_busy", "in_flight_read_ds_idle");
+        assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames, new TransactionConnectionContext()), is("in_flight_read_ds_idle"));
+    }
+    
+    @Test
+    public void assertCollectLatencyIntoRegistryOfRule() {
+        SQLExecutionHook hook = new LatencyCollectingSQLExecutionHook();
+        hook.start("collected_read_ds", "SELECT 1", Collections.emptyList(), null, true, Collections.singletonMap(ExecutorDataMap.RULES_KEY, Collections.singleton(rule)));
+        assertThat(latencyRegistry.get("collected_read_ds").getInFlightCount(), is(1));
+        hook.finishFailure(new IllegalStateException("failed"));
+        assertThat(latencyRegistry.get("collected_read_ds").getInFlightCount(), is(0));
+    }
+    
+    @Test
+    public void assertNotCollectLatencyOfOtherRule() {
+        ReadwriteSplittingRule otherRule = createReadwriteSplittingRule(new LatencyAwareReadQueryLoadBalanceAlgorithm());
+        SQLExecutionHook hook = new LatencyCollectingSQLExecutionHook();
+        hook.start("other_read_ds", "SELECT 1", Collections.emptyList(), null, true, Collections.singletonMap(ExecutorDataMap.RULES_KEY, Collections.singleton(otherRule)));
+        assertThat(otherRule.findLatencyRegistry().orElseThrow(IllegalStateException::new).get("other_read_ds").getInFlightCount(), is(1));
+        assertThat(latencyRegistry.get("other_read_ds").getInFlightCount(), is(0));
+        hook.finishSuccess();
+        assertThat(latencyRegistry.get("other_read_ds").getInFlightCount(), is(0));
+    }
+    
+    @Test
+    public void assertSimulateWithDelayedReplica() throws SQLException {
+        List<String> readDataSourceNames = Arrays.asList("simulation_read_ds_0", "simulation_read_ds_1", "simulation_read_ds_2");
+        Map<String, Connection> connections = new HashMap<>(readDataSourceNames.size(), 1);
+        for (String each : readDataSourceNames) {
+            Connection connection = DriverManager.getConnection(String.format("jdbc:h2:mem:%s;DB_CLOSE_DELAY=-1", each), "sa", "");
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE ALIAS IF NOT EXISTS SLEEP FOR \"java.lang.Thread.sleep\"");
+            }
+            connections.put(each, connection);
+        }
+        Map<String, Integer> routedCounts = new HashMap<>(readDataSourceNames.size(), 1);
+        int total = 200;
+        try {
+            for (int i = 0; i < total; i++) {
+                String dataSourceName = loadBalanceAlgorithm.getDataSource("ds", "simulation_write_ds", readDataSourceNames, new TransactionConnectionContext());
+                routedCounts.merge(dataSourceName, 1, Integer::sum);
+                String sql = "simulation_read_ds_0".equals(dataSourceName) ? "CALL SLEEP(20)" : "SELECT 1";
+                SQLExecutionHook hook = new LatencyCollectingSQLExecutionHook();
+                hook.start(dataSourceName, sql, Collections.emptyList(), null, true, Collections.singletonMap(ExecutorDataMap.RULES_KEY, Collections.singleton(rule)));
+                try (Statement statement = connections.get(dataSourceName).createStatement()) {
+                    statement.execute(sql);
+                }
+                hook.finishSuccess();
+            }
+        } finally {
+            for (Connection each : connections.values()) {
+                each.close();
+            }
+        }
+        assertTrue(routedCounts.getOrDefault("simulation_read_ds_0", 0) < total / 10);
+        assertTrue(routedCounts.getOrDefault("simulation_read_ds_1", 0) > 0);
+        assertTrue(routedCounts.getOrDefault("simulation_read_ds_2", 0) > 0);
+    }
+}
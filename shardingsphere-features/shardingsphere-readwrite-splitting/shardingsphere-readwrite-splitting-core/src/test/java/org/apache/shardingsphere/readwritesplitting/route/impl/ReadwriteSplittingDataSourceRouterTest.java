@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.route.impl;
+
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.context.ConnectionContext;
+import org.apache.shardingsphere.infra.rule.identifier.type.DynamicDataSourceContainedRule;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.RoundRobinReadQueryLoadBalanceAlgorithm;
+import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.api.strategy.DynamicReadwriteSplittingStrategyConfiguration;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceRule;
+import org.apache.shardingsphere.readwritesplitting.spi.ReadQueryLoadBalanceAlgorithm;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class ReadwriteSplittingDataSourceRouterTest {
+    
+    @Mock
+    private DynamicDataSourceContainedRule dynamicDataSourceRule;
+    
+    @Mock
+    private ReadQueryLoadBalanceAlgorithm loadBalancer;
+    
+    private SelectStatementContext sqlStatementContext;
+    
+    @Before
+    public void setUp() {
+        when(dynamicDataSourceRule.getPrimaryDataSourceName("readwrite_ds")).thenReturn("write_ds");
+        sqlStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(new MySQLSelectStatement());
+    }
+    
+    @Test
+    public void assertRouteToReplicaWhenAllReplicationDelayedAndWriteDataSourceQueryDisabled() {
+        mockAllReplicationDelayed();
+        when(loadBalancer.getDataSource(eq("test_pr"), eq("write_ds"), eq(Arrays.asList("read_ds_0", "read_ds_1")), any())).thenReturn("read_ds_0");
+        assertThat(new ReadwriteSplittingDataSourceRouter(createRule("false"), new ConnectionContext()).route(sqlStatementContext), is("read_ds_0"));
+    }
+    
+    @Test
+    public void assertRouteToWriteDataSourceWhenAllReplicationDelayedAndWriteDataSourceQueryEnabled() {
+        mockAllReplicationDelayed();
+        assertThat(new ReadwriteSplittingDataSourceRouter(createRule("true"), new ConnectionContext()).route(sqlStatementContext), is("write_ds"));
+        verify(loadBalancer, never()).getDataSource(any(), any(), any(), any());
+    }
+    
+    @Test(expected = ArithmeticException.class)
+    public void assertRouteWithoutReplicaAndWriteDataSourceQueryDisabled() {
+        when(dynamicDataSourceRule.getReplicaDataSourceNames("readwrite_ds")).thenReturn(Collections.emptyList());
+        new ReadwriteSplittingDataSourceRouter(createRule("false", new RoundRobinReadQueryLoadBalanceAlgorithm()), new ConnectionContext()).route(sqlStatementContext);
+    }
+    
+    @Test
+    public void assertRouteWithoutReplicaAndWriteDataSourceQueryEnabled() {
+        when(dynamicDataSourceRule.getReplicaDataSourceNames("readwrite_ds")).thenReturn(Collections.emptyList());
+        assertThat(new ReadwriteSplittingDataSourceRouter(createRule("true"), new ConnectionContext()).route(sqlStatementContext), is("write_ds"));
+        verify(loadBalancer, never()).getDataSource(any(), any(), any(), any());
+    }
+    
+    private void mockAllReplicationDelayed() {
+        when(dynamicDataSourceRule.getReplicaDataSourceNames("readwrite_ds")).thenReturn(Arrays.asList("read_ds_0", "read_ds_1"));
+        Map<String, Long> replicationDelayMilliseconds = new HashMap<>(2, 1);
+        replicationDelayMilliseconds.put("read_ds_0", 5000L);
+        replicationDelayMilliseconds.put("read_ds_1", 3000L);
+        when(dynamicDataSourceRule.getReplicationDelayMilliseconds("readwrite_ds")).thenReturn(replicationDelayMilliseconds);
+    }
+    
+    private ReadwriteSplittingDataSourceRule createRule(final String writeDataSourceQueryEnabled) {
+        return createRule(writeDataSourceQueryEnabled, loadBalancer);
+    }
+    
+    private ReadwriteSplittingDataSourceRule createRule(final String writeDataSourceQueryEnabled, final ReadQueryLoadBalanceAlgorithm loadBalancer) {
+        return new ReadwriteSplittingDataSourceRule(new ReadwriteSplittingDataSourceRuleConfiguration("test_pr", null,
+                new DynamicReadwriteSplittingStrategyConfiguration("readwrite_ds", writeDataSourceQueryEnabled, "1000"), null), loadBalancer, Collections.singleton(dynamicDataSourceRule));
+    }
+}
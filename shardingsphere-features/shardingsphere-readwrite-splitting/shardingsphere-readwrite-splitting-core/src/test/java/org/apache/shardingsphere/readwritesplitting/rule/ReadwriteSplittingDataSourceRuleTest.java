@@ -17,17 +17,23 @@
 
 package org.apache.shardingsphere.readwritesplitting.rule;
 
+import org.apache.shardingsphere.infra.rule.identifier.type.DynamicDataSourceContainedRule;
 import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.RandomReadQueryLoadBalanceAlgorithm;
 import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.api.strategy.DynamicReadwriteSplittingStrategyConfiguration;
 import org.apache.shardingsphere.readwritesplitting.api.strategy.StaticReadwriteSplittingStrategyConfiguration;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public final class ReadwriteSplittingDataSourceRuleTest {
     
@@ -76,4 +82,51 @@ public final class ReadwriteSplittingDataSourceRuleTest {
         readwriteSplittingDataSourceRule.updateDisabledDataSourceNames("read_ds_0", true);
         assertThat(readwriteSplittingDataSourceRule.getEnabledReplicaDataSources(), is(Collections.singletonList("read_ds_1")));
     }
+    
+    @Test
+    public void assertGetEnabledReplicaDataSourcesWithReplicationDelay() {
+        DynamicDataSourceContainedRule dynamicDataSourceRule = mock(DynamicDataSourceContainedRule.class);
+        when(dynamicDataSourceRule.getReplicaDataSourceNames("readwrite_ds")).thenReturn(Arrays.asList("read_ds_0", "read_ds_1"));
+        Map<String, Long> replicationDelayMilliseconds = new HashMap<>(2, 1);
+        replicationDelayMilliseconds.put("read_ds_0", 5000L);
+        replicationDelayMilliseconds.put("read_ds_1", 100L);
+        when(dynamicDataSourceRule.getReplicationDelayMilliseconds("readwrite_ds")).thenReturn(replicationDelayMilliseconds);
+        ReadwriteSplittingDataSourceRule actual = new ReadwriteSplittingDataSourceRule(new ReadwriteSplittingDataSourceRuleConfiguration("test_pr", null,
+                new DynamicReadwriteSplittingStrategyConfiguration("readwrite_ds", "false", "1000"), null), new RandomReadQueryLoadBalanceAlgorithm(), Collections.singleton(dynamicDataSourceRule));
+        assertThat(actual.getEnabledReplicaDataSources(), is(Collections.singletonList("read_ds_1")));
+    }
+    
+    @Test
+    public void assertGetEnabledReplicaDataSourcesWithAllReplicationDelayedAndWriteDataSourceQueryDisabled() {
+        ReadwriteSplittingDataSourceRule actual = createAllReplicationDelayedRule("false");
+        assertThat(actual.getEnabledReplicaDataSources(), is(Arrays.asList("read_ds_0", "read_ds_1")));
+    }
+    
+    @Test
+    public void assertGetEnabledReplicaDataSourcesWithAllReplicationDelayedAndWriteDataSourceQueryEnabled() {
+        ReadwriteSplittingDataSourceRule actual = createAllReplicationDelayedRule("true");
+        assertThat(actual.getEnabledReplicaDataSources(), is(Collections.emptyList()));
+    }
+    
+    private ReadwriteSplittingDataSourceRule createAllReplicationDelayedRule(final String writeDataSourceQueryEnabled) {
+        DynamicDataSourceContainedRule dynamicDataSourceRule = mock(DynamicDataSourceContainedRule.class);
+        when(dynamicDataSourceRule.getReplicaDataSourceNames("readwrite_ds")).thenReturn(Arrays.asList("read_ds_0", "read_ds_1"));
+        Map<String, Long> replicationDelayMilliseconds = new HashMap<>(2, 1);
+        replicationDelayMilliseconds.put("read_ds_0", 5000L);
+        replicationDelayMilliseconds.put("read_ds_1", 3000L);
+        when(dynamicDataSourceRule.getReplicationDelayMilliseconds("readwrite_ds")).thenReturn(replicationDelayMilliseconds);
+        return new ReadwriteSplittingDataSourceRule(new ReadwriteSplittingDataSourceRuleConfiguration("test_pr", null,
+                new DynamicReadwriteSplittingStrategyConfiguration("readwrite_ds", writeDataSourceQueryEnabled, "1000"), null),
+                new RandomReadQueryLoadBalanceAlgorithm(), Collections.singleton(dynamicDataSourceRule));
+    }
+    
+    @Test
+    public void assertGetEnabledReplicaDataSourcesWithoutMaxReplicationDelay() {
+        DynamicDataSourceContainedRule dynamicDataSourceRule = mock(DynamicDataSourceContainedRule.class);
+        when(dynamicDataSourceRule.getReplicaDataSourceNames("readwrite_ds")).thenReturn(Arrays.asList("read_ds_0", "read_ds_1"));
+        when(dynamicDataSourceRule.getReplicationDelayMilliseconds("readwrite_ds")).thenReturn(Collections.singletonMap("read_ds_0", 5000L));
+        ReadwriteSplittingDataSourceRule actual = new ReadwriteSplittingDataSourceRule(new ReadwriteSplittingDataSourceRuleConfiguration("test_pr", null,
+                new DynamicReadwriteSplittingStrategyConfiguration("readwrite_ds", "false"), null), new RandomReadQueryLoadBalanceAlgorithm(), Collections.singleton(dynamicDataSourceRule));
+        assertThat(actual.getEnabledReplicaDataSources(), is(Arrays.asList("read_ds_0", "read_ds_1")));
+    }
 }
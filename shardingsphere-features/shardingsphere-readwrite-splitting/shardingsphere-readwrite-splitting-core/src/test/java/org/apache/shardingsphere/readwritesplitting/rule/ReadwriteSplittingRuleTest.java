@@ -23,6 +23,7 @@ import org.apache.shardingsphere.mode.metadata.storage.StorageNodeDataSource;
 import org.apache.shardingsphere.mode.metadata.storage.StorageNodeRole;
 import org.apache.shardingsphere.mode.metadata.storage.StorageNodeStatus;
 import org.apache.shardingsphere.mode.metadata.storage.event.StorageNodeDataSourceChangedEvent;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency.DataSourceLatencyRegistry;
 import org.apache.shardingsphere.readwritesplitting.api.ReadwriteSplittingRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.api.strategy.StaticReadwriteSplittingStrategyConfiguration;
@@ -36,6 +37,8 @@ import java.util.Optional;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -60,6 +63,27 @@ public final class ReadwriteSplittingRuleTest {
                 Collections.singleton(config), Collections.singletonMap("random", new AlgorithmConfiguration("RANDOM", new Properties()))), Collections.emptyList());
     }
     
+    @Test
+    public void assertFindLatencyRegistryWithoutLatencyAwareLoadBalancer() {
+        assertFalse(createReadwriteSplittingRule().findLatencyRegistry().isPresent());
+    }
+    
+    @Test
+    public void assertFindLatencyRegistryOfEachRule() {
+        Optional<DataSourceLatencyRegistry> actual = createLatencyAwareReadwriteSplittingRule().findLatencyRegistry();
+        assertTrue(actual.isPresent());
+        Optional<DataSourceLatencyRegistry> rebuilt = createLatencyAwareReadwriteSplittingRule().findLatencyRegistry();
+        assertTrue(rebuilt.isPresent());
+        assertThat(actual.get(), not(rebuilt.get()));
+    }
+    
+    private ReadwriteSplittingRule createLatencyAwareReadwriteSplittingRule() {
+        ReadwriteSplittingDataSourceRuleConfiguration config = new ReadwriteSplittingDataSourceRuleConfiguration(
+                "readwrite", new StaticReadwriteSplittingStrategyConfiguration("write_ds", Arrays.asList("read_ds_0", "read_ds_1")), null, "latency_aware");
+        return new ReadwriteSplittingRule(new ReadwriteSplittingRuleConfiguration(
+                Collections.singleton(config), Collections.singletonMap("latency_aware", new AlgorithmConfiguration("LATENCY_AWARE", new Properties()))), Collections.emptyList());
+    }
+    
     private void assertDataSourceRule(final ReadwriteSplittingDataSourceRule actual) {
         assertThat(actual.getName(), is("readwrite"));
         assertThat(actual.getReadwriteSplittingStrategy().getWriteDataSource(), is("write_ds"));
@@ -18,10 +18,11 @@
 package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
 
 import com.google.common.base.Preconditions;
-import groovy.lang.Closure;
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
 import groovy.lang.MissingMethodException;
-import groovy.util.Expando;
 import lombok.Getter;
+import org.apache.shardingsphere.infra.util.expr.InlineExpressionEvaluator;
 import org.apache.shardingsphere.infra.util.expr.InlineExpressionParser;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
@@ -29,6 +30,8 @@ import org.apache.shardingsphere.sharding.api.sharding.standard.StandardSharding
 import org.apache.shardingsphere.sharding.exception.MismatchedInlineShardingAlgorithmExpressionAndColumnException;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Properties;
 
 /**
@@ -40,18 +43,28 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     private static final String ALLOW_RANGE_QUERY_KEY = "allow-range-query-with-inline-sharding";
     
+    private static final String MAX_RANGE_ENUMERATION_SIZE_KEY = "max-range-enumeration-size";
+    
+    private static final int DEFAULT_MAX_RANGE_ENUMERATION_SIZE = 100;
+    
     @Getter
     private Properties props;
     
     private String algorithmExpression;
     
+    private InlineExpressionEvaluator expressionEvaluator;
+    
     private boolean allowRangeQuery;
     
+    private int maxRangeEnumerationSize;
+    
     @Override
     public void init(final Properties props) {
         this.props = props;
         algorithmExpression = getAlgorithmExpression(props);
+        expressionEvaluator = new InlineExpressionEvaluator(algorithmExpression);
         allowRangeQuery = isAllowRangeQuery(props);
+        maxRangeEnumerationSize = getMaxRangeEnumerationSize(props);
     }
     
     private String getAlgorithmExpression(final Properties props) {
@@ -64,34 +77,68 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
         return Boolean.parseBoolean(props.getOrDefault(ALLOW_RANGE_QUERY_KEY, Boolean.FALSE.toString()).toString());
     }
     
+    private int getMaxRangeEnumerationSize(final Properties props) {
+        int result = Integer.parseInt(props.getOrDefault(MAX_RANGE_ENUMERATION_SIZE_KEY, DEFAULT_MAX_RANGE_ENUMERATION_SIZE).toString());
+        Preconditions.checkArgument(result >= 0, "Max range enumeration size can not be less than 0.");
+        return result;
+    }
+    
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
-        Closure<?> closure = createClosure();
         Comparable<?> value = shardingValue.getValue();
         if (value instanceof Number) {
             value = Math.abs(((Number) value).intValue());
         }
-        closure.setProperty(shardingValue.getColumnName(), value);
-        return getTargetShardingNode(closure, shardingValue.getColumnName());
+        return getTargetShardingNode(value, shardingValue.getColumnName());
     }
     
     @Override
     public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
         if (allowRangeQuery) {
-            return availableTargetNames;
+            long enumerationSize = getEnumerationSize(shardingValue.getValueRange());
+            return enumerationSize > 0 && enumerationSize <= maxRangeEnumerationSize ? enumerateTargetNames(availableTargetNames, shardingValue, enumerationSize) : availableTargetNames;
         }
         throw new UnsupportedOperationException("Since the property of `" + ALLOW_RANGE_QUERY_KEY + "` is false, inline sharding algorithm can not tackle with range query.");
     }
     
-    private Closure<?> createClosure() {
-        Closure<?> result = new InlineExpressionParser(algorithmExpression).evaluateClosure().rehydrate(new Expando(), null, null);
-        result.setResolveStrategy(Closure.DELEGATE_ONLY);
+    private long getEnumerationSize(final Range<Comparable<?>> valueRange) {
+        if (!valueRange.hasLowerBound() || !valueRange.hasUpperBound() || !isIntegral(valueRange.lowerEndpoint()) || !isIntegral(valueRange.upperEndpoint())) {
+            return 0L;
+        }
+        // overflowed spans come out non-positive and are never enumerated
+        return getEnumerationUpperEndpoint(valueRange) - getEnumerationLowerEndpoint(valueRange) + 1;
+    }
+    
+    private boolean isIntegral(final Comparable<?> value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+    
+    private long getEnumerationLowerEndpoint(final Range<Comparable<?>> valueRange) {
+        long result = ((Number) valueRange.lowerEndpoint()).longValue();
+        return BoundType.OPEN == valueRange.lowerBoundType() ? result + 1 : result;
+    }
+    
+    private long getEnumerationUpperEndpoint(final Range<Comparable<?>> valueRange) {
+        long result = ((Number) valueRange.upperEndpoint()).longValue();
+        return BoundType.OPEN == valueRange.upperBoundType() ? result - 1 : result;
+    }
+    
+    private Collection<String> enumerateTargetNames(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue, final long enumerationSize) {
+        Collection<String> result = new LinkedHashSet<>(availableTargetNames.size(), 1);
+        long lower = getEnumerationLowerEndpoint(shardingValue.getValueRange());
+        for (long i = 0; i < enumerationSize && result.size() < availableTargetNames.size(); i++) {
+            String target = getTargetShardingNode(Math.abs((int) (lower + i)), shardingValue.getColumnName());
+            if (!availableTargetNames.contains(target)) {
+                return availableTargetNames;
+            }
+            result.add(target);
+        }
         return result;
     }
     
-    private String getTargetShardingNode(final Closure<?> closure, final String columnName) {
+    private String getTargetShardingNode(final Comparable<?> value, final String columnName) {
         try {
-            return closure.call().toString();
+            return expressionEvaluator.evaluate(Collections.singletonMap(columnName, value));
         } catch (final MissingMethodException | NullPointerException ex) {
             throw new MismatchedInlineShardingAlgorithmExpressionAndColumnException(algorithmExpression, columnName);
         }
@@ -18,7 +18,10 @@
 package org.apache.shardingsphere.sharding.algorithm.sharding.mod;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
 import lombok.Getter;
+import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
@@ -100,22 +103,43 @@ public final class ModShardingAlgorithm implements StandardShardingAlgorithm<Com
     
     @Override
     public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
-        return containsAllTargets(shardingValue) ? availableTargetNames : getAvailableTargetNames(availableTargetNames, shardingValue);
+        Range<Comparable<?>> valueRange = shardingValue.getValueRange();
+        if (!isEnumerable(valueRange)) {
+            return availableTargetNames;
+        }
+        BigInteger lower = getEnumerationLowerEndpoint(valueRange);
+        BigInteger upper = getEnumerationUpperEndpoint(valueRange);
+        return containsAllTargets(lower, upper) ? availableTargetNames : getAvailableTargetNames(availableTargetNames, lower, upper, shardingValue.getDataNodeInfo());
+    }
+    
+    private boolean isEnumerable(final Range<Comparable<?>> valueRange) {
+        return 0 == startOffset && 0 == stopOffset && valueRange.hasLowerBound() && valueRange.hasUpperBound() && isIntegral(valueRange.lowerEndpoint()) && isIntegral(valueRange.upperEndpoint());
+    }
+    
+    private boolean isIntegral(final Comparable<?> value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte || value instanceof BigInteger;
+    }
+    
+    private BigInteger getEnumerationLowerEndpoint(final Range<Comparable<?>> valueRange) {
+        BigInteger result = getBigInteger(valueRange.lowerEndpoint());
+        return BoundType.OPEN == valueRange.lowerBoundType() ? result.add(BigInteger.ONE) : result;
+    }
+    
+    private BigInteger getEnumerationUpperEndpoint(final Range<Comparable<?>> valueRange) {
+        BigInteger result = getBigInteger(valueRange.upperEndpoint());
+        return BoundType.OPEN == valueRange.upperBoundType() ? result.subtract(BigInteger.ONE) : result;
     }
     
-    private boolean containsAllTargets(final RangeShardingValue<Comparable<?>> shardingValue) {
-        return !shardingValue.getValueRange().hasUpperBound() || shardingValue.getValueRange().hasLowerBound()
-                && getBigInteger(shardingValue.getValueRange().upperEndpoint()).subtract(getBigInteger(shardingValue.getValueRange().lowerEndpoint())).intValue() >= shardingCount - 1;
+    private boolean containsAllTargets(final BigInteger lower, final BigInteger upper) {
+        return lower.compareTo(upper) > 0 || upper.subtract(lower).compareTo(BigInteger.valueOf(shardingCount - 1)) >= 0;
     }
     
-    private Collection<String> getAvailableTargetNames(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
+    private Collection<String> getAvailableTargetNames(final Collection<String> availableTargetNames, final BigInteger lower, final BigInteger upper, final DataNodeInfo dataNodeInfo) {
         Collection<String> result = new LinkedHashSet<>(availableTargetNames.size());
-        BigInteger lower = new BigInteger(shardingValue.getValueRange().lowerEndpoint().toString());
-        BigInteger upper = new BigInteger(shardingValue.getValueRange().upperEndpoint().toString());
-        BigInteger shardingCountBigInter = new BigInteger(String.valueOf(shardingCount));
-        for (BigInteger i = lower; i.compareTo(upper) <= 0; i = i.add(new BigInteger("1"))) {
-            String shardingResultSuffix = getShardingResultSuffix(String.valueOf(i.mod(shardingCountBigInter)));
-            findMatchedTargetName(availableTargetNames, shardingResultSuffix, shardingValue.getDataNodeInfo()).ifPresent(result::add);
+        BigInteger shardingCountBigInteger = BigInteger.valueOf(shardingCount);
+        for (BigInteger i = lower; i.compareTo(upper) <= 0; i = i.add(BigInteger.ONE)) {
+            String shardingResultSuffix = getShardingResultSuffix(String.valueOf(i.mod(shardingCountBigInteger)));
+            findMatchedTargetName(availableTargetNames, shardingResultSuffix, dataNodeInfo).ifPresent(result::add);
         }
         return result;
     }
@@ -59,7 +59,7 @@ public final class ShardingSQLFederationDecider implements SQLFederationDecider<
             return;
         }
         boolean allBindingTables = tableNames.size() > 1 && rule.isAllBindingTables(database, select, tableNames);
-        deciderContext.setUseSQLFederation(tableNames.size() > 1 && !allBindingTables);
+        deciderContext.setUseSQLFederation(tableNames.size() > 1 && !allBindingTables && !rule.isAllColocatedTables(database, select, tableNames));
     }
     
     private static void addTableDataNodes(final SQLFederationDeciderContext deciderContext, final ShardingRule rule, final Collection<String> tableNames) {
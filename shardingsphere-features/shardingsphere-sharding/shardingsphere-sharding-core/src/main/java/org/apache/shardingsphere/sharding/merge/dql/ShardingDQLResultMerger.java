@@ -17,11 +17,12 @@
 
 package org.apache.shardingsphere.sharding.merge.dql;
 
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.infra.binder.segment.select.pagination.PaginationContext;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.ConnectionContext;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
@@ -32,7 +33,9 @@ import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
 import org.apache.shardingsphere.sharding.merge.common.IteratorStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByMemoryMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupBySpillMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByStreamMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByLoserTreeMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.pagination.LimitDecoratorMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.pagination.RowNumberDecoratorMergedResult;
@@ -44,16 +47,29 @@ import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 import java.util.TreeMap;
 
 /**
  * DQL result merger for Sharding.
  */
-@RequiredArgsConstructor
 public final class ShardingDQLResultMerger implements ResultMerger {
     
+    private static final int LOSER_TREE_MERGE_THRESHOLD = 32;
+    
     private final DatabaseType databaseType;
     
+    private final long groupByMaxInMemoryBytes;
+    
+    public ShardingDQLResultMerger(final DatabaseType databaseType) {
+        this(databaseType, new ConfigurationProperties(new Properties()));
+    }
+    
+    public ShardingDQLResultMerger(final DatabaseType databaseType, final ConfigurationProperties props) {
+        this.databaseType = databaseType;
+        groupByMaxInMemoryBytes = props.getValue(ConfigurationPropertyKey.MERGE_GROUP_BY_MAX_IN_MEMORY_BYTES);
+    }
+    
     @Override
     public MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext<?> sqlStatementContext,
                               final ShardingSphereDatabase database, final ConnectionContext connectionContext) throws SQLException {
@@ -92,7 +108,9 @@ public final class ShardingDQLResultMerger implements ResultMerger {
             return getGroupByMergedResult(queryResults, selectStatementContext, columnLabelIndexMap, schema);
         }
         if (isNeedProcessOrderBy(selectStatementContext)) {
-            return new OrderByStreamMergedResult(queryResults, selectStatementContext, schema);
+            return queryResults.size() >= LOSER_TREE_MERGE_THRESHOLD
+                    ? new OrderByLoserTreeMergedResult(queryResults, selectStatementContext, schema)
+                    : new OrderByStreamMergedResult(queryResults, selectStatementContext, schema);
         }
         return new IteratorStreamMergedResult(queryResults);
     }
@@ -115,8 +133,11 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private MergedResult getGroupByMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
                                                 final Map<String, Integer> columnLabelIndexMap, final ShardingSphereSchema schema) throws SQLException {
-        return selectStatementContext.isSameGroupByAndOrderByItems()
-                ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema)
+        if (selectStatementContext.isSameGroupByAndOrderByItems()) {
+            return new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema);
+        }
+        return groupByMaxInMemoryBytes > 0
+                ? new GroupBySpillMergedResult(queryResults, selectStatementContext, schema, groupByMaxInMemoryBytes)
                 : new GroupByMemoryMergedResult(queryResults, selectStatementContext, schema);
     }
     
@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Maps;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.Projection;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.AggregationType;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+
+/**
+ * Group by aggregator, which aggregates rows in memory by group by values.
+ */
+@RequiredArgsConstructor
+public final class GroupByAggregator {
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
+    
+    private final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap = new HashMap<>(1024);
+    
+    @Getter
+    private long estimatedBytes;
+    
+    /**
+     * Judge whether group by value is already aggregated.
+     * 
+     * @param groupByValue group by value
+     * @return contains group by value or not
+     */
+    public boolean contains(final GroupByValue groupByValue) {
+        return dataMap.containsKey(groupByValue);
+    }
+    
+    /**
+     * Get count of aggregated groups.
+     * 
+     * @return count of aggregated groups
+     */
+    public int size() {
+        return dataMap.size();
+    }
+    
+    /**
+     * Aggregate current row of query result.
+     * 
+     * @param queryResult query result
+     * @param groupByValue group by value of current row
+     * @throws SQLException SQL exception
+     */
+    public void aggregate(final QueryResult queryResult, final GroupByValue groupByValue) throws SQLException {
+        initForFirstGroupByValue(queryResult, groupByValue);
+        for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
+            List<Comparable<?>> values = new ArrayList<>(2);
+            if (each.getDerivedAggregationProjections().isEmpty()) {
+                values.add(getAggregationValue(queryResult, each));
+            } else {
+                for (AggregationProjection derived : each.getDerivedAggregationProjections()) {
+                    values.add(getAggregationValue(queryResult, derived));
+                }
+            }
+            aggregationMap.get(groupByValue).get(each).merge(values);
+        }
+    }
+    
+    private void initForFirstGroupByValue(final QueryResult queryResult, final GroupByValue groupByValue) throws SQLException {
+        if (!dataMap.containsKey(groupByValue)) {
+            Object[] row = loadRow(queryResult);
+            dataMap.put(groupByValue, new MemoryQueryResultRow(row));
+            estimatedBytes += GroupByRowSizeEstimator.estimate(row, selectStatementContext.getProjectionsContext().getAggregationProjections().size());
+        }
+        if (!aggregationMap.containsKey(groupByValue)) {
+            Map<AggregationProjection, AggregationUnit> map = Maps
+                    .toMap(selectStatementContext.getProjectionsContext()
+                            .getAggregationProjections(), input -> AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection));
+            aggregationMap.put(groupByValue, map);
+        }
+    }
+    
+    private Object[] loadRow(final QueryResult queryResult) throws SQLException {
+        int columnCount = queryResult.getMetaData().getColumnCount();
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = queryResult.getValue(i + 1, Object.class);
+        }
+        return result;
+    }
+    
+    private Comparable<?> getAggregationValue(final QueryResult queryResult, final AggregationProjection aggregationProjection) throws SQLException {
+        Object result = queryResult.getValue(aggregationProjection.getIndex(), Object.class);
+        Preconditions.checkState(null == result || result instanceof Comparable, "Aggregation value must implements Comparable");
+        return (Comparable<?>) result;
+    }
+    
+    /**
+     * Get aggregated rows, which are not sorted.
+     * 
+     * @return aggregated rows
+     */
+    public List<MemoryQueryResultRow> getRows() {
+        for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
+            for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
+                entry.getValue().setCell(each.getIndex(), aggregationMap.get(entry.getKey()).get(each).getResult());
+            }
+        }
+        return new ArrayList<>(dataMap.values());
+    }
+    
+    /**
+     * Get rows for empty aggregation, which contain a single row if any aggregation has default value.
+     * 
+     * @return rows for empty aggregation
+     */
+    public List<MemoryQueryResultRow> getEmptyAggregationRows() {
+        List<Projection> projections = new LinkedList<>(selectStatementContext.getProjectionsContext().getExpandProjections());
+        Object[] data = new Object[projections.size()];
+        for (int i = 0; i < projections.size(); i++) {
+            if (projections.get(i) instanceof AggregationProjection && AggregationType.COUNT == ((AggregationProjection) projections.get(i)).getType()) {
+                data[i] = 0;
+            }
+        }
+        return Arrays.stream(data).anyMatch(Objects::nonNull) ? Collections.singletonList(new MemoryQueryResultRow(data)) : Collections.emptyList();
+    }
+    
+    /**
+     * Get value case sensitive flags indexed by column index.
+     * 
+     * @param queryResult query result
+     * @param schema schema
+     * @return value case sensitive flags
+     * @throws SQLException SQL exception
+     */
+    public List<Boolean> getValueCaseSensitive(final QueryResult queryResult, final ShardingSphereSchema schema) throws SQLException {
+        List<Boolean> result = new ArrayList<>();
+        result.add(false);
+        for (int columnIndex = 1; columnIndex <= queryResult.getMetaData().getColumnCount(); columnIndex++) {
+            result.add(getValueCaseSensitiveFromTables(queryResult, schema, columnIndex));
+        }
+        return result;
+    }
+    
+    private boolean getValueCaseSensitiveFromTables(final QueryResult queryResult, final ShardingSphereSchema schema, final int columnIndex) throws SQLException {
+        for (SimpleTableSegment each : selectStatementContext.getAllTables()) {
+            String tableName = each.getTableName().getIdentifier().getValue();
+            ShardingSphereTable table = schema.getTable(tableName);
+            Map<String, ShardingSphereColumn> columns = table.getColumns();
+            String columnName = queryResult.getMetaData().getColumnName(columnIndex);
+            if (columns.containsKey(columnName)) {
+                return columns.get(columnName).isCaseSensitive();
+            }
+        }
+        return false;
+    }
+}
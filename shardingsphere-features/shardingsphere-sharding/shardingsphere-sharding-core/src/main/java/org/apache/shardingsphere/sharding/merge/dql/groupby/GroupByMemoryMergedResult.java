@@ -17,35 +17,17 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.groupby;
 
-import com.google.common.base.Preconditions;
-import com.google.common.collect.Maps;
-import org.apache.shardingsphere.infra.binder.segment.select.projection.Projection;
-import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationDistinctProjection;
-import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryMergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
-import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumn;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
-import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
-import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
-import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
-import org.apache.shardingsphere.sql.parser.sql.common.constant.AggregationType;
-import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
 
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Objects;
 
 /**
  * Memory merged result for group by.
@@ -60,106 +42,18 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
     protected List<MemoryQueryResultRow> init(final ShardingRule shardingRule, final ShardingSphereSchema schema,
                                               final SQLStatementContext<?> sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
         SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
-        Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
-        Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap = new HashMap<>(1024);
+        GroupByAggregator aggregator = new GroupByAggregator(selectStatementContext);
         for (QueryResult each : queryResults) {
             while (each.next()) {
-                GroupByValue groupByValue = new GroupByValue(each, selectStatementContext.getGroupByContext().getItems());
-                initForFirstGroupByValue(selectStatementContext, each, groupByValue, dataMap, aggregationMap);
-                aggregate(selectStatementContext, each, groupByValue, aggregationMap);
+                aggregator.aggregate(each, new GroupByValue(each, selectStatementContext.getGroupByContext().getItems()));
             }
         }
-        setAggregationValueToMemoryRow(selectStatementContext, dataMap, aggregationMap);
-        List<Boolean> valueCaseSensitive = queryResults.isEmpty() ? Collections.emptyList() : getValueCaseSensitive(queryResults.iterator().next(), selectStatementContext, schema);
-        return getMemoryResultSetRows(selectStatementContext, dataMap, valueCaseSensitive);
-    }
-    
-    private void initForFirstGroupByValue(final SelectStatementContext selectStatementContext, final QueryResult queryResult,
-                                          final GroupByValue groupByValue, final Map<GroupByValue, MemoryQueryResultRow> dataMap,
-                                          final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
-        if (!dataMap.containsKey(groupByValue)) {
-            dataMap.put(groupByValue, new MemoryQueryResultRow(queryResult));
-        }
-        if (!aggregationMap.containsKey(groupByValue)) {
-            Map<AggregationProjection, AggregationUnit> map = Maps
-                    .toMap(selectStatementContext.getProjectionsContext()
-                            .getAggregationProjections(), input -> AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection));
-            aggregationMap.put(groupByValue, map);
-        }
-    }
-    
-    private void aggregate(final SelectStatementContext selectStatementContext, final QueryResult queryResult,
-                           final GroupByValue groupByValue, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
-        for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
-            List<Comparable<?>> values = new ArrayList<>(2);
-            if (each.getDerivedAggregationProjections().isEmpty()) {
-                values.add(getAggregationValue(queryResult, each));
-            } else {
-                for (AggregationProjection derived : each.getDerivedAggregationProjections()) {
-                    values.add(getAggregationValue(queryResult, derived));
-                }
-            }
-            aggregationMap.get(groupByValue).get(each).merge(values);
+        List<Boolean> valueCaseSensitive = queryResults.isEmpty() ? Collections.emptyList() : aggregator.getValueCaseSensitive(queryResults.iterator().next(), schema);
+        if (0 == aggregator.size()) {
+            return aggregator.getEmptyAggregationRows();
         }
-    }
-    
-    private Comparable<?> getAggregationValue(final QueryResult queryResult, final AggregationProjection aggregationProjection) throws SQLException {
-        Object result = queryResult.getValue(aggregationProjection.getIndex(), Object.class);
-        Preconditions.checkState(null == result || result instanceof Comparable, "Aggregation value must implements Comparable");
-        return (Comparable<?>) result;
-    }
-    
-    private void setAggregationValueToMemoryRow(final SelectStatementContext selectStatementContext,
-                                                final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) {
-        for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
-            for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
-                entry.getValue().setCell(each.getIndex(), aggregationMap.get(entry.getKey()).get(each).getResult());
-            }
-        }
-    }
-    
-    private List<Boolean> getValueCaseSensitive(final QueryResult queryResult, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
-        List<Boolean> result = new ArrayList<>();
-        result.add(false);
-        for (int columnIndex = 1; columnIndex <= queryResult.getMetaData().getColumnCount(); columnIndex++) {
-            result.add(getValueCaseSensitiveFromTables(queryResult, selectStatementContext, schema, columnIndex));
-        }
-        return result;
-    }
-    
-    private boolean getValueCaseSensitiveFromTables(final QueryResult queryResult,
-                                                    final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema, final int columnIndex) throws SQLException {
-        for (SimpleTableSegment each : selectStatementContext.getAllTables()) {
-            String tableName = each.getTableName().getIdentifier().getValue();
-            ShardingSphereTable table = schema.getTable(tableName);
-            Map<String, ShardingSphereColumn> columns = table.getColumns();
-            String columnName = queryResult.getMetaData().getColumnName(columnIndex);
-            if (columns.containsKey(columnName)) {
-                return columns.get(columnName).isCaseSensitive();
-            }
-        }
-        return false;
-    }
-    
-    private List<MemoryQueryResultRow> getMemoryResultSetRows(final SelectStatementContext selectStatementContext,
-                                                              final Map<GroupByValue, MemoryQueryResultRow> dataMap, final List<Boolean> valueCaseSensitive) {
-        if (dataMap.isEmpty()) {
-            Object[] data = generateReturnData(selectStatementContext);
-            return Arrays.stream(data).anyMatch(Objects::nonNull) ? Collections.singletonList(new MemoryQueryResultRow(data)) : Collections.emptyList();
-        }
-        List<MemoryQueryResultRow> result = new ArrayList<>(dataMap.values());
+        List<MemoryQueryResultRow> result = aggregator.getRows();
         result.sort(new GroupByRowComparator(selectStatementContext, valueCaseSensitive));
         return result;
     }
-    
-    private Object[] generateReturnData(final SelectStatementContext selectStatementContext) {
-        List<Projection> projections = new LinkedList<>(selectStatementContext.getProjectionsContext().getExpandProjections());
-        Object[] result = new Object[projections.size()];
-        for (int i = 0; i < projections.size(); i++) {
-            if (projections.get(i) instanceof AggregationProjection && AggregationType.COUNT == ((AggregationProjection) projections.get(i)).getType()) {
-                result[i] = 0;
-            }
-        }
-        return result;
-    }
 }
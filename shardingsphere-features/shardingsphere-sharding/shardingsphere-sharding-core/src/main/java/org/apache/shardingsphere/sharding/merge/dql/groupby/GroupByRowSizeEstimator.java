@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+
+/**
+ * Row size estimator for group by, which estimates bytes of heap held by an aggregated group.
+ * 
+ * <p>Values held by aggregation units of distinct aggregation are not counted.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class GroupByRowSizeEstimator {
+    
+    private static final int GROUP_OVERHEAD_BYTES = 160;
+    
+    private static final int AGGREGATION_UNIT_BYTES = 64;
+    
+    private static final int REFERENCE_BYTES = 8;
+    
+    private static final int OBJECT_HEADER_BYTES = 16;
+    
+    private static final int DEFAULT_VALUE_BYTES = 32;
+    
+    /**
+     * Estimate bytes of group.
+     * 
+     * @param row row of group
+     * @param aggregationCount count of aggregation projections
+     * @return estimated bytes
+     */
+    public static long estimate(final Object[] row, final int aggregationCount) {
+        long result = GROUP_OVERHEAD_BYTES + (long) aggregationCount * AGGREGATION_UNIT_BYTES + (long) row.length * REFERENCE_BYTES;
+        for (Object each : row) {
+            result += estimate(each);
+        }
+        return result;
+    }
+    
+    private static long estimate(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof String) {
+            return OBJECT_HEADER_BYTES * 3 + ((String) value).length() * 2L;
+        }
+        if (value instanceof byte[]) {
+            return OBJECT_HEADER_BYTES + ((byte[]) value).length;
+        }
+        if (value instanceof BigDecimal) {
+            return DEFAULT_VALUE_BYTES + OBJECT_HEADER_BYTES + ((BigDecimal) value).unscaledValue().bitLength() / 8;
+        }
+        if (value instanceof BigInteger) {
+            return DEFAULT_VALUE_BYTES + ((BigInteger) value).bitLength() / 8;
+        }
+        if (value instanceof Blob) {
+            return estimateLength((Blob) value);
+        }
+        if (value instanceof Clob) {
+            return estimateLength((Clob) value) * 2;
+        }
+        return OBJECT_HEADER_BYTES + REFERENCE_BYTES;
+    }
+    
+    private static long estimateLength(final Blob value) {
+        try {
+            return OBJECT_HEADER_BYTES + value.length();
+        } catch (final SQLException ignored) {
+            return DEFAULT_VALUE_BYTES;
+        }
+    }
+    
+    private static long estimateLength(final Clob value) {
+        try {
+            return OBJECT_HEADER_BYTES + value.length();
+        } catch (final SQLException ignored) {
+            return DEFAULT_VALUE_BYTES;
+        }
+    }
+}
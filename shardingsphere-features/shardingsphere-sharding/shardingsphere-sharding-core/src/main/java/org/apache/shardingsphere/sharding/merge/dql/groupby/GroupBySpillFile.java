@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.util.exception.sql.UnknownSQLException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+
+/**
+ * Group by spill file, which stores rows in local temporary file.
+ */
+public final class GroupBySpillFile implements AutoCloseable {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final Path path;
+    
+    private DataOutputStream output;
+    
+    private DataInputStream input;
+    
+    @Getter
+    private long rowCount;
+    
+    private long remainingRowCount;
+    
+    public GroupBySpillFile() throws SQLException {
+        try {
+            path = Files.createTempFile("shardingsphere-group-by-", ".spill");
+            output = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(FileChannel.open(path, StandardOpenOption.WRITE)), BUFFER_SIZE));
+        } catch (final IOException ex) {
+            throw new UnknownSQLException(ex).toSQLException();
+        }
+    }
+    
+    /**
+     * Write row.
+     * 
+     * @param row row data
+     * @throws SQLException SQL exception
+     */
+    public void write(final Object[] row) throws SQLException {
+        try {
+            GroupBySpillRowCodec.write(output, row);
+            rowCount++;
+        } catch (final IOException ex) {
+            throw new UnknownSQLException(ex).toSQLException();
+        }
+    }
+    
+    /**
+     * Finish writing and prepare to read rows from beginning.
+     * 
+     * @throws SQLException SQL exception
+     */
+    public void flip() throws SQLException {
+        try {
+            output.close();
+            output = null;
+            input = new DataInputStream(new BufferedInputStream(Channels.newInputStream(FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.DELETE_ON_CLOSE)), BUFFER_SIZE));
+            remainingRowCount = rowCount;
+        } catch (final IOException ex) {
+            throw new UnknownSQLException(ex).toSQLException();
+        }
+    }
+    
+    /**
+     * Read next row.
+     * 
+     * @return next row data, null if all rows are read
+     * @throws SQLException SQL exception
+     */
+    public Object[] read() throws SQLException {
+        if (0 == remainingRowCount) {
+            return null;
+        }
+        try {
+            remainingRowCount--;
+            return GroupBySpillRowCodec.read(input);
+        } catch (final IOException ex) {
+            throw new UnknownSQLException(ex).toSQLException();
+        }
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        try {
+            if (null != output) {
+                output.close();
+                output = null;
+            }
+            if (null != input) {
+                input.close();
+                input = null;
+            }
+            remainingRowCount = 0;
+            Files.deleteIfExists(path);
+        } catch (final IOException ex) {
+            throw new UnknownSQLException(ex).toSQLException();
+        }
+    }
+}
@@ -0,0 +1,313 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+/**
+ * Spillable merged result for group by.
+ * 
+ * <p>Groups are aggregated in memory until the estimated bytes of groups reach max in memory bytes. Rows of other groups are partitioned by hash of group by values
+ * into local temporary files, every partition is aggregated again (recursively partitioned if it still exceeds max in memory bytes),
+ * and the sorted runs are merged in stream. Rows in memory are same as {@link GroupByMemoryMergedResult} if nothing is spilled.</p>
+ */
+public final class GroupBySpillMergedResult implements MergedResult {
+    
+    private static final int PARTITION_BITS = 4;
+    
+    private static final int PARTITION_COUNT = 1 << PARTITION_BITS;
+    
+    private static final int MAX_PARTITION_DEPTH = 4;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final long maxInMemoryBytes;
+    
+    private final Comparator<MemoryQueryResultRow> rowComparator;
+    
+    private final QueryResultMetaData metaData;
+    
+    private final int columnCount;
+    
+    private final Queue<SpilledRun> spilledRuns;
+    
+    private final Collection<GroupBySpillFile> spillFiles = new LinkedList<>();
+    
+    private Iterator<MemoryQueryResultRow> memoryRows;
+    
+    private SpilledRun currentSpilledRun;
+    
+    private MemoryQueryResultRow currentRow;
+    
+    private boolean wasNull;
+    
+    public GroupBySpillMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                    final ShardingSphereSchema schema, final long maxInMemoryBytes) throws SQLException {
+        this.selectStatementContext = selectStatementContext;
+        this.maxInMemoryBytes = maxInMemoryBytes;
+        GroupByAggregator aggregator = new GroupByAggregator(selectStatementContext);
+        rowComparator = new GroupByRowComparator(selectStatementContext, queryResults.isEmpty() ? Collections.emptyList() : aggregator.getValueCaseSensitive(queryResults.get(0), schema));
+        metaData = queryResults.isEmpty() ? null : queryResults.get(0).getMetaData();
+        columnCount = null == metaData ? 0 : metaData.getColumnCount();
+        spilledRuns = new PriorityQueue<>(PARTITION_COUNT, (o1, o2) -> rowComparator.compare(o1.getCurrentRow(), o2.getCurrentRow()));
+        try {
+            List<MemoryQueryResultRow> rows = aggregate(aggregator, queryResults, 0);
+            if (null != rows) {
+                memoryRows = 0 == aggregator.size() ? aggregator.getEmptyAggregationRows().iterator() : rows.iterator();
+            }
+        } catch (final SQLException | RuntimeException ex) {
+            closeSpillFiles(ex);
+            throw ex;
+        }
+    }
+    
+    private List<MemoryQueryResultRow> aggregate(final GroupByAggregator aggregator, final List<QueryResult> queryResults, final int depth) throws SQLException {
+        Collection<OrderByItem> groupByItems = selectStatementContext.getGroupByContext().getItems();
+        GroupBySpillFile[] partitions = null;
+        for (QueryResult each : queryResults) {
+            while (each.next()) {
+                GroupByValue groupByValue = new GroupByValue(each, groupByItems);
+                if (depth >= MAX_PARTITION_DEPTH || aggregator.getEstimatedBytes() < maxInMemoryBytes || aggregator.contains(groupByValue)) {
+                    aggregator.aggregate(each, groupByValue);
+                    continue;
+                }
+                if (null == partitions) {
+                    partitions = new GroupBySpillFile[PARTITION_COUNT];
+                }
+                int partitionIndex = getPartitionIndex(groupByValue, depth);
+                if (null == partitions[partitionIndex]) {
+                    partitions[partitionIndex] = createSpillFile();
+                }
+                partitions[partitionIndex].write(loadRow(each));
+            }
+        }
+        List<MemoryQueryResultRow> result = aggregator.getRows();
+        result.sort(rowComparator);
+        if (null == partitions && 0 == depth) {
+            return result;
+        }
+        spill(result);
+        if (null != partitions) {
+            aggregatePartitions(partitions, depth);
+        }
+        return null;
+    }
+    
+    private int getPartitionIndex(final GroupByValue groupByValue, final int depth) {
+        int hash = groupByValue.hashCode();
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return (hash >>> (depth * PARTITION_BITS)) & (PARTITION_COUNT - 1);
+    }
+    
+    private Object[] loadRow(final QueryResult queryResult) throws SQLException {
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = queryResult.getValue(i + 1, Object.class);
+        }
+        return result;
+    }
+    
+    private void spill(final List<MemoryQueryResultRow> sortedRows) throws SQLException {
+        if (sortedRows.isEmpty()) {
+            return;
+        }
+        GroupBySpillFile spillFile = createSpillFile();
+        for (MemoryQueryResultRow each : sortedRows) {
+            Object[] row = new Object[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                row[i] = each.getCell(i + 1);
+            }
+            spillFile.write(row);
+        }
+        spillFile.flip();
+        SpilledRun spilledRun = new SpilledRun(spillFile);
+        if (spilledRun.next()) {
+            spilledRuns.offer(spilledRun);
+        }
+    }
+    
+    private GroupBySpillFile createSpillFile() throws SQLException {
+        GroupBySpillFile result = new GroupBySpillFile();
+        spillFiles.add(result);
+        return result;
+    }
+    
+    private void aggregatePartitions(final GroupBySpillFile[] partitions, final int depth) throws SQLException {
+        for (GroupBySpillFile each : partitions) {
+            if (null == each) {
+                continue;
+            }
+            each.flip();
+            GroupBySpillQueryResult queryResult = new GroupBySpillQueryResult(metaData, each);
+            try {
+                aggregate(new GroupByAggregator(selectStatementContext), Collections.singletonList(queryResult), depth + 1);
+            } finally {
+                queryResult.close();
+            }
+        }
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (null != memoryRows) {
+            if (memoryRows.hasNext()) {
+                currentRow = memoryRows.next();
+                return true;
+            }
+            return false;
+        }
+        if (null != currentSpilledRun && currentSpilledRun.next()) {
+            spilledRuns.offer(currentSpilledRun);
+        }
+        currentSpilledRun = spilledRuns.poll();
+        if (null == currentSpilledRun) {
+            return false;
+        }
+        currentRow = currentSpilledRun.getCurrentRow();
+        return true;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        if (Blob.class == type || Clob.class == type || Reader.class == type || InputStream.class == type || SQLXML.class == type) {
+            throw new SQLFeatureNotSupportedException(String.format("Get value from `%s`", type.getName()));
+        }
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return null == calendar || !(result instanceof java.util.Date) ? result : convertWithCalendar((java.util.Date) result, type, calendar);
+    }
+    
+    private Object convertWithCalendar(final java.util.Date value, final Class<?> type, final Calendar calendar) {
+        Calendar localCalendar = Calendar.getInstance();
+        localCalendar.setTime(value);
+        Calendar targetCalendar = (Calendar) calendar.clone();
+        targetCalendar.clear();
+        for (int each : new int[]{Calendar.ERA, Calendar.YEAR, Calendar.MONTH, Calendar.DAY_OF_MONTH, Calendar.HOUR_OF_DAY, Calendar.MINUTE, Calendar.SECOND, Calendar.MILLISECOND}) {
+            targetCalendar.set(each, localCalendar.get(each));
+        }
+        long millis = targetCalendar.getTimeInMillis();
+        if (Date.class == type) {
+            return new Date(millis);
+        }
+        if (Time.class == type) {
+            return new Time(millis);
+        }
+        Timestamp result = new Timestamp(millis);
+        if (value instanceof Timestamp) {
+            result.setNanos(((Timestamp) value).getNanos());
+        }
+        return result;
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        spilledRuns.clear();
+        currentSpilledRun = null;
+        SQLException ex = closeSpillFiles(null);
+        if (null != ex) {
+            throw ex;
+        }
+    }
+    
+    private SQLException closeSpillFiles(final Exception cause) {
+        SQLException result = null;
+        for (GroupBySpillFile each : spillFiles) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                if (null != cause) {
+                    cause.addSuppressed(ex);
+                } else if (null == result) {
+                    result = ex;
+                } else {
+                    result.addSuppressed(ex);
+                }
+            }
+        }
+        spillFiles.clear();
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class SpilledRun {
+        
+        private final GroupBySpillFile spillFile;
+        
+        @Getter
+        private MemoryQueryResultRow currentRow;
+        
+        private boolean next() throws SQLException {
+            Object[] row = spillFile.read();
+            if (null == row) {
+                spillFile.close();
+                return false;
+            }
+            currentRow = new MemoryQueryResultRow(row);
+            return true;
+        }
+    }
+}
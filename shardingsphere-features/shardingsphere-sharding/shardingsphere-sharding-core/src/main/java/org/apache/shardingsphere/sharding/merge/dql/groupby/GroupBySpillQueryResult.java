@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Calendar;
+
+/**
+ * Query result which reads rows from group by spill file.
+ */
+@RequiredArgsConstructor
+public final class GroupBySpillQueryResult implements QueryResult {
+    
+    @Getter
+    private final QueryResultMetaData metaData;
+    
+    private final GroupBySpillFile spillFile;
+    
+    private Object[] currentRow;
+    
+    private boolean wasNull;
+    
+    @Override
+    public boolean next() throws SQLException {
+        currentRow = spillFile.read();
+        return null != currentRow;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        Object result = currentRow[columnIndex - 1];
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return getValue(columnIndex, type);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        spillFile.close();
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Date;
+
+/**
+ * Row codec for group by spill file, which writes values by type instead of java serialization.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class GroupBySpillRowCodec {
+    
+    private static final byte NULL = 0;
+    
+    private static final byte BOOLEAN = 1;
+    
+    private static final byte BYTE = 2;
+    
+    private static final byte SHORT = 3;
+    
+    private static final byte INTEGER = 4;
+    
+    private static final byte LONG = 5;
+    
+    private static final byte FLOAT = 6;
+    
+    private static final byte DOUBLE = 7;
+    
+    private static final byte BIG_INTEGER = 8;
+    
+    private static final byte BIG_DECIMAL = 9;
+    
+    private static final byte STRING = 10;
+    
+    private static final byte BYTES = 11;
+    
+    private static final byte SQL_DATE = 12;
+    
+    private static final byte SQL_TIME = 13;
+    
+    private static final byte SQL_TIMESTAMP = 14;
+    
+    private static final byte DATE = 15;
+    
+    private static final byte LOCAL_DATE = 16;
+    
+    private static final byte LOCAL_TIME = 17;
+    
+    private static final byte LOCAL_DATE_TIME = 18;
+    
+    private static final byte SERIALIZABLE = 19;
+    
+    /**
+     * Write row.
+     * 
+     * @param output data output
+     * @param row row data
+     * @throws IOException IO exception
+     * @throws SQLException SQL exception
+     */
+    public static void write(final DataOutputStream output, final Object[] row) throws IOException, SQLException {
+        output.writeInt(row.length);
+        for (Object each : row) {
+            writeValue(output, each);
+        }
+    }
+    
+    private static void writeValue(final DataOutputStream output, final Object value) throws IOException, SQLException {
+        if (null == value) {
+            output.writeByte(NULL);
+        } else if (value instanceof Boolean) {
+            output.writeByte(BOOLEAN);
+            output.writeBoolean((Boolean) value);
+        } else if (value instanceof Byte) {
+            output.writeByte(BYTE);
+            output.writeByte((Byte) value);
+        } else if (value instanceof Short) {
+            output.writeByte(SHORT);
+            output.writeShort((Short) value);
+        } else if (value instanceof Integer) {
+            output.writeByte(INTEGER);
+            output.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            output.writeByte(LONG);
+            output.writeLong((Long) value);
+        } else if (value instanceof Float) {
+            output.writeByte(FLOAT);
+            output.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            output.writeByte(DOUBLE);
+            output.writeDouble((Double) value);
+        } else if (value instanceof BigInteger) {
+            output.writeByte(BIG_INTEGER);
+            writeBytes(output, ((BigInteger) value).toByteArray());
+        } else if (value instanceof BigDecimal) {
+            output.writeByte(BIG_DECIMAL);
+            output.writeInt(((BigDecimal) value).scale());
+            writeBytes(output, ((BigDecimal) value).unscaledValue().toByteArray());
+        } else if (value instanceof String) {
+            output.writeByte(STRING);
+            writeBytes(output, ((String) value).getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof byte[]) {
+            output.writeByte(BYTES);
+            writeBytes(output, (byte[]) value);
+        } else if (value instanceof Blob) {
+            output.writeByte(BYTES);
+            writeBytes(output, ((Blob) value).getBytes(1L, (int) ((Blob) value).length()));
+        } else if (value instanceof Clob) {
+            output.writeByte(STRING);
+            writeBytes(output, ((Clob) value).getSubString(1L, (int) ((Clob) value).length()).getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof java.sql.Date) {
+            output.writeByte(SQL_DATE);
+            output.writeLong(((java.sql.Date) value).getTime());
+        } else if (value instanceof Time) {
+            output.writeByte(SQL_TIME);
+            output.writeLong(((Time) value).getTime());
+        } else if (value instanceof Timestamp) {
+            output.writeByte(SQL_TIMESTAMP);
+            output.writeLong(((Timestamp) value).getTime());
+            output.writeInt(((Timestamp) value).getNanos());
+        } else if (Date.class == value.getClass()) {
+            output.writeByte(DATE);
+            output.writeLong(((Date) value).getTime());
+        } else if (value instanceof LocalDate) {
+            output.writeByte(LOCAL_DATE);
+            output.writeLong(((LocalDate) value).toEpochDay());
+        } else if (value instanceof LocalTime) {
+            output.writeByte(LOCAL_TIME);
+            output.writeLong(((LocalTime) value).toNanoOfDay());
+        } else if (value instanceof LocalDateTime) {
+            output.writeByte(LOCAL_DATE_TIME);
+            output.writeLong(((LocalDateTime) value).toLocalDate().toEpochDay());
+            output.writeLong(((LocalDateTime) value).toLocalTime().toNanoOfDay());
+        } else if (value instanceof Serializable) {
+            output.writeByte(SERIALIZABLE);
+            writeBytes(output, serialize(value));
+        } else {
+            throw new SQLFeatureNotSupportedException(String.format("Spill value of type `%s`", value.getClass().getName()));
+        }
+    }
+    
+    private static void writeBytes(final DataOutputStream output, final byte[] bytes) throws IOException {
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+    
+    private static byte[] serialize(final Object value) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutput = new ObjectOutputStream(result)) {
+            objectOutput.writeObject(value);
+        }
+        return result.toByteArray();
+    }
+    
+    /**
+     * Read row.
+     * 
+     * @param input data input
+     * @return row data
+     * @throws IOException IO exception
+     * @throws SQLException SQL exception
+     */
+    public static Object[] read(final DataInputStream input) throws IOException, SQLException {
+        Object[] result = new Object[input.readInt()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = readValue(input);
+        }
+        return result;
+    }
+    
+    private static Object readValue(final DataInputStream input) throws IOException, SQLException {
+        byte type = input.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case BOOLEAN:
+                return input.readBoolean();
+            case BYTE:
+                return input.readByte();
+            case SHORT:
+                return input.readShort();
+            case INTEGER:
+                return input.readInt();
+            case LONG:
+                return input.readLong();
+            case FLOAT:
+                return input.readFloat();
+            case DOUBLE:
+                return input.readDouble();
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(input));
+            case BIG_DECIMAL:
+                return readBigDecimal(input);
+            case STRING:
+                return new String(readBytes(input), StandardCharsets.UTF_8);
+            case BYTES:
+                return readBytes(input);
+            case SQL_DATE:
+                return new java.sql.Date(input.readLong());
+            case SQL_TIME:
+                return new Time(input.readLong());
+            case SQL_TIMESTAMP:
+                return readTimestamp(input);
+            case DATE:
+                return new Date(input.readLong());
+            case LOCAL_DATE:
+                return LocalDate.ofEpochDay(input.readLong());
+            case LOCAL_TIME:
+                return LocalTime.ofNanoOfDay(input.readLong());
+            case LOCAL_DATE_TIME:
+                return LocalDateTime.of(LocalDate.ofEpochDay(input.readLong()), LocalTime.ofNanoOfDay(input.readLong()));
+            case SERIALIZABLE:
+                return deserialize(readBytes(input));
+            default:
+                throw new SQLException(String.format("Unknown spilled value type `%s`", type));
+        }
+    }
+    
+    private static BigDecimal readBigDecimal(final DataInputStream input) throws IOException {
+        int scale = input.readInt();
+        return new BigDecimal(new BigInteger(readBytes(input)), scale);
+    }
+    
+    private static Timestamp readTimestamp(final DataInputStream input) throws IOException {
+        Timestamp result = new Timestamp(input.readLong());
+        result.setNanos(input.readInt());
+        return result;
+    }
+    
+    private static byte[] readBytes(final DataInputStream input) throws IOException {
+        byte[] result = new byte[input.readInt()];
+        input.readFully(result);
+        return result;
+    }
+    
+    private static Object deserialize(final byte[] bytes) throws IOException, SQLException {
+        try (ObjectInputStream objectInput = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return objectInput.readObject();
+        } catch (final ClassNotFoundException ex) {
+            throw new SQLException(ex);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.stream.StreamMergedResult;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Stream merged result for order by with loser tree.
+ * 
+ * <p>Each call of {@link #next()} only replays the path from the advanced leaf to the root, which takes exactly log2(k) comparisons for k query results.</p>
+ */
+public final class OrderByLoserTreeMergedResult extends StreamMergedResult {
+    
+    private final OrderByValue[] orderByValues;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] losers;
+    
+    private int winner;
+    
+    private boolean isFirstNext;
+    
+    public OrderByLoserTreeMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+        Collection<OrderByItem> orderByItems = selectStatementContext.getOrderByContext().getItems();
+        orderByValues = new OrderByValue[queryResults.size()];
+        exhausted = new boolean[queryResults.size()];
+        losers = new int[queryResults.size()];
+        for (int i = 0; i < queryResults.size(); i++) {
+            orderByValues[i] = new OrderByValue(queryResults.get(i), orderByItems, selectStatementContext, schema);
+            exhausted[i] = !orderByValues[i].next();
+        }
+        winner = build(1);
+        setCurrentQueryResult(orderByValues[winner].getQueryResult());
+        isFirstNext = true;
+    }
+    
+    private int build(final int node) {
+        if (node >= orderByValues.length) {
+            return node - orderByValues.length;
+        }
+        int left = build(node * 2);
+        int right = build(node * 2 + 1);
+        if (beats(left, right)) {
+            losers[node] = right;
+            return left;
+        }
+        losers[node] = left;
+        return right;
+    }
+    
+    private boolean beats(final int index, final int otherIndex) {
+        if (exhausted[index]) {
+            return false;
+        }
+        if (exhausted[otherIndex]) {
+            return true;
+        }
+        int result = orderByValues[index].compareTo(orderByValues[otherIndex]);
+        return result < 0 || 0 == result && index < otherIndex;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (exhausted[winner]) {
+            return false;
+        }
+        if (isFirstNext) {
+            isFirstNext = false;
+            return true;
+        }
+        exhausted[winner] = !orderByValues[winner].next();
+        replay();
+        if (exhausted[winner]) {
+            return false;
+        }
+        setCurrentQueryResult(orderByValues[winner].getQueryResult());
+        return true;
+    }
+    
+    private void replay() {
+        int current = winner;
+        for (int node = (winner + orderByValues.length) / 2; node > 0; node /= 2) {
+            if (beats(losers[node], current)) {
+                int loser = current;
+                current = losers[node];
+                losers[node] = loser;
+            }
+        }
+        winner = current;
+    }
+}
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryRe
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumn;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.OrderByItemSegment;
@@ -33,7 +34,6 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.Sim
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -42,6 +42,14 @@ import java.util.Map;
  */
 public final class OrderByValue implements Comparable<OrderByValue> {
     
+    private static final byte NULL_KEY = 0;
+    
+    private static final byte LONG_KEY = 1;
+    
+    private static final byte DOUBLE_KEY = 2;
+    
+    private static final byte COMPARABLE_KEY = 3;
+    
     @Getter
     private final QueryResult queryResult;
     
@@ -49,13 +57,39 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     
     private final List<Boolean> orderValuesCaseSensitive;
     
-    private List<Comparable<?>> orderValues;
+    private final int[] orderValueIndexes;
+    
+    private final OrderDirection[] orderDirections;
+    
+    private final OrderDirection[] nullOrderDirections;
+    
+    private final Comparable<?>[] orderValues;
+    
+    private final byte[] orderKeyTypes;
+    
+    private final long[] longOrderKeys;
+    
+    private final double[] doubleOrderKeys;
     
     public OrderByValue(final QueryResult queryResult, final Collection<OrderByItem> orderByItems,
                         final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
         this.queryResult = queryResult;
         this.orderByItems = orderByItems;
         orderValuesCaseSensitive = getOrderValuesCaseSensitive(selectStatementContext, schema);
+        orderValueIndexes = new int[orderByItems.size()];
+        orderDirections = new OrderDirection[orderByItems.size()];
+        nullOrderDirections = new OrderDirection[orderByItems.size()];
+        orderValues = new Comparable<?>[orderByItems.size()];
+        orderKeyTypes = new byte[orderByItems.size()];
+        longOrderKeys = new long[orderByItems.size()];
+        doubleOrderKeys = new double[orderByItems.size()];
+        int i = 0;
+        for (OrderByItem each : orderByItems) {
+            orderValueIndexes[i] = each.getIndex();
+            orderDirections[i] = each.getSegment().getOrderDirection();
+            nullOrderDirections[i] = each.getSegment().getNullOrderDirection();
+            i++;
+        }
     }
     
     private List<Boolean> getOrderValuesCaseSensitive(final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
@@ -99,31 +133,51 @@ public final class OrderByValue implements Comparable<OrderByValue> {
      */
     public boolean next() throws SQLException {
         boolean result = queryResult.next();
-        orderValues = result ? getOrderValues() : Collections.emptyList();
+        if (result) {
+            loadOrderKeys();
+        }
         return result;
     }
     
-    private List<Comparable<?>> getOrderValues() throws SQLException {
-        List<Comparable<?>> result = new ArrayList<>(orderByItems.size());
-        for (OrderByItem each : orderByItems) {
-            Object value = queryResult.getValue(each.getIndex(), Object.class);
+    private void loadOrderKeys() throws SQLException {
+        for (int i = 0; i < orderValueIndexes.length; i++) {
+            Object value = queryResult.getValue(orderValueIndexes[i], Object.class);
             Preconditions.checkState(null == value || value instanceof Comparable, "Order by value must implements Comparable");
-            result.add((Comparable<?>) value);
+            if (null == value) {
+                orderKeyTypes[i] = NULL_KEY;
+                orderValues[i] = null;
+            } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                orderKeyTypes[i] = LONG_KEY;
+                longOrderKeys[i] = ((Number) value).longValue();
+                orderValues[i] = (Comparable<?>) value;
+            } else if (value instanceof Double || value instanceof Float) {
+                orderKeyTypes[i] = DOUBLE_KEY;
+                doubleOrderKeys[i] = ((Number) value).doubleValue();
+                orderValues[i] = (Comparable<?>) value;
+            } else {
+                orderKeyTypes[i] = COMPARABLE_KEY;
+                orderValues[i] = !orderValuesCaseSensitive.get(i) && value instanceof String ? ((String) value).toUpperCase() : (Comparable<?>) value;
+            }
         }
-        return result;
     }
     
     @Override
     public int compareTo(final OrderByValue o) {
-        int i = 0;
-        for (OrderByItem each : orderByItems) {
-            int result = CompareUtil.compareTo(orderValues.get(i), o.orderValues.get(i), each.getSegment().getOrderDirection(),
-                    each.getSegment().getNullOrderDirection(), orderValuesCaseSensitive.get(i));
+        for (int i = 0; i < orderValueIndexes.length; i++) {
+            int result = compareOrderKey(o, i);
             if (0 != result) {
                 return result;
             }
-            i++;
         }
         return 0;
     }
+    
+    private int compareOrderKey(final OrderByValue o, final int index) {
+        byte keyType = orderKeyTypes[index];
+        if (keyType == o.orderKeyTypes[index] && NULL_KEY != keyType && COMPARABLE_KEY != keyType) {
+            int result = LONG_KEY == keyType ? Long.compare(longOrderKeys[index], o.longOrderKeys[index]) : Double.compare(doubleOrderKeys[index], o.doubleOrderKeys[index]);
+            return OrderDirection.ASC == orderDirections[index] ? result : -result;
+        }
+        return CompareUtil.compareTo(orderValues[index], o.orderValues[index], orderDirections[index], nullOrderDirections[index], true);
+    }
 }
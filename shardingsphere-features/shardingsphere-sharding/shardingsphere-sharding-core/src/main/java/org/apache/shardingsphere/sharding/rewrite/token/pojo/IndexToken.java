@@ -30,7 +30,6 @@ import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
 
 import java.util.Map;
-import java.util.Optional;
 
 /**
  * Index token.
@@ -70,17 +69,8 @@ public final class IndexToken extends SQLToken implements Substitutable, RouteUn
     
     private String getIndexValue(final RouteUnit routeUnit) {
         Map<String, String> logicAndActualTables = TokenUtil.getLogicAndActualTables(routeUnit, sqlStatementContext, shardingRule);
-        String actualTableName = findLogicTableNameFromMetaData(identifier.getValue()).map(logicAndActualTables::get)
+        String actualTableName = schema.findTableNameByIndexName(identifier.getValue()).map(logicAndActualTables::get)
                 .orElseGet(() -> logicAndActualTables.values().stream().findFirst().orElse(null));
         return IndexMetaDataUtil.getActualIndexName(identifier.getValue(), actualTableName);
     }
-    
-    private Optional<String> findLogicTableNameFromMetaData(final String logicIndexName) {
-        for (String each : schema.getAllTableNames()) {
-            if (schema.getTable(each).getIndexes().containsKey(logicIndexName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.empty();
-    }
 }
@@ -32,6 +32,7 @@ import org.apache.shardingsphere.sharding.route.engine.type.broadcast.ShardingDa
 import org.apache.shardingsphere.sharding.route.engine.type.broadcast.ShardingDatabaseBroadcastRoutingEngine;
 import org.apache.shardingsphere.sharding.route.engine.type.broadcast.ShardingInstanceBroadcastRoutingEngine;
 import org.apache.shardingsphere.sharding.route.engine.type.broadcast.ShardingTableBroadcastRoutingEngine;
+import org.apache.shardingsphere.sharding.route.engine.type.colocated.ShardingColocatedRoutingEngine;
 import org.apache.shardingsphere.sharding.route.engine.type.complex.ShardingComplexRoutingEngine;
 import org.apache.shardingsphere.sharding.route.engine.type.ignore.ShardingIgnoreRoutingEngine;
 import org.apache.shardingsphere.sharding.route.engine.type.standard.ShardingStandardRoutingEngine;
@@ -219,6 +220,9 @@ public final class ShardingRouteEngineFactory {
         if (isShardingStandardQuery(shardingRule, tableNames, allBindingTables)) {
             return new ShardingStandardRoutingEngine(getLogicTableName(shardingConditions, tableNames), shardingConditions, props);
         }
+        if (!allBindingTables && shardingRule.isAllColocatedTables(database, sqlStatementContext, tableNames)) {
+            return new ShardingColocatedRoutingEngine(getLogicTableName(shardingConditions, tableNames), shardingConditions, props, tableNames);
+        }
         // TODO config for cartesian set
         return new ShardingComplexRoutingEngine(shardingConditions, props, tableNames);
     }
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.type.colocated;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
+import org.apache.shardingsphere.sharding.route.engine.type.ShardingRouteEngine;
+import org.apache.shardingsphere.sharding.route.engine.type.standard.ShardingStandardRoutingEngine;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Map.Entry;
+
+/**
+ * Sharding co-located routing engine.
+ * 
+ * <p>Route the primary logic table with standard routing engine, then attach the aligned actual tables of other co-located logic tables to each route unit.</p>
+ */
+@RequiredArgsConstructor
+public final class ShardingColocatedRoutingEngine implements ShardingRouteEngine {
+    
+    private final String logicTableName;
+    
+    private final ShardingConditions shardingConditions;
+    
+    private final ConfigurationProperties props;
+    
+    private final Collection<String> logicTables;
+    
+    @Override
+    public RouteContext route(final ShardingRule shardingRule) {
+        RouteContext routeContext = new ShardingStandardRoutingEngine(logicTableName, shardingConditions, props).route(shardingRule);
+        RouteContext result = new RouteContext();
+        result.getOriginalDataNodes().addAll(routeContext.getOriginalDataNodes());
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            result.getRouteUnits().add(createRouteUnit(shardingRule, each));
+        }
+        return result;
+    }
+    
+    private RouteUnit createRouteUnit(final ShardingRule shardingRule, final RouteUnit routeUnit) {
+        Collection<RouteMapper> tableMappers = new LinkedList<>(routeUnit.getTableMappers());
+        String dataSourceName = routeUnit.getDataSourceMapper().getLogicName();
+        for (RouteMapper each : routeUnit.getTableMappers()) {
+            for (Entry<String, String> entry : shardingRule.getLogicAndActualTablesFromColocatedTable(dataSourceName, each.getLogicName(), each.getActualName(), logicTables).entrySet()) {
+                tableMappers.add(new RouteMapper(entry.getKey(), entry.getValue()));
+            }
+        }
+        return new RouteUnit(routeUnit.getDataSourceMapper(), tableMappers);
+    }
+}
@@ -443,6 +443,88 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
                 || isJoinConditionContainsShardingColumns(schema, select, logicTableNames, select.getWhereSegments());
     }
     
+    /**
+     * Judge whether logic tables are all co-located tables.
+     *
+     * <p>Co-located tables are sharding tables which are not declared as binding tables, but have aligned data nodes,
+     * equivalent sharding algorithms and are joined by their sharding columns, so each join can be executed inside one shard.</p>
+     *
+     * @param database database
+     * @param sqlStatementContext sqlStatementContext
+     * @param logicTableNames logic table names
+     * @return whether logic tables are all co-located tables
+     */
+    public boolean isAllColocatedTables(final ShardingSphereDatabase database, final SQLStatementContext<?> sqlStatementContext, final Collection<String> logicTableNames) {
+        if (logicTableNames.size() <= 1 || !(sqlStatementContext instanceof SelectStatementContext && ((SelectStatementContext) sqlStatementContext).isContainsJoinQuery())
+                || !isAllShardingTables(logicTableNames)) {
+            return false;
+        }
+        Iterator<String> iterator = logicTableNames.iterator();
+        TableRule sampleTableRule = getTableRule(iterator.next());
+        while (iterator.hasNext()) {
+            if (!isColocatedTableRule(sampleTableRule, getTableRule(iterator.next()))) {
+                return false;
+            }
+        }
+        String defaultSchemaName = DatabaseTypeEngine.getDefaultSchemaName(sqlStatementContext.getDatabaseType(), database.getName());
+        ShardingSphereSchema schema = sqlStatementContext.getTablesContext().getSchemaName().map(database::getSchema).orElseGet(() -> database.getSchema(defaultSchemaName));
+        SelectStatementContext select = (SelectStatementContext) sqlStatementContext;
+        Collection<WhereSegment> joinSegments = WhereExtractUtil.getJoinWhereSegments(select.getSqlStatement());
+        return isJoinConditionContainsShardingColumns(schema, select, logicTableNames, joinSegments)
+                || isJoinConditionContainsShardingColumns(schema, select, logicTableNames, select.getWhereSegments());
+    }
+    
+    private boolean isColocatedTableRule(final TableRule sampleTableRule, final TableRule tableRule) {
+        if (!isAlignedDataNodes(sampleTableRule, tableRule)) {
+            return false;
+        }
+        BindingTableCheckedConfiguration checkedConfig = new BindingTableCheckedConfiguration(dataSourceNames, shardingAlgorithms, Collections.emptyList(),
+                broadcastTables, defaultDatabaseShardingStrategyConfig, defaultTableShardingStrategyConfig, defaultShardingColumn);
+        return isEquivalentShardingStrategy(sampleTableRule, tableRule, true, checkedConfig) && isEquivalentShardingStrategy(sampleTableRule, tableRule, false, checkedConfig);
+    }
+    
+    private boolean isAlignedDataNodes(final TableRule sampleTableRule, final TableRule tableRule) {
+        List<DataNode> sampleDataNodes = sampleTableRule.getActualDataNodes();
+        List<DataNode> dataNodes = tableRule.getActualDataNodes();
+        if (sampleDataNodes.size() != dataNodes.size()) {
+            return false;
+        }
+        for (int i = 0; i < sampleDataNodes.size(); i++) {
+            String sampleActualTableSuffix = sampleDataNodes.get(i).getTableName().replace(sampleTableRule.getTableDataNode().getPrefix(), "");
+            String actualTableSuffix = dataNodes.get(i).getTableName().replace(tableRule.getTableDataNode().getPrefix(), "");
+            if (!sampleDataNodes.get(i).getDataSourceName().equalsIgnoreCase(dataNodes.get(i).getDataSourceName()) || !sampleActualTableSuffix.equals(actualTableSuffix)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isEquivalentShardingStrategy(final TableRule sampleTableRule, final TableRule tableRule, final boolean databaseAlgorithm, final BindingTableCheckedConfiguration checkedConfig) {
+        ShardingStrategyConfiguration sampleShardingStrategyConfig = databaseAlgorithm
+                ? getDatabaseShardingStrategyConfiguration(sampleTableRule)
+                : getTableShardingStrategyConfiguration(sampleTableRule);
+        ShardingStrategyConfiguration shardingStrategyConfig = databaseAlgorithm ? getDatabaseShardingStrategyConfiguration(tableRule) : getTableShardingStrategyConfiguration(tableRule);
+        if (sampleShardingStrategyConfig instanceof NoneShardingStrategyConfiguration && shardingStrategyConfig instanceof NoneShardingStrategyConfiguration) {
+            return true;
+        }
+        if (!(sampleShardingStrategyConfig instanceof StandardShardingStrategyConfiguration && shardingStrategyConfig instanceof StandardShardingStrategyConfiguration)) {
+            return false;
+        }
+        if (isEquivalentShardingAlgorithm(shardingAlgorithms.get(sampleShardingStrategyConfig.getShardingAlgorithmName()), shardingAlgorithms.get(shardingStrategyConfig.getShardingAlgorithmName()))) {
+            return true;
+        }
+        String sampleAlgorithmExpression = getAlgorithmExpression(sampleTableRule, databaseAlgorithm, checkedConfig);
+        return !sampleAlgorithmExpression.isEmpty() && sampleAlgorithmExpression.equalsIgnoreCase(getAlgorithmExpression(tableRule, databaseAlgorithm, checkedConfig));
+    }
+    
+    private boolean isEquivalentShardingAlgorithm(final ShardingAlgorithm sampleShardingAlgorithm, final ShardingAlgorithm shardingAlgorithm) {
+        if (null == sampleShardingAlgorithm || null == shardingAlgorithm) {
+            return false;
+        }
+        return sampleShardingAlgorithm == shardingAlgorithm
+                || sampleShardingAlgorithm.getType().equalsIgnoreCase(shardingAlgorithm.getType()) && sampleShardingAlgorithm.getProps().equals(shardingAlgorithm.getProps());
+    }
+    
     private Optional<BindingTableRule> findBindingTableRule(final Collection<String> logicTableNames) {
         for (String each : logicTableNames) {
             Optional<BindingTableRule> result = findBindingTableRule(each);
@@ -668,6 +750,30 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
                 .orElseGet(Collections::emptyMap);
     }
     
+    /**
+     * Get logic and actual co-located tables.
+     *
+     * @param dataSourceName data source name
+     * @param logicTable logic table name
+     * @param actualTable actual table name
+     * @param colocatedLogicTables co-located logic table names
+     * @return logic and actual co-located tables
+     */
+    public Map<String, String> getLogicAndActualTablesFromColocatedTable(final String dataSourceName,
+                                                                         final String logicTable, final String actualTable, final Collection<String> colocatedLogicTables) {
+        int index = getTableRule(logicTable).findActualTableIndex(dataSourceName, actualTable);
+        if (-1 == index) {
+            throw new ShardingSphereConfigurationException("Actual table [%s].[%s] is not in table config", dataSourceName, actualTable);
+        }
+        Map<String, String> result = new LinkedHashMap<>(colocatedLogicTables.size(), 1);
+        for (String each : colocatedLogicTables) {
+            if (!each.equalsIgnoreCase(logicTable)) {
+                result.put(each.toLowerCase(), getTableRule(each).getActualDataNodes().get(index).getTableName());
+            }
+        }
+        return result;
+    }
+    
     /**
      * Get logic tables via actual table name.
      *
@@ -30,6 +30,8 @@ import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Properties;
 
@@ -81,6 +83,37 @@ public final class InlineShardingAlgorithmTest {
         assertTrue(actual.containsAll(availableTargetNames));
     }
     
+    @Test
+    public void assertDoShardingWithSmallRange() {
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        Collection<String> actual = inlineShardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.closed(1L, 2L)));
+        assertThat(actual, is(new LinkedHashSet<>(Arrays.asList("t_order_1", "t_order_2"))));
+    }
+    
+    @Test
+    public void assertDoShardingWithSmallOpenRange() {
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        Collection<String> actual = inlineShardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.open(2, 4)));
+        assertThat(actual, is(Collections.singleton("t_order_3")));
+    }
+    
+    @Test
+    public void assertDoShardingWithRangeLargerThanMaxEnumerationSize() {
+        Properties props = createAllowRangeQueryProperties();
+        props.setProperty("max-range-enumeration-size", "1");
+        InlineShardingAlgorithm algorithm = (InlineShardingAlgorithm) ShardingAlgorithmFactory.newInstance(new AlgorithmConfiguration("INLINE", props));
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        Collection<String> actual = algorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.closed(1L, 2L)));
+        assertThat(actual, is(availableTargetNames));
+    }
+    
+    @Test
+    public void assertDoShardingWithNonIntegralRange() {
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        Collection<String> actual = inlineShardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.closed(1.5D, 2.5D)));
+        assertThat(actual, is(availableTargetNames));
+    }
+    
     @Test
     public void assertDoShardingWithNonExistNodes() {
         List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1");
@@ -66,6 +66,43 @@ public final class ModShardingAlgorithmTest {
         assertTrue(actual.contains("t_order_2"));
     }
     
+    @Test
+    public void assertRangeDoShardingWithPartTargetsAcrossShardingCount() {
+        ModShardingAlgorithm algorithm = (ModShardingAlgorithm) ShardingAlgorithmFactory.newInstance(new AlgorithmConfiguration("MOD", createProperties()));
+        Collection<String> actual = algorithm.doSharding(createAvailableTargetNames(), new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.closed(15, 17)));
+        assertThat(actual.size(), is(3));
+        assertTrue(actual.containsAll(Arrays.asList("t_order_15", "t_order_0", "t_order_1")));
+    }
+    
+    @Test
+    public void assertRangeDoShardingWithNonNumericStringEndpoints() {
+        ModShardingAlgorithm algorithm = (ModShardingAlgorithm) ShardingAlgorithmFactory.newInstance(new AlgorithmConfiguration("MOD", createProperties()));
+        Collection<String> actual = algorithm.doSharding(createAvailableTargetNames(), new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.closed("1a", "1b")));
+        assertThat(actual.size(), is(16));
+    }
+    
+    @Test
+    public void assertRangeDoShardingWithOpenBounds() {
+        ModShardingAlgorithm algorithm = (ModShardingAlgorithm) ShardingAlgorithmFactory.newInstance(new AlgorithmConfiguration("MOD", createProperties()));
+        Collection<String> actual = algorithm.doSharding(createAvailableTargetNames(), new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.open(1L, 4L)));
+        assertThat(actual.size(), is(2));
+        assertTrue(actual.containsAll(Arrays.asList("t_order_2", "t_order_3")));
+    }
+    
+    @Test
+    public void assertRangeDoShardingWithUpperBoundOnly() {
+        ModShardingAlgorithm algorithm = (ModShardingAlgorithm) ShardingAlgorithmFactory.newInstance(new AlgorithmConfiguration("MOD", createProperties()));
+        Collection<String> actual = algorithm.doSharding(createAvailableTargetNames(), new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.atMost(2L)));
+        assertThat(actual.size(), is(16));
+    }
+    
+    @Test
+    public void assertRangeDoShardingWithOffsets() {
+        ModShardingAlgorithm algorithm = (ModShardingAlgorithm) ShardingAlgorithmFactory.newInstance(new AlgorithmConfiguration("MOD", createZeroPaddingProperties()));
+        Collection<String> actual = algorithm.doSharding(createAvailableIncludeZeroTargetNames(), new RangeShardingValue<>("t_order", "order_id", DATA_NODE_INFO, Range.closed(100L, 101L)));
+        assertThat(actual.size(), is(16));
+    }
+    
     private Properties createProperties() {
         Properties result = new Properties();
         result.setProperty("sharding-count", "16");
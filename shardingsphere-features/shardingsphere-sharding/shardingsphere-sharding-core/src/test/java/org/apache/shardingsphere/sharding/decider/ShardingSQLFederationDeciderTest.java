@@ -161,6 +161,22 @@ public final class ShardingSQLFederationDeciderTest {
         assertTrue(actual.isUseSQLFederation());
     }
     
+    @Test
+    public void assertDecideWhenAllTablesIsColocatedTables() {
+        SelectStatementContext select = createStatementContext();
+        when(select.isContainsJoinQuery()).thenReturn(true);
+        QueryContext queryContext = new QueryContext(select, "", Collections.emptyList());
+        SQLFederationDeciderContext actual = new SQLFederationDeciderContext();
+        ShardingSQLFederationDecider federationDecider = new ShardingSQLFederationDecider();
+        ShardingRule shardingRule = createShardingRule();
+        ShardingSphereDatabase database = createDatabase();
+        when(shardingRule.isAllBindingTables(database, select, Arrays.asList("t_order", "t_order_item"))).thenReturn(false);
+        when(shardingRule.isAllColocatedTables(database, select, Arrays.asList("t_order", "t_order_item"))).thenReturn(true);
+        federationDecider.decide(actual, queryContext, database, shardingRule, new ConfigurationProperties(new Properties()));
+        assertThat(actual.getDataNodes().size(), is(4));
+        assertFalse(actual.isUseSQLFederation());
+    }
+    
     private static SelectStatementContext createStatementContext() {
         SelectStatementContext result = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
         when(result.getTablesContext().getTableNames()).thenReturn(Arrays.asList("t_order", "t_order_item"));
@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.context.ConnectionContext;
+import org.apache.shardingsphere.infra.database.DefaultDatabase;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeFactory;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.AggregationType;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.AggregationProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.GroupBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class GroupBySpillMergedResultTest {
+    
+    @Test
+    public void assertNextWithoutSpill() throws SQLException {
+        MergedResult actual = merge(1024L * 1024L, createQueryResult(1, 2), createQueryResult(2, 3));
+        assertThat(actual, instanceOf(GroupBySpillMergedResult.class));
+        assertNextGroups(actual, Arrays.asList(3, 2, 1), Arrays.asList(1, 2, 1));
+    }
+    
+    @Test
+    public void assertNextWithSpill() throws SQLException {
+        MergedResult actual = merge(1L, createQueryResult(5, 1, 9, 3, 7), createQueryResult(2, 4, 6, 8, 0), createQueryResult(9, 8, 7, 6, 5, 4, 3, 2, 1, 0));
+        assertNextGroups(actual, Arrays.asList(9, 8, 7, 6, 5, 4, 3, 2, 1, 0), Arrays.asList(2, 2, 2, 2, 2, 2, 2, 2, 2, 2));
+    }
+    
+    @Test
+    public void assertCloseBeforeAllRowsRead() throws SQLException, IOException {
+        Collection<Path> originalSpillFiles = listSpillFiles();
+        MergedResult actual = merge(1L, createQueryResult(5, 1, 9, 3, 7), createQueryResult(2, 4, 6, 8, 0), createQueryResult(9, 8, 7, 6, 5, 4, 3, 2, 1, 0));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(2, Object.class), is(9));
+        assertFalse(listSpillFiles().equals(originalSpillFiles));
+        actual.close();
+        assertThat(listSpillFiles(), is(originalSpillFiles));
+        actual.close();
+    }
+    
+    @Test
+    public void assertNextForResultSetsAllEmpty() throws SQLException {
+        MergedResult actual = merge(1L, createQueryResult(), createQueryResult());
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(0));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithSpillForTemporalValues() throws SQLException {
+        Timestamp first = Timestamp.valueOf("2022-01-01 10:00:00.123456789");
+        Timestamp second = Timestamp.valueOf("2022-01-02 10:00:00");
+        Timestamp third = Timestamp.valueOf("2022-01-03 10:00:00");
+        MergedResult actual = merge(1L, createQueryResult(first, third), createQueryResult(second, first));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(2, Object.class), is(third));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(2, Object.class), is(second));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(2)));
+        assertThat(actual.getValue(2, Object.class), is(first));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertGetCalendarValue() throws SQLException {
+        Timestamp timestamp = Timestamp.valueOf("2022-01-01 10:00:00.123456789");
+        MergedResult actual = merge(1024L * 1024L, createQueryResult(timestamp));
+        assertTrue(actual.next());
+        Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        Timestamp actualTimestamp = (Timestamp) actual.getCalendarValue(2, Timestamp.class, calendar);
+        assertThat(actualTimestamp.getTime(), is(LocalDateTime.of(2022, 1, 1, 10, 0, 0, 123000000).toInstant(ZoneOffset.UTC).toEpochMilli()));
+        assertThat(actualTimestamp.getNanos(), is(123456789));
+        Date actualDate = (Date) actual.getCalendarValue(2, Date.class, calendar);
+        assertThat(actualDate.getTime(), is(LocalDateTime.of(2022, 1, 1, 10, 0, 0, 123000000).toInstant(ZoneOffset.UTC).toEpochMilli()));
+        assertThat(actual.getCalendarValue(2, Timestamp.class, null), is(timestamp));
+    }
+    
+    private Collection<Path> listSpillFiles() throws IOException {
+        try (Stream<Path> paths = Files.list(Paths.get(System.getProperty("java.io.tmpdir")))) {
+            return paths.filter(each -> each.getFileName().toString().startsWith("shardingsphere-group-by-")).collect(Collectors.toSet());
+        }
+    }
+    
+    private MergedResult merge(final long maxInMemoryBytes, final QueryResult... queryResults) throws SQLException {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.MERGE_GROUP_BY_MAX_IN_MEMORY_BYTES.getKey(), String.valueOf(maxInMemoryBytes));
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeFactory.getInstance("MySQL"), new ConfigurationProperties(props));
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getName()).thenReturn("db_schema");
+        return resultMerger.merge(Arrays.asList(queryResults), createSelectStatementContext(), database, mock(ConnectionContext.class));
+    }
+    
+    private void assertNextGroups(final MergedResult actual, final List<Integer> expectedIds, final List<Integer> expectedCounts) throws SQLException {
+        for (int i = 0; i < expectedIds.size(); i++) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is(new BigDecimal(expectedCounts.get(i))));
+            assertThat(actual.getValue(2, Object.class), is(expectedIds.get(i)));
+        }
+        assertFalse(actual.next());
+    }
+    
+    private SelectStatementContext createSelectStatementContext() {
+        SelectStatement selectStatement = new MySQLSelectStatement();
+        ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.COUNT, "(*)"));
+        selectStatement.setProjections(projectionsSegment);
+        selectStatement.setGroupBy(new GroupBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 2, OrderDirection.ASC, OrderDirection.ASC))));
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 2, OrderDirection.DESC, OrderDirection.ASC))));
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getSchema(DefaultDatabase.LOGIC_NAME)).thenReturn(mock(ShardingSphereSchema.class));
+        return new SelectStatementContext(Collections.singletonMap(DefaultDatabase.LOGIC_NAME, database), Collections.emptyList(), selectStatement, DefaultDatabase.LOGIC_NAME);
+    }
+    
+    private QueryResult createQueryResult(final Object... ids) throws SQLException {
+        QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaData().getColumnCount()).thenReturn(2);
+        when(result.getMetaData().getColumnLabel(1)).thenReturn("COUNT(*)");
+        when(result.getMetaData().getColumnLabel(2)).thenReturn("id");
+        AtomicInteger cursor = new AtomicInteger(-1);
+        when(result.next()).thenAnswer(invocation -> cursor.incrementAndGet() < ids.length);
+        when(result.getValue(1, Object.class)).thenReturn(1);
+        when(result.getValue(2, Object.class)).thenAnswer(invocation -> ids[cursor.get()]);
+        return result;
+    }
+}
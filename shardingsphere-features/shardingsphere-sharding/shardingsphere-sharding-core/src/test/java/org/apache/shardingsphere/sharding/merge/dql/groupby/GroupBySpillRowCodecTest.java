@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Blob;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class GroupBySpillRowCodecTest {
+    
+    @Test
+    public void assertWriteAndRead() throws IOException, SQLException {
+        Timestamp timestamp = Timestamp.valueOf("2022-01-01 10:00:00.123456789");
+        Object[] row = {null, true, (byte) 1, (short) 2, 3, 4L, 5.5F, 6.5D, new BigInteger("123456789012345678901234567890"), new BigDecimal("-12.340"), "foo", new byte[]{1, 2},
+            Date.valueOf("2022-01-01"), Time.valueOf("10:00:00"), timestamp, new java.util.Date(1000L), LocalDate.of(2022, 1, 1), LocalTime.of(10, 0, 0, 1),
+            LocalDateTime.of(2022, 1, 1, 10, 0, 0, 1), UUID.fromString("00000000-0000-0000-0000-000000000001")};
+        assertThat(writeAndRead(row), is(row));
+    }
+    
+    @Test
+    public void assertWriteAndReadBlob() throws IOException, SQLException {
+        Blob blob = mock(Blob.class);
+        when(blob.length()).thenReturn(2L);
+        when(blob.getBytes(1L, 2)).thenReturn(new byte[]{1, 2});
+        assertThat(writeAndRead(new Object[]{blob}), is(new Object[]{new byte[]{1, 2}}));
+    }
+    
+    @Test(expected = SQLFeatureNotSupportedException.class)
+    public void assertWriteNotSupportedValue() throws IOException, SQLException {
+        GroupBySpillRowCodec.write(new DataOutputStream(new ByteArrayOutputStream()), new Object[]{new Object()});
+    }
+    
+    private Object[] writeAndRead(final Object[] row) throws IOException, SQLException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            GroupBySpillRowCodec.write(output, row);
+        }
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return GroupBySpillRowCodec.read(input);
+        }
+    }
+}
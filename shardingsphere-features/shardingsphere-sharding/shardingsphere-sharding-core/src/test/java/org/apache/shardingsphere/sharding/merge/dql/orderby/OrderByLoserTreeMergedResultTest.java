@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.DefaultDatabase;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class OrderByLoserTreeMergedResultTest {
+    
+    private SelectStatementContext selectStatementContext;
+    
+    private ShardingSphereSchema schema;
+    
+    @Before
+    public void setUp() {
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setFrom(new SimpleTableSegment(new TableNameSegment(10, 13, new IdentifierValue("tbl"))));
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC))));
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        selectStatementContext = new SelectStatementContext(
+                Collections.singletonMap(DefaultDatabase.LOGIC_NAME, mock(ShardingSphereDatabase.class)), Collections.emptyList(), selectStatement, DefaultDatabase.LOGIC_NAME);
+        selectStatementContext.getOrderByContext().getItems().forEach(each -> each.setIndex(1));
+        ShardingSphereTable table = new ShardingSphereTable("tbl", Collections.singletonList(new ShardingSphereColumn("col1", 0, false, false, true, true)),
+                Collections.emptyList(), Collections.emptyList());
+        schema = new ShardingSphereSchema(Collections.singletonMap("tbl", table), Collections.emptyMap());
+    }
+    
+    @Test
+    public void assertNextForResultSetsAllEmpty() throws SQLException {
+        MergedResult actual = new OrderByLoserTreeMergedResult(Arrays.asList(mockQueryResult(), mockQueryResult(), mockQueryResult()), selectStatementContext, schema);
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextForSingleQueryResult() throws SQLException {
+        MergedResult actual = new OrderByLoserTreeMergedResult(Collections.singletonList(mockQueryResult(1, 2)), selectStatementContext, schema);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(1));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(2));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextForSomeResultSetsEmpty() throws SQLException {
+        MergedResult actual = new OrderByLoserTreeMergedResult(Arrays.asList(mockQueryResult(2), mockQueryResult(), mockQueryResult(1, 3)), selectStatementContext, schema);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(1));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(2));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(3));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextForManyQueryResults() throws SQLException {
+        Random random = new Random(7L);
+        List<QueryResult> queryResults = new ArrayList<>(37);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 37; i++) {
+            Integer[] values = new Integer[random.nextInt(20)];
+            for (int j = 0; j < values.length; j++) {
+                values[j] = random.nextInt(100);
+            }
+            Arrays.sort(values);
+            expected.addAll(Arrays.asList(values));
+            queryResults.add(mockQueryResult(values));
+        }
+        Collections.sort(expected);
+        MergedResult actual = new OrderByLoserTreeMergedResult(queryResults, selectStatementContext, schema);
+        for (Integer each : expected) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is(each));
+        }
+        assertFalse(actual.next());
+    }
+    
+    private QueryResult mockQueryResult(final Integer... values) throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+        when(result.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnName(1)).thenReturn("col1");
+        AtomicInteger cursor = new AtomicInteger(-1);
+        when(result.next()).thenAnswer(invocation -> cursor.incrementAndGet() < values.length);
+        when(result.getValue(1, Object.class)).thenAnswer(invocation -> values[cursor.get()]);
+        return result;
+    }
+}
@@ -215,7 +215,29 @@ public final class OrderByValueTest {
         assertFalse(orderByValue2.getQueryResult().next());
     }
     
-    private QueryResult createQueryResult(final String... values) throws SQLException {
+    @Test
+    public void assertCompareToWithNumericOrderKeys() throws SQLException {
+        SelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        selectStatement.setOrderBy(createOrderBySegment());
+        SelectStatementContext selectStatementContext = new SelectStatementContext(Collections.singletonMap(DefaultDatabase.LOGIC_NAME, mock(ShardingSphereDatabase.class)),
+                Collections.emptyList(), selectStatement, DefaultDatabase.LOGIC_NAME);
+        ShardingSphereSchema schema = mock(ShardingSphereSchema.class);
+        OrderByValue orderByValue1 = new OrderByValue(createQueryResult(1, 2.5D), Arrays.asList(
+                createOrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC)),
+                createOrderByItem(new IndexOrderByItemSegment(0, 0, 2, OrderDirection.DESC, OrderDirection.ASC))),
+                selectStatementContext, schema);
+        assertTrue(orderByValue1.next());
+        OrderByValue orderByValue2 = new OrderByValue(createQueryResult(1L, 1.5F), Arrays.asList(
+                createOrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC)),
+                createOrderByItem(new IndexOrderByItemSegment(0, 0, 2, OrderDirection.DESC, OrderDirection.ASC))),
+                selectStatementContext, schema);
+        assertTrue(orderByValue2.next());
+        assertTrue(orderByValue1.compareTo(orderByValue2) < 0);
+        assertTrue(orderByValue2.compareTo(orderByValue1) > 0);
+    }
+    
+    private QueryResult createQueryResult(final Object... values) throws SQLException {
         QueryResult result = mock(QueryResult.class);
         when(result.next()).thenReturn(true, false);
         for (int i = 0; i < values.length; i++) {
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sharding.route.engine.fixture;
 
+import com.google.common.collect.Range;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.algorithm.AlgorithmConfiguration;
@@ -31,6 +32,7 @@ import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardS
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.RangeShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.singletable.config.SingleTableRuleConfiguration;
@@ -67,6 +69,19 @@ public abstract class AbstractRoutingEngineTest {
         return new ShardingRule(shardingRuleConfig, createDataSourceNames(), mock(InstanceContext.class));
     }
     
+    protected final ShardingRule createRangeShardingRule() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTables().add(createInlineTableRuleConfig("t_order", "ds_${0..1}.t_order_${0..3}", "t_order_${order_id % 4}", "ds_${user_id % 2}"));
+        Properties props0 = new Properties();
+        props0.setProperty("algorithm-expression", "ds_${user_id % 2}");
+        shardingRuleConfig.getShardingAlgorithms().put("ds_inline", new AlgorithmConfiguration("INLINE", props0));
+        Properties props1 = new Properties();
+        props1.setProperty("algorithm-expression", "t_order_${order_id % 4}");
+        props1.setProperty("allow-range-query-with-inline-sharding", Boolean.TRUE.toString());
+        shardingRuleConfig.getShardingAlgorithms().put("t_order_inline", new AlgorithmConfiguration("INLINE", props1));
+        return new ShardingRule(shardingRuleConfig, createDataSourceNames(), mock(InstanceContext.class));
+    }
+    
     protected final ShardingRule createErrorShardingRule() {
         ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
         shardingRuleConfig.getTables().add(createInlineTableRuleConfig("t_order", "ds_${0..1}.t_order_${0..1}", "t_order_${order_id % 2}", "ds_${user_id % 2}"));
@@ -214,6 +229,17 @@ public abstract class AbstractRoutingEngineTest {
         return new ShardingConditions(result, mock(SQLStatementContext.class), mock(ShardingRule.class));
     }
     
+    protected final ShardingConditions createRangeShardingConditions(final String tableName, final Range<Long> orderIdRange) {
+        List<ShardingCondition> result = new LinkedList<>();
+        ShardingConditionValue shardingConditionValue1 = new ListShardingConditionValue<>("user_id", tableName, Collections.singleton(1L));
+        ShardingConditionValue shardingConditionValue2 = new RangeShardingConditionValue<>("order_id", tableName, orderIdRange);
+        ShardingCondition shardingCondition = new ShardingCondition();
+        shardingCondition.getValues().add(shardingConditionValue1);
+        shardingCondition.getValues().add(shardingConditionValue2);
+        result.add(shardingCondition);
+        return new ShardingConditions(result, mock(SQLStatementContext.class), mock(ShardingRule.class));
+    }
+    
     protected final ShardingConditions createErrorShardingConditions(final String tableName) {
         List<ShardingCondition> result = new LinkedList<>();
         ShardingConditionValue shardingConditionValue1 = new ListShardingConditionValue<>("user_id", tableName, Collections.singleton(1L));
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.type.colocated;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sharding.route.engine.fixture.AbstractRoutingEngineTest;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ShardingColocatedRoutingEngineTest extends AbstractRoutingEngineTest {
+    
+    @Test
+    public void assertRoutingForColocatedTables() {
+        ShardingColocatedRoutingEngine colocatedRoutingEngine = new ShardingColocatedRoutingEngine(
+                "t_order", createShardingConditions("t_order"), new ConfigurationProperties(new Properties()), Arrays.asList("t_order", "t_order_item"));
+        RouteContext routeContext = colocatedRoutingEngine.route(createBroadcastShardingRule());
+        List<RouteUnit> routeUnits = new ArrayList<>(routeContext.getRouteUnits());
+        assertThat(routeContext.getRouteUnits().size(), is(1));
+        assertThat(routeUnits.get(0).getDataSourceMapper().getActualName(), is("ds_1"));
+        assertThat(routeUnits.get(0).getTableMappers().size(), is(2));
+        Iterator<RouteMapper> tableMappers = routeUnits.get(0).getTableMappers().iterator();
+        RouteMapper orderTableMapper = tableMappers.next();
+        assertThat(orderTableMapper.getLogicName(), is("t_order"));
+        assertThat(orderTableMapper.getActualName(), is("t_order_1"));
+        RouteMapper orderItemTableMapper = tableMappers.next();
+        assertThat(orderItemTableMapper.getLogicName(), is("t_order_item"));
+        assertThat(orderItemTableMapper.getActualName(), is("t_order_item_1"));
+    }
+}
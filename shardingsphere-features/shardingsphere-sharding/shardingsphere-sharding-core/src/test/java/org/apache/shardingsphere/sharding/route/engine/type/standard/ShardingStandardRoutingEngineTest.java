@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sharding.route.engine.type.standard;
 
+import com.google.common.collect.Range;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.hint.HintManager;
@@ -82,6 +83,25 @@ public final class ShardingStandardRoutingEngineTest extends AbstractRoutingEngi
         assertThat(routeUnits.get(0).getTableMappers().iterator().next().getLogicName(), is("t_order"));
     }
     
+    @Test
+    public void assertRouteBySmallRangeShardingConditions() {
+        ShardingStandardRoutingEngine standardRoutingEngine = createShardingStandardRoutingEngine("t_order", createRangeShardingConditions("t_order", Range.closed(1L, 2L)));
+        RouteContext routeContext = standardRoutingEngine.route(createRangeShardingRule());
+        List<RouteUnit> routeUnits = new ArrayList<>(routeContext.getRouteUnits());
+        assertThat(routeContext.getRouteUnits().size(), is(2));
+        assertThat(routeUnits.get(0).getDataSourceMapper().getActualName(), is("ds_1"));
+        assertThat(routeUnits.get(0).getTableMappers().iterator().next().getActualName(), is("t_order_1"));
+        assertThat(routeUnits.get(1).getDataSourceMapper().getActualName(), is("ds_1"));
+        assertThat(routeUnits.get(1).getTableMappers().iterator().next().getActualName(), is("t_order_2"));
+    }
+    
+    @Test
+    public void assertRouteByLargeRangeShardingConditions() {
+        ShardingStandardRoutingEngine standardRoutingEngine = createShardingStandardRoutingEngine("t_order", createRangeShardingConditions("t_order", Range.closed(1L, 1000L)));
+        RouteContext routeContext = standardRoutingEngine.route(createRangeShardingRule());
+        assertThat(routeContext.getRouteUnits().size(), is(4));
+    }
+    
     @Test(expected = ShardingRouteAlgorithmException.class)
     public void assertRouteByErrorShardingTableStrategy() {
         ShardingStandardRoutingEngine standardRoutingEngine = createShardingStandardRoutingEngine("t_order", createErrorShardingConditions("t_order"));
@@ -641,6 +641,82 @@ public final class ShardingRuleTest {
         assertTrue(shardingRule.isAllTablesInSameDataSource(logicTableNames));
     }
     
+    @Test
+    public void assertIsAllColocatedTablesWithJoinQueryOnShardingColumns() {
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        SelectStatementContext sqlStatementContext = createShardingColumnsJoinQueryContext(database);
+        assertTrue(createColocatedShardingRule("ds_${0..1}.sub_table_${0..2}").isAllColocatedTables(database, sqlStatementContext, Arrays.asList("logic_Table", "sub_Logic_Table")));
+    }
+    
+    @Test
+    public void assertIsAllColocatedTablesWithUnalignedDataNodes() {
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        SelectStatementContext sqlStatementContext = createShardingColumnsJoinQueryContext(database);
+        assertFalse(createColocatedShardingRule("ds_${0..1}.sub_table_${0..1}").isAllColocatedTables(database, sqlStatementContext, Arrays.asList("logic_Table", "sub_Logic_Table")));
+    }
+    
+    @Test
+    public void assertIsAllColocatedTablesWithoutJoinQuery() {
+        SelectStatementContext sqlStatementContext = mock(SelectStatementContext.class);
+        assertFalse(createColocatedShardingRule("ds_${0..1}.sub_table_${0..2}").isAllColocatedTables(
+                mock(ShardingSphereDatabase.class), sqlStatementContext, Arrays.asList("logic_Table", "sub_Logic_Table")));
+    }
+    
+    @Test
+    public void assertGetLogicAndActualTablesFromColocatedTable() {
+        Map<String, String> actual = createColocatedShardingRule("ds_${0..1}.sub_table_${0..2}")
+                .getLogicAndActualTablesFromColocatedTable("ds_1", "LOGIC_TABLE", "table_2", Arrays.asList("LOGIC_TABLE", "SUB_LOGIC_TABLE"));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get("sub_logic_table"), is("sub_table_2"));
+    }
+    
+    private SelectStatementContext createShardingColumnsJoinQueryContext(final ShardingSphereDatabase database) {
+        ColumnSegment leftDatabaseJoin = createColumnSegment("user_id", "logic_Table");
+        ColumnSegment rightDatabaseJoin = createColumnSegment("user_id", "sub_Logic_Table");
+        BinaryOperationExpression databaseJoin = createBinaryOperationExpression(leftDatabaseJoin, rightDatabaseJoin, EQUAL);
+        ColumnSegment leftTableJoin = createColumnSegment("order_id", "logic_Table");
+        ColumnSegment rightTableJoin = createColumnSegment("order_id", "sub_Logic_Table");
+        BinaryOperationExpression tableJoin = createBinaryOperationExpression(leftTableJoin, rightTableJoin, EQUAL);
+        JoinTableSegment joinTable = mock(JoinTableSegment.class);
+        BinaryOperationExpression condition = createBinaryOperationExpression(databaseJoin, tableJoin, AND);
+        when(joinTable.getCondition()).thenReturn(condition);
+        MySQLSelectStatement selectStatement = mock(MySQLSelectStatement.class);
+        when(selectStatement.getFrom()).thenReturn(joinTable);
+        SelectStatementContext result = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(result.getSqlStatement()).thenReturn(selectStatement);
+        when(result.isContainsJoinQuery()).thenReturn(true);
+        when(result.getDatabaseType()).thenReturn(new MySQLDatabaseType());
+        when(result.getTablesContext().getSchemaName()).thenReturn(Optional.empty());
+        ShardingSphereSchema schema = mock(ShardingSphereSchema.class);
+        when(result.getTablesContext().findTableNamesByColumnSegment(Arrays.asList(leftDatabaseJoin, rightDatabaseJoin), schema)).thenReturn(createColumnTableNameMap());
+        when(result.getTablesContext().findTableNamesByColumnSegment(Arrays.asList(leftTableJoin, rightTableJoin), schema)).thenReturn(createColumnTableNameMap());
+        when(database.getName()).thenReturn(DefaultDatabase.LOGIC_NAME);
+        when(database.getSchema(DefaultDatabase.LOGIC_NAME)).thenReturn(schema);
+        return result;
+    }
+    
+    private ShardingRule createColocatedShardingRule(final String subTableActualDataNodes) {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        ShardingTableRuleConfiguration shardingTableRuleConfig = new ShardingTableRuleConfiguration("LOGIC_TABLE", "ds_${0..1}.table_${0..2}");
+        shardingTableRuleConfig.setDatabaseShardingStrategy(new StandardShardingStrategyConfiguration("user_id", "database_inline"));
+        shardingTableRuleConfig.setTableShardingStrategy(new StandardShardingStrategyConfiguration("order_id", "table_inline"));
+        ShardingTableRuleConfiguration subTableRuleConfig = new ShardingTableRuleConfiguration("SUB_LOGIC_TABLE", subTableActualDataNodes);
+        subTableRuleConfig.setDatabaseShardingStrategy(new StandardShardingStrategyConfiguration("user_id", "database_inline"));
+        subTableRuleConfig.setTableShardingStrategy(new StandardShardingStrategyConfiguration("order_id", "sub_table_inline"));
+        shardingRuleConfig.getTables().add(shardingTableRuleConfig);
+        shardingRuleConfig.getTables().add(subTableRuleConfig);
+        shardingRuleConfig.getShardingAlgorithms().put("database_inline", createInlineAlgorithmConfiguration("ds_${user_id % 2}"));
+        shardingRuleConfig.getShardingAlgorithms().put("table_inline", createInlineAlgorithmConfiguration("table_${order_id % 3}"));
+        shardingRuleConfig.getShardingAlgorithms().put("sub_table_inline", createInlineAlgorithmConfiguration("sub_table_${order_id % 3}"));
+        return new ShardingRule(shardingRuleConfig, createDataSourceNames(), mock(InstanceContext.class));
+    }
+    
+    private AlgorithmConfiguration createInlineAlgorithmConfiguration(final String algorithmExpression) {
+        Properties props = new Properties();
+        props.setProperty("algorithm-expression", algorithmExpression);
+        return new AlgorithmConfiguration("INLINE", props);
+    }
+    
     private BinaryOperationExpression createBinaryOperationExpression(final ExpressionSegment left, final ExpressionSegment right, final String operator) {
         BinaryOperationExpression result = mock(BinaryOperationExpression.class);
         when(result.getLeft()).thenReturn(left);
@@ -41,6 +41,7 @@ public final class MigrateTableUpdater implements RALUpdater<MigrateTableStateme
         Preconditions.checkNotNull(targetDatabaseName, "Target database name is null. You could define it in DistSQL or select a database.");
         CreateMigrationJobParameter createMigrationJobParameter = new CreateMigrationJobParameter(sqlStatement.getSourceResourceName(), sqlStatement.getSourceSchemaName(),
                 sqlStatement.getSourceTableName(), targetDatabaseName, sqlStatement.getTargetTableName());
+        createMigrationJobParameter.setDecodingPlugin(sqlStatement.getDecodingPlugin());
         JOB_API.createJobAndStart(createMigrationJobParameter);
     }
     
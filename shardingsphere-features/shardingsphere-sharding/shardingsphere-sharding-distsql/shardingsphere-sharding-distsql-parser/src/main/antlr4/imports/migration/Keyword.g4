@@ -135,6 +135,14 @@ INTO
     : I N T O
     ;
 
+WITH
+    : W I T H
+    ;
+
+DECODING_PLUGIN
+    : D E C O D I N G UL_ P L U G I N
+    ;
+
 DB
     : D B
     ;
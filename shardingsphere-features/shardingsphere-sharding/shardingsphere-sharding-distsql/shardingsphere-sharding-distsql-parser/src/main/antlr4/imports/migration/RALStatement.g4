@@ -20,7 +20,7 @@ grammar RALStatement;
 import BaseRule;
 
 migrateTable
-    : MIGRATE TABLE sourceTableName INTO targetTableName
+    : MIGRATE TABLE sourceTableName INTO targetTableName (WITH DECODING_PLUGIN EQ decodingPlugin)?
     ;
 
 showMigrationList
@@ -59,6 +59,10 @@ jobId
     : INT | STRING
     ;
 
+decodingPlugin
+    : STRING
+    ;
+
 sourceTableName
     : owner DOT (schema DOT)? name
     ;
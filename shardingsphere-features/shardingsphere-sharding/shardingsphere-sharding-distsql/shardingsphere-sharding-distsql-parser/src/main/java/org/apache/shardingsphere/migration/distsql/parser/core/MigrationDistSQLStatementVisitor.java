@@ -78,7 +78,8 @@ public final class MigrationDistSQLStatementVisitor extends MigrationDistSQLStat
         String sourceTableName = source.get(source.size() - 1);
         String targetDatabaseName = target.size() > 1 ? target.get(0) : null;
         String targetTableName = target.get(target.size() - 1);
-        return new MigrateTableStatement(sourceResourceName, sourceSchemaName, sourceTableName, targetDatabaseName, targetTableName);
+        String decodingPlugin = getIdentifierValue(ctx.decodingPlugin());
+        return new MigrateTableStatement(sourceResourceName, sourceSchemaName, sourceTableName, targetDatabaseName, targetTableName, decodingPlugin);
     }
     
     @Override
@@ -39,4 +39,6 @@ public final class MigrateTableStatement extends UpdatableScalingRALStatement {
     private final String targetDatabaseName;
     
     private final String targetTableName;
+    
+    private final String decodingPlugin;
 }
@@ -47,6 +47,18 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Available options of kernel executor type: PLATFORM(default), VIRTUAL. The VIRTUAL option runs every execution group on its own (virtual if supported by JVM) thread,
+     * and {@link ConfigurationPropertyKey#KERNEL_EXECUTOR_SIZE} limits the count of execution groups running concurrently.
+     */
+    KERNEL_EXECUTOR_TYPE("kernel-executor-type", "PLATFORM", String.class, true),
+    
+    /**
+     * Max count of execution plans cached for each database, which reuse rewritten SQL of same SQL and same route result.
+     * The default value is 0, which means execution plan cache is disabled.
+     */
+    KERNEL_EXECUTION_PLAN_CACHE_SIZE("kernel-execution-plan-cache-size", String.valueOf(0), int.class, false),
+    
     /**
      * Max opened connection size for each query.
      */
@@ -57,11 +69,35 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     CHECK_TABLE_METADATA_ENABLED("check-table-metadata-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
     
+    /**
+     * Max count of table meta data cached for each schema when table meta data is lazy loaded on first access, table names are always resident.
+     * The default value is 0, which means table meta data is loaded eagerly when application startup.
+     */
+    TABLE_METADATA_LAZY_LOAD_CACHE_SIZE("table-metadata-lazy-load-cache-size", String.valueOf(0), int.class, true),
+    
+    /**
+     * Max thread size of each database to encrypt parameters of multi-row insert values in parallel, all configured encrypt algorithms must be thread safe when enabled.
+     * The default value is 0, which means insert values are encrypted on the thread executing SQL.
+     */
+    ENCRYPT_INSERT_VALUES_EXECUTOR_SIZE("encrypt-insert-values-executor-size", String.valueOf(0), int.class, true),
+    
     /**
      * Whether enable SQL federation.
      */
     SQL_FEDERATION_ENABLED("sql-federation-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
     
+    /**
+     * Max count of federation plans cached for each database, which reuse optimized and compiled plan of same SQL.
+     * The default value is 0, which means federation plan cache is disabled.
+     */
+    SQL_FEDERATION_PLAN_CACHE_SIZE("sql-federation-plan-cache-size", String.valueOf(0), int.class, false),
+    
+    /**
+     * Max estimated bytes of groups aggregated in memory when merging group by results. Groups exceeding it are spilled to local temporary files.
+     * The default value is 0, which means no limitation.
+     */
+    MERGE_GROUP_BY_MAX_IN_MEMORY_BYTES("merge-group-by-max-in-memory-bytes", String.valueOf(0), long.class, false),
+    
     /**
      * Frontend database protocol type for ShardingSphere-Proxy.
      */
@@ -72,6 +108,17 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_FLUSH_THRESHOLD("proxy-frontend-flush-threshold", String.valueOf(128), int.class, false),
     
+    /**
+     * Flush threshold in bytes of query data encoded for ShardingSphere-Proxy.
+     * The default value is 65536, and 0 means flushing by {@link ConfigurationPropertyKey#PROXY_FRONTEND_FLUSH_THRESHOLD} records.
+     */
+    PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD("proxy-frontend-flush-bytes-threshold", String.valueOf(64 * 1024), int.class, false),
+    
+    /**
+     * Max interval milliseconds between flushes of query data encoded for ShardingSphere-Proxy.
+     */
+    PROXY_FRONTEND_FLUSH_INTERVAL_MILLISECONDS("proxy-frontend-flush-interval-milliseconds", String.valueOf(10), long.class, false),
+    
     /**
      * Whether enable hint for ShardingSphere-Proxy.
      */
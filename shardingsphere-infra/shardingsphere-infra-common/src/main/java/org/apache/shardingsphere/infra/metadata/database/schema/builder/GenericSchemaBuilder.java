@@ -19,6 +19,8 @@ package org.apache.shardingsphere.infra.metadata.database.schema.builder;
 
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
+import org.apache.shardingsphere.infra.database.type.SchemaSupportedDatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.LazyLoadedTableMap;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumn;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereConstraint;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereIndex;
@@ -38,6 +40,7 @@ import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.Vie
 import org.apache.shardingsphere.infra.metadata.database.schema.util.SchemaMetaDataUtil;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
+import org.apache.shardingsphere.infra.util.exception.sql.SQLWrapperException;
 
 import java.sql.SQLException;
 import java.util.Collection;
@@ -63,7 +66,10 @@ public final class GenericSchemaBuilder {
      * @throws SQLException SQL exception
      */
     public static Map<String, ShardingSphereSchema> build(final GenericSchemaBuilderMaterials materials) throws SQLException {
-        return build(getAllTableNames(materials.getRules()), materials);
+        int lazyLoadCacheSize = materials.getProps().getValue(ConfigurationPropertyKey.TABLE_METADATA_LAZY_LOAD_CACHE_SIZE);
+        return 0 < lazyLoadCacheSize && isLazyLoadSupported(materials)
+                ? buildLazily(getAllTableNames(materials.getRules()), materials, lazyLoadCacheSize)
+                : build(getAllTableNames(materials.getRules()), materials);
     }
     
     /**
@@ -82,6 +88,44 @@ public final class GenericSchemaBuilder {
         return decorate(result, materials);
     }
     
+    private static boolean isLazyLoadSupported(final GenericSchemaBuilderMaterials materials) {
+        return !(materials.getProtocolType() instanceof SchemaSupportedDatabaseType) && !(materials.getStorageType() instanceof SchemaSupportedDatabaseType);
+    }
+    
+    private static Map<String, ShardingSphereSchema> buildLazily(final Collection<String> tableNames, final GenericSchemaBuilderMaterials materials, final int lazyLoadCacheSize) throws SQLException {
+        String schemaName = DatabaseTypeEngine.getDefaultSchemaName(materials.getProtocolType(), materials.getDefaultSchemaName());
+        LazyLoadedTableMap tables = new LazyLoadedTableMap(tableNames, each -> loadTables(schemaName, each, materials), lazyLoadCacheSize);
+        return Collections.singletonMap(schemaName, new ShardingSphereSchema(tables, loadViews(tableNames, materials)));
+    }
+    
+    private static Map<String, ShardingSphereView> loadViews(final Collection<String> tableNames, final GenericSchemaBuilderMaterials materials) throws SQLException {
+        Collection<SchemaMetaDataLoaderMaterials> schemaMetaDataLoaderMaterials = SchemaMetaDataUtil.getSchemaMetaDataLoaderMaterials(tableNames, materials, false).stream()
+                .map(each -> new SchemaMetaDataLoaderMaterials(Collections.singletonList(each.getActualTableNames().iterator().next()), each.getDataSource(), each.getDefaultSchemaName()))
+                .collect(Collectors.toList());
+        if (schemaMetaDataLoaderMaterials.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Collection<ViewMetaData> viewMetaDataList = SchemaMetaDataLoaderEngine.load(schemaMetaDataLoaderMaterials, materials.getStorageType()).values().stream()
+                .flatMap(each -> each.getViews().stream()).collect(Collectors.toList());
+        return convertToViewMap(viewMetaDataList);
+    }
+    
+    private static Map<String, ShardingSphereTable> loadTables(final String schemaName, final Collection<String> tableNames, final GenericSchemaBuilderMaterials materials) {
+        Collection<SchemaMetaDataLoaderMaterials> schemaMetaDataLoaderMaterials = SchemaMetaDataUtil.getSchemaMetaDataLoaderMaterials(tableNames, materials, false);
+        if (schemaMetaDataLoaderMaterials.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        try {
+            Map<String, SchemaMetaData> result = SchemaMetaDataLoaderEngine.loadTables(schemaMetaDataLoaderMaterials, materials.getStorageType());
+            if (!materials.getProtocolType().equals(materials.getStorageType())) {
+                result = translate(result, materials);
+            }
+            return Optional.ofNullable(decorate(result, materials).get(schemaName)).map(ShardingSphereSchema::getTables).orElseGet(Collections::emptyMap);
+        } catch (final SQLException ex) {
+            throw new SQLWrapperException(ex);
+        }
+    }
+    
     private static Collection<String> getAllTableNames(final Collection<ShardingSphereRule> rules) {
         return rules.stream().filter(each -> each instanceof TableContainedRule).flatMap(each -> ((TableContainedRule) each).getTables().stream()).collect(Collectors.toSet());
     }
@@ -0,0 +1,280 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.decorator.model;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.google.common.collect.Iterators;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Lazy loaded table map.
+ * 
+ * <p>Only table names are resident, table meta data is loaded on first access and held in a size bounded cache, evicted table is reloaded on next access.
+ * Each table is loaded once even under concurrent access, and iteration loads tables in batches.
+ * Statistics and index names of tables stay resident after eviction, statistics are attached to reloaded tables again.</p>
+ */
+public final class LazyLoadedTableMap extends AbstractMap<String, ShardingSphereTable> {
+    
+    private static final int ITERATION_BATCH_SIZE = 100;
+    
+    private final Map<String, String> tableNames;
+    
+    private final Function<Collection<String>, Map<String, ShardingSphereTable>> tablesLoader;
+    
+    private final LoadingCache<String, ShardingSphereTable> tables;
+    
+    private final Map<String, ShardingSphereTableStatistics> statistics = new ConcurrentHashMap<>();
+    
+    private final Map<String, Collection<String>> tableIndexNames = new ConcurrentHashMap<>();
+    
+    private final Map<String, String> indexTableNames = new ConcurrentHashMap<>();
+    
+    public LazyLoadedTableMap(final Collection<String> tableNames, final Function<Collection<String>, Map<String, ShardingSphereTable>> tablesLoader, final int maximumSize) {
+        this.tableNames = new ConcurrentHashMap<>(tableNames.size(), 1);
+        tableNames.forEach(each -> this.tableNames.put(each.toLowerCase(), each));
+        this.tablesLoader = tablesLoader;
+        tables = Caffeine.newBuilder().maximumSize(maximumSize).build(new TableCacheLoader());
+    }
+    
+    /**
+     * Get count of loaded tables.
+     *
+     * @return count of loaded tables
+     */
+    public long getLoadedSize() {
+        tables.cleanUp();
+        return tables.estimatedSize();
+    }
+    
+    /**
+     * Get table names with original case, table meta data is not loaded.
+     *
+     * @return table names with original case
+     */
+    public Set<String> getOriginalTableNames() {
+        return new LinkedHashSet<>(tableNames.values());
+    }
+    
+    /**
+     * Find name of table which contains index.
+     * 
+     * <p>Index names of loaded tables are resident, so only tables which have never been loaded are loaded in batches until the index is found.</p>
+     *
+     * @param indexName index name
+     * @return found table name
+     */
+    public Optional<String> findTableNameByIndexName(final String indexName) {
+        String result = indexTableNames.get(indexName);
+        if (null != result) {
+            return Optional.of(result);
+        }
+        Iterator<List<String>> tableNameBatchIterator = Iterators.partition(
+                tableNames.keySet().stream().filter(each -> !tableIndexNames.containsKey(each)).collect(Collectors.toList()).iterator(), ITERATION_BATCH_SIZE);
+        while (tableNameBatchIterator.hasNext()) {
+            loadBatch(tableNameBatchIterator.next());
+            result = indexTableNames.get(indexName);
+            if (null != result) {
+                return Optional.of(result);
+            }
+        }
+        return Optional.empty();
+    }
+    
+    @Override
+    public ShardingSphereTable get(final Object key) {
+        if (!tableNames.containsKey(key)) {
+            return null;
+        }
+        ShardingSphereTable result = tables.get((String) key);
+        if (null == result) {
+            removeResidentData((String) key);
+        }
+        return result;
+    }
+    
+    @Override
+    public boolean containsKey(final Object key) {
+        return tableNames.containsKey(key);
+    }
+    
+    @Override
+    public ShardingSphereTable put(final String key, final ShardingSphereTable value) {
+        ShardingSphereTable result = tables.getIfPresent(key);
+        tableNames.put(key, value.getName());
+        if (value.getStatistics().isPresent()) {
+            statistics.put(key, value.getStatistics().get());
+        } else {
+            statistics.remove(key);
+        }
+        putIndexNames(key, value);
+        tables.put(key, value);
+        return result;
+    }
+    
+    @Override
+    public ShardingSphereTable remove(final Object key) {
+        if (!tableNames.containsKey(key)) {
+            return null;
+        }
+        ShardingSphereTable result = tables.getIfPresent(key);
+        removeResidentData((String) key);
+        tables.invalidate(key);
+        return result;
+    }
+    
+    @Override
+    public void clear() {
+        tableNames.clear();
+        statistics.clear();
+        tableIndexNames.clear();
+        indexTableNames.clear();
+        tables.invalidateAll();
+    }
+    
+    @Override
+    public int size() {
+        return tableNames.size();
+    }
+    
+    @Override
+    public Set<String> keySet() {
+        return Collections.unmodifiableSet(tableNames.keySet());
+    }
+    
+    @Override
+    public Set<Entry<String, ShardingSphereTable>> entrySet() {
+        return new AbstractSet<Entry<String, ShardingSphereTable>>() {
+            
+            @Override
+            public Iterator<Entry<String, ShardingSphereTable>> iterator() {
+                return new LazyLoadedTableIterator(Iterators.partition(tableNames.keySet().iterator(), ITERATION_BATCH_SIZE));
+            }
+            
+            @Override
+            public int size() {
+                return tableNames.size();
+            }
+        };
+    }
+    
+    private Map<String, ShardingSphereTable> loadBatch(final List<String> batchTableNames) {
+        Map<String, ShardingSphereTable> result = tables.getAll(batchTableNames);
+        batchTableNames.stream().filter(each -> !result.containsKey(each)).collect(Collectors.toList()).forEach(this::removeResidentData);
+        return result;
+    }
+    
+    private void removeResidentData(final String key) {
+        tableNames.remove(key);
+        statistics.remove(key);
+        Collection<String> indexNames = tableIndexNames.remove(key);
+        if (null != indexNames) {
+            indexNames.forEach(each -> indexTableNames.remove(each, key));
+        }
+    }
+    
+    private void putIndexNames(final String key, final ShardingSphereTable table) {
+        Collection<String> indexNames = new LinkedList<>(table.getIndexes().keySet());
+        Collection<String> previousIndexNames = tableIndexNames.put(key, indexNames);
+        if (null != previousIndexNames) {
+            previousIndexNames.forEach(each -> indexTableNames.remove(each, key));
+        }
+        indexNames.forEach(each -> indexTableNames.putIfAbsent(each, key));
+    }
+    
+    private ShardingSphereTable attachResidentData(final String key, final ShardingSphereTable table) {
+        putIndexNames(key, table);
+        ShardingSphereTableStatistics tableStatistics = statistics.get(key);
+        return null == tableStatistics ? table : table.withStatistics(tableStatistics);
+    }
+    
+    private final class TableCacheLoader implements CacheLoader<String, ShardingSphereTable> {
+        
+        @Override
+        public ShardingSphereTable load(final String key) {
+            String originalTableName = tableNames.get(key);
+            if (null == originalTableName) {
+                return null;
+            }
+            ShardingSphereTable result = tablesLoader.apply(Collections.singletonList(originalTableName)).get(key);
+            return null == result ? null : attachResidentData(key, result);
+        }
+        
+        @Override
+        public Map<String, ShardingSphereTable> loadAll(final Iterable<? extends String> keys) {
+            Collection<String> originalTableNames = new LinkedList<>();
+            for (String each : keys) {
+                String originalTableName = tableNames.get(each);
+                if (null != originalTableName) {
+                    originalTableNames.add(originalTableName);
+                }
+            }
+            if (originalTableNames.isEmpty()) {
+                return Collections.emptyMap();
+            }
+            Map<String, ShardingSphereTable> result = new LinkedHashMap<>(tablesLoader.apply(originalTableNames));
+            result.replaceAll(LazyLoadedTableMap.this::attachResidentData);
+            return result;
+        }
+    }
+    
+    private final class LazyLoadedTableIterator implements Iterator<Entry<String, ShardingSphereTable>> {
+        
+        private final Iterator<List<String>> tableNameBatchIterator;
+        
+        private Iterator<Entry<String, ShardingSphereTable>> loadedTableIterator = Collections.emptyIterator();
+        
+        LazyLoadedTableIterator(final Iterator<List<String>> tableNameBatchIterator) {
+            this.tableNameBatchIterator = tableNameBatchIterator;
+        }
+        
+        @Override
+        public boolean hasNext() {
+            while (!loadedTableIterator.hasNext() && tableNameBatchIterator.hasNext()) {
+                loadedTableIterator = loadBatch(tableNameBatchIterator.next()).entrySet().iterator();
+            }
+            return loadedTableIterator.hasNext();
+        }
+        
+        @Override
+        public Entry<String, ShardingSphereTable> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Entry<String, ShardingSphereTable> entry = loadedTableIterator.next();
+            return new SimpleImmutableEntry<>(entry.getKey(), entry.getValue());
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.decorator.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * ShardingSphere column statistics.
+ */
+@RequiredArgsConstructor
+@Getter
+@ToString
+public final class ShardingSphereColumnStatistics {
+    
+    private final long distinctCount;
+    
+    private final Object minValue;
+    
+    private final Object maxValue;
+    
+    /**
+     * Merge with statistics of the same column collected from another data node.
+     * 
+     * <p>Distinct count is summed only if value ranges of both data nodes are known to be disjoint, otherwise the larger one is kept, so that merged distinct count never over counts.</p>
+     *
+     * @param other column statistics of another data node
+     * @param totalRowCount total row count of merged data nodes
+     * @return merged column statistics
+     */
+    public ShardingSphereColumnStatistics merge(final ShardingSphereColumnStatistics other, final long totalRowCount) {
+        long mergedDistinctCount = isDisjoint(other) ? distinctCount + other.distinctCount : Math.max(distinctCount, other.distinctCount);
+        return new ShardingSphereColumnStatistics(Math.min(mergedDistinctCount, totalRowCount), selectValue(minValue, other.minValue, true), selectValue(maxValue, other.maxValue, false));
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private boolean isDisjoint(final ShardingSphereColumnStatistics other) {
+        if (!isComparable(minValue, other.maxValue) || !isComparable(maxValue, other.minValue)) {
+            return false;
+        }
+        return ((Comparable) maxValue).compareTo(other.minValue) < 0 || ((Comparable) other.maxValue).compareTo(minValue) < 0;
+    }
+    
+    private static boolean isComparable(final Object value, final Object otherValue) {
+        return null != value && null != otherValue && value instanceof Comparable && value.getClass() == otherValue.getClass();
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object selectValue(final Object value, final Object otherValue, final boolean min) {
+        if (null == value) {
+            return otherValue;
+        }
+        if (null == otherValue || !(value instanceof Comparable) || value.getClass() != otherValue.getClass()) {
+            return value;
+        }
+        int compareResult = ((Comparable) value).compareTo(otherValue);
+        if (min) {
+            return compareResult <= 0 ? value : otherValue;
+        }
+        return compareResult >= 0 ? value : otherValue;
+    }
+}
@@ -21,10 +21,14 @@ import lombok.Getter;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * ShardingSphere schema.
@@ -49,6 +53,12 @@ public final class ShardingSphereSchema {
         views.forEach((key, value) -> this.views.put(key.toLowerCase(), value));
     }
     
+    public ShardingSphereSchema(final LazyLoadedTableMap tables, final Map<String, ShardingSphereView> views) {
+        this.tables = tables;
+        this.views = new ConcurrentHashMap<>(views.size(), 1);
+        views.forEach((key, value) -> this.views.put(key.toLowerCase(), value));
+    }
+    
     /**
      * Get all table names.
      *
@@ -58,6 +68,17 @@ public final class ShardingSphereSchema {
         return tables.keySet();
     }
     
+    /**
+     * Get all table names with original case, lazy loaded table meta data is not loaded.
+     *
+     * @return all table names with original case
+     */
+    public Set<String> getAllOriginalTableNames() {
+        return tables instanceof LazyLoadedTableMap
+                ? ((LazyLoadedTableMap) tables).getOriginalTableNames()
+                : tables.values().stream().map(ShardingSphereTable::getName).collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+    
     /**
      * Get all view names.
      *
@@ -159,6 +180,19 @@ public final class ShardingSphereSchema {
         return containsTable(tableName) && getTable(tableName).getIndexes().containsKey(indexName.toLowerCase());
     }
     
+    /**
+     * Find name of table which contains index.
+     *
+     * @param indexName index name
+     * @return found table name
+     */
+    public Optional<String> findTableNameByIndexName(final String indexName) {
+        if (tables instanceof LazyLoadedTableMap) {
+            return ((LazyLoadedTableMap) tables).findTableNameByIndexName(indexName);
+        }
+        return tables.entrySet().stream().filter(entry -> entry.getValue().getIndexes().containsKey(indexName)).map(Entry::getKey).findFirst();
+    }
+    
     /**
      * Get all column names via table.
      *
@@ -27,6 +27,7 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * ShardingSphere table.
@@ -50,16 +51,47 @@ public final class ShardingSphereTable {
     
     private final List<String> primaryKeyColumns = new ArrayList<>();
     
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final ShardingSphereTableStatistics statistics;
+    
     public ShardingSphereTable() {
         this("", Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
     }
     
     public ShardingSphereTable(final String name, final Collection<ShardingSphereColumn> columnList,
                                final Collection<ShardingSphereIndex> indexList, final Collection<ShardingSphereConstraint> constraintList) {
+        this(name, columnList, indexList, constraintList, null);
+    }
+    
+    public ShardingSphereTable(final String name, final Collection<ShardingSphereColumn> columnList, final Collection<ShardingSphereIndex> indexList,
+                               final Collection<ShardingSphereConstraint> constraintList, final ShardingSphereTableStatistics statistics) {
         this.name = name;
         columns = getColumns(columnList);
         indexes = getIndexes(indexList);
         constrains = getConstrains(constraintList);
+        this.statistics = statistics;
+    }
+    
+    /**
+     * Get statistics.
+     *
+     * @return statistics
+     */
+    public Optional<ShardingSphereTableStatistics> getStatistics() {
+        return Optional.ofNullable(statistics);
+    }
+    
+    /**
+     * Create table with same meta data and new statistics.
+     * 
+     * <p>Statistics are not changed in place, so that holders of this table, such as cached federation plans, can tell the table has been changed.</p>
+     *
+     * @param statistics statistics
+     * @return created table
+     */
+    public ShardingSphereTable withStatistics(final ShardingSphereTableStatistics statistics) {
+        return new ShardingSphereTable(name, columns.values(), indexes.values(), constrains.values(), statistics);
     }
     
     private Map<String, ShardingSphereColumn> getColumns(final Collection<ShardingSphereColumn> columnList) {
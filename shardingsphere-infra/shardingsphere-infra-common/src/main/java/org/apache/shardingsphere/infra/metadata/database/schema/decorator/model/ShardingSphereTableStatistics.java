@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.decorator.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * ShardingSphere table statistics.
+ */
+@RequiredArgsConstructor
+@Getter
+@ToString
+public final class ShardingSphereTableStatistics {
+    
+    private final long rowCount;
+    
+    private final Map<String, ShardingSphereColumnStatistics> columns;
+    
+    /**
+     * Find column statistics.
+     *
+     * @param columnName column name
+     * @return column statistics
+     */
+    public Optional<ShardingSphereColumnStatistics> findColumn(final String columnName) {
+        return Optional.ofNullable(columns.get(columnName.toLowerCase()));
+    }
+    
+    /**
+     * Merge with statistics of the same logic table collected from another data node.
+     *
+     * @param other table statistics of another data node
+     * @return merged table statistics
+     */
+    public ShardingSphereTableStatistics merge(final ShardingSphereTableStatistics other) {
+        long totalRowCount = rowCount + other.rowCount;
+        Map<String, ShardingSphereColumnStatistics> mergedColumns = new LinkedHashMap<>(columns.size(), 1);
+        for (Entry<String, ShardingSphereColumnStatistics> entry : columns.entrySet()) {
+            ShardingSphereColumnStatistics otherColumn = other.columns.get(entry.getKey());
+            if (null != otherColumn) {
+                mergedColumns.put(entry.getKey(), entry.getValue().merge(otherColumn, totalRowCount));
+            }
+        }
+        return new ShardingSphereTableStatistics(totalRowCount, mergedColumns);
+    }
+}
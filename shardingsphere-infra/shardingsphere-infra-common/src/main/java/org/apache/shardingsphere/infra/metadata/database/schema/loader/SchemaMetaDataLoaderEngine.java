@@ -61,48 +61,80 @@ public final class SchemaMetaDataLoaderEngine {
      * @throws SQLException SQL exception
      */
     public static Map<String, SchemaMetaData> load(final Collection<SchemaMetaDataLoaderMaterials> materials, final DatabaseType databaseType) throws SQLException {
+        return load(materials, databaseType, true);
+    }
+    
+    /**
+     * Load schema meta data without view meta data.
+     *
+     * @param materials schema meta data loader materials
+     * @param databaseType database type
+     * @return schema meta data map
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, SchemaMetaData> loadTables(final Collection<SchemaMetaDataLoaderMaterials> materials, final DatabaseType databaseType) throws SQLException {
+        return load(materials, databaseType, false);
+    }
+    
+    private static Map<String, SchemaMetaData> load(final Collection<SchemaMetaDataLoaderMaterials> materials, final DatabaseType databaseType, final boolean isLoadingViews) throws SQLException {
         Optional<DialectSchemaMetaDataLoader> dialectTableMetaDataLoader = DialectSchemaMetaDataLoaderFactory.findInstance(databaseType);
         if (dialectTableMetaDataLoader.isPresent()) {
             try {
-                return loadByDialect(dialectTableMetaDataLoader.get(), materials);
+                return loadByDialect(dialectTableMetaDataLoader.get(), materials, isLoadingViews);
             } catch (final SQLException ex) {
                 log.error("Dialect load table meta data error.", ex);
             }
         }
-        return loadByDefault(materials, databaseType);
+        return loadByDefault(materials, databaseType, isLoadingViews);
     }
     
-    private static Map<String, SchemaMetaData> loadByDefault(final Collection<SchemaMetaDataLoaderMaterials> materials, final DatabaseType databaseType) throws SQLException {
+    private static Map<String, SchemaMetaData> loadByDefault(final Collection<SchemaMetaDataLoaderMaterials> materials,
+                                                             final DatabaseType databaseType, final boolean isLoadingViews) throws SQLException {
         Collection<TableMetaData> tableMetaData = new LinkedList<>();
         Collection<ViewMetaData> viewMetaData = new LinkedList<>();
         String defaultSchemaName = null;
+        Collection<Future<Collection<TableMetaData>>> tableFutures = new LinkedList<>();
+        Collection<Future<Optional<ViewMetaData>>> viewFutures = new LinkedList<>();
         for (SchemaMetaDataLoaderMaterials each : materials) {
             defaultSchemaName = each.getDefaultSchemaName();
-            for (String tableName : each.getActualTableNames()) {
-                TableMetaDataLoader.load(each.getDataSource(), tableName, databaseType).ifPresent(tableMetaData::add);
+            tableFutures.add(EXECUTOR_SERVICE.submit(() -> TableMetaDataLoader.load(each.getDataSource(), each.getActualTableNames(), databaseType)));
+            if (isLoadingViews) {
+                viewFutures.add(EXECUTOR_SERVICE.submit(() -> ViewMetaDataLoader.load(each.getDataSource(), databaseType)));
             }
-            ViewMetaDataLoader.load(each.getDataSource(), databaseType).ifPresent(viewMetaData::add);
+        }
+        for (Future<Collection<TableMetaData>> each : tableFutures) {
+            tableMetaData.addAll(getFutureResult(each));
+        }
+        for (Future<Optional<ViewMetaData>> each : viewFutures) {
+            getFutureResult(each).ifPresent(viewMetaData::add);
         }
         return Collections.singletonMap(defaultSchemaName, new SchemaMetaData(defaultSchemaName, tableMetaData, viewMetaData));
     }
     
-    private static Map<String, SchemaMetaData> loadByDialect(final DialectSchemaMetaDataLoader loader, final Collection<SchemaMetaDataLoaderMaterials> materials) throws SQLException {
+    private static Map<String, SchemaMetaData> loadByDialect(final DialectSchemaMetaDataLoader loader,
+                                                             final Collection<SchemaMetaDataLoaderMaterials> materials, final boolean isLoadingViews) throws SQLException {
         Map<String, SchemaMetaData> result = new LinkedHashMap<>();
         Collection<Future<Collection<SchemaMetaData>>> futures = new LinkedList<>();
         for (SchemaMetaDataLoaderMaterials each : materials) {
-            futures.add(EXECUTOR_SERVICE.submit(() -> loader.load(each.getDataSource(), each.getActualTableNames(), each.getDefaultSchemaName())));
+            futures.add(EXECUTOR_SERVICE.submit(() -> isLoadingViews
+                    ? loader.load(each.getDataSource(), each.getActualTableNames(), each.getDefaultSchemaName())
+                    : loader.loadTables(each.getDataSource(), each.getActualTableNames(), each.getDefaultSchemaName())));
         }
+        for (Future<Collection<SchemaMetaData>> each : futures) {
+            mergeSchemaMetaDataMap(result, getFutureResult(each));
+        }
+        return result;
+    }
+    
+    private static <T> T getFutureResult(final Future<T> future) throws SQLException {
         try {
-            for (Future<Collection<SchemaMetaData>> each : futures) {
-                mergeSchemaMetaDataMap(result, each.get());
-            }
+            return future.get();
         } catch (final InterruptedException | ExecutionException ex) {
             if (ex.getCause() instanceof SQLException) {
                 throw (SQLException) ex.getCause();
             }
             throw new UnknownSQLException(ex).toSQLException();
         }
-        return result;
     }
     
     private static void mergeSchemaMetaDataMap(final Map<String, SchemaMetaData> schemaMetaDataMap, final Collection<SchemaMetaData> addedSchemaMetaDataList) {
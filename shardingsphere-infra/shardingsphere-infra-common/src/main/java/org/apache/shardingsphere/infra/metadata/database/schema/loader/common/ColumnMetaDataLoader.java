@@ -17,20 +17,28 @@
 
 package org.apache.shardingsphere.infra.metadata.database.schema.loader.common;
 
+import com.google.common.collect.Lists;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.loader.spi.DataTypeLoaderFactory;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
@@ -46,6 +54,15 @@ public final class ColumnMetaDataLoader {
     
     private static final String TABLE_NAME = "TABLE_NAME";
     
+    private static final String INFORMATION_SCHEMA_COLUMN_SQL = "SELECT TABLE_NAME, COLUMN_NAME, DATA_TYPE FROM information_schema.COLUMNS WHERE TABLE_SCHEMA = ? AND TABLE_NAME IN (%s) "
+            + "ORDER BY TABLE_NAME, ORDINAL_POSITION";
+    
+    private static final String INFORMATION_SCHEMA_PRIMARY_KEY_SQL = "SELECT kcu.TABLE_NAME, kcu.COLUMN_NAME FROM information_schema.TABLE_CONSTRAINTS tc "
+            + "JOIN information_schema.KEY_COLUMN_USAGE kcu ON tc.CONSTRAINT_SCHEMA = kcu.CONSTRAINT_SCHEMA AND tc.CONSTRAINT_NAME = kcu.CONSTRAINT_NAME AND tc.TABLE_NAME = kcu.TABLE_NAME "
+            + "WHERE tc.CONSTRAINT_TYPE = 'PRIMARY KEY' AND tc.TABLE_SCHEMA = ? AND tc.TABLE_NAME IN (%s)";
+    
+    private static final int BATCH_TABLE_SIZE = 1000;
+    
     /**
      * Load column meta data list.
      *
@@ -56,12 +73,10 @@ public final class ColumnMetaDataLoader {
      * @throws SQLException SQL exception
      */
     public static Collection<ColumnMetaData> load(final Connection connection, final String tableNamePattern, final DatabaseType databaseType) throws SQLException {
-        Collection<ColumnMetaData> result = new LinkedList<>();
         Collection<String> primaryKeys = loadPrimaryKeys(connection, tableNamePattern);
         List<String> columnNames = new ArrayList<>();
         List<Integer> columnTypes = new ArrayList<>();
         List<Boolean> isPrimaryKeys = new ArrayList<>();
-        List<Boolean> isCaseSensitives = new ArrayList<>();
         try (ResultSet resultSet = connection.getMetaData().getColumns(connection.getCatalog(), connection.getSchema(), tableNamePattern, "%")) {
             while (resultSet.next()) {
                 String tableName = resultSet.getString(TABLE_NAME);
@@ -73,11 +88,97 @@ public final class ColumnMetaDataLoader {
                 }
             }
         }
-        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(generateEmptyResultSQL(tableNamePattern, columnNames, databaseType))) {
+        return load(connection, tableNamePattern, columnNames, columnTypes, isPrimaryKeys, databaseType);
+    }
+    
+    /**
+     * Load column meta data of tables with batched information schema queries.
+     * 
+     * <p>Tables which are not found in information schema, or have data types unknown to data type loader, are not contained in result.</p>
+     *
+     * @param connection connection
+     * @param tableNames formatted table names
+     * @param databaseType database type
+     * @return column meta data map, key is table name
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, Collection<ColumnMetaData>> load(final Connection connection, final Collection<String> tableNames, final DatabaseType databaseType) throws SQLException {
+        if (tableNames.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        String schemaName = null == connection.getSchema() ? connection.getCatalog() : connection.getSchema();
+        Map<String, Integer> dataTypes = DataTypeLoaderFactory.getInstance(databaseType).load(connection.getMetaData());
+        Map<String, Collection<ColumnMetaData>> result = new LinkedHashMap<>(tableNames.size(), 1);
+        for (List<String> each : Lists.partition(new ArrayList<>(tableNames), BATCH_TABLE_SIZE)) {
+            result.putAll(load(connection, schemaName, each, dataTypes, databaseType));
+        }
+        return result;
+    }
+    
+    private static Map<String, Collection<ColumnMetaData>> load(final Connection connection, final String schemaName, final List<String> tableNames,
+                                                                final Map<String, Integer> dataTypes, final DatabaseType databaseType) throws SQLException {
+        Map<String, Collection<String>> primaryKeys = loadPrimaryKeys(connection, schemaName, tableNames);
+        Map<String, List<String>> columnNames = new LinkedHashMap<>(tableNames.size(), 1);
+        Map<String, List<Integer>> columnTypes = new HashMap<>(tableNames.size(), 1);
+        Collection<String> unknownTypeTables = new HashSet<>();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(String.format(INFORMATION_SCHEMA_COLUMN_SQL, getPlaceholders(tableNames)))) {
+            setParameters(preparedStatement, schemaName, tableNames);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    String tableName = resultSet.getString(TABLE_NAME);
+                    Integer dataType = dataTypes.get(resultSet.getString(DATA_TYPE));
+                    if (null == dataType) {
+                        unknownTypeTables.add(tableName);
+                        continue;
+                    }
+                    columnNames.computeIfAbsent(tableName, key -> new ArrayList<>()).add(resultSet.getString(COLUMN_NAME));
+                    columnTypes.computeIfAbsent(tableName, key -> new ArrayList<>()).add(dataType);
+                }
+            }
+        }
+        Map<String, Collection<ColumnMetaData>> result = new LinkedHashMap<>(columnNames.size(), 1);
+        for (Entry<String, List<String>> entry : columnNames.entrySet()) {
+            if (!unknownTypeTables.contains(entry.getKey())) {
+                Collection<String> tablePrimaryKeys = primaryKeys.getOrDefault(entry.getKey(), Collections.emptySet());
+                List<Boolean> isPrimaryKeys = entry.getValue().stream().map(tablePrimaryKeys::contains).collect(Collectors.toList());
+                result.put(entry.getKey(), load(connection, entry.getKey(), entry.getValue(), columnTypes.get(entry.getKey()), isPrimaryKeys, databaseType));
+            }
+        }
+        return result;
+    }
+    
+    private static Map<String, Collection<String>> loadPrimaryKeys(final Connection connection, final String schemaName, final List<String> tableNames) throws SQLException {
+        Map<String, Collection<String>> result = new HashMap<>(tableNames.size(), 1);
+        try (PreparedStatement preparedStatement = connection.prepareStatement(String.format(INFORMATION_SCHEMA_PRIMARY_KEY_SQL, getPlaceholders(tableNames)))) {
+            setParameters(preparedStatement, schemaName, tableNames);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    result.computeIfAbsent(resultSet.getString(TABLE_NAME), key -> new HashSet<>()).add(resultSet.getString(COLUMN_NAME));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private static String getPlaceholders(final List<String> tableNames) {
+        return tableNames.stream().map(each -> "?").collect(Collectors.joining(","));
+    }
+    
+    private static void setParameters(final PreparedStatement preparedStatement, final String schemaName, final List<String> tableNames) throws SQLException {
+        preparedStatement.setString(1, schemaName);
+        for (int i = 0; i < tableNames.size(); i++) {
+            preparedStatement.setString(i + 2, tableNames.get(i));
+        }
+    }
+    
+    private static Collection<ColumnMetaData> load(final Connection connection, final String tableName, final List<String> columnNames, final List<Integer> columnTypes,
+                                                   final List<Boolean> isPrimaryKeys, final DatabaseType databaseType) throws SQLException {
+        Collection<ColumnMetaData> result = new LinkedList<>();
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(generateEmptyResultSQL(tableName, columnNames, databaseType))) {
             for (int i = 0; i < columnNames.size(); i++) {
                 boolean generated = resultSet.getMetaData().isAutoIncrement(i + 1);
-                isCaseSensitives.add(resultSet.getMetaData().isCaseSensitive(resultSet.findColumn(columnNames.get(i))));
-                result.add(new ColumnMetaData(columnNames.get(i), columnTypes.get(i), isPrimaryKeys.get(i), generated, isCaseSensitives.get(i), true));
+                boolean caseSensitive = resultSet.getMetaData().isCaseSensitive(resultSet.findColumn(columnNames.get(i)));
+                result.add(new ColumnMetaData(columnNames.get(i), columnTypes.get(i), isPrimaryKeys.get(i), generated, caseSensitive, true));
             }
         }
         return result;
@@ -17,15 +17,23 @@
 
 package org.apache.shardingsphere.infra.metadata.database.schema.loader.common;
 
+import com.google.common.collect.Lists;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.IndexMetaData;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Index meta data loader.
@@ -35,8 +43,14 @@ public final class IndexMetaDataLoader {
     
     private static final String INDEX_NAME = "INDEX_NAME";
     
+    private static final String TABLE_NAME = "TABLE_NAME";
+    
+    private static final String INFORMATION_SCHEMA_INDEX_SQL = "SELECT TABLE_NAME, INDEX_NAME FROM information_schema.STATISTICS WHERE TABLE_SCHEMA = ? AND TABLE_NAME IN (%s)";
+    
     private static final int ORACLE_VIEW_NOT_APPROPRIATE_VENDOR_CODE = 1702;
     
+    private static final int BATCH_TABLE_SIZE = 1000;
+    
     /**
      * Load index meta data list.
      * In a few jdbc implementation(eg. oracle), return value of getIndexInfo contains a statistics record that not a index itself and INDEX_NAME is null.
@@ -63,4 +77,44 @@ public final class IndexMetaDataLoader {
         }
         return result;
     }
+    
+    /**
+     * Load index meta data of tables with batched information schema queries.
+     * 
+     * <p>Tables without index are not contained in result.</p>
+     *
+     * @param connection connection
+     * @param tableNames formatted table names
+     * @return index meta data map, key is table name
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, Collection<IndexMetaData>> load(final Connection connection, final Collection<String> tableNames) throws SQLException {
+        if (tableNames.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        String schemaName = null == connection.getSchema() ? connection.getCatalog() : connection.getSchema();
+        Map<String, Collection<IndexMetaData>> result = new HashMap<>(tableNames.size(), 1);
+        for (List<String> each : Lists.partition(new ArrayList<>(tableNames), BATCH_TABLE_SIZE)) {
+            load(connection, schemaName, each, result);
+        }
+        return result;
+    }
+    
+    private static void load(final Connection connection, final String schemaName, final List<String> tableNames, final Map<String, Collection<IndexMetaData>> result) throws SQLException {
+        String placeholders = tableNames.stream().map(each -> "?").collect(Collectors.joining(","));
+        try (PreparedStatement preparedStatement = connection.prepareStatement(String.format(INFORMATION_SCHEMA_INDEX_SQL, placeholders))) {
+            preparedStatement.setString(1, schemaName);
+            for (int i = 0; i < tableNames.size(); i++) {
+                preparedStatement.setString(i + 2, tableNames.get(i));
+            }
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    String indexName = resultSet.getString(INDEX_NAME);
+                    if (null != indexName) {
+                        result.computeIfAbsent(resultSet.getString(TABLE_NAME), key -> new HashSet<>()).add(new IndexMetaData(indexName));
+                    }
+                }
+            }
+        }
+    }
 }
@@ -19,21 +19,30 @@ package org.apache.shardingsphere.infra.metadata.database.schema.loader.common;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.metadata.database.schema.loader.adapter.MetaDataLoaderConnectionAdapter;
+import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.IndexMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.TableMetaData;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 
 /**
  * Table meta data loader.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
 public final class TableMetaDataLoader {
     
     /**
@@ -47,14 +56,74 @@ public final class TableMetaDataLoader {
      */
     public static Optional<TableMetaData> load(final DataSource dataSource, final String tableNamePattern, final DatabaseType databaseType) throws SQLException {
         try (MetaDataLoaderConnectionAdapter connectionAdapter = new MetaDataLoaderConnectionAdapter(databaseType, dataSource.getConnection())) {
-            String formattedTableNamePattern = databaseType.formatTableNamePattern(tableNamePattern);
-            return isTableExist(connectionAdapter, formattedTableNamePattern)
-                    ? Optional.of(new TableMetaData(tableNamePattern, ColumnMetaDataLoader.load(
-                            connectionAdapter, formattedTableNamePattern, databaseType), IndexMetaDataLoader.load(connectionAdapter, formattedTableNamePattern), Collections.emptyList()))
-                    : Optional.empty();
+            return load(connectionAdapter, tableNamePattern, databaseType);
         }
     }
     
+    /**
+     * Load table meta data of tables with one connection.
+     * 
+     * <p>Columns and indexes are loaded with batched information schema queries, tables which can not be loaded in this way are loaded with JDBC meta data one by one.</p>
+     *
+     * @param dataSource data source
+     * @param tableNamePatterns table name patterns
+     * @param databaseType database type
+     * @return table meta data of existed tables
+     * @throws SQLException SQL exception
+     */
+    public static Collection<TableMetaData> load(final DataSource dataSource, final Collection<String> tableNamePatterns, final DatabaseType databaseType) throws SQLException {
+        Collection<TableMetaData> result = new LinkedList<>();
+        if (tableNamePatterns.isEmpty()) {
+            return result;
+        }
+        Map<String, String> formattedTableNamePatterns = new LinkedHashMap<>(tableNamePatterns.size(), 1);
+        for (String each : tableNamePatterns) {
+            formattedTableNamePatterns.put(databaseType.formatTableNamePattern(each), each);
+        }
+        try (MetaDataLoaderConnectionAdapter connectionAdapter = new MetaDataLoaderConnectionAdapter(databaseType, dataSource.getConnection())) {
+            Map<String, Collection<ColumnMetaData>> columnMetaDataMap = loadColumnMetaDataMap(connectionAdapter, formattedTableNamePatterns.keySet(), databaseType);
+            Optional<Map<String, Collection<IndexMetaData>>> indexMetaDataMap = loadIndexMetaDataMap(connectionAdapter, columnMetaDataMap.keySet());
+            for (Entry<String, String> entry : formattedTableNamePatterns.entrySet()) {
+                Collection<ColumnMetaData> columnMetaData = columnMetaDataMap.get(entry.getKey());
+                if (null == columnMetaData) {
+                    load(connectionAdapter, entry.getValue(), databaseType).ifPresent(result::add);
+                } else {
+                    Collection<IndexMetaData> indexMetaData = indexMetaDataMap.isPresent()
+                            ? indexMetaDataMap.get().getOrDefault(entry.getKey(), Collections.emptyList())
+                            : IndexMetaDataLoader.load(connectionAdapter, entry.getKey());
+                    result.add(new TableMetaData(entry.getValue(), columnMetaData, indexMetaData, Collections.emptyList()));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private static Map<String, Collection<ColumnMetaData>> loadColumnMetaDataMap(final Connection connection, final Collection<String> tableNames, final DatabaseType databaseType) {
+        try {
+            return ColumnMetaDataLoader.load(connection, tableNames, databaseType);
+        } catch (final SQLException ex) {
+            log.debug("Load column meta data with information schema failed, fall back to JDBC meta data.", ex);
+            return Collections.emptyMap();
+        }
+    }
+    
+    private static Optional<Map<String, Collection<IndexMetaData>>> loadIndexMetaDataMap(final Connection connection, final Collection<String> tableNames) {
+        try {
+            return Optional.of(IndexMetaDataLoader.load(connection, tableNames));
+        } catch (final SQLException ex) {
+            log.debug("Load index meta data with information schema failed, fall back to JDBC meta data.", ex);
+            return Optional.empty();
+        }
+    }
+    
+    private static Optional<TableMetaData> load(final Connection connection, final String tableNamePattern, final DatabaseType databaseType) throws SQLException {
+        String formattedTableNamePattern = databaseType.formatTableNamePattern(tableNamePattern);
+        return isTableExist(connection, formattedTableNamePattern)
+                ? Optional.of(new TableMetaData(tableNamePattern, ColumnMetaDataLoader.load(
+                        connection, formattedTableNamePattern, databaseType), IndexMetaDataLoader.load(connection, formattedTableNamePattern), Collections.emptyList()))
+                : Optional.empty();
+    }
+    
     private static boolean isTableExist(final Connection connection, final String tableNamePattern) throws SQLException {
         try (ResultSet resultSet = connection.getMetaData().getTables(connection.getCatalog(), connection.getSchema(), tableNamePattern, null)) {
             return resultSet.next();
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.loader.common;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.datanode.DataNodes;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumnStatistics;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTableStatistics;
+import org.apache.shardingsphere.infra.metadata.database.schema.loader.spi.DialectTableStatisticsLoader;
+import org.apache.shardingsphere.infra.metadata.database.schema.loader.spi.DialectTableStatisticsLoaderFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Table statistics loader.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TableStatisticsLoader {
+    
+    private static final Collection<Integer> STATISTICS_DATA_TYPES = new HashSet<>(Arrays.asList(Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT,
+            Types.REAL, Types.FLOAT, Types.DOUBLE, Types.NUMERIC, Types.DECIMAL, Types.CHAR, Types.VARCHAR, Types.NCHAR, Types.NVARCHAR, Types.DATE, Types.TIME, Types.TIMESTAMP));
+    
+    private static final int QUERY_TIMEOUT_SECONDS = 30;
+    
+    /**
+     * Load table statistics of logic table by merging statistics of all its data nodes.
+     *
+     * @param database database
+     * @param table table
+     * @return table statistics, empty if any data node can not be reached
+     * @throws SQLException SQL exception
+     */
+    public static Optional<ShardingSphereTableStatistics> load(final ShardingSphereDatabase database, final ShardingSphereTable table) throws SQLException {
+        Collection<DataNode> dataNodes = new DataNodes(database.getRuleMetaData().getRules()).getDataNodes(table.getName());
+        ShardingSphereTableStatistics result = null;
+        for (DataNode each : dataNodes) {
+            DataSource dataSource = database.getResource().getDataSources().get(each.getDataSourceName());
+            if (null == dataSource) {
+                return Optional.empty();
+            }
+            ShardingSphereTableStatistics statistics = load(dataSource, each.getTableName(), table, database.getResource().getDatabaseType());
+            result = null == result ? statistics : result.merge(statistics);
+        }
+        return Optional.ofNullable(result);
+    }
+    
+    /**
+     * Load table statistics of actual table.
+     * 
+     * <p>Statistics maintained by database are used if dialect table statistics loader exists, otherwise actual table is scanned with query timeout.</p>
+     *
+     * @param dataSource data source
+     * @param actualTableName actual table name
+     * @param table logic table
+     * @param databaseType database type
+     * @return table statistics
+     * @throws SQLException SQL exception
+     */
+    public static ShardingSphereTableStatistics load(final DataSource dataSource, final String actualTableName, final ShardingSphereTable table, final DatabaseType databaseType) throws SQLException {
+        List<String> columnNames =
+                table.getColumns().values().stream().filter(each -> STATISTICS_DATA_TYPES.contains(each.getDataType())).map(ShardingSphereColumn::getName).collect(Collectors.toList());
+        Optional<DialectTableStatisticsLoader> dialectLoader = DialectTableStatisticsLoaderFactory.findInstance(databaseType);
+        try (Connection connection = dataSource.getConnection()) {
+            return dialectLoader.isPresent() ? dialectLoader.get().load(connection, actualTableName, columnNames) : scan(connection, actualTableName, columnNames, databaseType);
+        }
+    }
+    
+    private static ShardingSphereTableStatistics scan(final Connection connection, final String actualTableName, final List<String> columnNames, final DatabaseType databaseType) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(QUERY_TIMEOUT_SECONDS);
+            try (ResultSet resultSet = statement.executeQuery(generateStatisticsSQL(actualTableName, columnNames, databaseType))) {
+                resultSet.next();
+                Map<String, ShardingSphereColumnStatistics> columns = new LinkedHashMap<>(columnNames.size(), 1);
+                int columnIndex = 2;
+                for (String each : columnNames) {
+                    columns.put(each.toLowerCase(), new ShardingSphereColumnStatistics(resultSet.getLong(columnIndex), resultSet.getObject(columnIndex + 1), resultSet.getObject(columnIndex + 2)));
+                    columnIndex += 3;
+                }
+                return new ShardingSphereTableStatistics(resultSet.getLong(1), columns);
+            }
+        }
+    }
+    
+    private static String generateStatisticsSQL(final String actualTableName, final List<String> columnNames, final DatabaseType databaseType) {
+        StringBuilder result = new StringBuilder("SELECT COUNT(*)");
+        for (String each : columnNames) {
+            String column = databaseType.getQuoteCharacter().wrap(each);
+            result.append(", COUNT(DISTINCT ").append(column).append("), MIN(").append(column).append("), MAX(").append(column).append(')');
+        }
+        return result.append(" FROM ").append(databaseType.getQuoteCharacter().wrap(actualTableName)).toString();
+    }
+}
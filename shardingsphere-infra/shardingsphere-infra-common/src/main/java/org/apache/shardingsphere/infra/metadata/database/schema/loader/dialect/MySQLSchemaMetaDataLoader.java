@@ -65,16 +65,25 @@ public final class MySQLSchemaMetaDataLoader implements DialectSchemaMetaDataLoa
     
     @Override
     public Collection<SchemaMetaData> load(final DataSource dataSource, final Collection<String> tables, final String defaultSchemaName) throws SQLException {
-        Collection<TableMetaData> tableMetaDataList = new LinkedList<>();
+        return Collections.singletonList(new SchemaMetaData(defaultSchemaName, loadTableMetaDataList(dataSource, tables), loadViewMetaData(dataSource, tables)));
+    }
+    
+    @Override
+    public Collection<SchemaMetaData> loadTables(final DataSource dataSource, final Collection<String> tables, final String defaultSchemaName) throws SQLException {
+        return Collections.singletonList(new SchemaMetaData(defaultSchemaName, loadTableMetaDataList(dataSource, tables), Collections.emptyList()));
+    }
+    
+    private Collection<TableMetaData> loadTableMetaDataList(final DataSource dataSource, final Collection<String> tables) throws SQLException {
+        Collection<TableMetaData> result = new LinkedList<>();
         Map<String, Collection<ColumnMetaData>> columnMetaDataMap = loadColumnMetaDataMap(dataSource, tables);
         Map<String, Collection<IndexMetaData>> indexMetaDataMap = columnMetaDataMap.isEmpty() ? Collections.emptyMap() : loadIndexMetaData(dataSource, columnMetaDataMap.keySet());
         Map<String, Collection<ConstraintMetaData>> constraintMetaDataMap = columnMetaDataMap.isEmpty() ? Collections.emptyMap() : loadConstraintMetaDataMap(dataSource, columnMetaDataMap.keySet());
         for (Entry<String, Collection<ColumnMetaData>> entry : columnMetaDataMap.entrySet()) {
             Collection<IndexMetaData> indexMetaDataList = indexMetaDataMap.getOrDefault(entry.getKey(), Collections.emptyList());
             Collection<ConstraintMetaData> constraintMetaDataList = constraintMetaDataMap.getOrDefault(entry.getKey(), Collections.emptyList());
-            tableMetaDataList.add(new TableMetaData(entry.getKey(), entry.getValue(), indexMetaDataList, constraintMetaDataList));
+            result.add(new TableMetaData(entry.getKey(), entry.getValue(), indexMetaDataList, constraintMetaDataList));
         }
-        return Collections.singletonList(new SchemaMetaData(defaultSchemaName, tableMetaDataList, loadViewMetaData(dataSource, tables)));
+        return result;
     }
     
     private Collection<ViewMetaData> loadViewMetaData(final DataSource dataSource, final Collection<String> tables) throws SQLException {
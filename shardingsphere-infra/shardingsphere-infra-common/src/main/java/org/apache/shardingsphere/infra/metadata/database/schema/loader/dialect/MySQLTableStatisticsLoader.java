@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.loader.dialect;
+
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumnStatistics;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTableStatistics;
+import org.apache.shardingsphere.infra.metadata.database.schema.loader.spi.DialectTableStatisticsLoader;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Table statistics loader for MySQL, which reads estimated row count and index cardinality from information schema.
+ */
+public final class MySQLTableStatisticsLoader implements DialectTableStatisticsLoader {
+    
+    private static final String ROW_COUNT_SQL = "SELECT TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ?";
+    
+    private static final String CARDINALITY_SQL = "SELECT COLUMN_NAME, MAX(CARDINALITY) FROM information_schema.STATISTICS WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ? AND SEQ_IN_INDEX = 1 "
+            + "GROUP BY COLUMN_NAME";
+    
+    @Override
+    public ShardingSphereTableStatistics load(final Connection connection, final String actualTableName, final Collection<String> columnNames) throws SQLException {
+        long rowCount = loadRowCount(connection, actualTableName);
+        Map<String, ShardingSphereColumnStatistics> columns = new LinkedHashMap<>(columnNames.size(), 1);
+        try (PreparedStatement preparedStatement = connection.prepareStatement(CARDINALITY_SQL)) {
+            preparedStatement.setString(1, connection.getCatalog());
+            preparedStatement.setString(2, actualTableName);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    String columnName = resultSet.getString(1);
+                    if (columnNames.stream().anyMatch(columnName::equalsIgnoreCase)) {
+                        columns.put(columnName.toLowerCase(), new ShardingSphereColumnStatistics(Math.min(resultSet.getLong(2), rowCount), null, null));
+                    }
+                }
+            }
+        }
+        return new ShardingSphereTableStatistics(rowCount, columns);
+    }
+    
+    private long loadRowCount(final Connection connection, final String actualTableName) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(ROW_COUNT_SQL)) {
+            preparedStatement.setString(1, connection.getCatalog());
+            preparedStatement.setString(2, actualTableName);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next() ? resultSet.getLong(1) : 0L;
+            }
+        }
+    }
+    
+    @Override
+    public String getType() {
+        return "MySQL";
+    }
+}
@@ -27,7 +27,9 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
+import java.util.stream.Collectors;
 
 /**
  * Dialect schema meta data loader.
@@ -46,6 +48,19 @@ public interface DialectSchemaMetaDataLoader extends TypedSPI {
      */
     Collection<SchemaMetaData> load(DataSource dataSource, Collection<String> tables, String defaultSchemaName) throws SQLException;
     
+    /**
+     * Load schema meta data without view meta data.
+     *
+     * @param dataSource data source
+     * @param tables tables
+     * @param defaultSchemaName default schema name
+     * @return schema meta data collection
+     * @throws SQLException SQL exception
+     */
+    default Collection<SchemaMetaData> loadTables(final DataSource dataSource, final Collection<String> tables, final String defaultSchemaName) throws SQLException {
+        return load(dataSource, tables, defaultSchemaName).stream().map(each -> new SchemaMetaData(each.getName(), each.getTables(), Collections.emptyList())).collect(Collectors.toList());
+    }
+    
     /**
      * Load schema names.
      *
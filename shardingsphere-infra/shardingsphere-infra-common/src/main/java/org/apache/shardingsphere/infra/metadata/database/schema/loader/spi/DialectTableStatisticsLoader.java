@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.loader.spi;
+
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTableStatistics;
+import org.apache.shardingsphere.infra.util.spi.annotation.SingletonSPI;
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPI;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+
+/**
+ * Dialect table statistics loader, which reads statistics maintained by database instead of scanning table.
+ */
+@SingletonSPI
+public interface DialectTableStatisticsLoader extends TypedSPI {
+    
+    /**
+     * Load table statistics.
+     *
+     * @param connection connection
+     * @param actualTableName actual table name
+     * @param columnNames column names
+     * @return table statistics
+     * @throws SQLException SQL exception
+     */
+    ShardingSphereTableStatistics load(Connection connection, String actualTableName, Collection<String> columnNames) throws SQLException;
+}
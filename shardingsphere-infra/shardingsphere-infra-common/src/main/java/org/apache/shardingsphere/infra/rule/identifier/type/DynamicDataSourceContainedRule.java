@@ -21,6 +21,7 @@ import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.event.DataSourceStatusChangedEvent;
 
 import java.util.Collection;
+import java.util.Map;
 
 /**
  * Dynamic data source contained rule.
@@ -43,6 +44,14 @@ public interface DynamicDataSourceContainedRule extends ShardingSphereRule {
      */
     Collection<String> getReplicaDataSourceNames(String dataSourceName);
     
+    /**
+     * Get replication delay milliseconds of replica data sources.
+     *
+     * @param dataSourceName data source name
+     * @return replication delay milliseconds, key is replica data source name
+     */
+    Map<String, Long> getReplicationDelayMilliseconds(String dataSourceName);
+    
     /**
      * Update data source status.
      *
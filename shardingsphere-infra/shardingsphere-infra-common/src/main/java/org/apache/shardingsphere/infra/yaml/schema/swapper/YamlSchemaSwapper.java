@@ -38,8 +38,8 @@ public final class YamlSchemaSwapper implements YamlConfigurationSwapper<YamlSha
     
     @Override
     public YamlShardingSphereSchema swapToYamlConfiguration(final ShardingSphereSchema schema) {
-        Map<String, YamlShardingSphereTable> tables = schema.getAllTableNames().stream()
-                .collect(Collectors.toMap(each -> each, each -> swapYamlTable(schema.getTable(each)), (oldValue, currentValue) -> oldValue, LinkedHashMap::new));
+        Map<String, YamlShardingSphereTable> tables = schema.getTables().entrySet().stream()
+                .collect(Collectors.toMap(Entry::getKey, entry -> swapYamlTable(entry.getValue()), (oldValue, currentValue) -> oldValue, LinkedHashMap::new));
         Map<String, YamlShardingSphereView> views = schema.getAllViewNames().stream()
                 .collect(Collectors.toMap(each -> each, each -> swapYamlView(schema.getView(each)), (oldValue, currentValue) -> oldValue, LinkedHashMap::new));
         YamlShardingSphereSchema result = new YamlShardingSphereSchema();
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.yaml.schema.swapper;
+
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumnStatistics;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTableStatistics;
+import org.apache.shardingsphere.infra.util.yaml.swapper.YamlConfigurationSwapper;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereTableStatistics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * YAML table statistics swapper.
+ * 
+ * <p>Only row count and distinct counts are swapped, min and max values depend on column types and are not persisted.</p>
+ */
+public final class YamlTableStatisticsSwapper implements YamlConfigurationSwapper<YamlShardingSphereTableStatistics, ShardingSphereTableStatistics> {
+    
+    @Override
+    public YamlShardingSphereTableStatistics swapToYamlConfiguration(final ShardingSphereTableStatistics statistics) {
+        YamlShardingSphereTableStatistics result = new YamlShardingSphereTableStatistics();
+        result.setRowCount(statistics.getRowCount());
+        Map<String, Long> distinctCounts = new LinkedHashMap<>(statistics.getColumns().size(), 1);
+        for (Entry<String, ShardingSphereColumnStatistics> entry : statistics.getColumns().entrySet()) {
+            distinctCounts.put(entry.getKey(), entry.getValue().getDistinctCount());
+        }
+        result.setDistinctCounts(distinctCounts);
+        return result;
+    }
+    
+    @Override
+    public ShardingSphereTableStatistics swapToObject(final YamlShardingSphereTableStatistics yamlConfig) {
+        Map<String, Long> distinctCounts = null == yamlConfig.getDistinctCounts() ? Collections.emptyMap() : yamlConfig.getDistinctCounts();
+        Map<String, ShardingSphereColumnStatistics> columns = new LinkedHashMap<>(distinctCounts.size(), 1);
+        for (Entry<String, Long> entry : distinctCounts.entrySet()) {
+            columns.put(entry.getKey().toLowerCase(), new ShardingSphereColumnStatistics(entry.getValue(), null, null));
+        }
+        return new ShardingSphereTableStatistics(yamlConfig.getRowCount(), columns);
+    }
+}
@@ -27,18 +27,23 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -62,14 +67,6 @@ public final class ColumnMetaDataLoaderTest {
     @Before
     public void setUp() throws SQLException {
         when(connection.getCatalog()).thenReturn("catalog");
-        when(connection.getMetaData().getPrimaryKeys("catalog", null, "tbl")).thenReturn(primaryResultSet);
-        when(primaryResultSet.next()).thenReturn(true, false);
-        when(primaryResultSet.getString("COLUMN_NAME")).thenReturn("pk_col");
-        when(connection.getMetaData().getColumns("catalog", null, "tbl", "%")).thenReturn(columnResultSet);
-        when(columnResultSet.next()).thenReturn(true, true, false);
-        when(columnResultSet.getString("TABLE_NAME")).thenReturn("tbl");
-        when(columnResultSet.getString("COLUMN_NAME")).thenReturn("pk_col", "col");
-        when(columnResultSet.getInt("DATA_TYPE")).thenReturn(Types.INTEGER, Types.VARCHAR);
         when(connection.createStatement().executeQuery(anyString())).thenReturn(caseSensitivesResultSet);
         when(caseSensitivesResultSet.findColumn("pk_col")).thenReturn(1);
         when(caseSensitivesResultSet.findColumn("col")).thenReturn(2);
@@ -79,6 +76,14 @@ public final class ColumnMetaDataLoaderTest {
     
     @Test
     public void assertLoad() throws SQLException {
+        when(connection.getMetaData().getPrimaryKeys("catalog", null, "tbl")).thenReturn(primaryResultSet);
+        when(primaryResultSet.next()).thenReturn(true, false);
+        when(primaryResultSet.getString("COLUMN_NAME")).thenReturn("pk_col");
+        when(connection.getMetaData().getColumns("catalog", null, "tbl", "%")).thenReturn(columnResultSet);
+        when(columnResultSet.next()).thenReturn(true, true, false);
+        when(columnResultSet.getString("TABLE_NAME")).thenReturn("tbl");
+        when(columnResultSet.getString("COLUMN_NAME")).thenReturn("pk_col", "col");
+        when(columnResultSet.getInt("DATA_TYPE")).thenReturn(Types.INTEGER, Types.VARCHAR);
         Collection<ColumnMetaData> actual = ColumnMetaDataLoader.load(connection, "tbl", mock(DatabaseType.class, RETURNS_DEEP_STUBS));
         assertThat(actual.size(), is(2));
         Iterator<ColumnMetaData> columnMetaDataIterator = actual.iterator();
@@ -86,6 +91,36 @@ public final class ColumnMetaDataLoaderTest {
         assertColumnMetaData(columnMetaDataIterator.next(), "col", Types.VARCHAR, false, false);
     }
     
+    @Test
+    public void assertLoadWithInformationSchema() throws SQLException {
+        ResultSet typeInfoResultSet = mock(ResultSet.class);
+        when(connection.getMetaData().getTypeInfo()).thenReturn(typeInfoResultSet);
+        when(typeInfoResultSet.next()).thenReturn(true, true, false);
+        when(typeInfoResultSet.getString("TYPE_NAME")).thenReturn("int", "varchar");
+        when(typeInfoResultSet.getInt("DATA_TYPE")).thenReturn(Types.INTEGER, Types.VARCHAR);
+        PreparedStatement primaryKeyStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(startsWith("SELECT kcu.TABLE_NAME, kcu.COLUMN_NAME FROM information_schema.TABLE_CONSTRAINTS"))).thenReturn(primaryKeyStatement);
+        when(primaryKeyStatement.executeQuery()).thenReturn(primaryResultSet);
+        when(primaryResultSet.next()).thenReturn(true, false);
+        when(primaryResultSet.getString("TABLE_NAME")).thenReturn("tbl");
+        when(primaryResultSet.getString("COLUMN_NAME")).thenReturn("pk_col");
+        PreparedStatement columnStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(startsWith("SELECT TABLE_NAME, COLUMN_NAME, DATA_TYPE FROM information_schema.COLUMNS"))).thenReturn(columnStatement);
+        when(columnStatement.executeQuery()).thenReturn(columnResultSet);
+        when(columnResultSet.next()).thenReturn(true, true, true, false);
+        when(columnResultSet.getString("TABLE_NAME")).thenReturn("tbl", "tbl", "unknown_type_tbl");
+        when(columnResultSet.getString("DATA_TYPE")).thenReturn("INT", "varchar", "unknown_type");
+        when(columnResultSet.getString("COLUMN_NAME")).thenReturn("pk_col", "col");
+        Map<String, Collection<ColumnMetaData>> actual = ColumnMetaDataLoader.load(connection, Arrays.asList("tbl", "unknown_type_tbl"), mock(DatabaseType.class, RETURNS_DEEP_STUBS));
+        assertThat(actual.size(), is(1));
+        Iterator<ColumnMetaData> columnMetaDataIterator = actual.get("tbl").iterator();
+        assertColumnMetaData(columnMetaDataIterator.next(), "pk_col", Types.INTEGER, true, true);
+        assertColumnMetaData(columnMetaDataIterator.next(), "col", Types.VARCHAR, false, false);
+        verify(columnStatement).setString(1, "catalog");
+        verify(columnStatement).setString(2, "tbl");
+        verify(columnStatement).setString(3, "unknown_type_tbl");
+    }
+    
     private void assertColumnMetaData(final ColumnMetaData actual, final String name, final int dataType, final boolean primaryKey, final boolean caseSensitive) {
         assertThat(actual.getName(), is(name));
         assertThat(actual.getDataType(), is(dataType));
@@ -21,14 +21,20 @@ import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.Ind
 import org.junit.Test;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class IndexMetaDataLoaderTest {
@@ -41,6 +47,26 @@ public final class IndexMetaDataLoaderTest {
         assertThat(indexMetaData.getName(), is("my_index"));
     }
     
+    @Test
+    public void assertLoadWithInformationSchema() throws SQLException {
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.getCatalog()).thenReturn("catalog");
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(startsWith("SELECT TABLE_NAME, INDEX_NAME FROM information_schema.STATISTICS"))).thenReturn(preparedStatement);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getString("TABLE_NAME")).thenReturn("tbl", "tbl", "tbl");
+        when(resultSet.getString("INDEX_NAME")).thenReturn("my_index", "my_index", "other_index");
+        Map<String, Collection<IndexMetaData>> actual = IndexMetaDataLoader.load(connection, Arrays.asList("tbl", "no_index_tbl"));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get("tbl").size(), is(2));
+        verify(connection, times(1)).prepareStatement(startsWith("SELECT TABLE_NAME, INDEX_NAME FROM information_schema.STATISTICS"));
+        verify(preparedStatement).setString(1, "catalog");
+        verify(preparedStatement).setString(2, "tbl");
+        verify(preparedStatement).setString(3, "no_index_tbl");
+    }
+    
     private Connection mockConnection() throws SQLException {
         Connection result = mock(Connection.class, RETURNS_DEEP_STUBS);
         ResultSet resultSet = mockResultSet();
@@ -36,6 +36,7 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
@@ -126,6 +127,19 @@ public final class TableMetaDataLoaderTest {
         assertThat(actual.isCaseSensitive(), is(caseSensitive));
     }
     
+    @Test
+    public void assertLoadWithTableNames() throws SQLException {
+        DatabaseType databaseType = mock(DatabaseType.class, RETURNS_DEEP_STUBS);
+        when(databaseType.formatTableNamePattern(TEST_TABLE)).thenReturn(TEST_TABLE);
+        when(databaseType.formatTableNamePattern("not_existed_table")).thenReturn("not_existed_table");
+        Collection<TableMetaData> actual = TableMetaDataLoader.load(dataSource, Arrays.asList(TEST_TABLE, "not_existed_table"), databaseType);
+        assertThat(actual.size(), is(1));
+        TableMetaData tableMetaData = actual.iterator().next();
+        assertThat(tableMetaData.getName(), is(TEST_TABLE));
+        assertThat(tableMetaData.getColumns().size(), is(2));
+        assertThat(tableMetaData.getIndexes().size(), is(1));
+    }
+    
     @Test
     public void assertLoadWithNotExistedTable() throws SQLException {
         Map<String, SchemaMetaData> actual = SchemaMetaDataLoaderEngine.load(Collections.singletonList(
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.loader.common;
+
+import org.apache.shardingsphere.infra.database.type.dialect.H2DatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumnStatistics;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTableStatistics;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class TableStatisticsLoaderTest {
+    
+    @Test
+    public void assertLoadWithScan() throws SQLException {
+        DataSource dataSource = mock(DataSource.class, RETURNS_DEEP_STUBS);
+        ResultSet resultSet = mock(ResultSet.class);
+        String expectedSQL = "SELECT COUNT(*), COUNT(DISTINCT \"order_id\"), MIN(\"order_id\"), MAX(\"order_id\"), "
+                + "COUNT(DISTINCT \"status\"), MIN(\"status\"), MAX(\"status\") FROM \"t_order_0\"";
+        when(dataSource.getConnection().createStatement().executeQuery(expectedSQL)).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong(1)).thenReturn(10L);
+        when(resultSet.getLong(2)).thenReturn(10L);
+        when(resultSet.getObject(3)).thenReturn(1L);
+        when(resultSet.getObject(4)).thenReturn(10L);
+        when(resultSet.getLong(5)).thenReturn(2L);
+        when(resultSet.getObject(6)).thenReturn("FINISHED");
+        when(resultSet.getObject(7)).thenReturn("INIT");
+        ShardingSphereTableStatistics actual = TableStatisticsLoader.load(dataSource, "t_order_0", createTable(), new H2DatabaseType());
+        assertThat(actual.getRowCount(), is(10L));
+        assertThat(actual.getColumns().size(), is(2));
+        assertThat(actual.getColumns().get("order_id").getDistinctCount(), is(10L));
+        assertThat(actual.getColumns().get("order_id").getMinValue(), is(1L));
+        assertThat(actual.getColumns().get("order_id").getMaxValue(), is(10L));
+        assertThat(actual.getColumns().get("status").getDistinctCount(), is(2L));
+        assertFalse(actual.findColumn("content").isPresent());
+    }
+    
+    @Test
+    public void assertLoadWithDialectStatistics() throws SQLException {
+        DataSource dataSource = mock(DataSource.class, RETURNS_DEEP_STUBS);
+        when(dataSource.getConnection().getCatalog()).thenReturn("foo_db");
+        PreparedStatement rowCountStatement = mock(PreparedStatement.class, RETURNS_DEEP_STUBS);
+        when(dataSource.getConnection().prepareStatement("SELECT TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ?")).thenReturn(rowCountStatement);
+        when(rowCountStatement.executeQuery().next()).thenReturn(true);
+        when(rowCountStatement.executeQuery().getLong(1)).thenReturn(10L);
+        PreparedStatement cardinalityStatement = mock(PreparedStatement.class, RETURNS_DEEP_STUBS);
+        when(dataSource.getConnection().prepareStatement("SELECT COLUMN_NAME, MAX(CARDINALITY) FROM information_schema.STATISTICS "
+                + "WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ? AND SEQ_IN_INDEX = 1 GROUP BY COLUMN_NAME")).thenReturn(cardinalityStatement);
+        when(cardinalityStatement.executeQuery().next()).thenReturn(true, false);
+        when(cardinalityStatement.executeQuery().getString(1)).thenReturn("ORDER_ID");
+        when(cardinalityStatement.executeQuery().getLong(2)).thenReturn(12L);
+        ShardingSphereTableStatistics actual = TableStatisticsLoader.load(dataSource, "t_order_0", createTable(), new MySQLDatabaseType());
+        assertThat(actual.getRowCount(), is(10L));
+        assertThat(actual.getColumns().size(), is(1));
+        assertThat(actual.getColumns().get("order_id").getDistinctCount(), is(10L));
+        assertFalse(actual.findColumn("status").isPresent());
+    }
+    
+    @Test
+    public void assertMerge() {
+        ShardingSphereTableStatistics first = new ShardingSphereTableStatistics(10L, Collections.singletonMap("status", new ShardingSphereColumnStatistics(2L, "FINISHED", "INIT")));
+        ShardingSphereTableStatistics second = new ShardingSphereTableStatistics(1L, Collections.singletonMap("status", new ShardingSphereColumnStatistics(1L, "CANCELED", "CANCELED")));
+        ShardingSphereTableStatistics actual = first.merge(second);
+        assertThat(actual.getRowCount(), is(11L));
+        assertThat(actual.getColumns().get("status").getDistinctCount(), is(3L));
+        assertThat(actual.getColumns().get("status").getMinValue(), is("CANCELED"));
+        assertThat(actual.getColumns().get("status").getMaxValue(), is("INIT"));
+    }
+    
+    @Test
+    public void assertMergeWithOverlappedValues() {
+        ShardingSphereTableStatistics first = new ShardingSphereTableStatistics(10L, Collections.singletonMap("status", new ShardingSphereColumnStatistics(2L, "FINISHED", "INIT")));
+        ShardingSphereTableStatistics second = new ShardingSphereTableStatistics(5L, Collections.singletonMap("status", new ShardingSphereColumnStatistics(3L, "CANCELED", "INIT")));
+        assertThat(first.merge(second).getColumns().get("status").getDistinctCount(), is(3L));
+    }
+    
+    @Test
+    public void assertMergeWithoutValueRange() {
+        ShardingSphereTableStatistics first = new ShardingSphereTableStatistics(10L, Collections.singletonMap("status", new ShardingSphereColumnStatistics(2L, null, null)));
+        ShardingSphereTableStatistics second = new ShardingSphereTableStatistics(5L, Collections.singletonMap("status", new ShardingSphereColumnStatistics(1L, null, null)));
+        assertThat(first.merge(second).getColumns().get("status").getDistinctCount(), is(2L));
+    }
+    
+    private ShardingSphereTable createTable() {
+        return new ShardingSphereTable("t_order", Arrays.asList(new ShardingSphereColumn("order_id", Types.BIGINT, true, false, false, true),
+                new ShardingSphereColumn("status", Types.VARCHAR, false, false, false, true), new ShardingSphereColumn("content", Types.BLOB, false, false, false, true)),
+                Collections.emptyList(), Collections.emptyList());
+    }
+}
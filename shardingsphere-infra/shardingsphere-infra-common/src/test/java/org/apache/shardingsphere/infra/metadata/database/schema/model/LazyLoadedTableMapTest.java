@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.model;
+
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.LazyLoadedTableMap;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereIndex;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTableStatistics;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class LazyLoadedTableMapTest {
+    
+    private final List<String> loadedTableNames = new LinkedList<>();
+    
+    private final AtomicInteger loadCount = new AtomicInteger();
+    
+    @Test
+    public void assertGetWithLazyLoad() {
+        LazyLoadedTableMap actual = new LazyLoadedTableMap(Arrays.asList("t_order", "T_User"), this::loadTables, 10);
+        assertThat(actual.size(), is(2));
+        assertThat(actual.keySet(), is(new HashSet<>(Arrays.asList("t_order", "t_user"))));
+        assertThat(actual.getLoadedSize(), is(0L));
+        assertThat(actual.get("t_user").getName(), is("T_User"));
+        assertThat(actual.get("t_user").getName(), is("T_User"));
+        assertThat(loadedTableNames, is(Collections.singletonList("T_User")));
+        assertThat(actual.getLoadedSize(), is(1L));
+    }
+    
+    @Test
+    public void assertGetWithEvictedTable() {
+        LazyLoadedTableMap actual = new LazyLoadedTableMap(Arrays.asList("t_order", "t_user"), this::loadTables, 1);
+        for (int i = 0; i < 10; i++) {
+            assertThat(actual.get("t_order").getName(), is("t_order"));
+            assertThat(actual.get("t_user").getName(), is("t_user"));
+        }
+        assertThat(actual.size(), is(2));
+        assertThat(actual.getLoadedSize(), is(1L));
+    }
+    
+    @Test
+    public void assertGetWithNotExistedTable() {
+        LazyLoadedTableMap actual = new LazyLoadedTableMap(Arrays.asList("t_order", "t_not_existed"), this::loadTables, 10);
+        assertFalse(actual.containsKey("t_unknown"));
+        assertNull(actual.get("t_unknown"));
+        assertTrue(actual.containsKey("t_not_existed"));
+        assertNull(actual.get("t_not_existed"));
+        assertFalse(actual.containsKey("t_not_existed"));
+        assertThat(actual.size(), is(1));
+    }
+    
+    @Test
+    public void assertIterateValues() {
+        LazyLoadedTableMap actual = new LazyLoadedTableMap(Arrays.asList("t_order", "t_not_existed", "t_user"), this::loadTables, 10);
+        List<String> actualTableNames = new LinkedList<>();
+        actual.values().forEach(each -> actualTableNames.add(each.getName()));
+        assertThat(new HashSet<>(actualTableNames), is(new HashSet<>(Arrays.asList("t_order", "t_user"))));
+        assertThat(loadCount.get(), is(1));
+        assertThat(actual.size(), is(2));
+    }
+    
+    @Test
+    public void assertGetOriginalTableNamesWithoutLoad() {
+        LazyLoadedTableMap actual = new LazyLoadedTableMap(Arrays.asList("t_order", "T_User"), this::loadTables, 10);
+        assertThat(actual.getOriginalTableNames(), is(new HashSet<>(Arrays.asList("t_order", "T_User"))));
+        assertTrue(loadedTableNames.isEmpty());
+    }
+    
+    @Test
+    public void assertGetConcurrentlyLoadOnce() throws InterruptedException {
+        LazyLoadedTableMap actual = new LazyLoadedTableMap(Collections.singletonList("t_order"), this::loadTables, 10);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            CountDownLatch latch = new CountDownLatch(8);
+            for (int i = 0; i < 8; i++) {
+                executorService.execute(() -> {
+                    actual.get("t_order");
+                    latch.countDown();
+                });
+            }
+            assertTrue(latch.await(10L, TimeUnit.SECONDS));
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertThat(loadedTableNames, is(Collections.singletonList("t_order")));
+    }
+    
+    @Test
+    public void assertPutAndRemove() {
+        LazyLoadedTableMap actual = new LazyLoadedTableMap(Collections.singletonList("t_order"), this::loadTables, 10);
+        ShardingSphereTable table = new ShardingSphereTable("t_user", Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        assertNull(actual.put("t_user", table));
+        assertThat(actual.get("t_user"), is(table));
+        assertThat(actual.remove("t_user"), is(table));
+        assertFalse(actual.containsKey("t_user"));
+        assertTrue(loadedTableNames.isEmpty());
+    }
+    
+    @Test
+    public void assertGetEvictedTableWithStatistics() {
+        LazyLoadedTableMap actual = new LazyLoadedTableMap(Arrays.asList("t_order", "t_user"), this::loadTables, 1);
+        ShardingSphereTableStatistics statistics = new ShardingSphereTableStatistics(100L, Collections.emptyMap());
+        actual.put("t_order", actual.get("t_order").withStatistics(statistics));
+        for (int i = 0; i < 10; i++) {
+            assertThat(actual.get("t_user").getName(), is("t_user"));
+            assertThat(actual.get("t_order").getStatistics(), is(Optional.of(statistics)));
+        }
+        assertThat(actual.getLoadedSize(), is(1L));
+    }
+    
+    @Test
+    public void assertFindTableNameByIndexName() {
+        LazyLoadedTableMap actual = new LazyLoadedTableMap(Arrays.asList("t_order", "t_user", "t_order_item"), this::loadTables, 1);
+        assertThat(actual.findTableNameByIndexName("t_user_idx"), is(Optional.of("t_user")));
+        int loadCountAfterFirstFind = loadCount.get();
+        assertThat(actual.findTableNameByIndexName("t_user_idx"), is(Optional.of("t_user")));
+        assertThat(actual.findTableNameByIndexName("t_order_idx"), is(Optional.of("t_order")));
+        assertThat(loadCount.get(), is(loadCountAfterFirstFind));
+        assertFalse(actual.findTableNameByIndexName("t_unknown_idx").isPresent());
+        assertFalse(actual.findTableNameByIndexName("t_unknown_idx").isPresent());
+        assertThat(loadCount.get(), is(loadCountAfterFirstFind));
+    }
+    
+    @Test
+    public void assertFindTableNameByIndexNameAfterPutAndRemove() {
+        LazyLoadedTableMap actual = new LazyLoadedTableMap(Collections.emptyList(), this::loadTables, 10);
+        actual.put("t_user", new ShardingSphereTable("t_user", Collections.emptyList(), Collections.singletonList(new ShardingSphereIndex("t_user_idx")), Collections.emptyList()));
+        assertThat(actual.findTableNameByIndexName("t_user_idx"), is(Optional.of("t_user")));
+        actual.put("t_user", new ShardingSphereTable("t_user", Collections.emptyList(), Collections.emptyList(), Collections.emptyList()));
+        assertFalse(actual.findTableNameByIndexName("t_user_idx").isPresent());
+        actual.put("t_user", new ShardingSphereTable("t_user", Collections.emptyList(), Collections.singletonList(new ShardingSphereIndex("t_user_idx")), Collections.emptyList()));
+        actual.remove("t_user");
+        assertFalse(actual.findTableNameByIndexName("t_user_idx").isPresent());
+        assertTrue(loadedTableNames.isEmpty());
+    }
+    
+    private synchronized Map<String, ShardingSphereTable> loadTables(final Collection<String> tableNames) {
+        loadCount.incrementAndGet();
+        loadedTableNames.addAll(tableNames);
+        Map<String, ShardingSphereTable> result = new LinkedHashMap<>(tableNames.size(), 1);
+        for (String each : tableNames) {
+            if (!"t_not_existed".equals(each)) {
+                result.put(each.toLowerCase(), new ShardingSphereTable(each, Collections.emptyList(), Collections.singletonList(new ShardingSphereIndex(each + "_idx")), Collections.emptyList()));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Database bound caches.
+ * 
+ * <p>Caches are weakly held by database, new rules or resources create new database, so stale caches are discarded with stale database.</p>
+ * 
+ * @param <T> type of cache
+ */
+public final class DatabaseBoundCaches<T> {
+    
+    private final Cache<ShardingSphereDatabase, T> caches = Caffeine.newBuilder().weakKeys().build();
+    
+    /**
+     * Get cache of database.
+     *
+     * @param database database
+     * @param validator validator to judge whether existed cache is still valid
+     * @param creator creator of new cache
+     * @return cache of database
+     */
+    public T get(final ShardingSphereDatabase database, final Predicate<T> validator, final Supplier<T> creator) {
+        T result = caches.get(database, key -> creator.get());
+        if (!validator.test(result)) {
+            result = creator.get();
+            caches.put(database, result);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.cache;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Table meta data snapshot.
+ * 
+ * <p>Snapshot is kept with cached plan to judge whether table meta data the plan depends on changed.
+ * Tables are compared by identity, changed table meta data or statistics are always put into schema as new table.</p>
+ */
+@EqualsAndHashCode
+public final class TableMetaDataSnapshot {
+    
+    private final Map<String, TableIdentity> tables;
+    
+    public TableMetaDataSnapshot(final Collection<String> tableNames, final ShardingSphereSchema schema) {
+        tables = new HashMap<>(tableNames.size(), 1);
+        for (String each : tableNames) {
+            tables.put(each, new TableIdentity(null == schema ? null : schema.getTable(each)));
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class TableIdentity {
+        
+        private final ShardingSphereTable table;
+        
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof TableIdentity && table == ((TableIdentity) obj).table;
+        }
+        
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(table);
+        }
+    }
+}
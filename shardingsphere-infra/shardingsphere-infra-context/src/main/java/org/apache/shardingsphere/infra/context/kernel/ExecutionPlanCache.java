@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.DeleteStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.UpdateStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.context.cache.DatabaseBoundCaches;
+import org.apache.shardingsphere.infra.context.cache.TableMetaDataSnapshot;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Execution plan cache.
+ * 
+ * <p>Execution plan holds rewritten SQL of each route unit, it is reused when same SQL is routed to same route units again, and only parameters need to be rewritten.
+ * Execution plan caches are held by database, new rules or resources create new database, so stale execution plans are discarded with stale database.
+ * Execution plan is also discarded when table meta data it depends on changed.</p>
+ */
+public final class ExecutionPlanCache {
+    
+    private static final int BATCH_MAXIMUM_SIZE = 1024;
+    
+    private static final DatabaseBoundCaches<ExecutionPlanCache> CACHES = new DatabaseBoundCaches<>();
+    
+    private final ShardingSphereRuleMetaData globalRuleMetaData;
+    
+    private final ConfigurationProperties props;
+    
+    private final Cache<ExecutionPlanKey, ExecutionPlan> executionPlans;
+    
+    private ExecutionPlanCache(final ShardingSphereRuleMetaData globalRuleMetaData, final ConfigurationProperties props, final int maximumSize) {
+        this.globalRuleMetaData = globalRuleMetaData;
+        this.props = props;
+        executionPlans = Caffeine.newBuilder().softValues().maximumSize(maximumSize).build();
+    }
+    
+    /**
+     * Get execution plan cache of database.
+     *
+     * @param database database
+     * @param globalRuleMetaData global rule meta data
+     * @param props configuration properties
+     * @param maximumSize maximum size of execution plans
+     * @return execution plan cache
+     */
+    public static ExecutionPlanCache getInstance(final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData, final ConfigurationProperties props,
+                                                 final int maximumSize) {
+        return CACHES.get(database, each -> each.globalRuleMetaData == globalRuleMetaData && each.props == props, () -> new ExecutionPlanCache(globalRuleMetaData, props, maximumSize));
+    }
+    
+    /**
+     * Create execution plan cache for one batch.
+     * 
+     * <p>Batch execution plan cache is owned by caller and discarded with the batch, so it does not depend on kernel execution plan cache size.</p>
+     *
+     * @param globalRuleMetaData global rule meta data
+     * @param props configuration properties
+     * @return execution plan cache
+     */
+    public static ExecutionPlanCache newBatchInstance(final ShardingSphereRuleMetaData globalRuleMetaData, final ConfigurationProperties props) {
+        return new ExecutionPlanCache(globalRuleMetaData, props, BATCH_MAXIMUM_SIZE);
+    }
+    
+    /**
+     * Judge whether execution plan of SQL statement is cacheable.
+     * 
+     * <p>Select, update and delete statements with route units are cacheable.
+     * Rewritten SQL of insert statement depends on which insert values are routed to each route unit, and generated keys are rewritten as literals if insert value has no parameter,
+     * so only insert statement with single parameterized insert value is cacheable, which is the common case of batch insert.</p>
+     *
+     * @param sqlStatementContext SQL statement context
+     * @param routeContext route context
+     * @return cacheable or not
+     */
+    public static boolean isCacheable(final SQLStatementContext<?> sqlStatementContext, final RouteContext routeContext) {
+        if (routeContext.getRouteUnits().isEmpty()) {
+            return false;
+        }
+        if (sqlStatementContext instanceof InsertStatementContext) {
+            return isSingleParameterizedInsertValue((InsertStatementContext) sqlStatementContext);
+        }
+        return sqlStatementContext instanceof SelectStatementContext || sqlStatementContext instanceof UpdateStatementContext || sqlStatementContext instanceof DeleteStatementContext;
+    }
+    
+    private static boolean isSingleParameterizedInsertValue(final InsertStatementContext insertStatementContext) {
+        return null == insertStatementContext.getInsertSelectContext() && 1 == insertStatementContext.getInsertValueContexts().size()
+                && !insertStatementContext.getInsertValueContexts().get(0).getParameters().isEmpty();
+    }
+    
+    /**
+     * Find rewritten SQL of route units.
+     *
+     * @param sql SQL
+     * @param sqlStatementContext SQL statement context
+     * @param routeContext route context
+     * @param database database
+     * @return rewritten SQL map, key is route unit of SQL rewrite result
+     */
+    public Optional<Map<RouteUnit, String>> find(final String sql, final SQLStatementContext<?> sqlStatementContext, final RouteContext routeContext, final ShardingSphereDatabase database) {
+        ExecutionPlan executionPlan = executionPlans.getIfPresent(new ExecutionPlanKey(sql, new ArrayList<>(routeContext.getRouteUnits())));
+        if (null == executionPlan || !executionPlan.tables.equals(getTables(sqlStatementContext, database))) {
+            return Optional.empty();
+        }
+        return Optional.of(executionPlan.rewrittenSQLs);
+    }
+    
+    /**
+     * Put rewritten SQL of route units.
+     *
+     * @param sql SQL
+     * @param sqlStatementContext SQL statement context
+     * @param routeContext route context
+     * @param database database
+     * @param rewriteResult route SQL rewrite result
+     */
+    public void put(final String sql, final SQLStatementContext<?> sqlStatementContext, final RouteContext routeContext, final ShardingSphereDatabase database,
+                    final RouteSQLRewriteResult rewriteResult) {
+        Map<RouteUnit, String> rewrittenSQLs = new LinkedHashMap<>(rewriteResult.getSqlRewriteUnits().size(), 1);
+        for (Entry<RouteUnit, SQLRewriteUnit> entry : rewriteResult.getSqlRewriteUnits().entrySet()) {
+            rewrittenSQLs.put(entry.getKey(), entry.getValue().getSql());
+        }
+        executionPlans.put(new ExecutionPlanKey(sql, new ArrayList<>(routeContext.getRouteUnits())), new ExecutionPlan(rewrittenSQLs, getTables(sqlStatementContext, database)));
+    }
+    
+    private TableMetaDataSnapshot getTables(final SQLStatementContext<?> sqlStatementContext, final ShardingSphereDatabase database) {
+        String schemaName = sqlStatementContext.getTablesContext().getSchemaName().orElseGet(() -> DatabaseTypeEngine.getDefaultSchemaName(sqlStatementContext.getDatabaseType(), database.getName()));
+        return new TableMetaDataSnapshot(sqlStatementContext.getTablesContext().getTableNames(), database.getSchema(schemaName));
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class ExecutionPlanKey {
+        
+        private final String sql;
+        
+        private final List<RouteUnit> routeUnits;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ExecutionPlan {
+        
+        private final Map<RouteUnit, String> rewrittenSQLs;
+        
+        private final TableMetaDataSnapshot tables;
+    }
+}
@@ -27,10 +27,15 @@ import org.apache.shardingsphere.infra.executor.sql.log.SQLLogger;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
 
+import java.util.Map;
+import java.util.Optional;
+
 /**
  * Kernel processor.
  */
@@ -48,8 +53,26 @@ public final class KernelProcessor {
      */
     public ExecutionContext generateExecutionContext(final QueryContext queryContext, final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData,
                                                      final ConfigurationProperties props, final ConnectionContext connectionContext) {
+        return generateExecutionContext(queryContext, database, globalRuleMetaData, props, connectionContext, null);
+    }
+    
+    /**
+     * Generate execution context with execution plan cache owned by caller.
+     * 
+     * <p>It is used by batch execution, which reuses rewritten SQL of same route units among parameter sets of one batch even if kernel execution plan cache is disabled.</p>
+     *
+     * @param queryContext query context
+     * @param database database
+     * @param globalRuleMetaData global rule meta data
+     * @param props configuration properties
+     * @param connectionContext connection context
+     * @param executionPlanCache execution plan cache, kernel execution plan cache is used if it is null
+     * @return execution context
+     */
+    public ExecutionContext generateExecutionContext(final QueryContext queryContext, final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData,
+                                                     final ConfigurationProperties props, final ConnectionContext connectionContext, final ExecutionPlanCache executionPlanCache) {
         RouteContext routeContext = route(queryContext, database, props, connectionContext);
-        SQLRewriteResult rewriteResult = rewrite(queryContext, database, globalRuleMetaData, props, routeContext, connectionContext);
+        SQLRewriteResult rewriteResult = rewrite(queryContext, database, globalRuleMetaData, props, routeContext, connectionContext, executionPlanCache);
         ExecutionContext result = createExecutionContext(queryContext, database, routeContext, rewriteResult);
         logSQL(queryContext, props, result);
         return result;
@@ -60,9 +83,30 @@ public final class KernelProcessor {
     }
     
     private SQLRewriteResult rewrite(final QueryContext queryContext, final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData,
-                                     final ConfigurationProperties props, final RouteContext routeContext, final ConnectionContext connectionContext) {
+                                     final ConfigurationProperties props, final RouteContext routeContext, final ConnectionContext connectionContext,
+                                     final ExecutionPlanCache givenExecutionPlanCache) {
         SQLRewriteEntry sqlRewriteEntry = new SQLRewriteEntry(database, globalRuleMetaData, props);
-        return sqlRewriteEntry.rewrite(queryContext.getSql(), queryContext.getParameters(), queryContext.getSqlStatementContext(), routeContext, connectionContext);
+        if (!ExecutionPlanCache.isCacheable(queryContext.getSqlStatementContext(), routeContext)) {
+            return sqlRewriteEntry.rewrite(queryContext.getSql(), queryContext.getParameters(), queryContext.getSqlStatementContext(), routeContext, connectionContext);
+        }
+        ExecutionPlanCache executionPlanCache = null == givenExecutionPlanCache ? findExecutionPlanCache(database, globalRuleMetaData, props).orElse(null) : givenExecutionPlanCache;
+        if (null == executionPlanCache) {
+            return sqlRewriteEntry.rewrite(queryContext.getSql(), queryContext.getParameters(), queryContext.getSqlStatementContext(), routeContext, connectionContext);
+        }
+        Optional<Map<RouteUnit, String>> rewrittenSQLs = executionPlanCache.find(queryContext.getSql(), queryContext.getSqlStatementContext(), routeContext, database);
+        if (rewrittenSQLs.isPresent()) {
+            return sqlRewriteEntry.rewrite(queryContext.getSql(), queryContext.getParameters(), queryContext.getSqlStatementContext(), routeContext, connectionContext, rewrittenSQLs.get());
+        }
+        SQLRewriteResult result = sqlRewriteEntry.rewrite(queryContext.getSql(), queryContext.getParameters(), queryContext.getSqlStatementContext(), routeContext, connectionContext);
+        if (result instanceof RouteSQLRewriteResult) {
+            executionPlanCache.put(queryContext.getSql(), queryContext.getSqlStatementContext(), routeContext, database, (RouteSQLRewriteResult) result);
+        }
+        return result;
+    }
+    
+    private Optional<ExecutionPlanCache> findExecutionPlanCache(final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData, final ConfigurationProperties props) {
+        int executionPlanCacheSize = props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTION_PLAN_CACHE_SIZE);
+        return executionPlanCacheSize > 0 ? Optional.of(ExecutionPlanCache.getInstance(database, globalRuleMetaData, props, executionPlanCacheSize)) : Optional.empty();
     }
     
     private ExecutionContext createExecutionContext(final QueryContext queryContext, final ShardingSphereDatabase database, final RouteContext routeContext, final SQLRewriteResult rewriteResult) {
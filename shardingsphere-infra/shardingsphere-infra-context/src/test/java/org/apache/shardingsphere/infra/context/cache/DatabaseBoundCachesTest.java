@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.cache;
+
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class DatabaseBoundCachesTest {
+    
+    @Test
+    public void assertGet() {
+        DatabaseBoundCaches<Object> caches = new DatabaseBoundCaches<>();
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class);
+        Object actual = caches.get(database, each -> true, Object::new);
+        assertThat(caches.get(database, each -> true, Object::new), sameInstance(actual));
+        assertThat(caches.get(mock(ShardingSphereDatabase.class), each -> true, Object::new), not(sameInstance(actual)));
+    }
+    
+    @Test
+    public void assertGetWithInvalidCache() {
+        DatabaseBoundCaches<Object> caches = new DatabaseBoundCaches<>();
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class);
+        Object invalid = caches.get(database, each -> true, Object::new);
+        Object actual = caches.get(database, each -> each != invalid, Object::new);
+        assertThat(actual, not(sameInstance(invalid)));
+        assertThat(caches.get(database, each -> each != invalid, Object::new), is(actual));
+    }
+}
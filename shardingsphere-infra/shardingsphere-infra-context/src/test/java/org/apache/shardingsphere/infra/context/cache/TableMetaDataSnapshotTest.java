@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.cache;
+
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTableStatistics;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+public final class TableMetaDataSnapshotTest {
+    
+    private final Collection<String> tableNames = Collections.singleton("t_order");
+    
+    @Test
+    public void assertEqualsWithSameTable() {
+        ShardingSphereSchema schema = createSchema();
+        assertThat(new TableMetaDataSnapshot(tableNames, schema), is(new TableMetaDataSnapshot(tableNames, schema)));
+    }
+    
+    @Test
+    public void assertNotEqualsWithChangedTable() {
+        ShardingSphereSchema schema = createSchema();
+        TableMetaDataSnapshot expected = new TableMetaDataSnapshot(tableNames, schema);
+        ShardingSphereTable table = schema.getTable("t_order");
+        schema.putTable("t_order", table.withStatistics(new ShardingSphereTableStatistics(100L, Collections.emptyMap())));
+        assertThat(new TableMetaDataSnapshot(tableNames, schema), not(expected));
+    }
+    
+    @Test
+    public void assertEqualsWithoutSchema() {
+        assertThat(new TableMetaDataSnapshot(tableNames, null), is(new TableMetaDataSnapshot(tableNames, null)));
+    }
+    
+    private ShardingSphereSchema createSchema() {
+        return new ShardingSphereSchema(Collections.singletonMap("t_order", new ShardingSphereTable("t_order", Collections.emptyList(), Collections.emptyList(), Collections.emptyList())),
+                Collections.emptyMap());
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel;
+
+import org.apache.shardingsphere.infra.binder.segment.insert.values.InsertValueContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ExecutionPlanCacheTest {
+    
+    private static final String SQL = "SELECT * FROM t_order WHERE order_id = ?";
+    
+    private final ShardingSphereRuleMetaData globalRuleMetaData = new ShardingSphereRuleMetaData(Collections.emptyList());
+    
+    private final ConfigurationProperties props = new ConfigurationProperties(new Properties());
+    
+    private final RouteUnit routeUnit = new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singletonList(new RouteMapper("t_order", "t_order_0")));
+    
+    private ShardingSphereDatabase database;
+    
+    private ShardingSphereSchema schema;
+    
+    private SelectStatementContext sqlStatementContext;
+    
+    @Before
+    public void setUp() {
+        database = mock(ShardingSphereDatabase.class);
+        schema = mock(ShardingSphereSchema.class);
+        when(database.getSchema("foo_schema")).thenReturn(schema);
+        when(schema.getTable("t_order")).thenReturn(mock(ShardingSphereTable.class));
+        sqlStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getTablesContext().getSchemaName()).thenReturn(Optional.of("foo_schema"));
+        when(sqlStatementContext.getTablesContext().getTableNames()).thenReturn(Collections.singleton("t_order"));
+    }
+    
+    @Test
+    public void assertIsCacheable() {
+        assertTrue(ExecutionPlanCache.isCacheable(sqlStatementContext, createRouteContext()));
+    }
+    
+    @Test
+    public void assertIsNotCacheableWithoutRouteUnits() {
+        assertFalse(ExecutionPlanCache.isCacheable(sqlStatementContext, new RouteContext()));
+    }
+    
+    @Test
+    public void assertIsCacheableForSingleParameterizedInsertValue() {
+        assertTrue(ExecutionPlanCache.isCacheable(createInsertStatementContext(Collections.singletonList(createInsertValueContext(Collections.singletonList(1)))), createRouteContext()));
+    }
+    
+    @Test
+    public void assertIsNotCacheableForInsertValueWithoutParameter() {
+        assertFalse(ExecutionPlanCache.isCacheable(createInsertStatementContext(Collections.singletonList(createInsertValueContext(Collections.emptyList()))), createRouteContext()));
+    }
+    
+    @Test
+    public void assertIsNotCacheableForMultipleInsertValues() {
+        InsertStatementContext insertStatementContext = createInsertStatementContext(
+                Arrays.asList(createInsertValueContext(Collections.singletonList(1)), createInsertValueContext(Collections.singletonList(2))));
+        assertFalse(ExecutionPlanCache.isCacheable(insertStatementContext, createRouteContext()));
+    }
+    
+    @Test
+    public void assertGetInstance() {
+        ExecutionPlanCache actual = ExecutionPlanCache.getInstance(database, globalRuleMetaData, props, 16);
+        assertThat(ExecutionPlanCache.getInstance(database, globalRuleMetaData, props, 16), sameInstance(actual));
+        assertThat(ExecutionPlanCache.getInstance(database, globalRuleMetaData, new ConfigurationProperties(new Properties()), 16), not(sameInstance(actual)));
+    }
+    
+    @Test
+    public void assertFind() {
+        ExecutionPlanCache executionPlanCache = ExecutionPlanCache.getInstance(database, globalRuleMetaData, props, 16);
+        RouteContext routeContext = createRouteContext();
+        assertFalse(executionPlanCache.find(SQL, sqlStatementContext, routeContext, database).isPresent());
+        executionPlanCache.put(SQL, sqlStatementContext, routeContext, database, createRewriteResult());
+        Optional<Map<RouteUnit, String>> actual = executionPlanCache.find(SQL, sqlStatementContext, createRouteContext(), database);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(Collections.singletonMap(routeUnit, "SELECT * FROM t_order_0 WHERE order_id = ?")));
+    }
+    
+    @Test
+    public void assertNewBatchInstance() {
+        ExecutionPlanCache actual = ExecutionPlanCache.newBatchInstance(globalRuleMetaData, props);
+        assertThat(actual, not(sameInstance(ExecutionPlanCache.newBatchInstance(globalRuleMetaData, props))));
+        actual.put(SQL, sqlStatementContext, createRouteContext(), database, createRewriteResult());
+        assertTrue(actual.find(SQL, sqlStatementContext, createRouteContext(), database).isPresent());
+        assertFalse(ExecutionPlanCache.newBatchInstance(globalRuleMetaData, props).find(SQL, sqlStatementContext, createRouteContext(), database).isPresent());
+    }
+    
+    @Test
+    public void assertFindWithDifferentRouteUnits() {
+        ExecutionPlanCache executionPlanCache = ExecutionPlanCache.getInstance(database, globalRuleMetaData, props, 16);
+        executionPlanCache.put(SQL, sqlStatementContext, createRouteContext(), database, createRewriteResult());
+        RouteContext routeContext = new RouteContext();
+        routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_1", "ds_1"), Collections.singletonList(new RouteMapper("t_order", "t_order_1"))));
+        assertFalse(executionPlanCache.find(SQL, sqlStatementContext, routeContext, database).isPresent());
+    }
+    
+    @Test
+    public void assertFindAfterTableChanged() {
+        ExecutionPlanCache executionPlanCache = ExecutionPlanCache.getInstance(database, globalRuleMetaData, props, 16);
+        executionPlanCache.put(SQL, sqlStatementContext, createRouteContext(), database, createRewriteResult());
+        when(schema.getTable("t_order")).thenReturn(mock(ShardingSphereTable.class));
+        assertFalse(executionPlanCache.find(SQL, sqlStatementContext, createRouteContext(), database).isPresent());
+    }
+    
+    private InsertStatementContext createInsertStatementContext(final List<InsertValueContext> insertValueContexts) {
+        InsertStatementContext result = mock(InsertStatementContext.class);
+        when(result.getInsertValueContexts()).thenReturn(insertValueContexts);
+        return result;
+    }
+    
+    private InsertValueContext createInsertValueContext(final List<Object> parameters) {
+        InsertValueContext result = mock(InsertValueContext.class);
+        when(result.getParameters()).thenReturn(parameters);
+        return result;
+    }
+    
+    private RouteContext createRouteContext() {
+        RouteContext result = new RouteContext();
+        result.getRouteUnits().add(routeUnit);
+        return result;
+    }
+    
+    private RouteSQLRewriteResult createRewriteResult() {
+        return new RouteSQLRewriteResult(Collections.singletonMap(routeUnit, new SQLRewriteUnit("SELECT * FROM t_order_0 WHERE order_id = ?", Collections.singletonList(1))));
+    }
+}
@@ -17,12 +17,14 @@
 
 package org.apache.shardingsphere.infra.executor.kernel;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceType;
 import org.apache.shardingsphere.infra.util.exception.sql.UnknownSQLException;
 
 import java.sql.SQLException;
@@ -34,6 +36,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 
 /**
  * Executor engine.
@@ -45,8 +50,16 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private final ExecutorServiceManager executorServiceManager;
     
+    @Getter(AccessLevel.NONE)
+    private final Semaphore concurrencyPermits;
+    
     private ExecutorEngine(final int executorSize) {
-        executorServiceManager = new ExecutorServiceManager(executorSize);
+        this(executorSize, ExecutorServiceType.PLATFORM);
+    }
+    
+    private ExecutorEngine(final int executorSize, final ExecutorServiceType executorServiceType) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, executorServiceType);
+        concurrencyPermits = ExecutorServiceType.VIRTUAL == executorServiceType && executorSize > 0 ? new Semaphore(executorSize) : null;
     }
     
     /**
@@ -59,6 +72,20 @@ public final class ExecutorEngine implements AutoCloseable {
         return new ExecutorEngine(executorSize);
     }
     
+    /**
+     * Create executor engine with executor size and executor service type.
+     * 
+     * <p>For {@link ExecutorServiceType#VIRTUAL}, executor size is the max count of execution groups running concurrently, 0 means no limitation.
+     * Execution groups beyond the limitation are executed in the caller thread instead of waiting for a permit, so nested executions can not dead lock.</p>
+     *
+     * @param executorSize executor size
+     * @param executorServiceType executor service type
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngineWithSize(final int executorSize, final ExecutorServiceType executorServiceType) {
+        return new ExecutorEngine(executorSize, executorServiceType);
+    }
+    
     /**
      * Create executor engine with CPU and resources.
      * 
@@ -145,7 +172,30 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private <I, O> Future<Collection<O>> asyncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback) {
         Map<String, Object> dataMap = ExecutorDataMap.getValue();
-        return executorServiceManager.getExecutorService().submit(() -> callback.execute(executionGroup.getInputs(), false, dataMap));
+        if (null == concurrencyPermits) {
+            return executorServiceManager.getExecutorService().submit(() -> callback.execute(executionGroup.getInputs(), false, dataMap));
+        }
+        if (!concurrencyPermits.tryAcquire()) {
+            return callerThreadExecute(executionGroup, callback, dataMap);
+        }
+        try {
+            return executorServiceManager.getExecutorService().submit(() -> {
+                try {
+                    return callback.execute(executionGroup.getInputs(), false, dataMap);
+                } finally {
+                    concurrencyPermits.release();
+                }
+            });
+        } catch (final RejectedExecutionException ex) {
+            concurrencyPermits.release();
+            throw ex;
+        }
+    }
+    
+    private <I, O> Future<Collection<O>> callerThreadExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback, final Map<String, Object> dataMap) {
+        FutureTask<Collection<O>> result = new FutureTask<>(() -> callback.execute(executionGroup.getInputs(), true, dataMap));
+        result.run();
+        return result;
     }
     
     private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<Future<Collection<O>>> restFutures) throws SQLException {
@@ -21,8 +21,10 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import org.apache.shardingsphere.infra.metadata.user.Grantee;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 
@@ -43,4 +45,6 @@ public final class ExecutionGroupContext<T> {
     private volatile String databaseName;
     
     private volatile Grantee grantee;
+    
+    private volatile Collection<ShardingSphereRule> rules = Collections.emptyList();
 }
@@ -29,6 +29,11 @@ import java.util.Map;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ExecutorDataMap {
     
+    /**
+     * Key of rules of logic database which SQL is executed in.
+     */
+    public static final String RULES_KEY = "RULES";
+    
     private static final ThreadLocal<Map<String, Object>> DATA_MAP = ThreadLocal.withInitial(LinkedHashMap::new);
     
     /**
@@ -18,7 +18,9 @@
 package org.apache.shardingsphere.infra.executor.kernel.thread;
 
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 
+import java.lang.reflect.Method;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
@@ -28,6 +30,7 @@ import java.util.concurrent.TimeUnit;
  * Executor service manager.
  */
 @Getter
+@Slf4j
 public final class ExecutorServiceManager {
     
     private static final String DEFAULT_NAME_FORMAT = "%d";
@@ -40,8 +43,16 @@ public final class ExecutorServiceManager {
         this(executorSize, DEFAULT_NAME_FORMAT);
     }
     
+    public ExecutorServiceManager(final int executorSize, final ExecutorServiceType executorServiceType) {
+        this(executorSize, DEFAULT_NAME_FORMAT, executorServiceType);
+    }
+    
     public ExecutorServiceManager(final int executorSize, final String nameFormat) {
-        executorService = getExecutorService(executorSize, nameFormat);
+        this(executorSize, nameFormat, ExecutorServiceType.PLATFORM);
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final String nameFormat, final ExecutorServiceType executorServiceType) {
+        executorService = ExecutorServiceType.VIRTUAL == executorServiceType ? getThreadPerTaskExecutorService(nameFormat) : getExecutorService(executorSize, nameFormat);
     }
     
     private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
@@ -49,6 +60,16 @@ public final class ExecutorServiceManager {
         return 0 == executorSize ? Executors.newCachedThreadPool(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
     }
     
+    private ExecutorService getThreadPerTaskExecutorService(final String nameFormat) {
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (final ReflectiveOperationException | UnsupportedOperationException ex) {
+            log.warn("Virtual threads are not available in current JVM, fall back to thread per task executor with platform threads.");
+            return Executors.newCachedThreadPool(ExecutorThreadFactoryBuilder.build(nameFormat));
+        }
+    }
+    
     /**
      * Close executor service.
      */
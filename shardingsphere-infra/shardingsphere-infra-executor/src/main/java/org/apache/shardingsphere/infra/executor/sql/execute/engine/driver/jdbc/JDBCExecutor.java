@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 
 import java.sql.SQLException;
@@ -61,11 +62,14 @@ public final class JDBCExecutor {
      */
     public <T> List<T> execute(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
                                final JDBCExecutorCallback<T> firstCallback, final JDBCExecutorCallback<T> callback) throws SQLException {
+        ExecutorDataMap.getValue().put(ExecutorDataMap.RULES_KEY, executionGroupContext.getRules());
         try {
             return executorEngine.execute(executionGroupContext, firstCallback, callback, serial);
         } catch (final SQLException ex) {
             SQLExecutorExceptionHandler.handleException(ex);
             return Collections.emptyList();
+        } finally {
+            ExecutorDataMap.getValue().remove(ExecutorDataMap.RULES_KEY);
         }
     }
 }
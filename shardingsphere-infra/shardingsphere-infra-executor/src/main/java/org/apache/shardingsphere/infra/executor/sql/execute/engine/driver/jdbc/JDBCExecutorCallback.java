@@ -89,23 +89,30 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
         SQLExecutorExceptionHandler.setExceptionThrown(isExceptionThrown);
         DataSourceMetaData dataSourceMetaData = getDataSourceMetaData(jdbcExecutionUnit.getStorageResource().getConnection().getMetaData());
         SQLExecutionHook sqlExecutionHook = new SPISQLExecutionHook();
+        boolean isHookFinished = false;
         try {
             SQLUnit sqlUnit = jdbcExecutionUnit.getExecutionUnit().getSqlUnit();
             sqlExecutionHook.start(jdbcExecutionUnit.getExecutionUnit().getDataSourceName(), sqlUnit.getSql(), sqlUnit.getParameters(), dataSourceMetaData, isTrunkThread, dataMap);
             T result = executeSQL(sqlUnit.getSql(), jdbcExecutionUnit.getStorageResource(), jdbcExecutionUnit.getConnectionMode());
+            isHookFinished = true;
             sqlExecutionHook.finishSuccess();
             finishReport(dataMap, jdbcExecutionUnit);
             return result;
         } catch (final SQLException ex) {
+            isHookFinished = true;
+            sqlExecutionHook.finishFailure(ex);
             if (!databaseType.equals(protocolType)) {
                 Optional<T> saneResult = getSaneResult(sqlStatement, ex);
                 if (saneResult.isPresent()) {
                     return isTrunkThread ? saneResult.get() : null;
                 }
             }
-            sqlExecutionHook.finishFailure(ex);
             SQLExecutorExceptionHandler.handleException(ex);
             return null;
+        } finally {
+            if (!isHookFinished) {
+                sqlExecutionHook.finishFailure(new SQLException("SQL execution is interrupted by unchecked exception."));
+            }
         }
     }
     
@@ -17,17 +17,20 @@
 
 package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.loader;
 
-import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.DoubleMemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.IntMemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.LongMemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.MemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.ObjectMemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.StringMemoryQueryResultColumn;
 
 import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Types;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.LinkedList;
-import java.util.List;
 
 /**
  * Abstract JDBC rows loader.
@@ -35,70 +38,125 @@ import java.util.List;
 public abstract class AbstractJDBCRowsLoader implements JDBCRowsLoader {
     
     @Override
-    public Collection<MemoryQueryResultDataRow> load(final int columnCount, final ResultSet resultSet) throws SQLException {
-        Collection<MemoryQueryResultDataRow> result = new LinkedList<>();
+    public MemoryQueryResultColumn[] load(final int columnCount, final ResultSet resultSet) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        ColumnLoader[] columnLoaders = new ColumnLoader[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            columnLoaders[i] = createColumnLoader(metaData, i + 1);
+        }
         while (resultSet.next()) {
-            List<Object> rowData = new ArrayList<>(columnCount);
-            for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
-                Object rowValue = loadRowValue(resultSet, columnIndex);
-                rowData.add(resultSet.wasNull() ? null : rowValue);
+            for (ColumnLoader each : columnLoaders) {
+                each.getValueLoader().load(resultSet);
             }
-            result.add(new MemoryQueryResultDataRow(rowData));
+        }
+        MemoryQueryResultColumn[] result = new MemoryQueryResultColumn[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = columnLoaders[i].getColumn();
+            result[i].complete();
         }
         return result;
     }
     
-    @SuppressWarnings("ReturnOfNull")
-    private Object loadRowValue(final ResultSet resultSet, final int columnIndex) throws SQLException {
-        ResultSetMetaData metaData = resultSet.getMetaData();
+    private ColumnLoader createColumnLoader(final ResultSetMetaData metaData, final int columnIndex) throws SQLException {
         switch (metaData.getColumnType(columnIndex)) {
             case Types.BOOLEAN:
-                return resultSet.getBoolean(columnIndex);
+                return createObjectColumnLoader(resultSet -> resultSet.getBoolean(columnIndex));
             case Types.TINYINT:
             case Types.SMALLINT:
-                return resultSet.getInt(columnIndex);
+                return createIntColumnLoader(columnIndex);
             case Types.INTEGER:
-                if (metaData.isSigned(columnIndex)) {
-                    return resultSet.getInt(columnIndex);
-                }
-                return resultSet.getLong(columnIndex);
+                return metaData.isSigned(columnIndex) ? createIntColumnLoader(columnIndex) : createLongColumnLoader(columnIndex);
             case Types.BIGINT:
                 if (metaData.isSigned(columnIndex)) {
-                    return resultSet.getLong(columnIndex);
+                    return createLongColumnLoader(columnIndex);
                 }
-                BigDecimal bigDecimal = resultSet.getBigDecimal(columnIndex);
-                return bigDecimal == null ? null : bigDecimal.toBigInteger();
+                return createObjectColumnLoader(resultSet -> {
+                    BigDecimal bigDecimal = resultSet.getBigDecimal(columnIndex);
+                    return null == bigDecimal ? null : bigDecimal.toBigInteger();
+                });
             case Types.NUMERIC:
             case Types.DECIMAL:
-                return resultSet.getBigDecimal(columnIndex);
+                return createObjectColumnLoader(resultSet -> resultSet.getBigDecimal(columnIndex));
             case Types.FLOAT:
             case Types.DOUBLE:
-                return resultSet.getDouble(columnIndex);
+                return createDoubleColumnLoader(columnIndex);
             case Types.CHAR:
             case Types.VARCHAR:
             case Types.LONGVARCHAR:
-                return resultSet.getString(columnIndex);
+                return createStringColumnLoader(columnIndex);
             case Types.DATE:
-                return getDate(resultSet, columnIndex);
+                return createObjectColumnLoader(resultSet -> getDate(resultSet, columnIndex));
             case Types.TIME:
-                return resultSet.getTime(columnIndex);
+                return createObjectColumnLoader(resultSet -> resultSet.getTime(columnIndex));
             case Types.TIMESTAMP:
-                return resultSet.getTimestamp(columnIndex);
+                return createObjectColumnLoader(resultSet -> resultSet.getTimestamp(columnIndex));
             case Types.CLOB:
-                return resultSet.getClob(columnIndex);
+                return createObjectColumnLoader(resultSet -> resultSet.getClob(columnIndex));
             case Types.BLOB:
-                return resultSet.getBlob(columnIndex);
+                return createObjectColumnLoader(resultSet -> resultSet.getBlob(columnIndex));
             case Types.BINARY:
             case Types.VARBINARY:
             case Types.LONGVARBINARY:
-                return resultSet.getBytes(columnIndex);
+                return createObjectColumnLoader(resultSet -> resultSet.getBytes(columnIndex));
             case Types.ARRAY:
-                return resultSet.getArray(columnIndex);
+                return createObjectColumnLoader(resultSet -> resultSet.getArray(columnIndex));
             default:
-                return resultSet.getObject(columnIndex);
+                return createObjectColumnLoader(resultSet -> resultSet.getObject(columnIndex));
         }
     }
     
+    private ColumnLoader createIntColumnLoader(final int columnIndex) {
+        IntMemoryQueryResultColumn column = new IntMemoryQueryResultColumn();
+        return new ColumnLoader(column, resultSet -> {
+            int value = resultSet.getInt(columnIndex);
+            if (resultSet.wasNull()) {
+                column.appendNull();
+            } else {
+                column.append(value);
+            }
+        });
+    }
+    
+    private ColumnLoader createLongColumnLoader(final int columnIndex) {
+        LongMemoryQueryResultColumn column = new LongMemoryQueryResultColumn();
+        return new ColumnLoader(column, resultSet -> {
+            long value = resultSet.getLong(columnIndex);
+            if (resultSet.wasNull()) {
+                column.appendNull();
+            } else {
+                column.append(value);
+            }
+        });
+    }
+    
+    private ColumnLoader createDoubleColumnLoader(final int columnIndex) {
+        DoubleMemoryQueryResultColumn column = new DoubleMemoryQueryResultColumn();
+        return new ColumnLoader(column, resultSet -> {
+            double value = resultSet.getDouble(columnIndex);
+            if (resultSet.wasNull()) {
+                column.appendNull();
+            } else {
+                column.append(value);
+            }
+        });
+    }
+    
+    private ColumnLoader createStringColumnLoader(final int columnIndex) {
+        StringMemoryQueryResultColumn column = new StringMemoryQueryResultColumn();
+        return new ColumnLoader(column, resultSet -> {
+            String value = resultSet.getString(columnIndex);
+            column.append(resultSet.wasNull() ? null : value);
+        });
+    }
+    
+    private ColumnLoader createObjectColumnLoader(final ColumnValueReader valueReader) {
+        ObjectMemoryQueryResultColumn column = new ObjectMemoryQueryResultColumn();
+        return new ColumnLoader(column, resultSet -> {
+            Object value = valueReader.read(resultSet);
+            column.append(resultSet.wasNull() ? null : value);
+        });
+    }
+    
     /**
      * Get date from result set.
      * 
@@ -108,4 +166,23 @@ public abstract class AbstractJDBCRowsLoader implements JDBCRowsLoader {
      * @throws SQLException sql exception
      */
     protected abstract Object getDate(ResultSet resultSet, int columnIndex) throws SQLException;
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class ColumnLoader {
+        
+        private final MemoryQueryResultColumn column;
+        
+        private final ColumnValueLoader valueLoader;
+    }
+    
+    private interface ColumnValueLoader {
+        
+        void load(ResultSet resultSet) throws SQLException;
+    }
+    
+    private interface ColumnValueReader {
+        
+        Object read(ResultSet resultSet) throws SQLException;
+    }
 }
@@ -17,14 +17,13 @@
 
 package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.loader;
 
-import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.MemoryQueryResultColumn;
 import org.apache.shardingsphere.infra.util.spi.annotation.SingletonSPI;
 import org.apache.shardingsphere.infra.util.spi.type.required.RequiredSPI;
 import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPI;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.Collection;
 
 /**
  * JDBC rows loader.
@@ -33,12 +32,12 @@ import java.util.Collection;
 public interface JDBCRowsLoader extends TypedSPI, RequiredSPI {
     
     /**
-     * Load rows.
+     * Load rows into columns.
      *
      * @param columnCount column count
      * @param resultSet result set of JDBC
-     * @return Query result data rows
+     * @return query result columns
      * @throws SQLException SQL exception
      */
-    Collection<MemoryQueryResultDataRow> load(int columnCount, ResultSet resultSet) throws SQLException;
+    MemoryQueryResultColumn[] load(int columnCount, ResultSet resultSet) throws SQLException;
 }
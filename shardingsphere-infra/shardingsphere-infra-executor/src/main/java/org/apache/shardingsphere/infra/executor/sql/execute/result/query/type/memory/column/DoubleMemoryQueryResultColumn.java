@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import java.util.Arrays;
+
+/**
+ * Double memory query result column.
+ */
+public final class DoubleMemoryQueryResultColumn extends MemoryQueryResultColumn {
+    
+    private double[] values = new double[DEFAULT_CAPACITY];
+    
+    /**
+     * Append value.
+     *
+     * @param value value
+     */
+    public void append(final double value) {
+        int rowIndex = nextRowIndex();
+        values[rowIndex] = value;
+    }
+    
+    @Override
+    protected void grow(final int newCapacity) {
+        values = Arrays.copyOf(values, newCapacity);
+    }
+    
+    @Override
+    protected Object getNonNullValue(final int rowIndex) {
+        return values[rowIndex];
+    }
+    
+    @Override
+    public long getLong(final int rowIndex) {
+        return (long) values[rowIndex];
+    }
+    
+    @Override
+    public double getDouble(final int rowIndex) {
+        return values[rowIndex];
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import lombok.Getter;
+
+import java.util.BitSet;
+
+/**
+ * Memory query result column.
+ *
+ * <p>Values of one column are kept in a typed array indexed by row, nulls are kept in a bitmap.</p>
+ */
+public abstract class MemoryQueryResultColumn {
+    
+    protected static final int DEFAULT_CAPACITY = 16;
+    
+    private final BitSet nullBitmap = new BitSet();
+    
+    private int capacity = DEFAULT_CAPACITY;
+    
+    @Getter
+    private int size;
+    
+    /**
+     * Append null value.
+     */
+    public final void appendNull() {
+        nullBitmap.set(nextRowIndex());
+    }
+    
+    protected final int nextRowIndex() {
+        if (size == capacity) {
+            capacity += capacity >> 1;
+            grow(capacity);
+        }
+        return size++;
+    }
+    
+    protected abstract void grow(int newCapacity);
+    
+    /**
+     * Complete appending values, resources only required by appending are released and no value can be appended after completed.
+     */
+    public void complete() {
+    }
+    
+    /**
+     * Judge whether value is null.
+     *
+     * @param rowIndex row index, start from 0
+     * @return value is null or not
+     */
+    public final boolean isNull(final int rowIndex) {
+        return nullBitmap.get(rowIndex);
+    }
+    
+    /**
+     * Get value.
+     *
+     * @param rowIndex row index, start from 0
+     * @return value
+     */
+    public final Object getValue(final int rowIndex) {
+        return isNull(rowIndex) ? null : getNonNullValue(rowIndex);
+    }
+    
+    protected abstract Object getNonNullValue(int rowIndex);
+    
+    /**
+     * Get value as long.
+     *
+     * @param rowIndex row index, start from 0
+     * @return value as long
+     */
+    public long getLong(final int rowIndex) {
+        return ((Number) getValue(rowIndex)).longValue();
+    }
+    
+    /**
+     * Get value as double.
+     *
+     * @param rowIndex row index, start from 0
+     * @return value as double
+     */
+    public double getDouble(final int rowIndex) {
+        return ((Number) getValue(rowIndex)).doubleValue();
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * String memory query result column.
+ *
+ * <p>Values are dictionary encoded, and stored as plain values once the dictionary is full.</p>
+ */
+public final class StringMemoryQueryResultColumn extends MemoryQueryResultColumn {
+    
+    private static final int MAX_DICTIONARY_SIZE = 1 << 16;
+    
+    private Map<String, Integer> codes = new HashMap<>();
+    
+    private final List<String> dictionary = new ArrayList<>();
+    
+    private int[] encodedValues = new int[DEFAULT_CAPACITY];
+    
+    private String[] plainValues;
+    
+    /**
+     * Append value.
+     *
+     * @param value value
+     */
+    public void append(final String value) {
+        if (null == value) {
+            appendNull();
+            return;
+        }
+        int rowIndex = nextRowIndex();
+        if (null == plainValues) {
+            Integer code = codes.get(value);
+            if (null != code) {
+                encodedValues[rowIndex] = code;
+                return;
+            }
+            if (dictionary.size() < MAX_DICTIONARY_SIZE) {
+                encodedValues[rowIndex] = dictionary.size();
+                codes.put(value, dictionary.size());
+                dictionary.add(value);
+                return;
+            }
+            decodeToPlainValues(rowIndex);
+        }
+        plainValues[rowIndex] = value;
+    }
+    
+    private void decodeToPlainValues(final int decodedRowCount) {
+        plainValues = new String[encodedValues.length];
+        for (int i = 0; i < decodedRowCount; i++) {
+            if (!isNull(i)) {
+                plainValues[i] = dictionary.get(encodedValues[i]);
+            }
+        }
+        encodedValues = null;
+        codes = null;
+        dictionary.clear();
+    }
+    
+    @Override
+    public void complete() {
+        codes = null;
+    }
+    
+    @Override
+    protected void grow(final int newCapacity) {
+        if (null == plainValues) {
+            encodedValues = Arrays.copyOf(encodedValues, newCapacity);
+        } else {
+            plainValues = Arrays.copyOf(plainValues, newCapacity);
+        }
+    }
+    
+    @Override
+    protected Object getNonNullValue(final int rowIndex) {
+        return null == plainValues ? dictionary.get(encodedValues[rowIndex]) : plainValues[rowIndex];
+    }
+}
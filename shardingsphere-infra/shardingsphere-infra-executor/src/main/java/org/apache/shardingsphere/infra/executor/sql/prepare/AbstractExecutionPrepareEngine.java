@@ -46,8 +46,11 @@ public abstract class AbstractExecutionPrepareEngine<T> implements ExecutionPrep
     @SuppressWarnings("rawtypes")
     private final Map<ShardingSphereRule, ExecutionPrepareDecorator> decorators;
     
+    private final Collection<ShardingSphereRule> rules;
+    
     protected AbstractExecutionPrepareEngine(final int maxConnectionsSizePerQuery, final Collection<ShardingSphereRule> rules) {
         this.maxConnectionsSizePerQuery = maxConnectionsSizePerQuery;
+        this.rules = rules;
         decorators = ExecutionPrepareDecoratorFactory.getInstance(rules);
     }
     
@@ -88,6 +91,8 @@ public abstract class AbstractExecutionPrepareEngine<T> implements ExecutionPrep
         for (Entry<ShardingSphereRule, ExecutionPrepareDecorator> each : decorators.entrySet()) {
             result = each.getValue().decorate(routeContext, each.getKey(), result);
         }
-        return new ExecutionGroupContext(result);
+        ExecutionGroupContext<T> executionGroupContext = new ExecutionGroupContext(result);
+        executionGroupContext.setRules(rules);
+        return executionGroupContext;
     }
 }
@@ -20,15 +20,19 @@ package org.apache.shardingsphere.infra.executor.kernel;
 import org.apache.shardingsphere.infra.executor.kernel.fixture.ExecutorCallbackFixture;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceType;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -103,4 +107,46 @@ public final class ExecutorEngineTest {
         latch.countDown();
         assertTrue(actual.isEmpty());
     }
+    
+    @Test
+    public void assertParallelExecuteWithVirtualExecutorServiceType() throws SQLException, InterruptedException {
+        try (ExecutorEngine virtualExecutorEngine = ExecutorEngine.createExecutorEngineWithSize(0, ExecutorServiceType.VIRTUAL)) {
+            List<String> actual = virtualExecutorEngine.execute(executionGroupContext, firstCallback, callback, false);
+            latch.await();
+            assertThat(actual.size(), is(4));
+        }
+    }
+    
+    @Test
+    public void assertParallelExecuteWithVirtualExecutorServiceTypeAndConcurrencyLimit() throws SQLException {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        ExecutorCallback<Object, String> concurrencyCallback = (inputs, isTrunkThread, dataMap) -> {
+            if (!isTrunkThread) {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(10L);
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+            }
+            return Collections.singletonList("succeed");
+        };
+        try (ExecutorEngine virtualExecutorEngine = ExecutorEngine.createExecutorEngineWithSize(2, ExecutorServiceType.VIRTUAL)) {
+            List<String> actual = virtualExecutorEngine.execute(createMockedExecutionGroups(9, 1), concurrencyCallback);
+            assertThat(actual.size(), is(9));
+            assertTrue(maxRunning.get() <= 2);
+        }
+    }
+    
+    @Test(timeout = 10000L)
+    public void assertNestedParallelExecuteWithVirtualExecutorServiceTypeAndConcurrencyLimit() throws SQLException {
+        try (ExecutorEngine virtualExecutorEngine = ExecutorEngine.createExecutorEngineWithSize(1, ExecutorServiceType.VIRTUAL)) {
+            ExecutorCallback<Object, String> innerCallback = (inputs, isTrunkThread, dataMap) -> Collections.singletonList("succeed");
+            ExecutorCallback<Object, String> nestedCallback = (inputs, isTrunkThread, dataMap) -> virtualExecutorEngine.execute(createMockedExecutionGroups(3, 1), innerCallback);
+            List<String> actual = virtualExecutorEngine.execute(createMockedExecutionGroups(3, 1), nestedCallback);
+            assertThat(actual.size(), is(9));
+        }
+    }
 }
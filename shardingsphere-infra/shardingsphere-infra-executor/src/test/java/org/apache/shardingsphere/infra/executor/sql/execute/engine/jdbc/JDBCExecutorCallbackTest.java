@@ -26,6 +26,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMod
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
+import org.apache.shardingsphere.infra.executor.sql.hook.fixture.SQLExecutionHookFixture;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
 import org.junit.Before;
@@ -47,6 +48,7 @@ import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -136,4 +138,26 @@ public final class JDBCExecutorCallbackTest {
         };
         callback.execute(units, true, Collections.emptyMap());
     }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertExecuteRuntimeExceptionOccurredAndFinishHook() throws SQLException {
+        JDBCExecutorCallback<Object> callback = new JDBCExecutorCallback<Object>(DatabaseTypeFactory.getInstance("MySQL"), mock(SelectStatement.class), true, new EventBusContext()) {
+            
+            @Override
+            protected Object executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode) {
+                throw new IllegalStateException("failed");
+            }
+            
+            @Override
+            protected Optional<Object> getSaneResult(final SQLStatement sqlStatement, final SQLException ex) {
+                return Optional.empty();
+            }
+        };
+        SQLExecutionHookFixture.clearActions();
+        try {
+            callback.execute(units, true, Collections.emptyMap());
+        } finally {
+            assertTrue(SQLExecutionHookFixture.containsAction("finishFailure"));
+        }
+    }
 }
@@ -20,16 +20,20 @@ package org.apache.shardingsphere.infra.executor.sql.execute.engine.jdbc;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.junit.Test;
 
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
@@ -52,6 +56,18 @@ public final class JDBCExecutorTest {
         assertThat(actual2, is(Collections.singletonList("test")));
     }
     
+    @Test
+    public void assertExecuteWithRulesInExecutorDataMap() throws SQLException {
+        ExecutorEngine executorEngine = mock(ExecutorEngine.class);
+        ExecutionGroupContext<JDBCExecutionUnit> context = new ExecutionGroupContext<>(Collections.emptyList());
+        Collection<ShardingSphereRule> rules = Collections.singleton(mock(ShardingSphereRule.class));
+        context.setRules(rules);
+        when(executorEngine.execute(any(), any(), any(), anyBoolean())).thenAnswer(invocation -> Collections.singletonList(ExecutorDataMap.getValue().get(ExecutorDataMap.RULES_KEY)));
+        List<?> actual = new JDBCExecutor(executorEngine, false).execute(context, null);
+        assertThat(actual, is(Collections.singletonList(rules)));
+        assertFalse(ExecutorDataMap.getValue().containsKey(ExecutorDataMap.RULES_KEY));
+    }
+    
     @Test
     public void assertExecuteSQLException() {
         try {
@@ -321,6 +321,30 @@ public final class JDBCMemoryQueryResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    public void assertGetPrimitiveValues() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true, true, false);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSetMetaData.getColumnCount()).thenReturn(2);
+        when(resultSetMetaData.getColumnType(1)).thenReturn(Types.BIGINT);
+        when(resultSetMetaData.isSigned(1)).thenReturn(true);
+        when(resultSetMetaData.getColumnType(2)).thenReturn(Types.DOUBLE);
+        when(resultSet.getMetaData()).thenReturn(resultSetMetaData);
+        when(resultSet.getLong(1)).thenReturn(1L, 0L);
+        when(resultSet.getDouble(2)).thenReturn(1.5D, 2.5D);
+        when(resultSet.wasNull()).thenReturn(false, false, true, false);
+        JDBCMemoryQueryResult actual = new JDBCMemoryQueryResult(resultSet, databaseType);
+        assertTrue(actual.next());
+        assertThat(actual.getLong(1), is(1L));
+        assertThat(actual.getDouble(2), is(1.5D));
+        assertTrue(actual.next());
+        assertTrue(actual.isNull(1));
+        assertNull(actual.getValue(1, long.class));
+        assertThat(actual.getDouble(2), is(2.5D));
+        assertFalse(actual.next());
+    }
+    
     private ResultSet getMockedResultSet(final int columnTypes) throws SQLException {
         ResultSet resultSet = mock(ResultSet.class);
         when(resultSet.next()).thenReturn(true, false);
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class LongMemoryQueryResultColumnTest {
+    
+    @Test
+    public void assertAppendBeyondDefaultCapacity() {
+        LongMemoryQueryResultColumn column = new LongMemoryQueryResultColumn();
+        for (int i = 0; i < 1000; i++) {
+            if (0 == i % 10) {
+                column.appendNull();
+            } else {
+                column.append(i);
+            }
+        }
+        assertThat(column.getSize(), is(1000));
+        assertTrue(column.isNull(990));
+        assertNull(column.getValue(990));
+        assertFalse(column.isNull(999));
+        assertThat(column.getLong(999), is(999L));
+        assertThat(column.getDouble(999), is(999D));
+        assertThat(column.getValue(999), is(999L));
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class StringMemoryQueryResultColumnTest {
+    
+    @Test
+    public void assertGetDictionaryEncodedValue() {
+        StringMemoryQueryResultColumn column = new StringMemoryQueryResultColumn();
+        for (int i = 0; i < 100; i++) {
+            column.append(0 == i % 2 ? "foo" : "bar");
+        }
+        column.append(null);
+        assertThat(column.getSize(), is(101));
+        assertThat(column.getValue(0), is("foo"));
+        assertThat(column.getValue(99), is("bar"));
+        assertTrue(column.isNull(100));
+        assertNull(column.getValue(100));
+    }
+    
+    @Test
+    public void assertGetValueAfterDictionaryOverflow() {
+        StringMemoryQueryResultColumn column = new StringMemoryQueryResultColumn();
+        int rowCount = (1 << 16) + 10;
+        for (int i = 0; i < rowCount; i++) {
+            if (7 == i) {
+                column.append(null);
+            } else {
+                column.append("value_" + i);
+            }
+        }
+        assertThat(column.getSize(), is(rowCount));
+        assertThat(column.getValue(0), is("value_0"));
+        assertNull(column.getValue(7));
+        assertThat(column.getValue(rowCount - 1), is("value_" + (rowCount - 1)));
+    }
+    
+    @Test
+    public void assertGetValueAfterComplete() throws ReflectiveOperationException {
+        StringMemoryQueryResultColumn column = new StringMemoryQueryResultColumn();
+        column.append("foo");
+        column.append("bar");
+        column.append("foo");
+        column.complete();
+        Field field = StringMemoryQueryResultColumn.class.getDeclaredField("codes");
+        field.setAccessible(true);
+        assertNull(field.get(column));
+        assertThat(column.getValue(0), is("foo"));
+        assertThat(column.getValue(1), is("bar"));
+        assertThat(column.getValue(2), is("foo"));
+    }
+}
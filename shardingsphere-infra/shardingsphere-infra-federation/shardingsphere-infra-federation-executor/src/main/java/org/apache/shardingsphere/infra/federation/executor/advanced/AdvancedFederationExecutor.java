@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.federation.executor.advanced;
 
 import com.google.common.base.Preconditions;
+import org.apache.calcite.DataContext;
 import org.apache.calcite.adapter.enumerable.EnumerableInterpretable;
 import org.apache.calcite.adapter.enumerable.EnumerableRel;
 import org.apache.calcite.config.CalciteConnectionConfig;
@@ -34,6 +35,7 @@ import org.apache.calcite.sql2rel.SqlToRelConverter;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
@@ -50,10 +52,10 @@ import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerCon
 import org.apache.shardingsphere.infra.federation.optimizer.context.planner.OptimizerPlannerContextFactory;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.translatable.TranslatableSchema;
 import org.apache.shardingsphere.infra.federation.optimizer.planner.QueryOptimizePlannerFactory;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
-import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 import java.sql.Connection;
 import java.sql.ResultSet;
@@ -62,6 +64,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Advanced federation executor.
@@ -101,10 +104,11 @@ public final class AdvancedFederationExecutor implements FederationExecutor {
                                   final JDBCExecutorCallback<? extends ExecuteResult> callback, final FederationContext federationContext) throws SQLException {
         SQLStatementContext<?> sqlStatementContext = federationContext.getQueryContext().getSqlStatementContext();
         Preconditions.checkArgument(sqlStatementContext instanceof SelectStatementContext, "SQL statement context must be select statement context.");
-        ShardingSphereSchema schema = federationContext.getDatabases().get(databaseName.toLowerCase()).getSchema(schemaName);
+        ShardingSphereDatabase database = federationContext.getDatabases().get(databaseName.toLowerCase());
+        ShardingSphereSchema schema = database.getSchema(schemaName);
         TranslatableSchema translatableSchema = createTranslatableSchema(prepareEngine, schema, callback, federationContext);
         Map<String, Object> parameters = createParameters(federationContext.getQueryContext().getParameters());
-        Enumerator<Object[]> enumerator = execute(sqlStatementContext.getSqlStatement(), translatableSchema, parameters).enumerator();
+        Enumerator<Object[]> enumerator = execute(federationContext.getQueryContext().getSql(), sqlStatementContext, database, schema, translatableSchema, parameters).enumerator();
         resultSet = new FederationResultSet(enumerator, schema, translatableSchema, sqlStatementContext);
         return resultSet;
     }
@@ -125,17 +129,33 @@ public final class AdvancedFederationExecutor implements FederationExecutor {
         return new TranslatableSchema(schemaName, schema, executor);
     }
     
-    @SuppressWarnings("unchecked")
-    private Enumerable<Object[]> execute(final SQLStatement sqlStatement, final TranslatableSchema translatableSchema, final Map<String, Object> parameters) {
+    private Enumerable<Object[]> execute(final String sql, final SQLStatementContext<?> sqlStatementContext, final ShardingSphereDatabase database, final ShardingSphereSchema schema,
+                                         final TranslatableSchema translatableSchema, final Map<String, Object> parameters) {
         CalciteConnectionConfig connectionConfig = new CalciteConnectionConfigImpl(OptimizerPlannerContextFactory.createConnectionProperties());
         RelDataTypeFactory relDataTypeFactory = new JavaTypeFactoryImpl();
         CalciteCatalogReader catalogReader = OptimizerPlannerContextFactory.createCatalogReader(schemaName, translatableSchema, relDataTypeFactory, connectionConfig);
         SqlValidator validator = OptimizerPlannerContextFactory.createValidator(catalogReader, relDataTypeFactory, connectionConfig);
         SqlToRelConverter converter = OptimizerPlannerContextFactory.createConverter(catalogReader, validator, relDataTypeFactory);
-        RelNode bestPlan =
-                new ShardingSphereOptimizer(converter, QueryOptimizePlannerFactory.createHepPlannerWithoutCalc(), QueryOptimizePlannerFactory.createHepPlannerWithCalc()).optimize(sqlStatement);
-        Bindable<Object[]> executablePlan = EnumerableInterpretable.toBindable(Collections.emptyMap(), null, (EnumerableRel) bestPlan, EnumerableRel.Prefer.ARRAY);
-        return executablePlan.bind(new CommonExecuteDataContext(validator, converter, parameters));
+        DataContext dataContext = new CommonExecuteDataContext(validator, converter, parameters);
+        int federationPlanCacheSize = props.<Integer>getValue(ConfigurationPropertyKey.SQL_FEDERATION_PLAN_CACHE_SIZE);
+        if (federationPlanCacheSize <= 0) {
+            return createExecutablePlan(sqlStatementContext, converter).bind(dataContext);
+        }
+        FederationPlanCache federationPlanCache = FederationPlanCache.getInstance(database, props, federationPlanCacheSize);
+        Optional<Bindable<Object[]>> cachedExecutablePlan = federationPlanCache.find(schemaName, sql, sqlStatementContext, schema);
+        if (cachedExecutablePlan.isPresent()) {
+            return cachedExecutablePlan.get().bind(dataContext);
+        }
+        Bindable<Object[]> result = createExecutablePlan(sqlStatementContext, converter);
+        federationPlanCache.put(schemaName, sql, sqlStatementContext, schema, result);
+        return result.bind(dataContext);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Bindable<Object[]> createExecutablePlan(final SQLStatementContext<?> sqlStatementContext, final SqlToRelConverter converter) {
+        RelNode bestPlan = new ShardingSphereOptimizer(converter, QueryOptimizePlannerFactory.createHepPlannerWithoutCalc(), QueryOptimizePlannerFactory.createHepPlannerWithCalc())
+                .optimize(sqlStatementContext.getSqlStatement());
+        return EnumerableInterpretable.toBindable(Collections.emptyMap(), null, (EnumerableRel) bestPlan, EnumerableRel.Prefer.ARRAY);
     }
     
     @Override
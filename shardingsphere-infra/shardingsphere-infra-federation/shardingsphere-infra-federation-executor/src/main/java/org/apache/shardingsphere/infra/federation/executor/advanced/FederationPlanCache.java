@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.advanced;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.runtime.Bindable;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.context.cache.DatabaseBoundCaches;
+import org.apache.shardingsphere.infra.context.cache.TableMetaDataSnapshot;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+
+import java.util.Optional;
+
+/**
+ * Federation plan cache.
+ * 
+ * <p>Federation plan is the executable plan compiled from optimized relational node, table scans of it look up tables from root schema of data context and parameters are bound
+ * by {@code "?" + index}, so it is reused for same SQL with new translatable schema and parameters.
+ * Federation plan caches are held by database, new rules or resources create new database, so stale federation plans are discarded with stale database.
+ * Federation plan is also discarded when table meta data it depends on changed.</p>
+ */
+public final class FederationPlanCache {
+    
+    private static final DatabaseBoundCaches<FederationPlanCache> CACHES = new DatabaseBoundCaches<>();
+    
+    private final ConfigurationProperties props;
+    
+    private final Cache<FederationPlanKey, FederationPlan> federationPlans;
+    
+    private FederationPlanCache(final ConfigurationProperties props, final int maximumSize) {
+        this.props = props;
+        federationPlans = Caffeine.newBuilder().softValues().maximumSize(maximumSize).build();
+    }
+    
+    /**
+     * Get federation plan cache of database.
+     *
+     * @param database database
+     * @param props configuration properties
+     * @param maximumSize maximum size of federation plans
+     * @return federation plan cache
+     */
+    public static FederationPlanCache getInstance(final ShardingSphereDatabase database, final ConfigurationProperties props, final int maximumSize) {
+        return CACHES.get(database, each -> each.props == props, () -> new FederationPlanCache(props, maximumSize));
+    }
+    
+    /**
+     * Find executable plan.
+     *
+     * @param schemaName schema name
+     * @param sql SQL
+     * @param sqlStatementContext SQL statement context
+     * @param schema schema
+     * @return executable plan
+     */
+    public Optional<Bindable<Object[]>> find(final String schemaName, final String sql, final SQLStatementContext<?> sqlStatementContext, final ShardingSphereSchema schema) {
+        FederationPlan federationPlan = federationPlans.getIfPresent(new FederationPlanKey(schemaName, sql));
+        if (null == federationPlan || !federationPlan.tables.equals(getTables(sqlStatementContext, schema))) {
+            return Optional.empty();
+        }
+        return Optional.of(federationPlan.executablePlan);
+    }
+    
+    /**
+     * Put executable plan.
+     *
+     * @param schemaName schema name
+     * @param sql SQL
+     * @param sqlStatementContext SQL statement context
+     * @param schema schema
+     * @param executablePlan executable plan
+     */
+    public void put(final String schemaName, final String sql, final SQLStatementContext<?> sqlStatementContext, final ShardingSphereSchema schema,
+                    final Bindable<Object[]> executablePlan) {
+        federationPlans.put(new FederationPlanKey(schemaName, sql), new FederationPlan(executablePlan, getTables(sqlStatementContext, schema)));
+    }
+    
+    private TableMetaDataSnapshot getTables(final SQLStatementContext<?> sqlStatementContext, final ShardingSphereSchema schema) {
+        return new TableMetaDataSnapshot(sqlStatementContext.getTablesContext().getTableNames(), schema);
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class FederationPlanKey {
+        
+        private final String schemaName;
+        
+        private final String sql;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class FederationPlan {
+        
+        private final Bindable<Object[]> executablePlan;
+        
+        private final TableMetaDataSnapshot tables;
+    }
+}
@@ -91,6 +91,7 @@ import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -118,10 +119,14 @@ public final class TranslatableTableScanExecutor implements TableScanExecutor {
     
     @Override
     public Enumerable<Object[]> execute(final ShardingSphereTable table, final ScanNodeExecutorContext scanContext) {
+        TranslatableScanNodeExecutorContext translatableScanContext = (TranslatableScanNodeExecutorContext) scanContext;
+        if (-1 != translatableScanContext.getBindJoinKey() && getBindJoinValues(translatableScanContext).isEmpty()) {
+            return createEmptyEnumerable();
+        }
         String databaseName = executorContext.getDatabaseName();
         String schemaName = executorContext.getSchemaName();
         DatabaseType databaseType = DatabaseTypeEngine.getTrunkDatabaseType(optimizerContext.getParserContexts().get(databaseName).getDatabaseType().getType());
-        SqlString sqlString = createSQLString(table, (TranslatableScanNodeExecutorContext) scanContext, SQLDialectFactory.getSQLDialect(databaseType));
+        SqlString sqlString = createSQLString(table, translatableScanContext, SQLDialectFactory.getSQLDialect(databaseType));
         // TODO replace sql parse with sql convert
         FederationContext federationContext = executorContext.getFederationContext();
         QueryContext queryContext = createQueryContext(federationContext.getDatabases(), sqlString, databaseType);
@@ -209,6 +214,9 @@ public final class TranslatableTableScanExecutor implements TableScanExecutor {
         if (null != scanContext.getFilterValues()) {
             builder.filter(createFilters(scanContext.getFilterValues(), builder, table.getColumnNames()));
         }
+        if (-1 != scanContext.getBindJoinKey()) {
+            builder.filter(createBindJoinFilter(scanContext, builder, table.getColumnNames()));
+        }
         if (null != scanContext.getProjects()) {
             builder.project(createProjections(scanContext.getProjects(), builder, table.getColumnNames()));
         }
@@ -231,6 +239,25 @@ public final class TranslatableTableScanExecutor implements TableScanExecutor {
         return result;
     }
     
+    private Collection<Object> getBindJoinValues(final TranslatableScanNodeExecutorContext scanContext) {
+        Collection<Object> result = new LinkedHashSet<>();
+        for (Object each : scanContext.getBindJoinValues()) {
+            if (null != each) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private RexNode createBindJoinFilter(final TranslatableScanNodeExecutorContext scanContext, final RelBuilder builder, final List<String> columnNames) {
+        RexNode bindJoinKey = builder.field(columnNames.get(scanContext.getBindJoinKey()));
+        Collection<RexNode> result = new LinkedList<>();
+        for (Object each : getBindJoinValues(scanContext)) {
+            result.add(builder.equals(bindJoinKey, builder.literal(each)));
+        }
+        return builder.or(result);
+    }
+    
     private Collection<RexNode> createProjections(final int[] projects, final RelBuilder relBuilder, final List<String> columnNames) {
         Collection<RexNode> result = new LinkedList<>();
         for (int each : projects) {
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.advanced;
+
+import org.apache.calcite.runtime.Bindable;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTableStatistics;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class FederationPlanCacheTest {
+    
+    private static final String SQL = "SELECT * FROM t_order o JOIN t_order_item i ON o.order_id = i.order_id WHERE o.user_id = ?";
+    
+    private final ConfigurationProperties props = new ConfigurationProperties(new Properties());
+    
+    private ShardingSphereDatabase database;
+    
+    private ShardingSphereSchema schema;
+    
+    private SelectStatementContext sqlStatementContext;
+    
+    @Before
+    public void setUp() {
+        database = mock(ShardingSphereDatabase.class);
+        schema = mock(ShardingSphereSchema.class);
+        when(schema.getTable("t_order")).thenReturn(mock(ShardingSphereTable.class));
+        when(schema.getTable("t_order_item")).thenReturn(mock(ShardingSphereTable.class));
+        sqlStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getTablesContext().getTableNames()).thenReturn(new LinkedHashSet<>(Arrays.asList("t_order", "t_order_item")));
+    }
+    
+    @Test
+    public void assertGetInstance() {
+        FederationPlanCache actual = FederationPlanCache.getInstance(database, props, 16);
+        assertThat(FederationPlanCache.getInstance(database, props, 16), sameInstance(actual));
+        assertThat(FederationPlanCache.getInstance(database, new ConfigurationProperties(new Properties()), 16), not(sameInstance(actual)));
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertFind() {
+        FederationPlanCache federationPlanCache = FederationPlanCache.getInstance(database, props, 16);
+        assertFalse(federationPlanCache.find("foo_schema", SQL, sqlStatementContext, schema).isPresent());
+        Bindable<Object[]> executablePlan = mock(Bindable.class);
+        federationPlanCache.put("foo_schema", SQL, sqlStatementContext, schema, executablePlan);
+        Optional<Bindable<Object[]>> actual = federationPlanCache.find("foo_schema", SQL, sqlStatementContext, schema);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), sameInstance(executablePlan));
+        assertFalse(federationPlanCache.find("bar_schema", SQL, sqlStatementContext, schema).isPresent());
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertFindAfterTableChanged() {
+        FederationPlanCache federationPlanCache = FederationPlanCache.getInstance(database, props, 16);
+        federationPlanCache.put("foo_schema", SQL, sqlStatementContext, schema, mock(Bindable.class));
+        when(schema.getTable("t_order_item")).thenReturn(mock(ShardingSphereTable.class));
+        assertFalse(federationPlanCache.find("foo_schema", SQL, sqlStatementContext, schema).isPresent());
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertFindAfterTableStatisticsChanged() {
+        ShardingSphereTable table = new ShardingSphereTable("t_order_item", Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        when(schema.getTable("t_order_item")).thenReturn(table);
+        FederationPlanCache federationPlanCache = FederationPlanCache.getInstance(database, props, 16);
+        federationPlanCache.put("foo_schema", SQL, sqlStatementContext, schema, mock(Bindable.class));
+        when(schema.getTable("t_order_item")).thenReturn(table.withStatistics(new ShardingSphereTableStatistics(100L, Collections.emptyMap())));
+        assertFalse(federationPlanCache.find("foo_schema", SQL, sqlStatementContext, schema).isPresent());
+    }
+}
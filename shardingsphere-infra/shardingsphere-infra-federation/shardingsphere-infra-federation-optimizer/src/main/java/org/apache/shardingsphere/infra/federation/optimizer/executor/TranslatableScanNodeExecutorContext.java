@@ -33,4 +33,12 @@ public final class TranslatableScanNodeExecutorContext implements ScanNodeExecut
     private final String[] filterValues;
     
     private final int[] projects;
+    
+    private final int bindJoinKey;
+    
+    private final Object[] bindJoinValues;
+    
+    public TranslatableScanNodeExecutorContext(final DataContext root, final String[] filterValues, final int[] projects) {
+        this(root, filterValues, projects, -1, null);
+    }
 }
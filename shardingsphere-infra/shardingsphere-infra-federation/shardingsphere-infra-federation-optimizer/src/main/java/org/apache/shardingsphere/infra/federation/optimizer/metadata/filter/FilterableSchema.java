@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.federation.optimizer.metadata.filter;
 
+import com.google.common.collect.Maps;
 import lombok.Getter;
 import org.apache.calcite.schema.Table;
 import org.apache.calcite.schema.impl.AbstractSchema;
@@ -25,7 +26,6 @@ import org.apache.shardingsphere.infra.federation.optimizer.metadata.statistic.F
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -44,11 +44,10 @@ public final class FilterableSchema extends AbstractSchema {
     }
     
     private Map<String, Table> createTableMap(final ShardingSphereSchema schema, final TableScanExecutor executor) {
-        Map<String, Table> result = new LinkedHashMap<>(schema.getTables().size(), 1);
-        for (ShardingSphereTable each : schema.getTables().values()) {
-            // TODO implement table statistic logic after using custom operators
-            result.put(each.getName(), new FilterableTable(each, executor, new FederationStatistic()));
-        }
-        return result;
+        return Maps.asMap(schema.getAllOriginalTableNames(), each -> createTable(schema.getTable(each), executor));
+    }
+    
+    private Table createTable(final ShardingSphereTable table, final TableScanExecutor executor) {
+        return null == table ? null : new FilterableTable(table, executor, new FederationStatistic(table));
     }
 }
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.metadata.statistic;
+
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.metadata.BuiltInMetadata;
+import org.apache.calcite.rel.metadata.RelMdDistinctRowCount;
+import org.apache.calcite.rel.metadata.RelMdUtil;
+import org.apache.calcite.rel.metadata.RelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.metadata.ReflectiveRelMetadataProvider;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.schema.Table;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.translatable.TranslatableTableScan;
+
+/**
+ * Distinct row count metadata handler, which estimates distinct row count of federation table scan with collected column statistics.
+ */
+public final class FederationRelMdDistinctRowCount extends RelMdDistinctRowCount {
+    
+    public static final RelMetadataProvider SOURCE = ReflectiveRelMetadataProvider.reflectiveSource(new FederationRelMdDistinctRowCount(), BuiltInMetadata.DistinctRowCount.Handler.class);
+    
+    /**
+     * Get distinct row count of table scan.
+     *
+     * @param rel table scan
+     * @param mq metadata query
+     * @param groupKey column ordinals of table scan row type
+     * @param predicate filter predicate applied to table scan
+     * @return distinct row count
+     */
+    public Double getDistinctRowCount(final TableScan rel, final RelMetadataQuery mq, final ImmutableBitSet groupKey, final RexNode predicate) {
+        Table table = rel.getTable().unwrap(Table.class);
+        Double result = null != table && table.getStatistic() instanceof FederationStatistic
+                ? ((FederationStatistic) table.getStatistic()).getDistinctRowCount(getTableColumns(rel, groupKey))
+                : null;
+        if (null == result) {
+            return super.getDistinctRowCount((RelNode) rel, mq, groupKey, predicate);
+        }
+        return null == predicate || predicate.isAlwaysTrue() ? result : result * RelMdUtil.guessSelectivity(predicate);
+    }
+    
+    private ImmutableBitSet getTableColumns(final TableScan rel, final ImmutableBitSet groupKey) {
+        if (!(rel instanceof TranslatableTableScan)) {
+            return groupKey;
+        }
+        int[] fields = ((TranslatableTableScan) rel).getFields();
+        ImmutableBitSet.Builder result = ImmutableBitSet.builder();
+        for (int each : groupKey) {
+            result.set(fields[each]);
+        }
+        return result.build();
+    }
+}
@@ -17,20 +17,86 @@
 
 package org.apache.shardingsphere.infra.federation.optimizer.metadata.statistic;
 
+import lombok.RequiredArgsConstructor;
 import org.apache.calcite.rel.RelCollation;
 import org.apache.calcite.rel.RelDistribution;
 import org.apache.calcite.rel.RelDistributionTraitDef;
 import org.apache.calcite.rel.RelReferentialConstraint;
 import org.apache.calcite.schema.Statistic;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumnStatistics;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTableStatistics;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Statistic of federation table.
  */
+@RequiredArgsConstructor
 public final class FederationStatistic implements Statistic {
     
+    private final ShardingSphereTable table;
+    
+    @Override
+    public Double getRowCount() {
+        return table.getStatistics().map(optional -> (double) optional.getRowCount()).orElse(null);
+    }
+    
+    @Override
+    public boolean isKey(final ImmutableBitSet columns) {
+        if (table.getPrimaryKeyColumns().isEmpty()) {
+            return false;
+        }
+        for (String each : table.getPrimaryKeyColumns()) {
+            int columnIndex = findColumnIndex(each);
+            if (columnIndex < 0 || !columns.get(columnIndex)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private int findColumnIndex(final String columnName) {
+        for (int i = 0; i < table.getColumnNames().size(); i++) {
+            if (table.getColumnNames().get(i).equalsIgnoreCase(columnName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    /**
+     * Get distinct row count of columns.
+     *
+     * @param columns column ordinals
+     * @return distinct row count, null if statistics of any column is absent
+     */
+    public Double getDistinctRowCount(final ImmutableBitSet columns) {
+        Optional<ShardingSphereTableStatistics> statistics = table.getStatistics();
+        if (!statistics.isPresent()) {
+            return null;
+        }
+        if (isKey(columns)) {
+            return (double) statistics.get().getRowCount();
+        }
+        double result = 1D;
+        for (int each : columns) {
+            Optional<ShardingSphereColumnStatistics> columnStatistics = findColumnStatistics(statistics.get(), each);
+            if (!columnStatistics.isPresent()) {
+                return null;
+            }
+            result *= columnStatistics.get().getDistinctCount();
+        }
+        return Math.min(result, statistics.get().getRowCount());
+    }
+    
+    private Optional<ShardingSphereColumnStatistics> findColumnStatistics(final ShardingSphereTableStatistics statistics, final int columnIndex) {
+        return columnIndex < table.getColumnNames().size() ? statistics.findColumn(table.getColumnNames().get(columnIndex)) : Optional.empty();
+    }
+    
     @Override
     public List<RelReferentialConstraint> getReferentialConstraints() {
         return new ArrayList<>();
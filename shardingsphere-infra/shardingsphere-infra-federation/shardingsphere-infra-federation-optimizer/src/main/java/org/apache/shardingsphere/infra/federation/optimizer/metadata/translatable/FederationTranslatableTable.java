@@ -84,6 +84,20 @@ public final class FederationTranslatableTable extends AbstractTable implements
         return executor.execute(table, new TranslatableScanNodeExecutorContext(root, null, projects));
     }
     
+    /**
+     * Execute filter and project with join keys of bind join when query the federation translatable table.
+     *
+     * @param root data context
+     * @param filterValues right value in filter condition
+     * @param projects fields to be projected
+     * @param bindJoinKey column index of bind join key
+     * @param bindJoinValues join key values of current outer batch
+     * @return enumerable result
+     */
+    public Enumerable<Object[]> bindJoin(final DataContext root, final String[] filterValues, final int[] projects, final int bindJoinKey, final Object[] bindJoinValues) {
+        return executor.execute(table, new TranslatableScanNodeExecutorContext(root, filterValues, projects, bindJoinKey, bindJoinValues));
+    }
+    
     @Override
     public Expression getExpression(final SchemaPlus schema, final String tableName, final Class clazz) {
         return Schemas.tableExpression(schema, getElementType(), tableName, clazz);
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.metadata.translatable;
+
+import org.apache.calcite.adapter.enumerable.EnumerableBatchNestedLoopJoinRule;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.plan.volcano.RelSubset;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Filter;
+import org.apache.calcite.rel.core.Join;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.core.Project;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.sql.type.SqlTypeFamily;
+import org.apache.calcite.sql.type.SqlTypeName;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Optional;
+
+/**
+ * Planner rule for converting join into bind join.
+ * 
+ * <p>Bind join collects join keys of outer rows in batches and fetches matching rows of inner translatable table with {@code IN} predicates,
+ * so only the shards and rows matching the keys are queried. It is only proposed when statistics of inner table are collected,
+ * otherwise cost of inner table scan can not be estimated, and when join keys are numeric, character or boolean, which can be pushed down as literals.</p>
+ */
+public final class TranslatableBindJoinRule extends EnumerableBatchNestedLoopJoinRule {
+    
+    public static final TranslatableBindJoinRule INSTANCE = new TranslatableBindJoinRule(Config.DEFAULT.withDescription("TranslatableBindJoinRule").as(Config.class));
+    
+    private static final Collection<SqlTypeFamily> SUPPORTED_KEY_TYPE_FAMILIES = EnumSet.of(SqlTypeFamily.NUMERIC, SqlTypeFamily.CHARACTER, SqlTypeFamily.BOOLEAN);
+    
+    private TranslatableBindJoinRule(final Config config) {
+        super(config);
+    }
+    
+    @Override
+    public boolean matches(final RelOptRuleCall call) {
+        Join join = call.rel(0);
+        JoinInfo joinInfo = join.analyzeCondition();
+        if (!joinInfo.isEqui() || 1 != joinInfo.rightKeys.size()) {
+            return false;
+        }
+        if (!isSupportedKeyType(join.getLeft().getRowType().getFieldList().get(joinInfo.leftKeys.get(0)).getType())
+                || !isSupportedKeyType(join.getRight().getRowType().getFieldList().get(joinInfo.rightKeys.get(0)).getType())) {
+            return false;
+        }
+        Optional<FederationTranslatableTable> translatableTable = findTranslatableTable(join.getRight());
+        return translatableTable.isPresent() && null != translatableTable.get().getStatistic().getRowCount();
+    }
+    
+    static boolean isSupportedKeyType(final RelDataType type) {
+        SqlTypeName sqlTypeName = type.getSqlTypeName();
+        return null != sqlTypeName && null != sqlTypeName.getFamily() && SUPPORTED_KEY_TYPE_FAMILIES.contains(sqlTypeName.getFamily());
+    }
+    
+    private Optional<FederationTranslatableTable> findTranslatableTable(final RelNode relNode) {
+        RelNode rel = relNode instanceof RelSubset ? ((RelSubset) relNode).getOriginal() : relNode;
+        if (rel instanceof TableScan) {
+            RelOptTable table = rel.getTable();
+            return null == table ? Optional.empty() : Optional.ofNullable(table.unwrap(FederationTranslatableTable.class));
+        }
+        if (rel instanceof Project || rel instanceof Filter) {
+            return findTranslatableTable(rel.getInput(0));
+        }
+        return Optional.empty();
+    }
+}
@@ -19,14 +19,28 @@ package org.apache.shardingsphere.infra.federation.optimizer.metadata.translatab
 
 import org.apache.calcite.plan.RelOptRule;
 import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelOptUtil;
 import org.apache.calcite.rel.core.RelFactories;
 import org.apache.calcite.rel.logical.LogicalFilter;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexCorrelVariable;
+import org.apache.calcite.rex.RexFieldAccess;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexUtil;
+import org.apache.calcite.sql.SqlKind;
 import org.apache.calcite.tools.RelBuilderFactory;
 
 import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Planner rule for pushing filters into table scan.
+ * 
+ * <p>Correlated filter, which only consists of equalities between one key column and correlated fields, is pushed into table scan as bind join values whether statistics are collected or not.
+ * Correlated filter with other conditions or with key type which can not be pushed down as literal is not pushed down, and is evaluated on rows of table scan instead.</p>
  */
 public class TranslatableFilterRule extends RelOptRule {
     
@@ -40,6 +54,43 @@ public class TranslatableFilterRule extends RelOptRule {
     public void onMatch(final RelOptRuleCall call) {
         LogicalFilter filter = call.rel(0);
         TranslatableTableScan scan = call.rel(1);
+        if (RexUtil.containsCorrelation(filter.getCondition())) {
+            createBindJoinTableScan(filter.getCondition(), scan).ifPresent(call::transformTo);
+            return;
+        }
         call.transformTo(new TranslatableTableScan(scan.getCluster(), scan.getTable(), scan.getTranslatableTable(), Collections.singletonList(filter.getCondition()), scan.getFields()));
     }
+    
+    private Optional<TranslatableTableScan> createBindJoinTableScan(final RexNode condition, final TranslatableTableScan scan) {
+        if (scan.isBindJoin()) {
+            return Optional.empty();
+        }
+        int bindJoinKey = -1;
+        List<RexNode> bindJoinValues = new LinkedList<>();
+        for (RexNode each : RelOptUtil.disjunctions(condition)) {
+            if (!each.isA(SqlKind.EQUALS)) {
+                return Optional.empty();
+            }
+            RexNode left = ((RexCall) each).getOperands().get(0);
+            RexNode right = ((RexCall) each).getOperands().get(1);
+            RexNode key = left instanceof RexInputRef ? left : right;
+            RexNode value = left instanceof RexInputRef ? right : left;
+            if (!(key instanceof RexInputRef) || !isCorrelatedField(value) || !TranslatableBindJoinRule.isSupportedKeyType(key.getType())
+                    || !TranslatableBindJoinRule.isSupportedKeyType(value.getType())) {
+                return Optional.empty();
+            }
+            int keyIndex = scan.getFields()[((RexInputRef) key).getIndex()];
+            if (-1 != bindJoinKey && bindJoinKey != keyIndex) {
+                return Optional.empty();
+            }
+            bindJoinKey = keyIndex;
+            bindJoinValues.add(value);
+        }
+        return -1 == bindJoinKey ? Optional.empty()
+                : Optional.of(new TranslatableTableScan(scan.getCluster(), scan.getTable(), scan.getTranslatableTable(), scan.getFilters(), scan.getFields(), bindJoinKey, bindJoinValues));
+    }
+    
+    private boolean isCorrelatedField(final RexNode rexNode) {
+        return rexNode instanceof RexFieldAccess && ((RexFieldAccess) rexNode).getReferenceExpr() instanceof RexCorrelVariable;
+    }
 }
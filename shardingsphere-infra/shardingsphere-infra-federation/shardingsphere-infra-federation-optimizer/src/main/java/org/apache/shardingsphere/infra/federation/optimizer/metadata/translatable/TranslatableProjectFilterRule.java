@@ -24,6 +24,7 @@ import org.apache.calcite.rel.logical.LogicalFilter;
 import org.apache.calcite.rel.logical.LogicalProject;
 import org.apache.calcite.rex.RexInputRef;
 import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexUtil;
 import org.apache.calcite.tools.RelBuilderFactory;
 
 import java.util.Collections;
@@ -46,7 +47,7 @@ public class TranslatableProjectFilterRule extends RelOptRule {
         LogicalFilter filter = call.rel(1);
         TranslatableTableScan scan = call.rel(2);
         int[] fields = getProjectFields(project.getProjects());
-        if (null == fields) {
+        if (null == fields || RexUtil.containsCorrelation(filter.getCondition())) {
             return;
         }
         call.transformTo(new TranslatableTableScan(scan.getCluster(), scan.getTable(), scan.getTranslatableTable(), Collections.singletonList(filter.getCondition()), fields));
@@ -24,7 +24,10 @@ import org.apache.calcite.adapter.enumerable.EnumerableRel;
 import org.apache.calcite.adapter.enumerable.EnumerableRelImplementor;
 import org.apache.calcite.adapter.enumerable.PhysType;
 import org.apache.calcite.adapter.enumerable.PhysTypeImpl;
+import org.apache.calcite.adapter.enumerable.RexToLixTranslator;
+import org.apache.calcite.linq4j.tree.BlockBuilder;
 import org.apache.calcite.linq4j.tree.Blocks;
+import org.apache.calcite.linq4j.tree.Expression;
 import org.apache.calcite.linq4j.tree.Expressions;
 import org.apache.calcite.linq4j.tree.Primitive;
 import org.apache.calcite.plan.RelOptCluster;
@@ -43,10 +46,15 @@ import org.apache.calcite.rex.RexCall;
 import org.apache.calcite.rex.RexInputRef;
 import org.apache.calcite.rex.RexLiteral;
 import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.schema.Statistic;
 import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.statistic.FederationStatistic;
 import org.codehaus.groovy.runtime.InvokerHelper;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -61,24 +69,43 @@ public class TranslatableTableScan extends TableScan implements EnumerableRel {
     
     private final List<RexNode> filters;
     
+    private final int bindJoinKey;
+    
+    private final List<RexNode> bindJoinValues;
+    
     public TranslatableTableScan(final RelOptCluster cluster, final RelOptTable table, final FederationTranslatableTable translatableTable, final int[] fields) {
-        super(cluster, cluster.traitSetOf(EnumerableConvention.INSTANCE), ImmutableList.of(), table);
-        this.translatableTable = translatableTable;
-        this.fields = fields;
-        this.filters = null;
+        this(cluster, table, translatableTable, null, fields);
     }
     
     public TranslatableTableScan(final RelOptCluster cluster, final RelOptTable table, final FederationTranslatableTable translatableTable,
                                  final List<RexNode> filters, final int[] fields) {
+        this(cluster, table, translatableTable, filters, fields, -1, Collections.emptyList());
+    }
+    
+    public TranslatableTableScan(final RelOptCluster cluster, final RelOptTable table, final FederationTranslatableTable translatableTable,
+                                 final List<RexNode> filters, final int[] fields, final int bindJoinKey, final List<RexNode> bindJoinValues) {
         super(cluster, cluster.traitSetOf(EnumerableConvention.INSTANCE), ImmutableList.of(), table);
         this.translatableTable = translatableTable;
         this.fields = fields;
         this.filters = filters;
+        this.bindJoinKey = bindJoinKey;
+        this.bindJoinValues = bindJoinValues;
+    }
+    
+    /**
+     * Judge whether table scan is the inner side of bind join, which only fetches rows matching join keys of current outer batch.
+     *
+     * @return is bind join or not
+     */
+    public boolean isBindJoin() {
+        return -1 != bindJoinKey;
     }
     
     @Override
     public RelNode copy(final RelTraitSet traitSet, final List<RelNode> inputs) {
-        return new TranslatableTableScan(getCluster(), table, translatableTable, fields);
+        return isBindJoin()
+                ? new TranslatableTableScan(getCluster(), table, translatableTable, filters, fields, bindJoinKey, bindJoinValues)
+                : new TranslatableTableScan(getCluster(), table, translatableTable, fields);
     }
     
     @Override
@@ -96,9 +123,11 @@ public class TranslatableTableScan extends TableScan implements EnumerableRel {
         if (null != filters) {
             String[] filterValues = new String[fields.length];
             addFilter(filters, filterValues);
-            return super.explainTerms(relWriter).item("fields", Primitive.asList(fields)).item("filters", Primitive.asList(filterValues));
+            return super.explainTerms(relWriter).item("fields", Primitive.asList(fields)).item("filters", Primitive.asList(filterValues))
+                    .itemIf("bindJoinKey", bindJoinKey, isBindJoin()).itemIf("bindJoinValues", bindJoinValues, isBindJoin());
         }
-        return super.explainTerms(relWriter).item("fields", Primitive.asList(fields));
+        return super.explainTerms(relWriter).item("fields", Primitive.asList(fields))
+                .itemIf("bindJoinKey", bindJoinKey, isBindJoin()).itemIf("bindJoinValues", bindJoinValues, isBindJoin());
     }
     
     @Override
@@ -118,9 +147,28 @@ public class TranslatableTableScan extends TableScan implements EnumerableRel {
         planner.addRule(TranslatableProjectRule.INSTANCE);
     }
     
+    @Override
+    public double estimateRowCount(final RelMetadataQuery mq) {
+        double result = super.estimateRowCount(mq);
+        if (!isBindJoin()) {
+            return result;
+        }
+        Statistic statistic = translatableTable.getStatistic();
+        Double distinctRowCount = statistic instanceof FederationStatistic ? ((FederationStatistic) statistic).getDistinctRowCount(ImmutableBitSet.of(bindJoinKey)) : null;
+        if (null == distinctRowCount || distinctRowCount <= 0D) {
+            return result;
+        }
+        return Math.min(result, bindJoinValues.size() * result / distinctRowCount);
+    }
+    
     @Override
     public RelOptCost computeSelfCost(final RelOptPlanner planner, final RelMetadataQuery mq) {
-        return super.computeSelfCost(planner, mq).multiplyBy(((double) fields.length + 2D) / ((double) table.getRowType().getFieldCount() + 2D));
+        double fieldRatio = ((double) fields.length + 2D) / ((double) table.getRowType().getFieldCount() + 2D);
+        if (isBindJoin()) {
+            double rowCount = estimateRowCount(mq);
+            return planner.getCostFactory().makeCost(rowCount, rowCount + 1D, 0D).multiplyBy(fieldRatio);
+        }
+        return super.computeSelfCost(planner, mq).multiplyBy(fieldRatio);
     }
     
     /**
@@ -132,6 +180,9 @@ public class TranslatableTableScan extends TableScan implements EnumerableRel {
      */
     public Result implement(final EnumerableRelImplementor implementor, final Prefer pref) {
         PhysType physType = PhysTypeImpl.of(implementor.getTypeFactory(), getRowType(), pref.preferArray());
+        if (isBindJoin()) {
+            return implementBindJoin(implementor, physType);
+        }
         if (null != filters) {
             String[] filterValues = new String[fields.length];
             addFilter(filters, filterValues);
@@ -142,6 +193,24 @@ public class TranslatableTableScan extends TableScan implements EnumerableRel {
                 "project", implementor.getRootExpression(), Expressions.constant(fields))));
     }
     
+    private Result implementBindJoin(final EnumerableRelImplementor implementor, final PhysType physType) {
+        String[] filterValues = null;
+        if (null != filters) {
+            filterValues = new String[fields.length];
+            addFilter(filters, filterValues);
+        }
+        BlockBuilder builder = new BlockBuilder();
+        RexToLixTranslator translator = RexToLixTranslator.forAggregation(implementor.getTypeFactory(), builder, null, implementor.getConformance())
+                .setCorrelates(implementor.getAllCorrelateVariables());
+        List<Expression> bindJoinValueExpressions = new ArrayList<>(bindJoinValues.size());
+        for (RexNode each : bindJoinValues) {
+            bindJoinValueExpressions.add(Expressions.box(translator.translate(each)));
+        }
+        builder.add(Expressions.call(table.getExpression(FederationTranslatableTable.class), "bindJoin", implementor.getRootExpression(), Expressions.constant(filterValues, String[].class),
+                Expressions.constant(fields), Expressions.constant(bindJoinKey), Expressions.newArrayInit(Object.class, bindJoinValueExpressions)));
+        return implementor.result(physType, builder.toBlock());
+    }
+    
     private boolean addFilter(final List<RexNode> filters, final String[] filterValues) {
         for (RexNode filter : filters) {
             if (filter.isA(SqlKind.AND)) {
@@ -31,6 +31,7 @@ import org.apache.calcite.rel.RelCollationTraitDef;
 import org.apache.calcite.rel.rules.AggregateExpandDistinctAggregatesRule;
 import org.apache.calcite.rel.rules.CoreRules;
 import org.apache.calcite.rel.rules.ProjectRemoveRule;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.translatable.TranslatableBindJoinRule;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.translatable.TranslatableFilterRule;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.translatable.TranslatableProjectFilterRule;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.translatable.TranslatableProjectRule;
@@ -104,6 +105,8 @@ public final class QueryOptimizePlannerFactory {
         planner.addRule(EnumerableRules.ENUMERABLE_CALC_RULE);
         planner.addRule(EnumerableRules.ENUMERABLE_SORT_RULE);
         planner.addRule(EnumerableRules.ENUMERABLE_JOIN_RULE);
+        planner.addRule(TranslatableBindJoinRule.INSTANCE);
+        planner.addRule(CoreRules.JOIN_COMMUTE);
         planner.addRule(EnumerableRules.ENUMERABLE_TABLE_SCAN_RULE);
         planner.addRule(EnumerableRules.ENUMERABLE_AGGREGATE_RULE);
         planner.addRule(EnumerableRules.ENUMERABLE_FILTER_RULE);
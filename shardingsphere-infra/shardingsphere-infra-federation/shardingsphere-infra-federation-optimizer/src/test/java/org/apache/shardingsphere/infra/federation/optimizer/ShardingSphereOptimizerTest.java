@@ -17,21 +17,32 @@
 
 package org.apache.shardingsphere.infra.federation.optimizer;
 
+import org.apache.calcite.adapter.enumerable.EnumerableInterpretable;
+import org.apache.calcite.adapter.enumerable.EnumerableRel;
+import org.apache.calcite.adapter.java.JavaTypeFactory;
 import org.apache.calcite.config.CalciteConnectionConfig;
 import org.apache.calcite.config.CalciteConnectionConfigImpl;
 import org.apache.calcite.jdbc.JavaTypeFactoryImpl;
 import org.apache.calcite.prepare.CalciteCatalogReader;
+import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.runtime.Bindable;
 import org.apache.calcite.sql.validate.SqlValidator;
 import org.apache.calcite.sql2rel.SqlToRelConverter;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
 import org.apache.shardingsphere.infra.database.type.dialect.H2DatabaseType;
 import org.apache.shardingsphere.infra.federation.optimizer.context.planner.OptimizerPlannerContextFactory;
+import org.apache.shardingsphere.infra.federation.optimizer.executor.TableScanExecutor;
+import org.apache.shardingsphere.infra.federation.optimizer.fixture.DataContextFixture;
+import org.apache.shardingsphere.infra.federation.optimizer.fixture.TableScanExecutorFixture;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.translatable.TranslatableSchema;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.translatable.TranslatableTableScan;
 import org.apache.shardingsphere.infra.federation.optimizer.planner.QueryOptimizePlannerFactory;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumnStatistics;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTableStatistics;
 import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
@@ -41,12 +52,19 @@ import org.junit.Test;
 
 import java.sql.Types;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class ShardingSphereOptimizerTest {
     
@@ -87,6 +105,16 @@ public final class ShardingSphereOptimizerTest {
     
     private static final String SELECT_UNION = "SELECT order_id, user_id FROM t_order_federate UNION SELECT 1, user_id FROM t_user_info WHERE information = 'before'";
     
+    private static final String SELECT_BIND_JOIN = "SELECT t_user_info.user_id, t_order_federate.order_id "
+            + "FROM t_user_info JOIN t_order_federate ON t_user_info.user_id = t_order_federate.user_id "
+            + "WHERE t_user_info.information = 'before'";
+    
+    private static final String SELECT_BIND_JOIN_WITH_DATE_KEY = "SELECT t_user_info.user_id, t_order_federate.order_id "
+            + "FROM t_user_info JOIN t_order_federate ON t_user_info.create_date = t_order_federate.create_date";
+    
+    private static final String SELECT_SUBQUERY_WHERE_EXIST_WITH_DATE_KEY = "SELECT t_order_federate.order_id FROM t_order_federate "
+            + "WHERE EXISTS (SELECT * FROM t_user_info WHERE t_order_federate.create_date = t_user_info.create_date)";
+    
     private static final String SCHEMA_NAME = "federate_jdbc";
     
     private final SQLParserRule sqlParserRule = new SQLParserRule(new DefaultSQLParserRuleConfigurationBuilder().build());
@@ -117,10 +145,18 @@ public final class ShardingSphereOptimizerTest {
     }
     
     private static SqlToRelConverter createSqlToRelConverter(final ShardingSphereSchema schema) {
-        CalciteConnectionConfig connectionConfig = new CalciteConnectionConfigImpl(OptimizerPlannerContextFactory.createConnectionProperties());
         RelDataTypeFactory relDataTypeFactory = new JavaTypeFactoryImpl();
-        TranslatableSchema federationSchema = new TranslatableSchema(SCHEMA_NAME, schema, null);
-        CalciteCatalogReader catalogReader = OptimizerPlannerContextFactory.createCatalogReader(SCHEMA_NAME, federationSchema, relDataTypeFactory, connectionConfig);
+        return createSqlToRelConverter(createCatalogReader(schema, null, relDataTypeFactory), relDataTypeFactory);
+    }
+    
+    private static CalciteCatalogReader createCatalogReader(final ShardingSphereSchema schema, final TableScanExecutor executor, final RelDataTypeFactory relDataTypeFactory) {
+        CalciteConnectionConfig connectionConfig = new CalciteConnectionConfigImpl(OptimizerPlannerContextFactory.createConnectionProperties());
+        TranslatableSchema federationSchema = new TranslatableSchema(SCHEMA_NAME, schema, executor);
+        return OptimizerPlannerContextFactory.createCatalogReader(SCHEMA_NAME, federationSchema, relDataTypeFactory, connectionConfig);
+    }
+    
+    private static SqlToRelConverter createSqlToRelConverter(final CalciteCatalogReader catalogReader, final RelDataTypeFactory relDataTypeFactory) {
+        CalciteConnectionConfig connectionConfig = new CalciteConnectionConfigImpl(OptimizerPlannerContextFactory.createConnectionProperties());
         SqlValidator validator = OptimizerPlannerContextFactory.createValidator(catalogReader, relDataTypeFactory, connectionConfig);
         return OptimizerPlannerContextFactory.createConverter(catalogReader, validator, relDataTypeFactory);
     }
@@ -218,7 +254,7 @@ public final class ShardingSphereOptimizerTest {
                 + "    TranslatableTableScan(table=[[federate_jdbc, t_order_federate]], fields=[[0, 1]])" + LINE_SEPARATOR
                 + "    EnumerableAggregate(group=[{}], agg#0=[MIN($0)])" + LINE_SEPARATOR
                 + "      EnumerableCalc(expr#0..1=[{inputs}], expr#2=[true], $f0=[$t2])" + LINE_SEPARATOR
-                + "        TranslatableTableScan(table=[[federate_jdbc, t_user_info]], fields=[[0, 1]], filters=[[null, null]])" + LINE_SEPARATOR;
+                + "        TranslatableTableScan(table=[[federate_jdbc, t_user_info]], fields=[[0, 1]], bindJoinKey=[0], bindJoinValues=[[$cor1.user_id]])" + LINE_SEPARATOR;
         assertThat(actual, is(expected));
     }
     
@@ -263,4 +299,86 @@ public final class ShardingSphereOptimizerTest {
                 + "    TranslatableTableScan(table=[[federate_jdbc, t_user_info]], fields=[[0, 1]], filters=[[null, before]])" + LINE_SEPARATOR;
         assertThat(actual, is(expected));
     }
+    
+    @Test
+    public void assertSelectJoinWithBindJoin() {
+        Map<String, ShardingSphereTable> tables = createTablesWithStatistics();
+        ShardingSphereOptimizer optimizer = new ShardingSphereOptimizer(createSqlToRelConverter(new ShardingSphereSchema(tables, Collections.emptyMap())),
+                QueryOptimizePlannerFactory.createHepPlannerWithoutCalc(), QueryOptimizePlannerFactory.createHepPlannerWithCalc());
+        ShardingSphereSQLParserEngine sqlParserEngine = sqlParserRule.getSQLParserEngine(DatabaseTypeEngine.getTrunkDatabaseTypeName(new H2DatabaseType()));
+        SQLStatement sqlStatement = sqlParserEngine.parse(SELECT_BIND_JOIN, false);
+        RelNode actual = optimizer.optimize(sqlStatement);
+        Optional<TranslatableTableScan> bindJoinTableScan = findBindJoinTableScan(actual);
+        assertTrue(bindJoinTableScan.isPresent());
+        assertThat(bindJoinTableScan.get().getTable().getQualifiedName(), is(Arrays.asList(SCHEMA_NAME, "t_order_federate")));
+        assertTrue(bindJoinTableScan.get().estimateRowCount(actual.getCluster().getMetadataQuery()) < tables.get("t_order_federate").getStatistics().get().getRowCount());
+    }
+    
+    @Test
+    public void assertExecuteSelectJoinWithBindJoin() {
+        TableScanExecutorFixture executor = new TableScanExecutorFixture();
+        executor.getTableRows().put("t_user_info", Arrays.asList(new Object[]{"1", "before"}, new Object[]{"2", "after"}, new Object[]{"3", "before"}));
+        executor.getTableRows().put("t_order_federate", Arrays.asList(
+                new Object[]{"10", "1", "INIT"}, new Object[]{"20", "2", "INIT"}, new Object[]{"30", "3", "INIT"}, new Object[]{"31", "3", "FINISHED"}));
+        RelDataTypeFactory relDataTypeFactory = new JavaTypeFactoryImpl();
+        CalciteCatalogReader catalogReader = createCatalogReader(new ShardingSphereSchema(createTablesWithStatistics(), Collections.emptyMap()), executor, relDataTypeFactory);
+        ShardingSphereOptimizer optimizer = new ShardingSphereOptimizer(createSqlToRelConverter(catalogReader, relDataTypeFactory),
+                QueryOptimizePlannerFactory.createHepPlannerWithoutCalc(), QueryOptimizePlannerFactory.createHepPlannerWithCalc());
+        ShardingSphereSQLParserEngine sqlParserEngine = sqlParserRule.getSQLParserEngine(DatabaseTypeEngine.getTrunkDatabaseTypeName(new H2DatabaseType()));
+        RelNode plan = optimizer.optimize(sqlParserEngine.parse(SELECT_BIND_JOIN, false));
+        assertTrue(findBindJoinTableScan(plan).isPresent());
+        Bindable<Object[]> bindable = EnumerableInterpretable.toBindable(Collections.emptyMap(), null, (EnumerableRel) plan, EnumerableRel.Prefer.ARRAY);
+        Collection<List<Object>> actual = new TreeSet<>(Comparator.comparing(Object::toString));
+        for (Object[] each : bindable.bind(new DataContextFixture(catalogReader.getRootSchema().plus(), (JavaTypeFactory) relDataTypeFactory))) {
+            actual.add(Arrays.asList(each));
+        }
+        assertThat(actual, is(new TreeSet<>(Arrays.asList(Arrays.<Object>asList("1", "10"), Arrays.<Object>asList("3", "30"), Arrays.<Object>asList("3", "31")))));
+        assertThat(new TreeSet<>(executor.getBindJoinValues()), is(new TreeSet<>(Arrays.<Object>asList("1", "3"))));
+    }
+    
+    @Test
+    public void assertSelectJoinWithDateKeyWithoutBindJoin() {
+        ShardingSphereOptimizer optimizer = new ShardingSphereOptimizer(createSqlToRelConverter(new ShardingSphereSchema(createTablesWithDateKey(), Collections.emptyMap())),
+                QueryOptimizePlannerFactory.createHepPlannerWithoutCalc(), QueryOptimizePlannerFactory.createHepPlannerWithCalc());
+        ShardingSphereSQLParserEngine sqlParserEngine = sqlParserRule.getSQLParserEngine(DatabaseTypeEngine.getTrunkDatabaseTypeName(new H2DatabaseType()));
+        assertFalse(findBindJoinTableScan(optimizer.optimize(sqlParserEngine.parse(SELECT_BIND_JOIN_WITH_DATE_KEY, false))).isPresent());
+        assertFalse(findBindJoinTableScan(optimizer.optimize(sqlParserEngine.parse(SELECT_SUBQUERY_WHERE_EXIST_WITH_DATE_KEY, false))).isPresent());
+    }
+    
+    private Map<String, ShardingSphereTable> createTablesWithDateKey() {
+        ShardingSphereTable orderTable = new ShardingSphereTable("t_order_federate", Arrays.asList(new ShardingSphereColumn("order_id", Types.VARCHAR, true, false, false, true),
+                new ShardingSphereColumn("create_date", Types.DATE, false, false, false, true)), Collections.emptyList(), Collections.emptyList(),
+                new ShardingSphereTableStatistics(1000000L, Collections.singletonMap("create_date", new ShardingSphereColumnStatistics(1000L, null, null))));
+        ShardingSphereTable userInfoTable = new ShardingSphereTable("t_user_info", Arrays.asList(new ShardingSphereColumn("user_id", Types.VARCHAR, true, false, false, true),
+                new ShardingSphereColumn("create_date", Types.DATE, false, false, false, true)), Collections.emptyList(), Collections.emptyList(),
+                new ShardingSphereTableStatistics(1L, Collections.singletonMap("create_date", new ShardingSphereColumnStatistics(1L, null, null))));
+        Map<String, ShardingSphereTable> result = new HashMap<>(2, 1);
+        result.put("t_order_federate", orderTable);
+        result.put("t_user_info", userInfoTable);
+        return result;
+    }
+    
+    private Map<String, ShardingSphereTable> createTablesWithStatistics() {
+        ShardingSphereTable orderTable =
+                createOrderTableMetaData().withStatistics(new ShardingSphereTableStatistics(1000000L, Collections.singletonMap("user_id", new ShardingSphereColumnStatistics(100000L, null, null))));
+        ShardingSphereTable userInfoTable =
+                createUserInfoTableMetaData().withStatistics(new ShardingSphereTableStatistics(1L, Collections.singletonMap("user_id", new ShardingSphereColumnStatistics(1L, null, null))));
+        Map<String, ShardingSphereTable> result = new HashMap<>(2, 1);
+        result.put("t_order_federate", orderTable);
+        result.put("t_user_info", userInfoTable);
+        return result;
+    }
+    
+    private Optional<TranslatableTableScan> findBindJoinTableScan(final RelNode relNode) {
+        if (relNode instanceof TranslatableTableScan && ((TranslatableTableScan) relNode).isBindJoin()) {
+            return Optional.of((TranslatableTableScan) relNode);
+        }
+        for (RelNode each : relNode.getInputs()) {
+            Optional<TranslatableTableScan> result = findBindJoinTableScan(each);
+            if (result.isPresent()) {
+                return result;
+            }
+        }
+        return Optional.empty();
+    }
 }
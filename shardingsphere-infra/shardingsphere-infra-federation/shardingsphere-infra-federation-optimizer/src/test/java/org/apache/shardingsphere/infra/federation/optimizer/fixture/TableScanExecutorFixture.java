@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.fixture;
+
+import lombok.Getter;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Linq4j;
+import org.apache.shardingsphere.infra.federation.optimizer.executor.ScanNodeExecutorContext;
+import org.apache.shardingsphere.infra.federation.optimizer.executor.TableScanExecutor;
+import org.apache.shardingsphere.infra.federation.optimizer.executor.TranslatableScanNodeExecutorContext;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Getter
+public final class TableScanExecutorFixture implements TableScanExecutor {
+    
+    private final Map<String, Collection<Object[]>> tableRows = new HashMap<>();
+    
+    private final Collection<Object> bindJoinValues = new LinkedList<>();
+    
+    @Override
+    public Enumerable<Object[]> execute(final ShardingSphereTable table, final ScanNodeExecutorContext scanContext) {
+        TranslatableScanNodeExecutorContext context = (TranslatableScanNodeExecutorContext) scanContext;
+        Collection<Object> currentBindJoinValues = -1 == context.getBindJoinKey() ? Collections.emptyList() : Arrays.asList(context.getBindJoinValues());
+        bindJoinValues.addAll(currentBindJoinValues);
+        List<Object[]> result = new LinkedList<>();
+        for (Object[] each : tableRows.getOrDefault(table.getName(), Collections.emptyList())) {
+            if (isMatched(each, context.getFilterValues()) && (-1 == context.getBindJoinKey() || currentBindJoinValues.contains(each[context.getBindJoinKey()]))) {
+                result.add(project(each, context.getProjects()));
+            }
+        }
+        return Linq4j.asEnumerable(result);
+    }
+    
+    private boolean isMatched(final Object[] row, final String[] filterValues) {
+        if (null == filterValues) {
+            return true;
+        }
+        for (int i = 0; i < filterValues.length; i++) {
+            if (null != filterValues[i] && !filterValues[i].isEmpty() && !Objects.equals(filterValues[i], String.valueOf(row[i]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private Object[] project(final Object[] row, final int[] projects) {
+        if (null == projects) {
+            return row;
+        }
+        Object[] result = new Object[projects.length];
+        for (int i = 0; i < projects.length; i++) {
+            result[i] = row[projects[i]];
+        }
+        return result;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.metadata.statistic;
+
+import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.schema.Table;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.translatable.TranslatableTableScan;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumnStatistics;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTableStatistics;
+import org.junit.Test;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class FederationRelMdDistinctRowCountTest {
+    
+    @Test
+    public void assertGetDistinctRowCount() {
+        TableScan tableScan = mockTableScan(mock(TableScan.class));
+        assertThat(new FederationRelMdDistinctRowCount().getDistinctRowCount(tableScan, mock(RelMetadataQuery.class), ImmutableBitSet.of(1), null), is(10D));
+    }
+    
+    @Test
+    public void assertGetDistinctRowCountWithAlwaysTruePredicate() {
+        TableScan tableScan = mockTableScan(mock(TableScan.class));
+        RexNode predicate = mock(RexNode.class);
+        when(predicate.isAlwaysTrue()).thenReturn(true);
+        assertThat(new FederationRelMdDistinctRowCount().getDistinctRowCount(tableScan, mock(RelMetadataQuery.class), ImmutableBitSet.of(1), predicate), is(10D));
+    }
+    
+    @Test
+    public void assertGetDistinctRowCountWithProjectedFields() {
+        TranslatableTableScan tableScan = mockTableScan(mock(TranslatableTableScan.class));
+        when(tableScan.getFields()).thenReturn(new int[]{1});
+        assertThat(new FederationRelMdDistinctRowCount().getDistinctRowCount(tableScan, mock(RelMetadataQuery.class), ImmutableBitSet.of(0), null), is(10D));
+    }
+    
+    private <T extends TableScan> T mockTableScan(final T tableScan) {
+        ShardingSphereTable table = new ShardingSphereTable("t_order", Arrays.asList(new ShardingSphereColumn("order_id", Types.BIGINT, true, false, false, true),
+                new ShardingSphereColumn("user_id", Types.INTEGER, false, false, false, true)), Collections.emptyList(), Collections.emptyList(),
+                new ShardingSphereTableStatistics(100L, Collections.singletonMap("user_id", new ShardingSphereColumnStatistics(10L, null, null))));
+        Table calciteTable = mock(Table.class);
+        when(calciteTable.getStatistic()).thenReturn(new FederationStatistic(table));
+        RelOptTable relOptTable = mock(RelOptTable.class);
+        when(relOptTable.unwrap(Table.class)).thenReturn(calciteTable);
+        when(tableScan.getTable()).thenReturn(relOptTable);
+        return tableScan;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.metadata.statistic;
+
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumnStatistics;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTableStatistics;
+import org.junit.Test;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class FederationStatisticTest {
+    
+    @Test
+    public void assertGetRowCount() {
+        assertThat(new FederationStatistic(createTableWithStatistics()).getRowCount(), is(100D));
+    }
+    
+    @Test
+    public void assertGetRowCountWithoutStatistics() {
+        assertNull(new FederationStatistic(createTable()).getRowCount());
+    }
+    
+    @Test
+    public void assertIsKeyWithPrimaryKeyColumn() {
+        assertTrue(new FederationStatistic(createTable()).isKey(ImmutableBitSet.of(0)));
+        assertTrue(new FederationStatistic(createTable()).isKey(ImmutableBitSet.of(0, 1)));
+    }
+    
+    @Test
+    public void assertIsKeyWithUniqueStatisticsOfNonPrimaryKeyColumn() {
+        assertFalse(new FederationStatistic(createTableWithStatistics()).isKey(ImmutableBitSet.of(2)));
+    }
+    
+    @Test
+    public void assertGetDistinctRowCount() {
+        assertThat(new FederationStatistic(createTableWithStatistics()).getDistinctRowCount(ImmutableBitSet.of(1)), is(10D));
+        assertThat(new FederationStatistic(createTableWithStatistics()).getDistinctRowCount(ImmutableBitSet.of(1, 2)), is(100D));
+    }
+    
+    @Test
+    public void assertGetDistinctRowCountWithPrimaryKeyColumn() {
+        assertThat(new FederationStatistic(createTableWithStatistics()).getDistinctRowCount(ImmutableBitSet.of(0)), is(100D));
+    }
+    
+    @Test
+    public void assertGetDistinctRowCountWithoutColumnStatistics() {
+        ShardingSphereTable table = createTable().withStatistics(new ShardingSphereTableStatistics(100L, Collections.emptyMap()));
+        assertNull(new FederationStatistic(table).getDistinctRowCount(ImmutableBitSet.of(1)));
+    }
+    
+    @Test
+    public void assertGetDistinctRowCountWithoutStatistics() {
+        assertNull(new FederationStatistic(createTable()).getDistinctRowCount(ImmutableBitSet.of(1)));
+    }
+    
+    private ShardingSphereTable createTableWithStatistics() {
+        Map<String, ShardingSphereColumnStatistics> columns = new HashMap<>(2, 1);
+        columns.put("user_id", new ShardingSphereColumnStatistics(10L, null, null));
+        columns.put("status", new ShardingSphereColumnStatistics(100L, null, null));
+        return createTable().withStatistics(new ShardingSphereTableStatistics(100L, columns));
+    }
+    
+    private ShardingSphereTable createTable() {
+        return new ShardingSphereTable("t_order", Arrays.asList(new ShardingSphereColumn("order_id", Types.BIGINT, true, false, false, true),
+                new ShardingSphereColumn("user_id", Types.INTEGER, false, false, false, true), new ShardingSphereColumn("status", Types.VARCHAR, false, false, false, true)),
+                Collections.emptyList(), Collections.emptyList());
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.parser;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.apache.shardingsphere.distsql.parser.engine.api.DistSQLStatementParserEngine;
 import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
@@ -65,4 +66,13 @@ public final class ShardingSphereSQLParserEngine {
             }
         }
     }
+    
+    /**
+     * Get SQL statement cache statistics.
+     *
+     * @return hit, miss and eviction statistics of SQL statement cache
+     */
+    public CacheStats getSQLStatementCacheStats() {
+        return sqlStatementParserEngine.getSQLStatementCacheStats();
+    }
 }
@@ -41,7 +41,10 @@ public final class SQLStatementCacheBuilder {
      */
     public static LoadingCache<String, SQLStatement> build(final String databaseType,
                                                            final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final boolean isParseComment) {
-        return Caffeine.newBuilder().softValues().initialCapacity(sqlStatementCacheOption.getInitialCapacity()).maximumSize(sqlStatementCacheOption.getMaximumSize())
-                .build(new SQLStatementCacheLoader(databaseType, parseTreeCacheOption, isParseComment));
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().softValues().initialCapacity(sqlStatementCacheOption.getInitialCapacity()).maximumSize(sqlStatementCacheOption.getMaximumSize());
+        if (sqlStatementCacheOption.isRecordStats()) {
+            builder.recordStats();
+        }
+        return builder.build(new SQLStatementCacheLoader(databaseType, parseTreeCacheOption, isParseComment));
     }
 }
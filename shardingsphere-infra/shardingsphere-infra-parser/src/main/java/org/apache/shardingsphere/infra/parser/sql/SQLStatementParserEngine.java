@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.parser.sql;
 
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.apache.shardingsphere.infra.parser.cache.SQLStatementCacheBuilder;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
@@ -46,4 +47,15 @@ public final class SQLStatementParserEngine {
     public SQLStatement parse(final String sql, final boolean useCache) {
         return useCache ? sqlStatementCache.get(sql) : sqlStatementParserExecutor.parse(sql);
     }
+    
+    /**
+     * Get SQL statement cache statistics.
+     * 
+     * <p>Statistics are recorded only if record stats of SQL statement cache option is enabled, otherwise they are always empty.</p>
+     *
+     * @return hit, miss and eviction statistics of SQL statement cache
+     */
+    public CacheStats getSQLStatementCacheStats() {
+        return sqlStatementCache.stats();
+    }
 }
@@ -21,6 +21,7 @@ import com.github.benmanes.caffeine.cache.LoadingCache;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.junit.Test;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.isA;
 import static org.junit.Assert.assertThat;
 
@@ -30,4 +31,20 @@ public final class SQLStatementCacheBuilderTest {
     public void assertBuild() {
         assertThat(SQLStatementCacheBuilder.build("MySQL", new CacheOption(2000, 65535L), new CacheOption(128, 1024L), false), isA(LoadingCache.class));
     }
+    
+    @Test
+    public void assertBuildWithoutRecordStats() {
+        LoadingCache<String, ?> actual = SQLStatementCacheBuilder.build("MySQL", new CacheOption(2000, 65535L), new CacheOption(128, 1024L), false);
+        assertThat(actual.policy().isRecordingStats(), is(false));
+        actual.getIfPresent("SELECT 1");
+        assertThat(actual.stats().missCount(), is(0L));
+    }
+    
+    @Test
+    public void assertBuildWithRecordStats() {
+        LoadingCache<String, ?> actual = SQLStatementCacheBuilder.build("MySQL", new CacheOption(2000, 65535L, true), new CacheOption(128, 1024L), false);
+        assertThat(actual.policy().isRecordingStats(), is(true));
+        actual.getIfPresent("SELECT 1");
+        assertThat(actual.stats().missCount(), is(1L));
+    }
 }
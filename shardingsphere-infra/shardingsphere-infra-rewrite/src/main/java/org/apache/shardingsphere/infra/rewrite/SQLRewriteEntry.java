@@ -30,6 +30,7 @@ import org.apache.shardingsphere.infra.rewrite.engine.GenericSQLRewriteEngine;
 import org.apache.shardingsphere.infra.rewrite.engine.RouteSQLRewriteEngine;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
 
@@ -79,6 +80,25 @@ public final class SQLRewriteEntry {
                 : new RouteSQLRewriteEngine(rule, protocolType, storageType).rewrite(sqlRewriteContext, routeContext);
     }
     
+    /**
+     * Rewrite parameters only and reuse SQL which already rewritten for same route units.
+     *
+     * @param sql SQL
+     * @param parameters SQL parameters
+     * @param sqlStatementContext SQL statement context
+     * @param routeContext route context
+     * @param connectionContext connection context
+     * @param rewrittenSQLs rewritten and translated SQL map, key is route unit of SQL rewrite result
+     * @return route unit and SQL rewrite result map
+     */
+    public SQLRewriteResult rewrite(final String sql, final List<Object> parameters, final SQLStatementContext<?> sqlStatementContext,
+                                    final RouteContext routeContext, final ConnectionContext connectionContext, final Map<RouteUnit, String> rewrittenSQLs) {
+        SQLRewriteContext sqlRewriteContext = new SQLRewriteContext(database.getName(), database.getSchemas(), sqlStatementContext, sql, parameters, connectionContext);
+        decorate(decorators, sqlRewriteContext, routeContext);
+        SQLTranslatorRule rule = globalRuleMetaData.getSingleRule(SQLTranslatorRule.class);
+        return new RouteSQLRewriteEngine(rule, database.getProtocolType(), database.getResource().getDatabaseType()).rewrite(sqlRewriteContext, routeContext, rewrittenSQLs);
+    }
+    
     private SQLRewriteContext createSQLRewriteContext(final String sql, final List<Object> parameters, final SQLStatementContext<?> sqlStatementContext,
                                                       final RouteContext routeContext, final ConnectionContext connectionContext) {
         SQLRewriteContext result = new SQLRewriteContext(database.getName(), database.getSchemas(), sqlStatementContext, sql, parameters, connectionContext);
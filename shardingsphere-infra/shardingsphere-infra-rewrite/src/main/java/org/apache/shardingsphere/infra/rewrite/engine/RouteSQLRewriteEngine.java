@@ -75,19 +75,48 @@ public final class RouteSQLRewriteEngine {
         return new RouteSQLRewriteResult(translate(sqlRewriteContext.getSqlStatementContext().getSqlStatement(), sqlRewriteUnits));
     }
     
+    /**
+     * Rewrite parameters only and reuse SQL which already rewritten for same route units.
+     *
+     * @param sqlRewriteContext SQL rewrite context
+     * @param routeContext route context
+     * @param rewrittenSQLs rewritten and translated SQL map, key is route unit of SQL rewrite result
+     * @return SQL rewrite result
+     */
+    public RouteSQLRewriteResult rewrite(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final Map<RouteUnit, String> rewrittenSQLs) {
+        Map<RouteUnit, SQLRewriteUnit> result = new LinkedHashMap<>(rewrittenSQLs.size(), 1);
+        for (Collection<RouteUnit> each : aggregateRouteUnitGroups(routeContext.getRouteUnits()).values()) {
+            if (isNeedAggregateRewrite(sqlRewriteContext.getSqlStatementContext(), each)) {
+                RouteUnit routeUnit = each.iterator().next();
+                result.put(routeUnit, new SQLRewriteUnit(rewrittenSQLs.get(routeUnit), getAggregatedParameters(sqlRewriteContext, routeContext, each)));
+            } else {
+                for (RouteUnit routeUnit : each) {
+                    result.put(routeUnit, new SQLRewriteUnit(rewrittenSQLs.get(routeUnit), getParameters(sqlRewriteContext.getParameterBuilder(), routeContext, routeUnit)));
+                }
+            }
+        }
+        return new RouteSQLRewriteResult(result);
+    }
+    
     private SQLRewriteUnit createSQLRewriteUnit(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final Collection<RouteUnit> routeUnits) {
         Collection<String> sql = new LinkedList<>();
-        List<Object> parameters = new LinkedList<>();
+        for (RouteUnit each : routeUnits) {
+            sql.add(SQLUtil.trimSemicolon(new RouteSQLBuilder(sqlRewriteContext, each).toSQL()));
+        }
+        return new SQLRewriteUnit(String.join(" UNION ALL ", sql), getAggregatedParameters(sqlRewriteContext, routeContext, routeUnits));
+    }
+    
+    private List<Object> getAggregatedParameters(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final Collection<RouteUnit> routeUnits) {
+        List<Object> result = new LinkedList<>();
         boolean containsDollarMarker = sqlRewriteContext.getSqlStatementContext() instanceof SelectStatementContext
                 && ((SelectStatementContext) (sqlRewriteContext.getSqlStatementContext())).isContainsDollarParameterMarker();
         for (RouteUnit each : routeUnits) {
-            sql.add(SQLUtil.trimSemicolon(new RouteSQLBuilder(sqlRewriteContext, each).toSQL()));
-            if (containsDollarMarker && !parameters.isEmpty()) {
+            if (containsDollarMarker && !result.isEmpty()) {
                 continue;
             }
-            parameters.addAll(getParameters(sqlRewriteContext.getParameterBuilder(), routeContext, each));
+            result.addAll(getParameters(sqlRewriteContext.getParameterBuilder(), routeContext, each));
         }
-        return new SQLRewriteUnit(String.join(" UNION ALL ", sql), parameters);
+        return result;
     }
     
     private void addSQLRewriteUnits(final Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits, final SQLRewriteContext sqlRewriteContext,
@@ -37,6 +37,8 @@ import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -80,6 +82,33 @@ public final class RouteSQLRewriteEngineTest {
         assertThat(actual.getSqlRewriteUnits().get(firstRouteUnit).getParameters(), is(Arrays.asList(1, 1)));
     }
     
+    @Test
+    public void assertRewriteWithRewrittenSQLs() {
+        SelectStatementContext statementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(statementContext.getOrderByContext().getItems()).thenReturn(Collections.emptyList());
+        when(statementContext.getPaginationContext().isHasPagination()).thenReturn(false);
+        RouteContext routeContext = new RouteContext();
+        RouteUnit firstRouteUnit = new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("tbl", "tbl_0")));
+        RouteUnit secondRouteUnit = new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("tbl", "tbl_1")));
+        RouteUnit thirdRouteUnit = new RouteUnit(new RouteMapper("ds", "ds_1"), Collections.singletonList(new RouteMapper("tbl", "tbl_0")));
+        routeContext.getRouteUnits().add(firstRouteUnit);
+        routeContext.getRouteUnits().add(secondRouteUnit);
+        routeContext.getRouteUnits().add(thirdRouteUnit);
+        Map<RouteUnit, String> rewrittenSQLs = new HashMap<>(2, 1);
+        rewrittenSQLs.put(firstRouteUnit, "SELECT ? UNION ALL SELECT ?");
+        rewrittenSQLs.put(thirdRouteUnit, "SELECT ?");
+        SQLRewriteContext sqlRewriteContext = new SQLRewriteContext(DefaultDatabase.LOGIC_NAME,
+                Collections.singletonMap("test", mock(ShardingSphereSchema.class)), statementContext, "SELECT ?", Collections.singletonList(2), mock(ConnectionContext.class));
+        DatabaseType databaseType = mock(DatabaseType.class);
+        RouteSQLRewriteResult actual = new RouteSQLRewriteEngine(new SQLTranslatorRule(new SQLTranslatorRuleConfiguration()), databaseType, databaseType)
+                .rewrite(sqlRewriteContext, routeContext, rewrittenSQLs);
+        assertThat(actual.getSqlRewriteUnits().size(), is(2));
+        assertThat(actual.getSqlRewriteUnits().get(firstRouteUnit).getSql(), is("SELECT ? UNION ALL SELECT ?"));
+        assertThat(actual.getSqlRewriteUnits().get(firstRouteUnit).getParameters(), is(Arrays.asList(2, 2)));
+        assertThat(actual.getSqlRewriteUnits().get(thirdRouteUnit).getSql(), is("SELECT ?"));
+        assertThat(actual.getSqlRewriteUnits().get(thirdRouteUnit).getParameters(), is(Collections.singletonList(2)));
+    }
+    
     @Test
     public void assertRewriteWithGroupedParameterBuilderForBroadcast() {
         InsertStatementContext statementContext = mock(InsertStatementContext.class, RETURNS_DEEP_STUBS);
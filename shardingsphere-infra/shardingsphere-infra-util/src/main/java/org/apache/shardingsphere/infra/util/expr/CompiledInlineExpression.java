@@ -0,0 +1,300 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.util.expr;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Compiled inline expression.
+ *
+ * <p>Supports literal text with {@code ${...}} segments made of variables, integer and string literals, parentheses and the {@code + - * %} operators.
+ * Evaluation returns null when operands are out of the fast path (such as null, decimal or collection values), the caller should evaluate with groovy then.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class CompiledInlineExpression {
+    
+    private static final Collection<String> RESERVED_WORDS = new HashSet<>(Arrays.asList("it", "this", "super", "owner", "delegate", "thisObject", "null", "true", "false"));
+    
+    private final List<Object> segments;
+    
+    /**
+     * Compile inline expression.
+     *
+     * @param inlineExpression inline expression
+     * @return compiled inline expression, empty if the expression is out of supported grammar
+     */
+    static Optional<CompiledInlineExpression> compile(final String inlineExpression) {
+        List<Object> segments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int index = 0;
+        while (index < inlineExpression.length()) {
+            char each = inlineExpression.charAt(index);
+            if ('\\' == each || '"' == each) {
+                return Optional.empty();
+            }
+            if ('$' != each) {
+                literal.append(each);
+                index++;
+                continue;
+            }
+            int end = inlineExpression.indexOf('}', index);
+            if (index + 1 == inlineExpression.length() || '{' != inlineExpression.charAt(index + 1) || end < 0) {
+                return Optional.empty();
+            }
+            Optional<Node> node = new Parser(inlineExpression.substring(index + 2, end)).parse();
+            if (!node.isPresent()) {
+                return Optional.empty();
+            }
+            if (literal.length() > 0) {
+                segments.add(literal.toString());
+                literal.setLength(0);
+            }
+            segments.add(node.get());
+            index = end + 1;
+        }
+        if (literal.length() > 0) {
+            segments.add(literal.toString());
+        }
+        return Optional.of(new CompiledInlineExpression(segments));
+    }
+    
+    /**
+     * Evaluate.
+     *
+     * @param variables variables
+     * @return evaluated result, null if variables are out of the fast path
+     */
+    String evaluate(final Map<String, ?> variables) {
+        StringBuilder result = new StringBuilder();
+        for (Object each : segments) {
+            if (each instanceof Node) {
+                Object value = ((Node) each).evaluate(variables);
+                if (null == value) {
+                    return null;
+                }
+                result.append(value);
+            } else {
+                result.append((String) each);
+            }
+        }
+        return result.toString();
+    }
+    
+    private static Object evaluateBinary(final char operator, final Object left, final Object right) {
+        if (null == left || null == right) {
+            return null;
+        }
+        if ('+' == operator && (left instanceof String || right instanceof String)) {
+            return left.toString() + right;
+        }
+        if (left instanceof String || right instanceof String) {
+            return null;
+        }
+        if (left instanceof Integer && right instanceof Integer) {
+            return evaluateInteger(operator, (Integer) left, (Integer) right);
+        }
+        return evaluateLong(operator, ((Number) left).longValue(), ((Number) right).longValue());
+    }
+    
+    private static int evaluateInteger(final char operator, final int left, final int right) {
+        switch (operator) {
+            case '+':
+                return left + right;
+            case '-':
+                return left - right;
+            case '*':
+                return left * right;
+            default:
+                return left % right;
+        }
+    }
+    
+    private static long evaluateLong(final char operator, final long left, final long right) {
+        switch (operator) {
+            case '+':
+                return left + right;
+            case '-':
+                return left - right;
+            case '*':
+                return left * right;
+            default:
+                return left % right;
+        }
+    }
+    
+    private static Object negate(final Object value) {
+        if (value instanceof Integer) {
+            return -(Integer) value;
+        }
+        if (value instanceof Long) {
+            return -(Long) value;
+        }
+        return null;
+    }
+    
+    private static Object getVariable(final Map<String, ?> variables, final String name) {
+        Object result = variables.get(name);
+        return result instanceof Integer || result instanceof Long || result instanceof String ? result : null;
+    }
+    
+    private interface Node {
+        
+        Object evaluate(Map<String, ?> variables);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class Parser {
+        
+        private final String expression;
+        
+        private int position;
+        
+        Optional<Node> parse() {
+            Node result = parseAdditive();
+            skipWhitespace();
+            return null == result || position != expression.length() ? Optional.empty() : Optional.of(result);
+        }
+        
+        private Node parseAdditive() {
+            Node result = parseMultiplicative();
+            while (null != result) {
+                char operator = peek();
+                if ('+' != operator && '-' != operator) {
+                    return result;
+                }
+                position++;
+                Node left = result;
+                Node right = parseMultiplicative();
+                result = null == right ? null : variables -> evaluateBinary(operator, left.evaluate(variables), right.evaluate(variables));
+            }
+            return null;
+        }
+        
+        private Node parseMultiplicative() {
+            Node result = parseUnary();
+            while (null != result) {
+                char operator = peek();
+                if ('*' != operator && '%' != operator) {
+                    return result;
+                }
+                position++;
+                Node left = result;
+                Node right = parseUnary();
+                result = null == right ? null : variables -> evaluateBinary(operator, left.evaluate(variables), right.evaluate(variables));
+            }
+            return null;
+        }
+        
+        private Node parseUnary() {
+            if ('-' != peek()) {
+                return parsePrimary();
+            }
+            position++;
+            Node operand = parseUnary();
+            return null == operand ? null : variables -> negate(operand.evaluate(variables));
+        }
+        
+        private Node parsePrimary() {
+            char current = peek();
+            if ('(' == current) {
+                position++;
+                Node result = parseAdditive();
+                if (')' != peek()) {
+                    return null;
+                }
+                position++;
+                return result;
+            }
+            if ('\'' == current) {
+                return parseStringLiteral();
+            }
+            if (Character.isDigit(current)) {
+                return parseNumberLiteral();
+            }
+            if (Character.isJavaIdentifierStart(current) && '$' != current) {
+                return parseVariable();
+            }
+            return null;
+        }
+        
+        private Node parseStringLiteral() {
+            int end = expression.indexOf('\'', position + 1);
+            if (end < 0) {
+                return null;
+            }
+            String value = expression.substring(position + 1, end);
+            if (value.indexOf('\\') >= 0 || value.indexOf('$') >= 0) {
+                return null;
+            }
+            position = end + 1;
+            return variables -> value;
+        }
+        
+        private Node parseNumberLiteral() {
+            int start = position;
+            while (position < expression.length() && Character.isDigit(expression.charAt(position))) {
+                position++;
+            }
+            if (position < expression.length() && (Character.isLetter(expression.charAt(position)) || '.' == expression.charAt(position) || '_' == expression.charAt(position))) {
+                return null;
+            }
+            String literal = expression.substring(start, position);
+            if (literal.length() > 1 && '0' == literal.charAt(0) || literal.length() > 18) {
+                return null;
+            }
+            long value = Long.parseLong(literal);
+            if (value <= Integer.MAX_VALUE) {
+                int intValue = (int) value;
+                return variables -> intValue;
+            }
+            return variables -> value;
+        }
+        
+        private Node parseVariable() {
+            int start = position;
+            while (position < expression.length() && Character.isJavaIdentifierPart(expression.charAt(position)) && '$' != expression.charAt(position)) {
+                position++;
+            }
+            String name = expression.substring(start, position);
+            if (RESERVED_WORDS.contains(name) || '.' == peek() || '(' == peek() || '[' == peek()) {
+                return null;
+            }
+            return variables -> getVariable(variables, name);
+        }
+        
+        private char peek() {
+            skipWhitespace();
+            return position < expression.length() ? expression.charAt(position) : '\0';
+        }
+        
+        private void skipWhitespace() {
+            while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+                position++;
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.util.expr;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class InlineExpressionEvaluatorTest {
+    
+    @Test
+    public void assertEvaluateCompiledModulo() {
+        InlineExpressionEvaluator evaluator = new InlineExpressionEvaluator("t_order_${order_id % 4}");
+        assertTrue(evaluator.isCompiled());
+        assertThat(evaluator.evaluate(Collections.singletonMap("order_id", 10)), is("t_order_2"));
+        assertThat(evaluator.evaluate(Collections.singletonMap("order_id", 11L)), is("t_order_3"));
+    }
+    
+    @Test
+    public void assertEvaluateCompiledExpressionsSameAsGroovy() {
+        Map<String, Object> variables = new HashMap<>(4, 1);
+        variables.put("order_id", 7);
+        variables.put("user_id", 1234567890123L);
+        variables.put("name", "foo");
+        variables.put("negative", -7);
+        String[] expressions = {
+                "ds_${order_id}", "t_${(order_id + 1) % 2}_${user_id * 3 - 1}", "t_${-order_id % 3}", "t_${negative % 3 + order_id * 2}",
+                "t_${name + order_id}", "t_${order_id + name}", "t_${'x' + name}_${ 2 * (3 + order_id) }", "${name}", "t_${user_id % 16}_${order_id % 2147483647}",
+                "t_${2147483647 + order_id}", "t_${4294967296 % order_id}"};
+        for (String each : expressions) {
+            InlineExpressionEvaluator evaluator = new InlineExpressionEvaluator(each);
+            assertTrue(each, evaluator.isCompiled());
+            assertThat(each, evaluator.evaluate(variables), is(evaluateWithGroovy(each, variables)));
+        }
+    }
+    
+    @Test
+    public void assertEvaluateNotCompiledExpressions() {
+        Map<String, Object> variables = Collections.singletonMap("order_id", 7);
+        String[] expressions = {"t_${order_id.hashCode() % 2}", "t_${order_id / 2}", "t_${Math.abs(order_id) % 2}", "t_$order_id", "t_${[0, 1][order_id % 2]}", "t_${it}", "t_${order_id % 2L}"};
+        for (String each : expressions) {
+            InlineExpressionEvaluator evaluator = new InlineExpressionEvaluator(each);
+            assertFalse(each, evaluator.isCompiled());
+            assertThat(each, evaluator.evaluate(variables), is(evaluateWithGroovy(each, variables)));
+        }
+    }
+    
+    @Test
+    public void assertEvaluateWithGroovyForUnsupportedValue() {
+        InlineExpressionEvaluator evaluator = new InlineExpressionEvaluator("t_${order_id % 2}_${name}");
+        assertTrue(evaluator.isCompiled());
+        Map<String, Object> variables = new HashMap<>(2, 1);
+        variables.put("order_id", 3.5D);
+        variables.put("name", null);
+        assertThat(evaluator.evaluate(variables), is(evaluateWithGroovy("t_${order_id % 2}_${name}", variables)));
+    }
+    
+    @Test(expected = NullPointerException.class)
+    public void assertEvaluateWithAbsentVariable() {
+        new InlineExpressionEvaluator("t_${order_id % 2}").evaluate(Collections.singletonMap("user_id", 1));
+    }
+    
+    private String evaluateWithGroovy(final String expression, final Map<String, Object> variables) {
+        Closure<?> closure = new InlineExpressionParser(expression).evaluateClosure().rehydrate(new Expando(), null, null);
+        closure.setResolveStrategy(Closure.DELEGATE_ONLY);
+        for (Entry<String, Object> entry : variables.entrySet()) {
+            closure.setProperty(entry.getKey(), entry.getValue());
+        }
+        return closure.call().toString();
+    }
+}
@@ -21,10 +21,11 @@ import com.google.common.collect.Lists;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
@@ -34,7 +35,6 @@ import java.util.Map;
 /**
  * Batch execution unit.
  */
-@RequiredArgsConstructor
 @Getter
 @EqualsAndHashCode(of = "executionUnit")
 @ToString
@@ -47,6 +47,11 @@ public final class BatchExecutionUnit {
     @Getter(AccessLevel.NONE)
     private int actualCallAddBatchTimes;
     
+    public BatchExecutionUnit(final ExecutionUnit executionUnit) {
+        SQLUnit sqlUnit = executionUnit.getSqlUnit();
+        this.executionUnit = new ExecutionUnit(executionUnit.getDataSourceName(), new SQLUnit(sqlUnit.getSql(), new ArrayList<>(sqlUnit.getParameters()), sqlUnit.getTableRouteMappers()));
+    }
+    
     /**
      * Map times of use JDBC API call addBatch and times of actual call addBatch after route.
      *
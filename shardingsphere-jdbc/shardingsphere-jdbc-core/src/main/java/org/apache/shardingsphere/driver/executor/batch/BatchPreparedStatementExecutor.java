@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.driver.executor.batch;
 
-import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
@@ -35,9 +34,9 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -55,8 +54,7 @@ public final class BatchPreparedStatementExecutor {
     
     private ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext;
     
-    @Getter
-    private final Collection<BatchExecutionUnit> batchExecutionUnits;
+    private final Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits;
     
     private int batchCount;
     
@@ -70,7 +68,7 @@ public final class BatchPreparedStatementExecutor {
         this.jdbcExecutor = jdbcExecutor;
         this.eventBusContext = eventBusContext;
         executionGroupContext = new ExecutionGroupContext<>(new LinkedList<>());
-        batchExecutionUnits = new LinkedList<>();
+        batchExecutionUnits = new LinkedHashMap<>();
     }
     
     /**
@@ -84,48 +82,32 @@ public final class BatchPreparedStatementExecutor {
     
     /**
      * Add batch for execution units.
+     * 
+     * <p>Parameters are grouped by data source and rewritten SQL, which is the target data node of execution unit.</p>
      *
      * @param executionUnits execution units
      */
     public void addBatchForExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
-        Collection<BatchExecutionUnit> batchExecutionUnits = createBatchExecutionUnits(executionUnits);
-        handleOldBatchExecutionUnits(batchExecutionUnits);
-        handleNewBatchExecutionUnits(batchExecutionUnits);
-        batchCount++;
-    }
-    
-    private Collection<BatchExecutionUnit> createBatchExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
-        List<BatchExecutionUnit> result = new ArrayList<>(executionUnits.size());
         for (ExecutionUnit each : executionUnits) {
-            BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(each);
-            result.add(batchExecutionUnit);
-        }
-        return result;
-    }
-    
-    private void handleOldBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.forEach(this::reviseBatchExecutionUnits);
-    }
-    
-    private void reviseBatchExecutionUnits(final BatchExecutionUnit batchExecutionUnit) {
-        for (BatchExecutionUnit each : batchExecutionUnits) {
-            if (each.equals(batchExecutionUnit)) {
-                reviseBatchExecutionUnit(each, batchExecutionUnit);
+            BatchExecutionUnit batchExecutionUnit = batchExecutionUnits.get(each);
+            if (null == batchExecutionUnit) {
+                batchExecutionUnit = new BatchExecutionUnit(each);
+                batchExecutionUnits.put(batchExecutionUnit.getExecutionUnit(), batchExecutionUnit);
+            } else {
+                batchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().addAll(each.getSqlUnit().getParameters());
             }
+            batchExecutionUnit.mapAddBatchCount(batchCount);
         }
+        batchCount++;
     }
     
-    private void reviseBatchExecutionUnit(final BatchExecutionUnit oldBatchExecutionUnit, final BatchExecutionUnit newBatchExecutionUnit) {
-        oldBatchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().addAll(newBatchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters());
-        oldBatchExecutionUnit.mapAddBatchCount(batchCount);
-    }
-    
-    private void handleNewBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.removeAll(batchExecutionUnits);
-        for (BatchExecutionUnit each : newExecutionUnits) {
-            each.mapAddBatchCount(batchCount);
-        }
-        batchExecutionUnits.addAll(newExecutionUnits);
+    /**
+     * Get batch execution units.
+     *
+     * @return batch execution units
+     */
+    public Collection<BatchExecutionUnit> getBatchExecutionUnits() {
+        return batchExecutionUnits.values();
     }
     
     /**
@@ -172,13 +154,8 @@ public final class BatchPreparedStatementExecutor {
         int count = 0;
         for (ExecutionGroup<JDBCExecutionUnit> each : executionGroupContext.getInputGroups()) {
             for (JDBCExecutionUnit eachUnit : each.getInputs()) {
-                Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = Collections.emptyMap();
-                for (BatchExecutionUnit eachExecutionUnit : batchExecutionUnits) {
-                    if (isSameDataSourceAndSQL(eachExecutionUnit, eachUnit)) {
-                        jdbcAndActualAddBatchCallTimesMap = eachExecutionUnit.getJdbcAndActualAddBatchCallTimesMap();
-                        break;
-                    }
-                }
+                BatchExecutionUnit batchExecutionUnit = batchExecutionUnits.get(eachUnit.getExecutionUnit());
+                Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = null == batchExecutionUnit ? Collections.emptyMap() : batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap();
                 for (Entry<Integer, Integer> entry : jdbcAndActualAddBatchCallTimesMap.entrySet()) {
                     int value = null == results.get(count) ? 0 : results.get(count)[entry.getValue()];
                     result[entry.getKey()] += value;
@@ -189,11 +166,6 @@ public final class BatchPreparedStatementExecutor {
         return result;
     }
     
-    private boolean isSameDataSourceAndSQL(final BatchExecutionUnit batchExecutionUnit, final JDBCExecutionUnit jdbcExecutionUnit) {
-        return batchExecutionUnit.getExecutionUnit().getDataSourceName().equals(jdbcExecutionUnit.getExecutionUnit().getDataSourceName())
-                && batchExecutionUnit.getExecutionUnit().getSqlUnit().getSql().equals(jdbcExecutionUnit.getExecutionUnit().getSqlUnit().getSql());
-    }
-    
     /**
      * Get statements.
      *
@@ -236,12 +208,11 @@ public final class BatchPreparedStatementExecutor {
     }
     
     private List<List<Object>> getParameterSets(final JDBCExecutionUnit executionUnit) {
-        for (BatchExecutionUnit each : batchExecutionUnits) {
-            if (isSameDataSourceAndSQL(each, executionUnit)) {
-                return each.getParameterSets();
-            }
+        BatchExecutionUnit result = batchExecutionUnits.get(executionUnit.getExecutionUnit());
+        if (null == result) {
+            throw new IllegalStateException();
         }
-        throw new IllegalStateException();
+        return result.getParameterSets();
     }
     
     /**
@@ -43,6 +43,7 @@ import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementConte
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.context.kernel.ExecutionPlanCache;
 import org.apache.shardingsphere.infra.context.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
 import org.apache.shardingsphere.infra.executor.check.SQLCheckEngine;
@@ -156,6 +157,8 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     private SQLFederationDeciderContext deciderContext;
     
+    private ExecutionPlanCache batchExecutionPlanCache;
+    
     public ShardingSpherePreparedStatement(final ShardingSphereConnection connection, final String sql) throws SQLException {
         this(connection, sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT, false, null);
     }
@@ -490,11 +493,15 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     }
     
     private ExecutionContext createExecutionContext(final QueryContext queryContext) {
+        return createExecutionContext(queryContext, (ExecutionPlanCache) null);
+    }
+    
+    private ExecutionContext createExecutionContext(final QueryContext queryContext, final ExecutionPlanCache executionPlanCache) {
         SQLCheckEngine.check(queryContext.getSqlStatementContext(), queryContext.getParameters(),
                 metaDataContexts.getMetaData().getDatabase(connection.getDatabaseName()).getRuleMetaData().getRules(),
                 connection.getDatabaseName(), metaDataContexts.getMetaData().getDatabases(), null);
         ExecutionContext result = kernelProcessor.generateExecutionContext(queryContext, metaDataContexts.getMetaData().getDatabase(connection.getDatabaseName()),
-                metaDataContexts.getMetaData().getGlobalRuleMetaData(), metaDataContexts.getMetaData().getProps(), connection.getConnectionContext());
+                metaDataContexts.getMetaData().getGlobalRuleMetaData(), metaDataContexts.getMetaData().getProps(), connection.getConnectionContext(), executionPlanCache);
         findGeneratedKey(result).ifPresent(generatedKey -> generatedValues.addAll(generatedKey.getGeneratedValues()));
         return result;
     }
@@ -574,7 +581,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         try {
             QueryContext queryContext = createQueryContext();
             trafficInstanceId = getInstanceIdAndSet(queryContext).orElse(null);
-            executionContext = null != trafficInstanceId ? createExecutionContext(queryContext, trafficInstanceId) : createExecutionContext(queryContext);
+            executionContext = null != trafficInstanceId ? createExecutionContext(queryContext, trafficInstanceId) : createExecutionContext(queryContext, getBatchExecutionPlanCache());
             batchPreparedStatementExecutor.addBatchForExecutionUnits(executionContext.getExecutionUnits());
         } finally {
             currentResultSet = null;
@@ -582,6 +589,13 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         }
     }
     
+    private ExecutionPlanCache getBatchExecutionPlanCache() {
+        if (null == batchExecutionPlanCache) {
+            batchExecutionPlanCache = ExecutionPlanCache.newBatchInstance(metaDataContexts.getMetaData().getGlobalRuleMetaData(), metaDataContexts.getMetaData().getProps());
+        }
+        return batchExecutionPlanCache;
+    }
+    
     @Override
     public int[] executeBatch() throws SQLException {
         if (null == executionContext) {
@@ -629,6 +643,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     @Override
     public void clearBatch() throws SQLException {
         currentResultSet = null;
+        batchExecutionPlanCache = null;
         batchPreparedStatementExecutor.clear();
         clearParameters();
     }
@@ -21,6 +21,7 @@ import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -47,6 +48,15 @@ public final class BatchExecutionUnitTest {
         assertThat(actual.get(0).get(0), is(1));
     }
     
+    @Test
+    public void assertGetParameterSetsWithMultipleAddBatch() {
+        BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Collections.singletonList(1))));
+        batchExecutionUnit.mapAddBatchCount(0);
+        batchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().add(2);
+        batchExecutionUnit.mapAddBatchCount(1);
+        assertThat(batchExecutionUnit.getParameterSets(), is(Arrays.asList(Collections.<Object>singletonList(1), Collections.<Object>singletonList(2))));
+    }
+    
     @Test
     public void assertEquals() {
         BatchExecutionUnit actual = new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Collections.singletonList(1))));
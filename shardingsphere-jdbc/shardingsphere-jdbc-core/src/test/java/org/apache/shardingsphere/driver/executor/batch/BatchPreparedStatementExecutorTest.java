@@ -38,11 +38,15 @@ import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -85,6 +89,18 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
         verify(preparedStatement).executeBatch();
     }
     
+    @Test
+    public void assertAddBatchForExecutionUnitsGroupedByDataNode() {
+        actual.addBatchForExecutionUnits(Collections.singletonList(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1)))));
+        actual.addBatchForExecutionUnits(Collections.singletonList(new ExecutionUnit("ds_1", new SQLUnit(SQL, Collections.singletonList(2)))));
+        actual.addBatchForExecutionUnits(Collections.singletonList(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(3)))));
+        List<BatchExecutionUnit> batchExecutionUnits = new ArrayList<>(actual.getBatchExecutionUnits());
+        assertThat(batchExecutionUnits.size(), is(2));
+        assertThat(batchExecutionUnits.get(0).getParameterSets(), is(Arrays.asList(Collections.<Object>singletonList(1), Collections.<Object>singletonList(3))));
+        assertThat(batchExecutionUnits.get(0).getJdbcAndActualAddBatchCallTimesMap().keySet(), is(new HashSet<>(Arrays.asList(0, 2))));
+        assertThat(batchExecutionUnits.get(1).getParameterSets(), is(Collections.singletonList(Collections.<Object>singletonList(2))));
+    }
+    
     private PreparedStatement getPreparedStatement() throws SQLException {
         PreparedStatement result = mock(PreparedStatement.class);
         Connection connection = mock(Connection.class);
@@ -133,12 +149,12 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
         Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups = new LinkedList<>();
         List<JDBCExecutionUnit> executionUnits = new LinkedList<>();
         executionGroups.add(new ExecutionGroup<>(executionUnits));
-        Collection<BatchExecutionUnit> batchExecutionUnits = new LinkedList<>();
+        Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits = new LinkedHashMap<>();
         for (PreparedStatement each : preparedStatements) {
             BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))));
             batchExecutionUnit.mapAddBatchCount(0);
             batchExecutionUnit.mapAddBatchCount(1);
-            batchExecutionUnits.add(batchExecutionUnit);
+            batchExecutionUnits.put(batchExecutionUnit.getExecutionUnit(), batchExecutionUnit);
             executionUnits.add(new JDBCExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))),
                     ConnectionMode.MEMORY_STRICTLY, each));
         }
@@ -146,7 +162,7 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Collection<BatchExecutionUnit> batchExecutionUnits) {
+    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits) {
         Field field = BatchPreparedStatementExecutor.class.getDeclaredField("executionGroupContext");
         field.setAccessible(true);
         field.set(actual, new ExecutionGroupContext<>(executionGroups));
@@ -50,6 +50,8 @@ public class DumperConfiguration {
     
     private TableNameSchemaNameMapping tableNameSchemaNameMapping;
     
+    private String decodingPlugin;
+    
     /**
      * Get logic table name.
      *
@@ -71,6 +71,11 @@ public final class MigrationJobConfiguration implements PipelineJobConfiguration
     
     private final int retryTimes;
     
+    /**
+     * Logical decoding plugin of incremental dumper, only used by PostgreSQL source, nullable.
+     */
+    private final String decodingPlugin;
+    
     /**
      * Get job sharding count.
      *
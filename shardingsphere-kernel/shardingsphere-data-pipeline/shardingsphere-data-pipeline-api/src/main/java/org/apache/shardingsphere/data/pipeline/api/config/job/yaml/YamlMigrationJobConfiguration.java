@@ -70,6 +70,14 @@ public final class YamlMigrationJobConfiguration implements YamlPipelineJobConfi
     
     private int retryTimes = 3;
     
+    /**
+     * Logical decoding plugin of incremental dumper, only used by PostgreSQL source.
+     * <p>
+     * Value could be {@code test_decoding} or {@code pgoutput}, {@code test_decoding} is used if not configured.
+     * </p>
+     */
+    private String decodingPlugin;
+    
     /**
      * Set source.
      *
@@ -49,6 +49,7 @@ public final class YamlMigrationJobConfigurationSwapper implements YamlConfigura
         result.setJobShardingDataNodes(data.getJobShardingDataNodes());
         result.setConcurrency(data.getConcurrency());
         result.setRetryTimes(data.getRetryTimes());
+        result.setDecodingPlugin(data.getDecodingPlugin());
         return result;
     }
     
@@ -60,7 +61,7 @@ public final class YamlMigrationJobConfigurationSwapper implements YamlConfigura
                 yamlConfig.getSourceTableName(), yamlConfig.getTargetTableName(),
                 dataSourceConfigSwapper.swapToObject(yamlConfig.getSource()), dataSourceConfigSwapper.swapToObject(yamlConfig.getTarget()),
                 yamlConfig.getTablesFirstDataNodes(), yamlConfig.getJobShardingDataNodes(),
-                yamlConfig.getConcurrency(), yamlConfig.getRetryTimes());
+                yamlConfig.getConcurrency(), yamlConfig.getRetryTimes(), yamlConfig.getDecodingPlugin());
     }
     
     /**
@@ -33,4 +33,6 @@ public final class CreateMigrationJobParameter {
     private final String targetDatabaseName;
     
     private final String targetTableName;
+    
+    private String decodingPlugin;
 }
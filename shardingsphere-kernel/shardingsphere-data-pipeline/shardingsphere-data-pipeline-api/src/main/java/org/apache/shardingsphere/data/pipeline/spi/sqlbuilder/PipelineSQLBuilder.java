@@ -65,6 +65,19 @@ public interface PipelineSQLBuilder extends TypedSPI {
      */
     String buildInsertSQL(String schemaName, DataRecord dataRecord, Map<LogicTableName, Set<String>> shardingColumnsMap);
     
+    /**
+     * Build multi-row insert SQL.
+     *
+     * @param schemaName schema name
+     * @param dataRecord data record
+     * @param shardingColumnsMap sharding columns map
+     * @param rowCount row count of values
+     * @return multi-row insert SQL, empty if not supported
+     */
+    default Optional<String> buildMultiRowInsertSQL(String schemaName, DataRecord dataRecord, Map<LogicTableName, Set<String>> shardingColumnsMap, int rowCount) {
+        return Optional.empty();
+    }
+    
     /**
      * Build update SQL.
      *
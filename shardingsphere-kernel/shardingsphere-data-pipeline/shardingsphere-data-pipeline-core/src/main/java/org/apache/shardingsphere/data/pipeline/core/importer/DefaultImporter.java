@@ -40,13 +40,19 @@ import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.PipelineSQLBuilde
 import org.apache.shardingsphere.data.pipeline.core.util.ThreadUtil;
 import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
 import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 /**
@@ -57,6 +63,8 @@ public final class DefaultImporter extends AbstractLifecycleExecutor implements
     
     private static final DataRecordMerger MERGER = new DataRecordMerger();
     
+    private static final int MAX_INSERT_PARAMETER_COUNT = Short.MAX_VALUE;
+    
     @Getter(AccessLevel.PROTECTED)
     private final ImporterConfiguration importerConfig;
     
@@ -70,6 +78,8 @@ public final class DefaultImporter extends AbstractLifecycleExecutor implements
     
     private final JobRateLimitAlgorithm rateLimitAlgorithm;
     
+    private Connection connection;
+    
     public DefaultImporter(final ImporterConfiguration importerConfig, final PipelineDataSourceManager dataSourceManager, final PipelineChannel channel,
                            final PipelineJobProgressListener jobProgressListener) {
         this.importerConfig = importerConfig;
@@ -91,27 +101,58 @@ public final class DefaultImporter extends AbstractLifecycleExecutor implements
         int rowCount = 0;
         boolean finishedByBreak = false;
         int batchSize = importerConfig.getBatchSize() * 2;
-        while (isRunning()) {
-            List<Record> records = channel.fetchRecords(batchSize, 3);
-            if (null != records && !records.isEmpty()) {
-                round++;
-                rowCount += records.size();
-                flush(dataSourceManager.getDataSource(importerConfig.getDataSourceConfig()), records);
-                channel.ack(records);
-                jobProgressListener.onProgressUpdated();
-                if (0 == round % 50) {
-                    log.info("importer write, round={}, rowCount={}", round, rowCount);
+        DataSource dataSource = dataSourceManager.getDataSource(importerConfig.getDataSourceConfig());
+        ExecutorService flushExecutor = Executors.newSingleThreadExecutor(ExecutorThreadFactoryBuilder.build("Importer-flush-%d"));
+        Future<?> flushFuture = null;
+        List<Record> flushingRecords = null;
+        try {
+            while (isRunning()) {
+                List<Record> records = channel.fetchRecords(batchSize, 3);
+                if (null != flushFuture) {
+                    waitFlushAndAck(flushFuture, flushingRecords);
+                    flushFuture = null;
                 }
-                if (FinishedRecord.class.equals(records.get(records.size() - 1).getClass())) {
-                    log.info("write, get FinishedRecord, break");
-                    finishedByBreak = true;
-                    break;
+                if (null != records && !records.isEmpty()) {
+                    round++;
+                    rowCount += records.size();
+                    flushFuture = flushExecutor.submit(() -> flush(dataSource, records));
+                    flushingRecords = records;
+                    if (0 == round % 50) {
+                        log.info("importer write, round={}, rowCount={}", round, rowCount);
+                    }
+                    if (FinishedRecord.class.equals(records.get(records.size() - 1).getClass())) {
+                        log.info("write, get FinishedRecord, break");
+                        finishedByBreak = true;
+                        break;
+                    }
                 }
             }
+            if (null != flushFuture) {
+                waitFlushAndAck(flushFuture, flushingRecords);
+            }
+        } finally {
+            flushExecutor.execute(this::closeConnection);
+            flushExecutor.shutdown();
         }
         log.info("importer write done, rowCount={}, finishedByBreak={}", rowCount, finishedByBreak);
     }
     
+    private void waitFlushAndAck(final Future<?> flushFuture, final List<Record> records) {
+        try {
+            flushFuture.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new PipelineJobExecutionException("write interrupted.", ex);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new PipelineJobExecutionException("write failed.", ex.getCause());
+        }
+        channel.ack(records);
+        jobProgressListener.onProgressUpdated();
+    }
+    
     private void flush(final DataSource dataSource, final List<Record> buffer) {
         List<GroupedDataRecord> groupedDataRecords = MERGER.group(buffer.stream().filter(each -> each instanceof DataRecord).map(each -> (DataRecord) each).collect(Collectors.toList()));
         groupedDataRecords.forEach(each -> {
@@ -138,6 +179,7 @@ public final class DefaultImporter extends AbstractLifecycleExecutor implements
                 return true;
             } catch (final SQLException ex) {
                 log.error("flush failed {}/{} times.", i, importerConfig.getRetryTimes(), ex);
+                closeConnection();
                 ThreadUtil.sleep(Math.min(5 * 60 * 1000L, 1000L << i));
             }
         }
@@ -145,36 +187,63 @@ public final class DefaultImporter extends AbstractLifecycleExecutor implements
     }
     
     private void doFlush(final DataSource dataSource, final List<DataRecord> buffer) throws SQLException {
-        try (Connection connection = dataSource.getConnection()) {
-            connection.setAutoCommit(false);
-            switch (buffer.get(0).getType()) {
-                case IngestDataChangeType.INSERT:
-                    if (null != rateLimitAlgorithm) {
-                        rateLimitAlgorithm.intercept(JobOperationType.INSERT, 1);
-                    }
-                    executeBatchInsert(connection, buffer);
-                    break;
-                case IngestDataChangeType.UPDATE:
-                    if (null != rateLimitAlgorithm) {
-                        rateLimitAlgorithm.intercept(JobOperationType.UPDATE, 1);
-                    }
-                    executeUpdate(connection, buffer);
-                    break;
-                case IngestDataChangeType.DELETE:
-                    if (null != rateLimitAlgorithm) {
-                        rateLimitAlgorithm.intercept(JobOperationType.DELETE, 1);
-                    }
-                    executeBatchDelete(connection, buffer);
-                    break;
-                default:
-                    break;
-            }
-            connection.commit();
+        Connection connection = getConnection(dataSource);
+        switch (buffer.get(0).getType()) {
+            case IngestDataChangeType.INSERT:
+                if (null != rateLimitAlgorithm) {
+                    rateLimitAlgorithm.intercept(JobOperationType.INSERT, 1);
+                }
+                executeBatchInsert(connection, buffer);
+                break;
+            case IngestDataChangeType.UPDATE:
+                if (null != rateLimitAlgorithm) {
+                    rateLimitAlgorithm.intercept(JobOperationType.UPDATE, 1);
+                }
+                executeUpdate(connection, buffer);
+                break;
+            case IngestDataChangeType.DELETE:
+                if (null != rateLimitAlgorithm) {
+                    rateLimitAlgorithm.intercept(JobOperationType.DELETE, 1);
+                }
+                executeBatchDelete(connection, buffer);
+                break;
+            default:
+                break;
         }
+        connection.commit();
+    }
+    
+    private Connection getConnection(final DataSource dataSource) throws SQLException {
+        if (null == connection) {
+            Connection result = dataSource.getConnection();
+            result.setAutoCommit(false);
+            connection = result;
+        }
+        return connection;
+    }
+    
+    private void closeConnection() {
+        if (null == connection) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (final SQLException ex) {
+            log.warn("close connection failed.", ex);
+        }
+        connection = null;
     }
     
     private void executeBatchInsert(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
         DataRecord dataRecord = dataRecords.get(0);
+        int rowsPerStatement = Math.min(dataRecords.size(), MAX_INSERT_PARAMETER_COUNT / Math.max(1, dataRecord.getColumnCount()));
+        Optional<String> multiRowInsertSQL = rowsPerStatement > 1
+                ? pipelineSqlBuilder.buildMultiRowInsertSQL(getSchemaName(dataRecord.getTableName()), dataRecord, importerConfig.getShardingColumnsMap(), rowsPerStatement)
+                : Optional.empty();
+        if (multiRowInsertSQL.isPresent()) {
+            executeMultiRowInsert(connection, multiRowInsertSQL.get(), dataRecords, rowsPerStatement);
+            return;
+        }
         String insertSql = pipelineSqlBuilder.buildInsertSQL(getSchemaName(dataRecord.getTableName()), dataRecord, importerConfig.getShardingColumnsMap());
         try (PreparedStatement ps = connection.prepareStatement(insertSql)) {
             ps.setQueryTimeout(30);
@@ -188,6 +257,25 @@ public final class DefaultImporter extends AbstractLifecycleExecutor implements
         }
     }
     
+    private void executeMultiRowInsert(final Connection connection, final String multiRowInsertSQL, final List<DataRecord> dataRecords, final int rowsPerStatement) throws SQLException {
+        for (int i = 0; i < dataRecords.size(); i += rowsPerStatement) {
+            List<DataRecord> rows = dataRecords.subList(i, Math.min(i + rowsPerStatement, dataRecords.size()));
+            String insertSql = rowsPerStatement == rows.size() ? multiRowInsertSQL
+                    : pipelineSqlBuilder.buildMultiRowInsertSQL(getSchemaName(rows.get(0).getTableName()), rows.get(0), importerConfig.getShardingColumnsMap(), rows.size())
+                            .orElseThrow(IllegalStateException::new);
+            try (PreparedStatement ps = connection.prepareStatement(insertSql)) {
+                ps.setQueryTimeout(30);
+                int parameterIndex = 1;
+                for (DataRecord each : rows) {
+                    for (int j = 0; j < each.getColumnCount(); j++) {
+                        ps.setObject(parameterIndex++, each.getColumn(j).getValue());
+                    }
+                }
+                ps.executeUpdate();
+            }
+        }
+    }
+    
     private String getSchemaName(final String logicTableName) {
         return getImporterConfig().getSchemaName(new LogicTableName(logicTableName));
     }
@@ -26,9 +26,9 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderReco
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 import org.apache.shardingsphere.data.pipeline.core.ingest.channel.EmptyAckCallback;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Multiplex memory pipeline channel.
@@ -42,7 +42,7 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     
     private final PipelineChannel[] channels;
     
-    private final Map<String, Integer> channelAssignment = new HashMap<>();
+    private final Map<Long, Integer> channelAssignment = new ConcurrentHashMap<>();
     
     public MultiplexMemoryPipelineChannel() {
         this(EMPTY_ACK_CALLBACK);
@@ -64,6 +64,11 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
         }
     }
     
+    public MultiplexMemoryPipelineChannel(final PipelineChannel[] channels) {
+        channelNumber = channels.length;
+        this.channels = channels;
+    }
+    
     @Override
     public void pushRecord(final Record record) {
         if (FinishedRecord.class.equals(record.getClass())) {
@@ -95,12 +100,16 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     }
     
     private PipelineChannel findChannel() {
-        String threadId = Long.toString(Thread.currentThread().getId());
-        checkAssignment(threadId);
-        return channels[channelAssignment.get(threadId)];
+        long threadId = Thread.currentThread().getId();
+        Integer channelIndex = channelAssignment.get(threadId);
+        if (null == channelIndex) {
+            checkAssignment(threadId);
+            channelIndex = channelAssignment.get(threadId);
+        }
+        return channels[channelIndex];
     }
     
-    private void checkAssignment(final String threadId) {
+    private void checkAssignment(final long threadId) {
         if (!channelAssignment.containsKey(threadId)) {
             synchronized (this) {
                 if (!channelAssignment.containsKey(threadId)) {
@@ -110,7 +119,7 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
         }
     }
     
-    private void assignmentChannel(final String threadId) {
+    private void assignmentChannel(final long threadId) {
         for (int i = 0; i < channels.length; i++) {
             if (!channelAssignment.containsValue(i)) {
                 channelAssignment.put(threadId, i);
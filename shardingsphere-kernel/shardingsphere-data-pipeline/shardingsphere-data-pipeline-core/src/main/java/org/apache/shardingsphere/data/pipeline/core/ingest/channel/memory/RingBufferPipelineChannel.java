@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ring buffer pipeline channel.
+ *
+ * <p>Records are kept in a pre-allocated array, one producer thread pushes and one consumer thread fetches.</p>
+ */
+public final class RingBufferPipelineChannel implements PipelineChannel {
+    
+    private final Record[] buffer;
+    
+    private final int mask;
+    
+    private final RingBufferWaitStrategy waitStrategy;
+    
+    private final AckCallback ackCallback;
+    
+    private final AtomicLong writeSequence = new AtomicLong();
+    
+    private final AtomicLong readSequence = new AtomicLong();
+    
+    private long cachedReadSequence;
+    
+    private long cachedWriteSequence;
+    
+    public RingBufferPipelineChannel(final int bufferSize, final RingBufferWaitStrategy waitStrategy, final AckCallback ackCallback) {
+        int capacity = roundUpToPowerOfTwo(bufferSize);
+        buffer = new Record[capacity];
+        mask = capacity - 1;
+        this.waitStrategy = waitStrategy;
+        this.ackCallback = ackCallback;
+    }
+    
+    private static int roundUpToPowerOfTwo(final int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+    
+    @Override
+    public void pushRecord(final Record dataRecord) {
+        long sequence = writeSequence.get();
+        long wrapPoint = sequence - buffer.length;
+        int idleCount = 0;
+        while (wrapPoint >= cachedReadSequence) {
+            cachedReadSequence = readSequence.get();
+            if (wrapPoint < cachedReadSequence) {
+                break;
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                throw new RuntimeException("put " + dataRecord + " into ring buffer interrupted");
+            }
+            idleCount = waitStrategy.idle(idleCount);
+        }
+        buffer[(int) (sequence & mask)] = dataRecord;
+        writeSequence.lazySet(sequence + 1);
+    }
+    
+    @Override
+    public List<Record> fetchRecords(final int batchSize, final int timeoutSeconds) {
+        long sequence = readSequence.get();
+        int expectedCount = Math.min(batchSize, buffer.length);
+        if (cachedWriteSequence - sequence < expectedCount) {
+            waitAvailable(sequence + expectedCount, TimeUnit.SECONDS.toNanos(timeoutSeconds));
+        }
+        int count = (int) Math.min(batchSize, cachedWriteSequence - sequence);
+        List<Record> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int index = (int) ((sequence + i) & mask);
+            result.add(buffer[index]);
+            buffer[index] = null;
+        }
+        readSequence.lazySet(sequence + count);
+        return result;
+    }
+    
+    private void waitAvailable(final long expectedWriteSequence, final long timeoutNanos) {
+        long start = System.nanoTime();
+        int idleCount = 0;
+        while (true) {
+            cachedWriteSequence = writeSequence.get();
+            if (cachedWriteSequence >= expectedWriteSequence || System.nanoTime() - start >= timeoutNanos || Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            idleCount = waitStrategy.idle(idleCount);
+        }
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        ackCallback.onAck(records);
+    }
+    
+    @Override
+    public void close() {
+        Arrays.fill(buffer, null);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
+
+import com.google.common.base.Strings;
+import lombok.Getter;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.spi.ingest.channel.PipelineChannelCreator;
+
+import java.util.Properties;
+
+/**
+ * Ring buffer implementation of pipeline channel creator.
+ */
+public final class RingBufferPipelineChannelCreator implements PipelineChannelCreator {
+    
+    public static final String TYPE = "RING_BUFFER";
+    
+    public static final int BUFFER_SIZE_DEFAULT_VALUE = 16384;
+    
+    public static final String BUFFER_SIZE_KEY = "buffer-size";
+    
+    public static final String WAIT_STRATEGY_KEY = "wait-strategy";
+    
+    @Getter
+    private Properties props;
+    
+    private int bufferSize = BUFFER_SIZE_DEFAULT_VALUE;
+    
+    private RingBufferWaitStrategy waitStrategy = RingBufferWaitStrategy.SLEEPING;
+    
+    @Override
+    public void init(final Properties props) {
+        this.props = props;
+        String bufferSizeValue = props.getProperty(BUFFER_SIZE_KEY);
+        if (!Strings.isNullOrEmpty(bufferSizeValue)) {
+            bufferSize = Integer.parseInt(bufferSizeValue);
+        }
+        String waitStrategyValue = props.getProperty(WAIT_STRATEGY_KEY);
+        if (!Strings.isNullOrEmpty(waitStrategyValue)) {
+            waitStrategy = RingBufferWaitStrategy.valueOf(waitStrategyValue.toUpperCase());
+        }
+    }
+    
+    @Override
+    public PipelineChannel createPipelineChannel(final int outputConcurrency, final AckCallback ackCallback) {
+        if (1 == outputConcurrency) {
+            return new RingBufferPipelineChannel(bufferSize, waitStrategy, ackCallback);
+        }
+        PipelineChannel[] channels = new PipelineChannel[outputConcurrency];
+        for (int i = 0; i < outputConcurrency; i++) {
+            channels[i] = new RingBufferPipelineChannel(bufferSize, waitStrategy, ackCallback);
+        }
+        return new MultiplexMemoryPipelineChannel(channels);
+    }
+    
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+}
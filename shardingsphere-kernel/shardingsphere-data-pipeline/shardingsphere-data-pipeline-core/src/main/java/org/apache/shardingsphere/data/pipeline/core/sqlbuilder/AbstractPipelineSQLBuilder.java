@@ -106,21 +106,38 @@ public abstract class AbstractPipelineSQLBuilder implements PipelineSQLBuilder {
     public String buildInsertSQL(final String schemaName, final DataRecord dataRecord, final Map<LogicTableName, Set<String>> shardingColumnsMap) {
         String sqlCacheKey = INSERT_SQL_CACHE_KEY_PREFIX + dataRecord.getTableName();
         if (!sqlCacheMap.containsKey(sqlCacheKey)) {
-            sqlCacheMap.put(sqlCacheKey, buildInsertSQLInternal(schemaName, dataRecord.getTableName(), dataRecord.getColumns()));
+            sqlCacheMap.put(sqlCacheKey, buildInsertSQLInternal(schemaName, dataRecord.getTableName(), dataRecord.getColumns(), 1));
         }
         return sqlCacheMap.get(sqlCacheKey);
     }
     
-    private String buildInsertSQLInternal(final String schemaName, final String tableName, final List<Column> columns) {
+    /**
+     * Build multi-row insert SQL without dialect specific clauses.
+     *
+     * @param schemaName schema name
+     * @param dataRecord data record
+     * @param rowCount row count of values
+     * @return multi-row insert SQL
+     */
+    protected final String buildMultiRowInsertSQLInternal(final String schemaName, final DataRecord dataRecord, final int rowCount) {
+        return buildInsertSQLInternal(schemaName, dataRecord.getTableName(), dataRecord.getColumns(), rowCount);
+    }
+    
+    private String buildInsertSQLInternal(final String schemaName, final String tableName, final List<Column> columns, final int rowCount) {
         StringBuilder columnsLiteral = new StringBuilder();
-        StringBuilder holder = new StringBuilder();
+        StringBuilder holder = new StringBuilder("(");
         for (Column each : columns) {
             columnsLiteral.append(String.format("%s,", quote(each.getName())));
             holder.append("?,");
         }
         columnsLiteral.setLength(columnsLiteral.length() - 1);
         holder.setLength(holder.length() - 1);
-        return String.format("INSERT INTO %s(%s) VALUES(%s)", decorate(schemaName, tableName), columnsLiteral, holder);
+        holder.append(")");
+        StringBuilder values = new StringBuilder(holder);
+        for (int i = 1; i < rowCount; i++) {
+            values.append(",").append(holder);
+        }
+        return String.format("INSERT INTO %s(%s) VALUES%s", decorate(schemaName, tableName), columnsLiteral, values);
     }
     
     // TODO seems sharding column could be updated for insert statement on conflict by kernel now
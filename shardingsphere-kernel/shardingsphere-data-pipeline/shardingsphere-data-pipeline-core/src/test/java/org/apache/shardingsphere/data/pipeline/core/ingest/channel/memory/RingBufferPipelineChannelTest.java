@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class RingBufferPipelineChannelTest {
+    
+    @Test
+    public void assertFetchRecords() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, RingBufferWaitStrategy.BUSY_SPIN, mock(AckCallback.class));
+        Record record = mock(Record.class);
+        channel.pushRecord(record);
+        channel.pushRecord(record);
+        channel.pushRecord(record);
+        List<Record> actual = channel.fetchRecords(2, 1);
+        assertThat(actual.size(), is(2));
+        assertThat(channel.fetchRecords(2, 0).size(), is(1));
+    }
+    
+    @Test(timeout = 5000L)
+    public void assertFetchRecordsWithBatchSizeGreaterThanCapacity() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, RingBufferWaitStrategy.BUSY_SPIN, mock(AckCallback.class));
+        for (int i = 0; i < 4; i++) {
+            channel.pushRecord(mock(Record.class));
+        }
+        assertThat(channel.fetchRecords(100, 30).size(), is(4));
+    }
+}
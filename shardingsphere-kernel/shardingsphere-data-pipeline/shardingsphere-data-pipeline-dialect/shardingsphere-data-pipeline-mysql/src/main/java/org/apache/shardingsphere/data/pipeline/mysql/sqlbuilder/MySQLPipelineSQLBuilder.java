@@ -46,6 +46,11 @@ public final class MySQLPipelineSQLBuilder extends AbstractPipelineSQLBuilder {
         return super.buildInsertSQL(schemaName, dataRecord, shardingColumnsMap) + buildDuplicateUpdateSQL(dataRecord, shardingColumnsMap);
     }
     
+    @Override
+    public Optional<String> buildMultiRowInsertSQL(final String schemaName, final DataRecord dataRecord, final Map<LogicTableName, Set<String>> shardingColumnsMap, final int rowCount) {
+        return Optional.of(buildMultiRowInsertSQLInternal(schemaName, dataRecord, rowCount) + buildDuplicateUpdateSQL(dataRecord, shardingColumnsMap));
+    }
+    
     private String buildDuplicateUpdateSQL(final DataRecord dataRecord, final Map<LogicTableName, Set<String>> shardingColumnsMap) {
         StringBuilder result = new StringBuilder(" ON DUPLICATE KEY UPDATE ");
         for (int i = 0; i < dataRecord.getColumnCount(); i++) {
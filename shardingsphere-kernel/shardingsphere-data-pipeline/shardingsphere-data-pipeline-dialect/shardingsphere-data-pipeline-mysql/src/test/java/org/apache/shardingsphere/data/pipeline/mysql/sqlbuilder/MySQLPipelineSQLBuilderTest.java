@@ -51,6 +51,13 @@ public final class MySQLPipelineSQLBuilderTest {
         assertThat(actual, is("INSERT INTO t2(id,sc,c1,c2,c3) VALUES(?,?,?,?,?) ON DUPLICATE KEY UPDATE c1=VALUES(c1),c2=VALUES(c2),c3=VALUES(c3)"));
     }
     
+    @Test
+    public void assertBuildMultiRowInsertSQL() {
+        Optional<String> actual = sqlBuilder.buildMultiRowInsertSQL(null, mockDataRecord("t2"), shardingColumnsMap, 2);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("INSERT INTO t2(id,sc,c1,c2,c3) VALUES(?,?,?,?,?),(?,?,?,?,?) ON DUPLICATE KEY UPDATE c1=VALUES(c1),c2=VALUES(c2),c3=VALUES(c3)"));
+    }
+    
     @Test
     public void assertBuildSumCrc32SQL() {
         Optional<String> actual = sqlBuilder.buildCRC32SQL(null, "t2", "id");
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.AbstractPipelineS
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -52,6 +53,11 @@ public final class OpenGaussPipelineSQLBuilder extends AbstractPipelineSQLBuilde
         return super.buildInsertSQL(schemaName, dataRecord, shardingColumnsMap) + buildConflictSQL(dataRecord, shardingColumnsMap);
     }
     
+    @Override
+    public Optional<String> buildMultiRowInsertSQL(final String schemaName, final DataRecord dataRecord, final Map<LogicTableName, Set<String>> shardingColumnsMap, final int rowCount) {
+        return Optional.of(buildMultiRowInsertSQLInternal(schemaName, dataRecord, rowCount) + buildConflictSQL(dataRecord, shardingColumnsMap));
+    }
+    
     @Override
     public List<Column> extractUpdatedColumns(final DataRecord record, final Map<LogicTableName, Set<String>> shardingColumnsMap) {
         return record.getColumns().stream().filter(each -> !(each.isUniqueKey() || isShardingColumn(shardingColumnsMap, record.getTableName(), each.getName()))).collect(Collectors.toList());
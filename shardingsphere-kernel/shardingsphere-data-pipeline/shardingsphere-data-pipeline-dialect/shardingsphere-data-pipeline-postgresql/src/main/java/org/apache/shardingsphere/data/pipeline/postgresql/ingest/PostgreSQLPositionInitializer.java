@@ -19,7 +19,10 @@ package org.apache.shardingsphere.data.pipeline.postgresql.ingest;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.shardingsphere.data.pipeline.api.config.ingest.DumperConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.metadata.ActualTableName;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WalPosition;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.DecodingPluginFactory;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PostgreSQLLogSequenceNumber;
 import org.apache.shardingsphere.data.pipeline.spi.ingest.position.PositionInitializer;
 import org.postgresql.replication.LogSequenceNumber;
@@ -29,6 +32,8 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedList;
 
 /**
  * PostgreSQL wal position initializer.
@@ -38,14 +43,26 @@ public final class PostgreSQLPositionInitializer implements PositionInitializer
     
     private static final String SLOT_NAME_PREFIX = "sharding_scaling";
     
-    private static final String DECODE_PLUGIN = "test_decoding";
-    
     private static final String DUPLICATE_OBJECT_ERROR_CODE = "42710";
     
     @Override
     public WalPosition init(final DataSource dataSource, final String slotNameSuffix) throws SQLException {
         try (Connection connection = dataSource.getConnection()) {
-            createSlotIfNotExist(connection, getUniqueSlotName(connection, slotNameSuffix));
+            createSlotIfNotExist(connection, getUniqueSlotName(connection, slotNameSuffix), DecodingPluginFactory.TEST_DECODING);
+            return getWalPosition(connection);
+        }
+    }
+    
+    @Override
+    public WalPosition init(final DataSource dataSource, final DumperConfiguration dumperConfig) throws SQLException {
+        String decodingPlugin = DecodingPluginFactory.getPluginName(dumperConfig.getDecodingPlugin());
+        try (Connection connection = dataSource.getConnection()) {
+            String slotName = getUniqueSlotName(connection, dumperConfig.getJobId());
+            if (DecodingPluginFactory.PG_OUTPUT.equals(decodingPlugin)) {
+                createPublicationAndSlotIfNotExist(connection, slotName, dumperConfig);
+            } else {
+                createSlotIfNotExist(connection, slotName, decodingPlugin);
+            }
             return getWalPosition(connection);
         }
     }
@@ -55,12 +72,64 @@ public final class PostgreSQLPositionInitializer implements PositionInitializer
         return new WalPosition(new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf(Long.parseLong(data))));
     }
     
-    private void createSlotIfNotExist(final Connection connection, final String slotName) throws SQLException {
-        if (isSlotExisting(connection, slotName)) {
+    private void createPublicationAndSlotIfNotExist(final Connection connection, final String slotName, final DumperConfiguration dumperConfig) throws SQLException {
+        boolean isPublicationCreated = createPublicationIfNotExist(connection, slotName, dumperConfig);
+        try {
+            createSlotIfNotExist(connection, slotName, DecodingPluginFactory.PG_OUTPUT);
+        } catch (final SQLException ex) {
+            if (isPublicationCreated) {
+                dropCreatedPublication(connection, slotName, ex);
+            }
+            throw ex;
+        }
+    }
+    
+    private void dropCreatedPublication(final Connection connection, final String publicationName, final SQLException cause) {
+        log.warn("Create slot failed, drop created publication, publicationName={}", publicationName);
+        try {
+            dropPublicationIfExist(connection, publicationName);
+        } catch (final SQLException ex) {
+            cause.addSuppressed(ex);
+        }
+    }
+    
+    private boolean createPublicationIfNotExist(final Connection connection, final String publicationName, final DumperConfiguration dumperConfig) throws SQLException {
+        if (isPublicationExisting(connection, publicationName)) {
+            log.info("createPublicationIfNotExist, publication exist, publicationName={}", publicationName);
+            return false;
+        }
+        Collection<String> tableNames = new LinkedList<>();
+        for (ActualTableName each : dumperConfig.getTableNameMap().keySet()) {
+            String schemaName = dumperConfig.getSchemaName(each);
+            tableNames.add(null == schemaName ? quoteIdentifier(each.getOriginal()) : String.join(".", quoteIdentifier(schemaName), quoteIdentifier(each.getOriginal())));
+        }
+        String createPublicationSQL = String.format("CREATE PUBLICATION %s FOR TABLE %s", quoteIdentifier(publicationName), String.join(",", tableNames));
+        try (PreparedStatement preparedStatement = connection.prepareStatement(createPublicationSQL)) {
+            preparedStatement.execute();
+            return true;
+        } catch (final SQLException ex) {
+            if (!DUPLICATE_OBJECT_ERROR_CODE.equals(ex.getSQLState())) {
+                throw ex;
+            }
+            return false;
+        }
+    }
+    
+    private boolean isPublicationExisting(final Connection connection, final String publicationName) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement("SELECT pubname FROM pg_publication WHERE pubname=?")) {
+            preparedStatement.setString(1, publicationName);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next();
+            }
+        }
+    }
+    
+    private void createSlotIfNotExist(final Connection connection, final String slotName, final String decodingPlugin) throws SQLException {
+        if (isSlotExisting(connection, slotName, decodingPlugin)) {
             log.info("createSlotIfNotExist, slot exist, slotName={}", slotName);
             return;
         }
-        String createSlotSQL = String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", slotName, DECODE_PLUGIN);
+        String createSlotSQL = String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", slotName, decodingPlugin);
         try (PreparedStatement preparedStatement = connection.prepareStatement(createSlotSQL)) {
             preparedStatement.execute();
         } catch (final SQLException ex) {
@@ -70,11 +139,11 @@ public final class PostgreSQLPositionInitializer implements PositionInitializer
         }
     }
     
-    private boolean isSlotExisting(final Connection connection, final String slotName) throws SQLException {
+    private boolean isSlotExisting(final Connection connection, final String slotName, final String decodingPlugin) throws SQLException {
         String checkSlotSQL = "SELECT slot_name FROM pg_replication_slots WHERE slot_name=? AND plugin=?";
         try (PreparedStatement preparedStatement = connection.prepareStatement(checkSlotSQL)) {
             preparedStatement.setString(1, slotName);
-            preparedStatement.setString(2, DECODE_PLUGIN);
+            preparedStatement.setString(2, decodingPlugin);
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 return resultSet.next();
             }
@@ -109,10 +178,19 @@ public final class PostgreSQLPositionInitializer implements PositionInitializer
     
     private void dropSlotIfExist(final Connection connection, final String slotNameSuffix) throws SQLException {
         String slotName = getUniqueSlotName(connection, slotNameSuffix);
-        if (!isSlotExisting(connection, slotName)) {
-            log.info("dropSlotIfExist, slot not exist, slotName={}", slotName);
+        if (isSlotExisting(connection, slotName, DecodingPluginFactory.TEST_DECODING)) {
+            dropSlot(connection, slotName);
             return;
         }
+        if (isSlotExisting(connection, slotName, DecodingPluginFactory.PG_OUTPUT)) {
+            dropSlot(connection, slotName);
+            dropPublicationIfExist(connection, slotName);
+            return;
+        }
+        log.info("dropSlotIfExist, slot not exist, slotName={}", slotName);
+    }
+    
+    private void dropSlot(final Connection connection, final String slotName) throws SQLException {
         log.info("dropSlotIfExist, slot exist, slotName={}", slotName);
         String dropSlotSQL = "SELECT pg_drop_replication_slot(?)";
         try (PreparedStatement preparedStatement = connection.prepareStatement(dropSlotSQL)) {
@@ -121,6 +199,16 @@ public final class PostgreSQLPositionInitializer implements PositionInitializer
         }
     }
     
+    private void dropPublicationIfExist(final Connection connection, final String publicationName) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(String.format("DROP PUBLICATION IF EXISTS %s", quoteIdentifier(publicationName)))) {
+            preparedStatement.execute();
+        }
+    }
+    
+    private String quoteIdentifier(final String identifier) {
+        return "\"" + identifier.replace("\"", "\"\"") + "\"";
+    }
+    
     /**
      * Get the unique slot name by connection.
      *
@@ -31,9 +31,9 @@ import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.LogicalRepl
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WalEventConverter;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WalPosition;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.DecodingPlugin;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.DecodingPluginFactory;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PostgreSQLLogSequenceNumber;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PostgreSQLTimestampUtils;
-import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.TestDecodingPlugin;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractWalEvent;
 import org.postgresql.jdbc.PgConnection;
 import org.postgresql.replication.PGReplicationStream;
@@ -80,9 +80,9 @@ public final class PostgreSQLWalDumper extends AbstractIncrementalDumper<WalPosi
         try (
                 Connection connection = logicalReplication.createConnection((StandardPipelineDataSourceConfiguration) dumperConfig.getDataSourceConfig());
                 PGReplicationStream stream = logicalReplication.createReplicationStream(connection, PostgreSQLPositionInitializer.getUniqueSlotName(connection, dumperConfig.getJobId()),
-                        walPosition.getLogSequenceNumber())) {
+                        walPosition.getLogSequenceNumber(), DecodingPluginFactory.getPluginName(dumperConfig.getDecodingPlugin()))) {
             PostgreSQLTimestampUtils utils = new PostgreSQLTimestampUtils(connection.unwrap(PgConnection.class).getTimestampUtils());
-            DecodingPlugin decodingPlugin = new TestDecodingPlugin(utils);
+            DecodingPlugin decodingPlugin = DecodingPluginFactory.newInstance(dumperConfig.getDecodingPlugin(), utils);
             while (isRunning()) {
                 ByteBuffer message = stream.readPending();
                 if (null == message) {
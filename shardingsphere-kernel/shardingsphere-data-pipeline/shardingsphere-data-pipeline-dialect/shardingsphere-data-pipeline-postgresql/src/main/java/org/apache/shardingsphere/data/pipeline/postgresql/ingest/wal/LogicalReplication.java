@@ -20,10 +20,12 @@ package org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal;
 import org.apache.shardingsphere.data.pipeline.api.datasource.config.impl.StandardPipelineDataSourceConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.datasource.config.yaml.YamlJdbcConfiguration;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.BaseLogSequenceNumber;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.DecodingPluginFactory;
 import org.postgresql.PGConnection;
 import org.postgresql.PGProperty;
 import org.postgresql.replication.LogSequenceNumber;
 import org.postgresql.replication.PGReplicationStream;
+import org.postgresql.replication.fluent.logical.ChainedLogicalStreamBuilder;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
@@ -64,13 +66,29 @@ public final class LogicalReplication {
      * @throws SQLException SQL exception
      */
     public PGReplicationStream createReplicationStream(final Connection connection, final String slotName, final BaseLogSequenceNumber startPosition) throws SQLException {
-        return connection.unwrap(PGConnection.class).getReplicationAPI()
+        return createReplicationStream(connection, slotName, startPosition, DecodingPluginFactory.TEST_DECODING);
+    }
+    
+    /**
+     * Create PostgreSQL replication stream with decoding plugin.
+     *
+     * @param connection connection
+     * @param slotName slot name, also used as publication name of pgoutput
+     * @param startPosition start position
+     * @param decodingPlugin decoding plugin name
+     * @return replication stream
+     * @throws SQLException SQL exception
+     */
+    public PGReplicationStream createReplicationStream(final Connection connection, final String slotName, final BaseLogSequenceNumber startPosition,
+                                                       final String decodingPlugin) throws SQLException {
+        ChainedLogicalStreamBuilder streamBuilder = connection.unwrap(PGConnection.class).getReplicationAPI()
                 .replicationStream()
                 .logical()
                 .withStartPosition((LogSequenceNumber) startPosition.get())
-                .withSlotName(slotName)
-                .withSlotOption("include-xids", true)
-                .withSlotOption("skip-empty-xacts", true)
-                .start();
+                .withSlotName(slotName);
+        if (DecodingPluginFactory.PG_OUTPUT.equals(DecodingPluginFactory.getPluginName(decodingPlugin))) {
+            return streamBuilder.withSlotOption("proto_version", 1).withSlotOption("publication_names", slotName).start();
+        }
+        return streamBuilder.withSlotOption("include-xids", true).withSlotOption("skip-empty-xacts", true).start();
     }
 }
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode;
+
+import com.google.common.base.Strings;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Decoding plugin factory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DecodingPluginFactory {
+    
+    public static final String TEST_DECODING = "test_decoding";
+    
+    public static final String PG_OUTPUT = "pgoutput";
+    
+    /**
+     * Get actual decoding plugin name.
+     *
+     * @param decodingPlugin configured decoding plugin name, nullable
+     * @return decoding plugin name, {@code test_decoding} if not configured
+     * @throws IllegalArgumentException if decoding plugin is not supported
+     */
+    public static String getPluginName(final String decodingPlugin) {
+        if (Strings.isNullOrEmpty(decodingPlugin)) {
+            return TEST_DECODING;
+        }
+        if (TEST_DECODING.equalsIgnoreCase(decodingPlugin)) {
+            return TEST_DECODING;
+        }
+        if (PG_OUTPUT.equalsIgnoreCase(decodingPlugin)) {
+            return PG_OUTPUT;
+        }
+        throw new IllegalArgumentException(String.format("Unsupported decoding plugin `%s`", decodingPlugin));
+    }
+    
+    /**
+     * Create new instance of decoding plugin.
+     *
+     * @param decodingPlugin configured decoding plugin name, nullable
+     * @param timestampUtils timestamp utils
+     * @return new instance of decoding plugin
+     */
+    public static DecodingPlugin newInstance(final String decodingPlugin, final BaseTimestampUtils timestampUtils) {
+        return PG_OUTPUT.equals(getPluginName(decodingPlugin)) ? new PgOutputDecodingPlugin(timestampUtils) : new TestDecodingPlugin(timestampUtils);
+    }
+}
@@ -0,0 +1,347 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.core.ingest.exception.IngestException;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractWalEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.DeleteRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.UpdateRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.WriteRowEvent;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Pgoutput decoding plugin.
+ *
+ * <p>Decode messages of pgoutput logical replication protocol version 1 directly from the binary stream.
+ * Unchanged TOASTed values are not sent by pgoutput, their column indexes are kept in update row event so that they are not overwritten.</p>
+ */
+@RequiredArgsConstructor
+public final class PgOutputDecodingPlugin implements DecodingPlugin {
+    
+    private static final int BOOL_OID = 16;
+    
+    private static final int BYTEA_OID = 17;
+    
+    private static final int INT8_OID = 20;
+    
+    private static final int INT2_OID = 21;
+    
+    private static final int INT4_OID = 23;
+    
+    private static final int FLOAT4_OID = 700;
+    
+    private static final int FLOAT8_OID = 701;
+    
+    private static final int DATE_OID = 1082;
+    
+    private static final int TIME_OID = 1083;
+    
+    private static final int TIMESTAMP_OID = 1114;
+    
+    private static final int NUMERIC_OID = 1700;
+    
+    private static final Object UNCHANGED_TOAST_VALUE = new Object();
+    
+    private final BaseTimestampUtils timestampUtils;
+    
+    private final Map<Integer, PgOutputRelation> relations = new HashMap<>();
+    
+    @Override
+    public AbstractWalEvent decode(final ByteBuffer data, final BaseLogSequenceNumber logSequenceNumber) {
+        AbstractWalEvent result;
+        char messageType = (char) data.get();
+        switch (messageType) {
+            case 'R':
+                readRelation(data);
+                result = new PlaceholderEvent();
+                break;
+            case 'I':
+                result = readWriteRowEvent(data);
+                break;
+            case 'U':
+                result = readUpdateRowEvent(data);
+                break;
+            case 'D':
+                result = readDeleteRowEvent(data);
+                break;
+            default:
+                result = new PlaceholderEvent();
+        }
+        result.setLogSequenceNumber(logSequenceNumber);
+        return result;
+    }
+    
+    private void readRelation(final ByteBuffer data) {
+        int relationId = data.getInt();
+        String schemaName = readString(data);
+        String tableName = readString(data);
+        data.get();
+        short columnCount = data.getShort();
+        int[] columnTypes = new int[columnCount];
+        boolean[] keyColumns = new boolean[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            keyColumns[i] = 0 != (data.get() & 1);
+            skipString(data);
+            columnTypes[i] = data.getInt();
+            data.getInt();
+        }
+        relations.put(relationId, new PgOutputRelation(schemaName.isEmpty() ? "pg_catalog" : schemaName, tableName, columnTypes, keyColumns));
+    }
+    
+    private AbstractRowEvent readWriteRowEvent(final ByteBuffer data) {
+        PgOutputRelation relation = getRelation(data.getInt());
+        data.get();
+        WriteRowEvent result = new WriteRowEvent();
+        result.setAfterRow(readTupleData(data, relation));
+        setTableName(result, relation);
+        return result;
+    }
+    
+    private AbstractRowEvent readUpdateRowEvent(final ByteBuffer data) {
+        PgOutputRelation relation = getRelation(data.getInt());
+        byte tupleType = data.get();
+        if ('K' == tupleType || 'O' == tupleType) {
+            skipTupleData(data);
+            data.get();
+        }
+        List<Object> afterRow = readTupleData(data, relation);
+        Set<Integer> unchangedColumnIndexes = new HashSet<>();
+        for (int i = 0; i < afterRow.size(); i++) {
+            if (UNCHANGED_TOAST_VALUE == afterRow.get(i)) {
+                afterRow.set(i, null);
+                unchangedColumnIndexes.add(i);
+            }
+        }
+        UpdateRowEvent result = new UpdateRowEvent();
+        result.setAfterRow(afterRow);
+        result.setUnchangedColumnIndexes(unchangedColumnIndexes);
+        setTableName(result, relation);
+        return result;
+    }
+    
+    private AbstractRowEvent readDeleteRowEvent(final ByteBuffer data) {
+        PgOutputRelation relation = getRelation(data.getInt());
+        data.get();
+        List<Object> oldRow = readTupleData(data, relation);
+        List<Object> primaryKeys = new ArrayList<>(oldRow.size());
+        for (int i = 0; i < oldRow.size(); i++) {
+            if (relation.getKeyColumns()[i]) {
+                primaryKeys.add(oldRow.get(i));
+            }
+        }
+        DeleteRowEvent result = new DeleteRowEvent();
+        result.setPrimaryKeys(primaryKeys);
+        setTableName(result, relation);
+        return result;
+    }
+    
+    private PgOutputRelation getRelation(final int relationId) {
+        PgOutputRelation result = relations.get(relationId);
+        if (null == result) {
+            throw new IngestException("Unknown relation id: " + relationId);
+        }
+        return result;
+    }
+    
+    private void setTableName(final AbstractRowEvent rowEvent, final PgOutputRelation relation) {
+        rowEvent.setDatabaseName(relation.getSchemaName());
+        rowEvent.setTableName(relation.getTableName());
+    }
+    
+    private List<Object> readTupleData(final ByteBuffer data, final PgOutputRelation relation) {
+        short columnCount = data.getShort();
+        List<Object> result = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            result.add(readColumn(data, relation.getColumnTypes()[i]));
+        }
+        return result;
+    }
+    
+    private void skipTupleData(final ByteBuffer data) {
+        short columnCount = data.getShort();
+        for (int i = 0; i < columnCount; i++) {
+            if ('t' == data.get()) {
+                int length = data.getInt();
+                data.position(data.position() + length);
+            }
+        }
+    }
+    
+    private Object readColumn(final ByteBuffer data, final int columnType) {
+        char kind = (char) data.get();
+        switch (kind) {
+            case 'n':
+                return null;
+            case 'u':
+                return UNCHANGED_TOAST_VALUE;
+            case 't':
+                return readColumnData(data, columnType, data.getInt());
+            default:
+                throw new IngestException("Unknown tuple data kind: " + kind);
+        }
+    }
+    
+    private Object readColumnData(final ByteBuffer data, final int columnType, final int length) {
+        switch (columnType) {
+            case BOOL_OID:
+                return readBoolean(data, length);
+            case INT2_OID:
+                return (short) readLong(data, length);
+            case INT4_OID:
+                return (int) readLong(data, length);
+            case INT8_OID:
+                return readLong(data, length);
+            case NUMERIC_OID:
+                return readNumeric(data, length);
+            case FLOAT4_OID:
+                return Float.parseFloat(readText(data, length));
+            case FLOAT8_OID:
+                return Double.parseDouble(readText(data, length));
+            case DATE_OID:
+                return Date.valueOf(readText(data, length));
+            case TIME_OID:
+                try {
+                    return timestampUtils.toTime(null, readText(data, length));
+                } catch (final SQLException ex) {
+                    throw new DecodingException(ex);
+                }
+            case TIMESTAMP_OID:
+                try {
+                    return timestampUtils.toTimestamp(null, readText(data, length));
+                } catch (final SQLException ex) {
+                    throw new DecodingException(ex);
+                }
+            case BYTEA_OID:
+                return readByteA(data, length);
+            default:
+                return readText(data, length);
+        }
+    }
+    
+    private boolean readBoolean(final ByteBuffer data, final int length) {
+        boolean result = 't' == data.get();
+        data.position(data.position() + length - 1);
+        return result;
+    }
+    
+    private long readLong(final ByteBuffer data, final int length) {
+        long result = 0L;
+        boolean negative = false;
+        for (int i = 0; i < length; i++) {
+            byte each = data.get();
+            if (0 == i && '-' == each) {
+                negative = true;
+                continue;
+            }
+            if (each < '0' || each > '9') {
+                throw new IngestException("Illegal integer data, unexpected character: " + (char) each);
+            }
+            result = result * 10 + (each - '0');
+        }
+        return negative ? -result : result;
+    }
+    
+    private Object readNumeric(final ByteBuffer data, final int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) data.get();
+        }
+        return isFiniteNumeric(chars) ? new BigDecimal(chars) : new String(chars);
+    }
+    
+    private boolean isFiniteNumeric(final char[] chars) {
+        return chars.length > 0 && chars[chars.length - 1] >= '0' && chars[chars.length - 1] <= '9';
+    }
+    
+    private byte[] readByteA(final ByteBuffer data, final int length) {
+        int hexLength = length - 2;
+        if (hexLength < 0 || 0 != (hexLength & 1) || '\\' != data.get() || 'x' != data.get()) {
+            throw new IllegalArgumentException("Illegal bytea data, only hex format is supported");
+        }
+        byte[] result = new byte[hexLength >>> 1];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (byte) ((readHexDigit(data) << 4) + readHexDigit(data));
+        }
+        return result;
+    }
+    
+    private int readHexDigit(final ByteBuffer data) {
+        byte each = data.get();
+        int result = Character.digit(each, 16);
+        if (-1 == result) {
+            throw new IllegalArgumentException(String.format("Illegal hex character '%s'", (char) each));
+        }
+        return result;
+    }
+    
+    private String readText(final ByteBuffer data, final int length) {
+        if (!data.hasArray()) {
+            byte[] bytes = new byte[length];
+            data.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        String result = new String(data.array(), data.arrayOffset() + data.position(), length, StandardCharsets.UTF_8);
+        data.position(data.position() + length);
+        return result;
+    }
+    
+    private String readString(final ByteBuffer data) {
+        int length = 0;
+        while (0 != data.get(data.position() + length)) {
+            length++;
+        }
+        String result = readText(data, length);
+        data.get();
+        return result;
+    }
+    
+    private void skipString(final ByteBuffer data) {
+        byte each = data.get();
+        while (0 != each) {
+            each = data.get();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class PgOutputRelation {
+        
+        private final String schemaName;
+        
+        private final String tableName;
+        
+        private final int[] columnTypes;
+        
+        private final boolean[] keyColumns;
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.data.pipeline.core.record.RecordUtil;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.AbstractPipelineSQLBuilder;
 
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -51,6 +52,11 @@ public final class PostgreSQLPipelineSQLBuilder extends AbstractPipelineSQLBuild
         return super.buildInsertSQL(schemaName, dataRecord, shardingColumnsMap) + buildConflictSQL(dataRecord, shardingColumnsMap);
     }
     
+    @Override
+    public Optional<String> buildMultiRowInsertSQL(final String schemaName, final DataRecord dataRecord, final Map<LogicTableName, Set<String>> shardingColumnsMap, final int rowCount) {
+        return Optional.of(buildMultiRowInsertSQLInternal(schemaName, dataRecord, rowCount) + buildConflictSQL(dataRecord, shardingColumnsMap));
+    }
+    
     // Refer to https://www.postgresql.org/docs/current/sql-insert.html
     private String buildConflictSQL(final DataRecord dataRecord, final Map<LogicTableName, Set<String>> shardingColumnsMap) {
         StringBuilder result = new StringBuilder(" ON CONFLICT (");
@@ -18,6 +18,10 @@
 package org.apache.shardingsphere.data.pipeline.postgresql.ingest;
 
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.api.config.TableNameSchemaNameMapping;
+import org.apache.shardingsphere.data.pipeline.api.config.ingest.DumperConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.metadata.ActualTableName;
+import org.apache.shardingsphere.data.pipeline.api.metadata.LogicTableName;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WalPosition;
 import org.junit.Before;
 import org.junit.Test;
@@ -32,10 +36,12 @@ import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -93,6 +99,94 @@ public final class PostgreSQLPositionInitializerTest {
         new PostgreSQLPositionInitializer().init(dataSource, "");
     }
     
+    @Test
+    public void assertInitWithPgOutputDecodingPlugin() throws SQLException {
+        mockSlotExistsOrNot(false);
+        when(databaseMetaData.getDatabaseMajorVersion()).thenReturn(10);
+        PreparedStatement checkPublicationPreparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT pubname FROM pg_publication WHERE pubname=?")).thenReturn(checkPublicationPreparedStatement);
+        when(checkPublicationPreparedStatement.executeQuery()).thenReturn(mock(ResultSet.class));
+        String slotName = PostgreSQLPositionInitializer.getUniqueSlotName(connection, "foo_job");
+        PreparedStatement createPublicationPreparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(String.format("CREATE PUBLICATION \"%s\" FOR TABLE \"public\".\"t_order_0\"", slotName))).thenReturn(createPublicationPreparedStatement);
+        PreparedStatement createSlotPreparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", slotName, "pgoutput"))).thenReturn(createSlotPreparedStatement);
+        WalPosition actual = new PostgreSQLPositionInitializer().init(dataSource, createDumperConfiguration());
+        assertThat(actual.getLogSequenceNumber().get(), is(LogSequenceNumber.valueOf(POSTGRESQL_10_LSN)));
+        verify(createPublicationPreparedStatement).execute();
+        verify(createSlotPreparedStatement).execute();
+    }
+    
+    @Test
+    public void assertInitWithPgOutputDecodingPluginAndQuotedIdentifiers() throws SQLException {
+        mockSlotExistsOrNot(false);
+        when(databaseMetaData.getDatabaseMajorVersion()).thenReturn(10);
+        PreparedStatement checkPublicationPreparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT pubname FROM pg_publication WHERE pubname=?")).thenReturn(checkPublicationPreparedStatement);
+        when(checkPublicationPreparedStatement.executeQuery()).thenReturn(mock(ResultSet.class));
+        String slotName = PostgreSQLPositionInitializer.getUniqueSlotName(connection, "foo_job");
+        PreparedStatement createPublicationPreparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(String.format("CREATE PUBLICATION \"%s\" FOR TABLE \"Foo_Schema\".\"t_\"\"Order\"", slotName))).thenReturn(createPublicationPreparedStatement);
+        when(connection.prepareStatement(String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", slotName, "pgoutput"))).thenReturn(mock(PreparedStatement.class));
+        new PostgreSQLPositionInitializer().init(dataSource, createDumperConfiguration("t_\"Order", "Foo_Schema"));
+        verify(createPublicationPreparedStatement).execute();
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertInitWithPgOutputDecodingPluginAndDropCreatedPublicationWhenCreateSlotFailed() throws SQLException {
+        mockSlotExistsOrNot(false);
+        mockPublicationExistsOrNot(false);
+        String slotName = PostgreSQLPositionInitializer.getUniqueSlotName(connection, "foo_job");
+        when(connection.prepareStatement(String.format("CREATE PUBLICATION \"%s\" FOR TABLE \"public\".\"t_order_0\"", slotName))).thenReturn(mock(PreparedStatement.class));
+        PreparedStatement createSlotPreparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", slotName, "pgoutput"))).thenReturn(createSlotPreparedStatement);
+        when(createSlotPreparedStatement.execute()).thenThrow(new SQLException("replication slots are exhausted", "53400"));
+        PreparedStatement dropPublicationPreparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(String.format("DROP PUBLICATION IF EXISTS \"%s\"", slotName))).thenReturn(dropPublicationPreparedStatement);
+        try {
+            new PostgreSQLPositionInitializer().init(dataSource, createDumperConfiguration());
+        } finally {
+            verify(dropPublicationPreparedStatement).execute();
+        }
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertInitWithPgOutputDecodingPluginAndKeepExistingPublicationWhenCreateSlotFailed() throws SQLException {
+        mockSlotExistsOrNot(false);
+        mockPublicationExistsOrNot(true);
+        String slotName = PostgreSQLPositionInitializer.getUniqueSlotName(connection, "foo_job");
+        PreparedStatement createSlotPreparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", slotName, "pgoutput"))).thenReturn(createSlotPreparedStatement);
+        when(createSlotPreparedStatement.execute()).thenThrow(new SQLException("replication slots are exhausted", "53400"));
+        try {
+            new PostgreSQLPositionInitializer().init(dataSource, createDumperConfiguration());
+        } finally {
+            verify(connection, never()).prepareStatement(String.format("DROP PUBLICATION IF EXISTS \"%s\"", slotName));
+        }
+    }
+    
+    @SneakyThrows(SQLException.class)
+    private void mockPublicationExistsOrNot(final boolean exists) {
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT pubname FROM pg_publication WHERE pubname=?")).thenReturn(preparedStatement);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(exists);
+    }
+    
+    private DumperConfiguration createDumperConfiguration() {
+        return createDumperConfiguration("t_order_0", "public");
+    }
+    
+    private DumperConfiguration createDumperConfiguration(final String actualTableName, final String schemaName) {
+        DumperConfiguration result = new DumperConfiguration();
+        result.setJobId("foo_job");
+        result.setDecodingPlugin("pgoutput");
+        result.setTableNameMap(Collections.singletonMap(new ActualTableName(actualTableName), new LogicTableName("t_order")));
+        result.setTableNameSchemaNameMapping(new TableNameSchemaNameMapping(Collections.singletonMap(new LogicTableName("t_order"), schemaName)));
+        return result;
+    }
+    
     @SneakyThrows(SQLException.class)
     private PreparedStatement mockPostgreSQL96LSN() {
         PreparedStatement result = mock(PreparedStatement.class);
@@ -130,4 +224,23 @@ public final class PostgreSQLPositionInitializerTest {
         new PostgreSQLPositionInitializer().destroy(dataSource, "");
         verify(preparedStatement).execute();
     }
+    
+    @Test
+    public void assertDestroyWhenPgOutputSlotExists() throws SQLException {
+        PreparedStatement checkSlotPreparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT slot_name FROM pg_replication_slots WHERE slot_name=? AND plugin=?")).thenReturn(checkSlotPreparedStatement);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(checkSlotPreparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(false, true);
+        PreparedStatement dropSlotPreparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT pg_drop_replication_slot(?)")).thenReturn(dropSlotPreparedStatement);
+        String slotName = PostgreSQLPositionInitializer.getUniqueSlotName(connection, "foo_job");
+        PreparedStatement dropPublicationPreparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(String.format("DROP PUBLICATION IF EXISTS \"%s\"", slotName))).thenReturn(dropPublicationPreparedStatement);
+        new PostgreSQLPositionInitializer().destroy(dataSource, "foo_job");
+        verify(checkSlotPreparedStatement).setString(2, "pgoutput");
+        verify(dropSlotPreparedStatement).setString(1, slotName);
+        verify(dropSlotPreparedStatement).execute();
+        verify(dropPublicationPreparedStatement).execute();
+    }
 }
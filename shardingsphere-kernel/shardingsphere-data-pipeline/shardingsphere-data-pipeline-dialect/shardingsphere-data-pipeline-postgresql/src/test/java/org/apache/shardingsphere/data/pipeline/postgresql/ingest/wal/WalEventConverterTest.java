@@ -48,7 +48,9 @@ import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class WalEventConverterTest {
     
@@ -102,6 +104,15 @@ public final class WalEventConverterTest {
         assertThat(((DataRecord) record).getType(), is(IngestDataChangeType.UPDATE));
     }
     
+    @Test
+    public void assertConvertUpdateRowEventWithUnchangedColumn() {
+        UpdateRowEvent event = (UpdateRowEvent) mockUpdateRowEvent();
+        event.setUnchangedColumnIndexes(Collections.singleton(1));
+        DataRecord actual = (DataRecord) walEventConverter.convert(event);
+        assertTrue(actual.getColumn(0).isUpdated());
+        assertFalse(actual.getColumn(1).isUpdated());
+    }
+    
     @Test
     public void assertConvertDeleteRowEvent() {
         Record record = walEventConverter.convert(mockDeleteRowEvent());
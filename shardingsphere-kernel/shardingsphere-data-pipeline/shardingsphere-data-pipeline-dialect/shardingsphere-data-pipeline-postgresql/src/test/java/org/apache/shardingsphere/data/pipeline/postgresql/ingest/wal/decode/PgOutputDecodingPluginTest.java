@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode;
+
+import org.apache.shardingsphere.data.pipeline.core.ingest.exception.IngestException;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.DeleteRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.UpdateRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.WriteRowEvent;
+import org.junit.Before;
+import org.junit.Test;
+import org.postgresql.replication.LogSequenceNumber;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class PgOutputDecodingPluginTest {
+    
+    private static final int RELATION_ID = 16384;
+    
+    private final PostgreSQLLogSequenceNumber logSequenceNumber = new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf("0/14EFDB8"));
+    
+    private PgOutputDecodingPlugin decodingPlugin;
+    
+    @Before
+    public void setUp() {
+        decodingPlugin = new PgOutputDecodingPlugin(null);
+        decodingPlugin.decode(createRelationMessage(), logSequenceNumber);
+    }
+    
+    @Test
+    public void assertDecodeWriteRowEvent() {
+        ByteBuffer data = ByteBuffer.allocate(128);
+        data.put((byte) 'I').putInt(RELATION_ID).put((byte) 'N');
+        putTupleData(data, "-1", "9223372036854775807", "ok", "12.50", "\\xff00ab");
+        WriteRowEvent actual = (WriteRowEvent) decodingPlugin.decode(flip(data), logSequenceNumber);
+        assertThat(actual.getLogSequenceNumber(), is(logSequenceNumber));
+        assertThat(actual.getDatabaseName(), is("public"));
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getAfterRow().get(0), is(-1));
+        assertThat(actual.getAfterRow().get(1), is(Long.MAX_VALUE));
+        assertThat(actual.getAfterRow().get(2), is("ok"));
+        assertThat(actual.getAfterRow().get(3), is(new BigDecimal("12.50")));
+        assertThat(actual.getAfterRow().get(4), is(new byte[]{(byte) 0xff, (byte) 0, (byte) 0xab}));
+    }
+    
+    @Test
+    public void assertDecodeWriteRowEventWithNullValue() {
+        ByteBuffer data = ByteBuffer.allocate(128);
+        data.put((byte) 'I').putInt(RELATION_ID).put((byte) 'N');
+        putTupleData(data, "1", null, null, null, null);
+        WriteRowEvent actual = (WriteRowEvent) decodingPlugin.decode(flip(data), logSequenceNumber);
+        assertThat(actual.getAfterRow().get(0), is(1));
+        assertNull(actual.getAfterRow().get(1));
+        assertNull(actual.getAfterRow().get(4));
+    }
+    
+    @Test
+    public void assertDecodeUpdateRowEventWithOldKey() {
+        ByteBuffer data = ByteBuffer.allocate(128);
+        data.put((byte) 'U').putInt(RELATION_ID).put((byte) 'K');
+        putTupleData(data, "1", null, null, null, null);
+        data.put((byte) 'N');
+        putTupleData(data, "2", "10", "updated", "0", "\\x");
+        UpdateRowEvent actual = (UpdateRowEvent) decodingPlugin.decode(flip(data), logSequenceNumber);
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getAfterRow().get(0), is(2));
+        assertThat(actual.getAfterRow().get(1), is(10L));
+        assertThat(actual.getAfterRow().get(2), is("updated"));
+        assertThat(actual.getAfterRow().get(4), is(new byte[0]));
+    }
+    
+    @Test
+    public void assertDecodeUpdateRowEventWithUnchangedToastValue() {
+        ByteBuffer data = ByteBuffer.allocate(128);
+        data.put((byte) 'U').putInt(RELATION_ID).put((byte) 'N');
+        data.putShort((short) 5);
+        putColumnData(data, "2");
+        putColumnData(data, "10");
+        data.put((byte) 'u');
+        putColumnData(data, "0");
+        data.put((byte) 'u');
+        UpdateRowEvent actual = (UpdateRowEvent) decodingPlugin.decode(flip(data), logSequenceNumber);
+        assertThat(actual.getAfterRow().get(0), is(2));
+        assertNull(actual.getAfterRow().get(2));
+        assertNull(actual.getAfterRow().get(4));
+        assertThat(actual.getUnchangedColumnIndexes(), is(new HashSet<>(Arrays.asList(2, 4))));
+    }
+    
+    @Test
+    public void assertDecodeUpdateRowEventWithoutUnchangedToastValue() {
+        ByteBuffer data = ByteBuffer.allocate(128);
+        data.put((byte) 'U').putInt(RELATION_ID).put((byte) 'N');
+        putTupleData(data, "2", "10", "updated", "0", "\\x");
+        UpdateRowEvent actual = (UpdateRowEvent) decodingPlugin.decode(flip(data), logSequenceNumber);
+        assertTrue(actual.getUnchangedColumnIndexes().isEmpty());
+    }
+    
+    @Test
+    public void assertDecodeNonFiniteNumeric() {
+        ByteBuffer data = ByteBuffer.allocate(128);
+        data.put((byte) 'I').putInt(RELATION_ID).put((byte) 'N');
+        putTupleData(data, "1", null, null, "NaN", null);
+        assertThat(((WriteRowEvent) decodingPlugin.decode(flip(data), logSequenceNumber)).getAfterRow().get(3), is("NaN"));
+        data = ByteBuffer.allocate(128);
+        data.put((byte) 'I').putInt(RELATION_ID).put((byte) 'N');
+        putTupleData(data, "1", null, null, "-Infinity", null);
+        assertThat(((WriteRowEvent) decodingPlugin.decode(flip(data), logSequenceNumber)).getAfterRow().get(3), is("-Infinity"));
+    }
+    
+    @Test
+    public void assertDecodeDeleteRowEvent() {
+        ByteBuffer data = ByteBuffer.allocate(128);
+        data.put((byte) 'D').putInt(RELATION_ID).put((byte) 'K');
+        putTupleData(data, "1", null, null, null, null);
+        DeleteRowEvent actual = (DeleteRowEvent) decodingPlugin.decode(flip(data), logSequenceNumber);
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getPrimaryKeys(), is(Collections.<Object>singletonList(1)));
+    }
+    
+    @Test
+    public void assertDecodeBeginEvent() {
+        ByteBuffer data = ByteBuffer.allocate(21);
+        data.put((byte) 'B').putLong(100L).putLong(0L).putInt(1);
+        assertThat(decodingPlugin.decode(flip(data), logSequenceNumber), instanceOf(PlaceholderEvent.class));
+    }
+    
+    @Test(expected = IngestException.class)
+    public void assertDecodeUnknownRelation() {
+        ByteBuffer data = ByteBuffer.allocate(128);
+        data.put((byte) 'I').putInt(RELATION_ID + 1).put((byte) 'N');
+        putTupleData(data, "1", null, null, null, null);
+        decodingPlugin.decode(flip(data), logSequenceNumber);
+    }
+    
+    private ByteBuffer createRelationMessage() {
+        ByteBuffer result = ByteBuffer.allocate(256);
+        result.put((byte) 'R').putInt(RELATION_ID);
+        putString(result, "public");
+        putString(result, "t_order");
+        result.put((byte) 'd').putShort((short) 5);
+        putColumn(result, true, "order_id", 23);
+        putColumn(result, false, "user_id", 20);
+        putColumn(result, false, "status", 1043);
+        putColumn(result, false, "amount", 1700);
+        putColumn(result, false, "data", 17);
+        return flip(result);
+    }
+    
+    private void putColumn(final ByteBuffer data, final boolean keyColumn, final String columnName, final int columnType) {
+        data.put((byte) (keyColumn ? 1 : 0));
+        putString(data, columnName);
+        data.putInt(columnType).putInt(-1);
+    }
+    
+    private void putString(final ByteBuffer data, final String value) {
+        data.put(value.getBytes(StandardCharsets.UTF_8)).put((byte) 0);
+    }
+    
+    private void putTupleData(final ByteBuffer data, final String... values) {
+        data.putShort((short) values.length);
+        for (String each : values) {
+            if (null == each) {
+                data.put((byte) 'n');
+                continue;
+            }
+            putColumnData(data, each);
+        }
+    }
+    
+    private void putColumnData(final ByteBuffer data, final String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        data.put((byte) 't').putInt(bytes.length).put(bytes);
+    }
+    
+    private ByteBuffer flip(final ByteBuffer data) {
+        data.flip();
+        return data;
+    }
+}
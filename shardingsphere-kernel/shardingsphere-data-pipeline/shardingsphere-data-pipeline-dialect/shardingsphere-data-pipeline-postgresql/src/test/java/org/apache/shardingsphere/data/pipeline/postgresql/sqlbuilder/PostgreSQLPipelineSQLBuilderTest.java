@@ -29,10 +29,12 @@ import org.postgresql.replication.LogSequenceNumber;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class PostgreSQLPipelineSQLBuilderTest {
     
@@ -48,6 +50,14 @@ public final class PostgreSQLPipelineSQLBuilderTest {
                 + " DO UPDATE SET status=EXCLUDED.status"));
     }
     
+    @Test
+    public void assertBuildMultiRowInsertSQL() {
+        Optional<String> actual = sqlBuilder.buildMultiRowInsertSQL("schema1", mockDataRecord(), shardingColumnsMap, 3);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("INSERT INTO schema1.t_order(order_id,user_id,status) VALUES(?,?,?),(?,?,?),(?,?,?) ON CONFLICT (order_id)"
+                + " DO UPDATE SET status=EXCLUDED.status"));
+    }
+    
     private DataRecord mockDataRecord() {
         DataRecord result = new DataRecord(new WalPosition(new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf(100L))), 2);
         result.setTableName("t_order");
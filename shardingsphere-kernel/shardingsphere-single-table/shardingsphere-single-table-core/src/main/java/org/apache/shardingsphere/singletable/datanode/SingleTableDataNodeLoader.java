@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.singletable.datanode;
 
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.infra.config.exception.ShardingSphereConfigurationException;
@@ -33,6 +35,12 @@ import java.util.LinkedList;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Single table data node loader.
@@ -40,6 +48,9 @@ import java.util.concurrent.ConcurrentHashMap;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class SingleTableDataNodeLoader {
     
+    private static final ExecutorService EXECUTOR_SERVICE = new ThreadPoolExecutor(Runtime.getRuntime().availableProcessors() * 2, Runtime.getRuntime().availableProcessors() * 2,
+            0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-SingleTableDataNodeLoader-%d").build());
+    
     /**
      * Load single table data nodes.
      *
@@ -52,8 +63,12 @@ public final class SingleTableDataNodeLoader {
     public static Map<String, Collection<DataNode>> load(final String databaseName, final DatabaseType databaseType,
                                                          final Map<String, DataSource> dataSourceMap, final Collection<String> excludedTables) {
         Map<String, Collection<DataNode>> result = new ConcurrentHashMap<>();
+        Collection<Future<Map<String, Collection<DataNode>>>> futures = new LinkedList<>();
         for (Entry<String, DataSource> entry : dataSourceMap.entrySet()) {
-            Map<String, Collection<DataNode>> dataNodeMap = load(databaseName, databaseType, entry.getKey(), entry.getValue(), excludedTables);
+            futures.add(EXECUTOR_SERVICE.submit(() -> load(databaseName, databaseType, entry.getKey(), entry.getValue(), excludedTables)));
+        }
+        for (Future<Map<String, Collection<DataNode>>> future : futures) {
+            Map<String, Collection<DataNode>> dataNodeMap = getFutureResult(future);
             for (String each : dataNodeMap.keySet()) {
                 Collection<DataNode> addedDataNodes = dataNodeMap.get(each);
                 Collection<DataNode> existDataNodes = result.getOrDefault(each.toLowerCase(), new LinkedHashSet<>(addedDataNodes.size(), 1));
@@ -83,6 +98,18 @@ public final class SingleTableDataNodeLoader {
         return result;
     }
     
+    private static Map<String, Collection<DataNode>> getFutureResult(final Future<Map<String, Collection<DataNode>>> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ShardingSphereConfigurationException("Load single table data nodes interrupted");
+        } catch (final ExecutionException ex) {
+            Throwables.throwIfUnchecked(ex.getCause());
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+    
     private static Map<String, Collection<String>> loadSchemaTableNames(final String databaseName, final DatabaseType databaseType, final DataSource dataSource, final String dataSourceName) {
         try {
             return SchemaTableNamesLoader.loadSchemaTableNames(databaseName, databaseType, dataSource);
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.singletable.datanode;
 
+import org.apache.shardingsphere.infra.config.exception.ShardingSphereConfigurationException;
 import org.apache.shardingsphere.infra.database.DefaultDatabase;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.datanode.DataNode;
@@ -111,4 +112,20 @@ public final class SingleTableDataNodeLoaderTest {
         assertThat(actual.get("teacher").iterator().next().getDataSourceName(), is("ds1"));
         assertThat(actual.get("class").iterator().next().getDataSourceName(), is("ds1"));
     }
+    
+    @Test(expected = ShardingSphereConfigurationException.class)
+    public void assertLoadWithSQLException() throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenThrow(SQLException.class);
+        dataSourceMap.put("ds2", dataSource);
+        SingleTableDataNodeLoader.load(DefaultDatabase.LOGIC_NAME, mock(DatabaseType.class), dataSourceMap, Collections.emptyList());
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertLoadWithRuntimeException() throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenThrow(IllegalArgumentException.class);
+        dataSourceMap.put("ds2", dataSource);
+        SingleTableDataNodeLoader.load(DefaultDatabase.LOGIC_NAME, mock(DatabaseType.class), dataSourceMap, Collections.emptyList());
+    }
 }
@@ -40,6 +40,10 @@ public final class DatabaseMetaDataNode {
     
     private static final String TABLES_NODE = "tables";
     
+    private static final String STATISTICS_NODE = "statistics";
+    
+    private static final String DIGESTS_NODE = "digests";
+    
     private static final String ACTIVE_VERSION = "active_version";
     
     private static final String VERSIONS = "versions";
@@ -129,6 +133,52 @@ public final class DatabaseMetaDataNode {
         return String.join("/", getMetaDataTablesPath(databaseName, schemaName), table);
     }
     
+    /**
+     * Get meta data table statistics path.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @return table statistics path
+     */
+    public static String getMetaDataTableStatisticsPath(final String databaseName, final String schemaName) {
+        return String.join("/", getMetaDataSchemaPath(databaseName, schemaName), STATISTICS_NODE);
+    }
+    
+    /**
+     * Get table statistics path.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param table table name
+     * @return table statistics path
+     */
+    public static String getTableStatisticsPath(final String databaseName, final String schemaName, final String table) {
+        return String.join("/", getMetaDataTableStatisticsPath(databaseName, schemaName), table);
+    }
+    
+    /**
+     * Get meta data table digests path.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @return table digests path
+     */
+    public static String getMetaDataTableDigestsPath(final String databaseName, final String schemaName) {
+        return String.join("/", getMetaDataSchemaPath(databaseName, schemaName), DIGESTS_NODE);
+    }
+    
+    /**
+     * Get table digest path.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param table table name
+     * @return table digest path
+     */
+    public static String getTableDigestPath(final String databaseName, final String schemaName, final String table) {
+        return String.join("/", getMetaDataTableDigestsPath(databaseName, schemaName), table);
+    }
+    
     private static String getFullMetaDataPath(final String databaseName, final String node) {
         return String.join("/", "", ROOT_NODE, databaseName, node);
     }
@@ -18,17 +18,23 @@
 package org.apache.shardingsphere.mode.metadata.persist.service;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTableStatistics;
 import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
 import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereTable;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereTableStatistics;
+import org.apache.shardingsphere.infra.yaml.schema.swapper.YamlTableStatisticsSwapper;
 import org.apache.shardingsphere.infra.yaml.schema.swapper.YamlTableSwapper;
 import org.apache.shardingsphere.mode.metadata.persist.node.DatabaseMetaDataNode;
 import org.apache.shardingsphere.mode.persist.PersistRepository;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
@@ -50,12 +56,13 @@ public final class DatabaseMetaDataPersistService {
      * @param schema schema to be persisted
      */
     public void compareAndPersistMetaData(final String databaseName, final String schemaName, final ShardingSphereSchema schema) {
-        Optional<ShardingSphereSchema> originalSchema = load(databaseName, schemaName);
-        if (originalSchema.isPresent()) {
-            compareAndPersist(databaseName, schemaName, schema, originalSchema.get());
+        Map<String, String> originalTableDigests = loadTableDigests(databaseName, schemaName);
+        if (originalTableDigests.isEmpty() && schema.getTables().isEmpty()) {
+            persistSchema(databaseName, schemaName);
             return;
         }
-        persistMetaData(databaseName, schemaName, schema.getTables());
+        persistChangedTables(databaseName, schemaName, schema.getTables(), originalTableDigests);
+        deleteTables(databaseName, schemaName, originalTableDigests.keySet());
     }
     
     /**
@@ -70,8 +77,7 @@ public final class DatabaseMetaDataPersistService {
             persistSchema(databaseName, schemaName);
             return;
         }
-        tables.forEach((key, value) -> repository.persist(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, key),
-                YamlEngine.marshal(new YamlTableSwapper().swapToYamlConfiguration(value))));
+        persistChangedTables(databaseName, schemaName, tables, loadTableDigests(databaseName, schemaName));
     }
     
     /**
@@ -82,8 +88,23 @@ public final class DatabaseMetaDataPersistService {
      * @param table table meta data
      */
     public void persistTable(final String databaseName, final String schemaName, final ShardingSphereTable table) {
-        repository.persist(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, table.getName().toLowerCase()),
-                YamlEngine.marshal(new YamlTableSwapper().swapToYamlConfiguration(table)));
+        String tableName = table.getName().toLowerCase();
+        String content = marshal(table);
+        repository.persist(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, tableName), content);
+        repository.persist(DatabaseMetaDataNode.getTableDigestPath(databaseName, schemaName, tableName), DigestUtils.sha256Hex(content));
+    }
+    
+    /**
+     * Persist table statistics.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param statistics table statistics
+     */
+    public void persistTableStatistics(final String databaseName, final String schemaName, final String tableName, final ShardingSphereTableStatistics statistics) {
+        repository.persist(DatabaseMetaDataNode.getTableStatisticsPath(databaseName, schemaName, tableName.toLowerCase()),
+                YamlEngine.marshal(new YamlTableStatisticsSwapper().swapToYamlConfiguration(statistics)));
     }
     
     /**
@@ -96,22 +117,48 @@ public final class DatabaseMetaDataPersistService {
         repository.persist(DatabaseMetaDataNode.getMetaDataTablesPath(databaseName, schemaName), "");
     }
     
-    private void compareAndPersist(final String databaseName, final String schemaName, final ShardingSphereSchema schema, final ShardingSphereSchema originalSchema) {
-        Map<String, ShardingSphereTable> cachedLocalTables = new LinkedHashMap<>(schema.getTables());
-        for (Entry<String, ShardingSphereTable> entry : originalSchema.getTables().entrySet()) {
-            String onlineTableName = entry.getKey();
-            ShardingSphereTable localTableMetaData = cachedLocalTables.remove(onlineTableName);
-            if (null == localTableMetaData) {
-                deleteTable(databaseName, schemaName, onlineTableName);
-                continue;
-            }
-            if (!localTableMetaData.equals(entry.getValue())) {
-                persistTable(databaseName, schemaName, localTableMetaData);
+    private void persistChangedTables(final String databaseName, final String schemaName, final Map<String, ShardingSphereTable> tables, final Map<String, String> originalTableDigests) {
+        Map<String, String> changedTables = new LinkedHashMap<>();
+        for (Entry<String, ShardingSphereTable> entry : tables.entrySet()) {
+            String content = marshal(entry.getValue());
+            String digest = DigestUtils.sha256Hex(content);
+            if (!digest.equals(originalTableDigests.remove(entry.getKey()))) {
+                changedTables.put(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, entry.getKey()), content);
+                changedTables.put(DatabaseMetaDataNode.getTableDigestPath(databaseName, schemaName, entry.getKey()), digest);
             }
         }
-        if (!cachedLocalTables.isEmpty()) {
-            persistMetaData(databaseName, schemaName, cachedLocalTables);
+        if (!changedTables.isEmpty()) {
+            repository.batchPersist(changedTables);
+        }
+    }
+    
+    private Map<String, String> loadTableDigests(final String databaseName, final String schemaName) {
+        Collection<String> tables = repository.getChildrenKeys(DatabaseMetaDataNode.getMetaDataTablesPath(databaseName, schemaName));
+        Map<String, String> digestPaths = new LinkedHashMap<>(tables.size(), 1);
+        tables.forEach(each -> digestPaths.put(each, DatabaseMetaDataNode.getTableDigestPath(databaseName, schemaName, each)));
+        Map<String, String> digests = tables.isEmpty() ? Collections.emptyMap() : repository.batchGet(new LinkedList<>(digestPaths.values()));
+        Map<String, String> result = new LinkedHashMap<>(tables.size(), 1);
+        for (Entry<String, String> entry : digestPaths.entrySet()) {
+            result.put(entry.getKey(), digests.get(entry.getValue()));
+        }
+        return result;
+    }
+    
+    private void deleteTables(final String databaseName, final String schemaName, final Collection<String> tableNames) {
+        if (tableNames.isEmpty()) {
+            return;
+        }
+        Collection<String> keys = new LinkedList<>();
+        for (String each : tableNames) {
+            keys.add(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, each));
+            keys.add(DatabaseMetaDataNode.getTableStatisticsPath(databaseName, schemaName, each));
+            keys.add(DatabaseMetaDataNode.getTableDigestPath(databaseName, schemaName, each));
         }
+        repository.batchDelete(keys);
+    }
+    
+    private String marshal(final ShardingSphereTable table) {
+        return YamlEngine.marshal(new YamlTableSwapper().swapToYamlConfiguration(table));
     }
     
     /**
@@ -143,14 +190,14 @@ public final class DatabaseMetaDataPersistService {
     }
     
     /**
-     * Delete table meta data.
+     * Delete table meta data and statistics.
      *
      * @param databaseName database name
      * @param schemaName schema name
      * @param tableName table name
      */
     public void deleteTable(final String databaseName, final String schemaName, final String tableName) {
-        repository.delete(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, tableName));
+        deleteTables(databaseName, schemaName, Collections.singletonList(tableName));
     }
     
     /**
@@ -165,17 +212,25 @@ public final class DatabaseMetaDataPersistService {
         if (tables.isEmpty()) {
             return Optional.empty();
         }
+        Collection<String> statistics = repository.getChildrenKeys(DatabaseMetaDataNode.getMetaDataTableStatisticsPath(databaseName, schemaName));
         ShardingSphereSchema schema = new ShardingSphereSchema();
         tables.forEach(each -> {
             String content = repository.get(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, each));
             if (!StringUtils.isEmpty(content)) {
                 ShardingSphereTable table = new YamlTableSwapper().swapToObject(YamlEngine.unmarshal(content, YamlShardingSphereTable.class));
-                schema.putTable(each, table);
+                schema.putTable(each, statistics.contains(each) ? loadTableStatistics(databaseName, schemaName, each).map(table::withStatistics).orElse(table) : table);
             }
         });
         return Optional.of(schema);
     }
     
+    private Optional<ShardingSphereTableStatistics> loadTableStatistics(final String databaseName, final String schemaName, final String tableName) {
+        String content = repository.get(DatabaseMetaDataNode.getTableStatisticsPath(databaseName, schemaName, tableName));
+        return StringUtils.isEmpty(content)
+                ? Optional.empty()
+                : Optional.of(new YamlTableStatisticsSwapper().swapToObject(YamlEngine.unmarshal(content, YamlShardingSphereTableStatistics.class)));
+    }
+    
     /**
      * Load schemas.
      *
@@ -19,7 +19,10 @@ package org.apache.shardingsphere.mode.persist;
 
 import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPI;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Persist repository.
@@ -41,6 +44,25 @@ public interface PersistRepository extends TypedSPI {
      */
     String get(String key);
     
+    /**
+     * Get data in batch.
+     *
+     * <p>Repository which supports multiple reads in one request should override it to reduce round trips.</p>
+     *
+     * @param keys keys of data
+     * @return keys and values of existed data
+     */
+    default Map<String, String> batchGet(Collection<String> keys) {
+        Map<String, String> result = new LinkedHashMap<>(keys.size(), 1);
+        for (String each : keys) {
+            String value = get(each);
+            if (null != value) {
+                result.put(each, value);
+            }
+        }
+        return result;
+    }
+    
     /**
      * Get names of sub-node.
      *
@@ -57,6 +79,17 @@ public interface PersistRepository extends TypedSPI {
      */
     void persist(String key, String value);
     
+    /**
+     * Persist data in batch.
+     *
+     * <p>Repository which supports multiple operations in one request should override it to reduce round trips.</p>
+     *
+     * @param keyValues keys and values of data
+     */
+    default void batchPersist(Map<String, String> keyValues) {
+        keyValues.forEach(this::persist);
+    }
+    
     /**
      * Delete node.
      *
@@ -64,6 +97,17 @@ public interface PersistRepository extends TypedSPI {
      */
     void delete(String key);
     
+    /**
+     * Delete nodes in batch.
+     *
+     * <p>Repository which supports multiple operations in one request should override it to reduce round trips.</p>
+     *
+     * @param keys keys of data
+     */
+    default void batchDelete(Collection<String> keys) {
+        keys.forEach(this::delete);
+    }
+    
     /**
      * Close.
      */
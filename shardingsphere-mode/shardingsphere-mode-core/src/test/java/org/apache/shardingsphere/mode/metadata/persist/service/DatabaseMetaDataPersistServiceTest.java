@@ -18,8 +18,11 @@
 package org.apache.shardingsphere.mode.metadata.persist.service;
 
 import lombok.SneakyThrows;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumnStatistics;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTableStatistics;
 import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
 import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereTable;
 import org.apache.shardingsphere.infra.yaml.schema.swapper.YamlTableSwapper;
@@ -27,14 +30,20 @@ import org.apache.shardingsphere.mode.persist.PersistRepository;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
+import org.mockito.ArgumentCaptor;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -42,8 +51,11 @@ import static org.hamcrest.CoreMatchers.hasItems;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -59,7 +71,59 @@ public final class DatabaseMetaDataPersistServiceTest {
         ShardingSphereSchema schema = new ShardingSphereSchema();
         schema.getTables().put("t_order", table);
         new DatabaseMetaDataPersistService(repository).compareAndPersistMetaData("foo_db", "foo_schema", schema);
-        verify(repository).persist(eq("/metadata/foo_db/schemas/foo_schema/tables/t_order"), anyString());
+        verify(repository).batchPersist(argThat(keyValues -> keyValues.containsKey("/metadata/foo_db/schemas/foo_schema/tables/t_order")));
+    }
+    
+    @Test
+    public void assertCompareAndPersistWithChangedTables() {
+        ShardingSphereTable table = new YamlTableSwapper().swapToObject(YamlEngine.unmarshal(readYAML(), YamlShardingSphereTable.class));
+        String content = YamlEngine.marshal(new YamlTableSwapper().swapToYamlConfiguration(table));
+        String digest = DigestUtils.sha256Hex(content);
+        when(repository.getChildrenKeys("/metadata/foo_db/schemas/foo_schema/tables")).thenReturn(Arrays.asList("t_order", "t_order_item", "t_deleted"));
+        Map<String, String> originalDigests = new LinkedHashMap<>(3, 1);
+        originalDigests.put("/metadata/foo_db/schemas/foo_schema/digests/t_order", digest);
+        originalDigests.put("/metadata/foo_db/schemas/foo_schema/digests/t_order_item", DigestUtils.sha256Hex("name: t_order_item" + System.lineSeparator()));
+        originalDigests.put("/metadata/foo_db/schemas/foo_schema/digests/t_deleted", digest);
+        when(repository.batchGet(new ArrayList<>(originalDigests.keySet()))).thenReturn(originalDigests);
+        ShardingSphereSchema schema = new ShardingSphereSchema();
+        schema.getTables().put("t_order", table);
+        schema.getTables().put("t_order_item", table);
+        schema.getTables().put("t_added", table);
+        new DatabaseMetaDataPersistService(repository).compareAndPersistMetaData("foo_db", "foo_schema", schema);
+        Map<String, String> expected = new HashMap<>(4, 1);
+        expected.put("/metadata/foo_db/schemas/foo_schema/tables/t_order_item", content);
+        expected.put("/metadata/foo_db/schemas/foo_schema/digests/t_order_item", digest);
+        expected.put("/metadata/foo_db/schemas/foo_schema/tables/t_added", content);
+        expected.put("/metadata/foo_db/schemas/foo_schema/digests/t_added", digest);
+        verify(repository).batchPersist(expected);
+        verify(repository).batchDelete(Arrays.asList("/metadata/foo_db/schemas/foo_schema/tables/t_deleted",
+                "/metadata/foo_db/schemas/foo_schema/statistics/t_deleted", "/metadata/foo_db/schemas/foo_schema/digests/t_deleted"));
+        verify(repository, never()).persist(anyString(), anyString());
+        verify(repository, never()).get(anyString());
+    }
+    
+    @Test
+    public void assertCompareAndPersistWithTableWithoutDigest() {
+        ShardingSphereTable table = new YamlTableSwapper().swapToObject(YamlEngine.unmarshal(readYAML(), YamlShardingSphereTable.class));
+        String content = YamlEngine.marshal(new YamlTableSwapper().swapToYamlConfiguration(table));
+        when(repository.getChildrenKeys("/metadata/foo_db/schemas/foo_schema/tables")).thenReturn(Collections.singletonList("t_order"));
+        when(repository.batchGet(Collections.singletonList("/metadata/foo_db/schemas/foo_schema/digests/t_order"))).thenReturn(Collections.emptyMap());
+        ShardingSphereSchema schema = new ShardingSphereSchema();
+        schema.getTables().put("t_order", table);
+        new DatabaseMetaDataPersistService(repository).compareAndPersistMetaData("foo_db", "foo_schema", schema);
+        Map<String, String> expected = new HashMap<>(2, 1);
+        expected.put("/metadata/foo_db/schemas/foo_schema/tables/t_order", content);
+        expected.put("/metadata/foo_db/schemas/foo_schema/digests/t_order", DigestUtils.sha256Hex(content));
+        verify(repository).batchPersist(expected);
+        verify(repository, never()).batchDelete(any());
+        verify(repository, never()).get(anyString());
+    }
+    
+    @Test
+    public void assertDeleteTable() {
+        new DatabaseMetaDataPersistService(repository).deleteTable("foo_db", "foo_schema", "t_order");
+        verify(repository).batchDelete(Arrays.asList("/metadata/foo_db/schemas/foo_schema/tables/t_order",
+                "/metadata/foo_db/schemas/foo_schema/statistics/t_order", "/metadata/foo_db/schemas/foo_schema/digests/t_order"));
     }
     
     @Test
@@ -101,7 +165,28 @@ public final class DatabaseMetaDataPersistServiceTest {
     public void assertPersistTableMetaData() {
         ShardingSphereTable table = new ShardingSphereTable("FOO_TABLE", Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
         new DatabaseMetaDataPersistService(repository).persistTable("foo_db", "foo_schema", table);
-        verify(repository).persist(eq("/metadata/foo_db/schemas/foo_schema/tables/foo_table"), anyString());
+        ArgumentCaptor<String> content = ArgumentCaptor.forClass(String.class);
+        verify(repository).persist(eq("/metadata/foo_db/schemas/foo_schema/tables/foo_table"), content.capture());
+        verify(repository).persist("/metadata/foo_db/schemas/foo_schema/digests/foo_table", DigestUtils.sha256Hex(content.getValue()));
+    }
+    
+    @Test
+    public void assertPersistAndLoadTableStatistics() {
+        ShardingSphereTableStatistics statistics = new ShardingSphereTableStatistics(10L, Collections.singletonMap("id", new ShardingSphereColumnStatistics(10L, 1L, 10L)));
+        DatabaseMetaDataPersistService databaseMetaDataPersistService = new DatabaseMetaDataPersistService(repository);
+        databaseMetaDataPersistService.persistTableStatistics("foo_db", "foo_schema", "T_ORDER", statistics);
+        ArgumentCaptor<String> content = ArgumentCaptor.forClass(String.class);
+        verify(repository).persist(eq("/metadata/foo_db/schemas/foo_schema/statistics/t_order"), content.capture());
+        when(repository.getChildrenKeys("/metadata/foo_db/schemas/foo_schema/tables")).thenReturn(Collections.singletonList("t_order"));
+        when(repository.getChildrenKeys("/metadata/foo_db/schemas/foo_schema/statistics")).thenReturn(Collections.singletonList("t_order"));
+        when(repository.get("/metadata/foo_db/schemas/foo_schema/tables/t_order")).thenReturn(readYAML());
+        when(repository.get("/metadata/foo_db/schemas/foo_schema/statistics/t_order")).thenReturn(content.getValue());
+        Optional<ShardingSphereSchema> schema = databaseMetaDataPersistService.load("foo_db", "foo_schema");
+        assertTrue(schema.isPresent());
+        Optional<ShardingSphereTableStatistics> actual = schema.get().getTable("t_order").getStatistics();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getRowCount(), is(10L));
+        assertThat(actual.get().getColumns().get("id").getDistinctCount(), is(10L));
     }
     
     @SneakyThrows({IOException.class, URISyntaxException.class})
@@ -23,6 +23,7 @@ import io.etcd.jetcd.Client;
 import io.etcd.jetcd.KeyValue;
 import io.etcd.jetcd.Util;
 import io.etcd.jetcd.Watch;
+import io.etcd.jetcd.op.Op;
 import io.etcd.jetcd.options.DeleteOption;
 import io.etcd.jetcd.options.GetOption;
 import io.etcd.jetcd.options.PutOption;
@@ -42,7 +43,10 @@ import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEve
 import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEventListener;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
@@ -52,6 +56,8 @@ import java.util.stream.Collectors;
 @Slf4j
 public final class EtcdRepository implements ClusterPersistRepository {
     
+    private static final int MAX_TXN_OPERATIONS = 128;
+    
     private Client client;
     
     private EtcdProperties etcdProps;
@@ -96,6 +102,22 @@ public final class EtcdRepository implements ClusterPersistRepository {
         client.getKVClient().put(ByteSequence.from(key, StandardCharsets.UTF_8), ByteSequence.from(value, StandardCharsets.UTF_8)).get();
     }
     
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    @Override
+    public void batchPersist(final Map<String, String> keyValues) {
+        List<Op> operations = new ArrayList<>(MAX_TXN_OPERATIONS);
+        for (Entry<String, String> entry : keyValues.entrySet()) {
+            operations.add(Op.put(ByteSequence.from(entry.getKey(), StandardCharsets.UTF_8), ByteSequence.from(entry.getValue(), StandardCharsets.UTF_8), PutOption.DEFAULT));
+            if (MAX_TXN_OPERATIONS == operations.size()) {
+                client.getKVClient().txn().Then(operations.toArray(new Op[0])).commit().get();
+                operations.clear();
+            }
+        }
+        if (!operations.isEmpty()) {
+            client.getKVClient().txn().Then(operations.toArray(new Op[0])).commit().get();
+        }
+    }
+    
     @SneakyThrows({InterruptedException.class, ExecutionException.class})
     @Override
     public void persistEphemeral(final String key, final String value) {
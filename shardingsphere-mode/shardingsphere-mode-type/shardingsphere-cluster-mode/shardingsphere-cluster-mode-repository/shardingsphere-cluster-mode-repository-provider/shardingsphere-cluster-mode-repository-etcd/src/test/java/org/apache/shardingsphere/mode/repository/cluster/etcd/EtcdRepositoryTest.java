@@ -23,8 +23,10 @@ import io.etcd.jetcd.Client;
 import io.etcd.jetcd.KV;
 import io.etcd.jetcd.KeyValue;
 import io.etcd.jetcd.Lease;
+import io.etcd.jetcd.Txn;
 import io.etcd.jetcd.Watch;
 import io.etcd.jetcd.kv.GetResponse;
+import io.etcd.jetcd.kv.TxnResponse;
 import io.etcd.jetcd.lease.LeaseGrantResponse;
 import io.etcd.jetcd.options.DeleteOption;
 import io.etcd.jetcd.options.GetOption;
@@ -46,8 +48,10 @@ import org.mockito.plugins.MemberAccessor;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -57,9 +61,11 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.RETURNS_SELF;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -213,6 +219,19 @@ public final class EtcdRepositoryTest {
         verify(kv).put(any(ByteSequence.class), any(ByteSequence.class));
     }
     
+    @Test
+    public void assertBatchPersist() {
+        Txn txn = mock(Txn.class, RETURNS_SELF);
+        when(kv.txn()).thenReturn(txn);
+        when(txn.commit()).thenReturn(CompletableFuture.completedFuture(mock(TxnResponse.class)));
+        Map<String, String> keyValues = new LinkedHashMap<>(200, 1);
+        for (int i = 0; i < 200; i++) {
+            keyValues.put("key" + i, "value" + i);
+        }
+        repository.batchPersist(keyValues);
+        verify(txn, times(2)).commit();
+    }
+    
     @Test
     public void assertClose() {
         repository.close();
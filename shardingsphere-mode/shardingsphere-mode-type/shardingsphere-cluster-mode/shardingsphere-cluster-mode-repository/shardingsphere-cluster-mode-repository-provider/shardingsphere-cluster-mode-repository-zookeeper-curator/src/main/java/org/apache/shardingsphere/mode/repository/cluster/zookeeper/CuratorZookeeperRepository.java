@@ -18,10 +18,13 @@
 package org.apache.shardingsphere.mode.repository.cluster.zookeeper;
 
 import com.google.common.base.Strings;
+import com.google.common.collect.Lists;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory;
 import org.apache.curator.framework.CuratorFrameworkFactory.Builder;
 import org.apache.curator.framework.api.ACLProvider;
+import org.apache.curator.framework.api.transaction.CuratorOp;
 import org.apache.curator.framework.recipes.cache.CuratorCache;
 import org.apache.curator.framework.recipes.cache.CuratorCacheListener;
 import org.apache.curator.framework.recipes.cache.TreeCacheEvent;
@@ -40,24 +43,41 @@ import org.apache.shardingsphere.mode.repository.cluster.zookeeper.lock.Zookeepe
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperProperties;
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperPropertyKey;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException;
+import org.apache.zookeeper.KeeperException.Code;
+import org.apache.zookeeper.KeeperException.NoNodeException;
 import org.apache.zookeeper.KeeperException.NodeExistsException;
+import org.apache.zookeeper.KeeperException.NotEmptyException;
 import org.apache.zookeeper.KeeperException.OperationTimeoutException;
 import org.apache.zookeeper.ZooDefs;
 import org.apache.zookeeper.data.ACL;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Registry repository of ZooKeeper.
  */
+@Slf4j
 public final class CuratorZookeeperRepository implements ClusterPersistRepository {
     
+    private static final int MAX_BATCH_OPERATIONS = 1000;
+    
+    private static final int MAX_BATCH_BYTES = 512 * 1024;
+    
     private final Map<String, CuratorCache> caches = new HashMap<>();
     
     private final Builder builder = CuratorFrameworkFactory.builder();
@@ -155,6 +175,187 @@ public final class CuratorZookeeperRepository implements ClusterPersistRepositor
         }
     }
     
+    @Override
+    public Map<String, String> batchGet(final Collection<String> keys) {
+        Map<String, byte[]> values = new ConcurrentHashMap<>(keys.size(), 1);
+        try {
+            for (List<String> each : Lists.partition(new ArrayList<>(keys), MAX_BATCH_OPERATIONS)) {
+                getInBackground(each, values);
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ClusterPersistRepositoryException(ex);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            throw new ClusterPersistRepositoryException(ex);
+        }
+        Map<String, String> result = new LinkedHashMap<>(values.size(), 1);
+        for (String each : keys) {
+            byte[] value = values.get(each);
+            if (null != value) {
+                result.put(each, new String(value, StandardCharsets.UTF_8));
+            }
+        }
+        return result;
+    }
+    
+    private void getInBackground(final Collection<String> keys, final Map<String, byte[]> values) throws Exception {
+        CountDownLatch latch = new CountDownLatch(keys.size());
+        Collection<KeeperException> failures = new ConcurrentLinkedQueue<>();
+        for (String each : keys) {
+            client.getData().inBackground((curatorClient, event) -> {
+                if (Code.OK.intValue() == event.getResultCode()) {
+                    values.put(each, null == event.getData() ? new byte[0] : event.getData());
+                } else if (Code.NONODE.intValue() != event.getResultCode()) {
+                    failures.add(KeeperException.create(Code.get(event.getResultCode()), each));
+                }
+                latch.countDown();
+            }).forPath(each);
+        }
+        latch.await();
+        if (!failures.isEmpty()) {
+            throw failures.iterator().next();
+        }
+    }
+    
+    @Override
+    public void batchPersist(final Map<String, String> keyValues) {
+        try {
+            Map<String, Collection<String>> existedChildrenKeys = new HashMap<>();
+            Map<String, byte[]> batch = new LinkedHashMap<>();
+            int batchBytes = 0;
+            for (Entry<String, String> entry : keyValues.entrySet()) {
+                byte[] value = entry.getValue().getBytes(StandardCharsets.UTF_8);
+                if (!batch.isEmpty() && (batch.size() >= MAX_BATCH_OPERATIONS || batchBytes + value.length > MAX_BATCH_BYTES)) {
+                    commitPersistBatch(existedChildrenKeys, batch);
+                    batch = new LinkedHashMap<>();
+                    batchBytes = 0;
+                }
+                batch.put(entry.getKey(), value);
+                batchBytes += value.length;
+            }
+            if (!batch.isEmpty()) {
+                commitPersistBatch(existedChildrenKeys, batch);
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ClusterPersistRepositoryException(ex);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            throw new ClusterPersistRepositoryException(ex);
+        }
+    }
+    
+    private void commitPersistBatch(final Map<String, Collection<String>> existedChildrenKeys, final Map<String, byte[]> batch) throws Exception {
+        List<CuratorOp> operations = new ArrayList<>(batch.size());
+        for (Entry<String, byte[]> entry : batch.entrySet()) {
+            operations.add(createPersistOperation(existedChildrenKeys, entry.getKey(), entry.getValue()));
+        }
+        try {
+            client.transaction().forOperations(operations);
+        } catch (final NodeExistsException | NoNodeException ex) {
+            log.debug("Batch persist conflicted with concurrent change, persist one by one: {}", ex.getMessage());
+            for (Entry<String, byte[]> entry : batch.entrySet()) {
+                setOrCreate(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+    
+    private CuratorOp createPersistOperation(final Map<String, Collection<String>> existedChildrenKeys, final String key, final byte[] value) throws Exception {
+        int index = key.lastIndexOf(PATH_SEPARATOR);
+        String parentKey = 0 == index ? PATH_SEPARATOR : key.substring(0, index);
+        Collection<String> childrenKeys = existedChildrenKeys.get(parentKey);
+        if (null == childrenKeys) {
+            childrenKeys = loadExistedChildrenKeys(parentKey, true);
+            existedChildrenKeys.put(parentKey, childrenKeys);
+        }
+        return childrenKeys.contains(key.substring(index + 1))
+                ? client.transactionOp().setData().forPath(key, value)
+                : client.transactionOp().create().withMode(CreateMode.PERSISTENT).forPath(key, value);
+    }
+    
+    private void setOrCreate(final String key, final byte[] value) throws Exception {
+        try {
+            client.setData().forPath(key, value);
+        } catch (final NoNodeException ex) {
+            try {
+                client.create().creatingParentsIfNeeded().withMode(CreateMode.PERSISTENT).forPath(key, value);
+            } catch (final NodeExistsException existedEx) {
+                client.setData().forPath(key, value);
+            }
+        }
+    }
+    
+    private Collection<String> loadExistedChildrenKeys(final String parentKey, final boolean createIfAbsent) throws Exception {
+        try {
+            return new HashSet<>(client.getChildren().forPath(parentKey));
+        } catch (final NoNodeException ex) {
+            if (createIfAbsent) {
+                try {
+                    client.create().creatingParentsIfNeeded().withMode(CreateMode.PERSISTENT).forPath(parentKey, new byte[0]);
+                } catch (final NodeExistsException existedEx) {
+                    log.debug("Parent node {} is created concurrently", parentKey);
+                }
+            }
+            return Collections.emptySet();
+        }
+    }
+    
+    @Override
+    public void batchDelete(final Collection<String> keys) {
+        try {
+            Map<String, Collection<String>> existedChildrenKeys = new HashMap<>();
+            List<String> existedKeys = new ArrayList<>(keys.size());
+            for (String each : keys) {
+                int index = each.lastIndexOf(PATH_SEPARATOR);
+                String parentKey = 0 == index ? PATH_SEPARATOR : each.substring(0, index);
+                Collection<String> childrenKeys = existedChildrenKeys.get(parentKey);
+                if (null == childrenKeys) {
+                    childrenKeys = loadExistedChildrenKeys(parentKey, false);
+                    existedChildrenKeys.put(parentKey, childrenKeys);
+                }
+                if (childrenKeys.contains(each.substring(index + 1))) {
+                    existedKeys.add(each);
+                }
+            }
+            for (List<String> each : Lists.partition(existedKeys, MAX_BATCH_OPERATIONS)) {
+                commitDeleteBatch(each);
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ClusterPersistRepositoryException(ex);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            throw new ClusterPersistRepositoryException(ex);
+        }
+    }
+    
+    private void commitDeleteBatch(final List<String> keys) throws Exception {
+        List<CuratorOp> operations = new ArrayList<>(keys.size());
+        for (String each : keys) {
+            operations.add(client.transactionOp().delete().forPath(each));
+        }
+        try {
+            client.transaction().forOperations(operations);
+        } catch (final NoNodeException | NotEmptyException ex) {
+            log.debug("Batch delete conflicted with concurrent change or child nodes, delete one by one: {}", ex.getMessage());
+            for (String each : keys) {
+                deleteIfExisted(each);
+            }
+        }
+    }
+    
+    private void deleteIfExisted(final String key) throws Exception {
+        try {
+            client.delete().deletingChildrenIfNeeded().forPath(key);
+        } catch (final NoNodeException ex) {
+            log.debug("Node {} is deleted concurrently", key);
+        }
+    }
+    
     private void update(final String key, final String value) {
         try {
             client.setData().forPath(key, value.getBytes(StandardCharsets.UTF_8));
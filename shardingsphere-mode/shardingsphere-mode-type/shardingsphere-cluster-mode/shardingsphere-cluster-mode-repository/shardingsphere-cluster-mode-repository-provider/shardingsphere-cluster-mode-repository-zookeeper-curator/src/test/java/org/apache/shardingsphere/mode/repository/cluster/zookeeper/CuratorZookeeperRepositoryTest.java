@@ -23,25 +23,36 @@ import org.apache.curator.RetryPolicy;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory.Builder;
 import org.apache.curator.framework.api.ACLProvider;
+import org.apache.curator.framework.api.BackgroundCallback;
 import org.apache.curator.framework.api.BackgroundVersionable;
 import org.apache.curator.framework.api.CreateBuilder;
+import org.apache.curator.framework.api.CuratorEvent;
 import org.apache.curator.framework.api.DeleteBuilder;
+import org.apache.curator.framework.api.ErrorListenPathable;
 import org.apache.curator.framework.api.ExistsBuilder;
 import org.apache.curator.framework.api.GetChildrenBuilder;
+import org.apache.curator.framework.api.GetDataBuilder;
 import org.apache.curator.framework.api.ProtectACLCreateModeStatPathAndBytesable;
 import org.apache.curator.framework.api.SetDataBuilder;
+import org.apache.curator.framework.api.transaction.CuratorMultiTransaction;
+import org.apache.curator.framework.api.transaction.CuratorOp;
+import org.apache.curator.framework.api.transaction.TransactionOp;
 import org.apache.curator.framework.listen.Listenable;
 import org.apache.curator.framework.recipes.cache.ChildData;
 import org.apache.curator.framework.recipes.cache.CuratorCache;
 import org.apache.curator.framework.recipes.cache.CuratorCacheListener;
 import org.apache.curator.framework.recipes.locks.InterProcessLock;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryConfiguration;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryException;
 import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEvent;
 import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEvent.Type;
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.lock.ZookeeperInternalLock;
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.lock.ZookeeperInternalLockHolder;
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperPropertyKey;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException.Code;
+import org.apache.zookeeper.KeeperException.ConnectionLossException;
+import org.apache.zookeeper.KeeperException.NodeExistsException;
 import org.apache.zookeeper.data.Stat;
 import org.junit.Before;
 import org.junit.Test;
@@ -56,18 +67,23 @@ import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -178,6 +194,92 @@ public final class CuratorZookeeperRepositoryTest {
         verify(setDataBuilder).forPath("/test", "value2".getBytes(StandardCharsets.UTF_8));
     }
     
+    @Test
+    @SneakyThrows
+    public void assertBatchPersist() {
+        when(getChildrenBuilder.forPath("/test")).thenReturn(Collections.singletonList("existed"));
+        TransactionOp transactionOp = mock(TransactionOp.class, RETURNS_DEEP_STUBS);
+        when(client.transactionOp()).thenReturn(transactionOp);
+        CuratorOp setDataOperation = mock(CuratorOp.class);
+        when(transactionOp.setData().forPath("/test/existed", "value1".getBytes(StandardCharsets.UTF_8))).thenReturn(setDataOperation);
+        CuratorOp createOperation = mock(CuratorOp.class);
+        when(transactionOp.create().withMode(CreateMode.PERSISTENT).forPath("/test/added", "value2".getBytes(StandardCharsets.UTF_8))).thenReturn(createOperation);
+        CuratorMultiTransaction transaction = mock(CuratorMultiTransaction.class);
+        when(client.transaction()).thenReturn(transaction);
+        REPOSITORY.batchPersist(createBatchKeyValues());
+        verify(transaction).forOperations(Arrays.asList(setDataOperation, createOperation));
+    }
+    
+    @Test
+    @SneakyThrows
+    public void assertBatchPersistWithConcurrentChange() {
+        when(getChildrenBuilder.forPath("/test")).thenReturn(Collections.singletonList("existed"));
+        when(client.transactionOp()).thenReturn(mock(TransactionOp.class, RETURNS_DEEP_STUBS));
+        CuratorMultiTransaction transaction = mock(CuratorMultiTransaction.class);
+        when(client.transaction()).thenReturn(transaction);
+        when(transaction.forOperations(anyList())).thenThrow(new NodeExistsException("/test/added"));
+        REPOSITORY.batchPersist(createBatchKeyValues());
+        verify(setDataBuilder).forPath("/test/existed", "value1".getBytes(StandardCharsets.UTF_8));
+        verify(setDataBuilder).forPath("/test/added", "value2".getBytes(StandardCharsets.UTF_8));
+    }
+    
+    @Test(expected = ClusterPersistRepositoryException.class)
+    @SneakyThrows
+    public void assertBatchPersistWithFailure() {
+        when(getChildrenBuilder.forPath("/test")).thenReturn(Collections.singletonList("existed"));
+        when(client.transactionOp()).thenReturn(mock(TransactionOp.class, RETURNS_DEEP_STUBS));
+        CuratorMultiTransaction transaction = mock(CuratorMultiTransaction.class);
+        when(client.transaction()).thenReturn(transaction);
+        when(transaction.forOperations(anyList())).thenThrow(new ConnectionLossException());
+        REPOSITORY.batchPersist(createBatchKeyValues());
+    }
+    
+    private Map<String, String> createBatchKeyValues() {
+        Map<String, String> result = new LinkedHashMap<>(2, 1);
+        result.put("/test/existed", "value1");
+        result.put("/test/added", "value2");
+        return result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    @SneakyThrows
+    public void assertBatchGet() {
+        GetDataBuilder getDataBuilder = mock(GetDataBuilder.class);
+        when(client.getData()).thenReturn(getDataBuilder);
+        AtomicReference<BackgroundCallback> callback = new AtomicReference<>();
+        ErrorListenPathable<byte[]> pathable = mock(ErrorListenPathable.class);
+        when(getDataBuilder.inBackground(any(BackgroundCallback.class))).thenAnswer(invocation -> {
+            callback.set(invocation.getArgument(0));
+            return pathable;
+        });
+        CuratorEvent existedEvent = mock(CuratorEvent.class);
+        when(existedEvent.getResultCode()).thenReturn(Code.OK.intValue());
+        when(existedEvent.getData()).thenReturn("value1".getBytes(StandardCharsets.UTF_8));
+        CuratorEvent notExistedEvent = mock(CuratorEvent.class);
+        when(notExistedEvent.getResultCode()).thenReturn(Code.NONODE.intValue());
+        when(pathable.forPath(anyString())).thenAnswer(invocation -> {
+            callback.get().processResult(client, "/test/existed".equals(invocation.getArgument(0)) ? existedEvent : notExistedEvent);
+            return null;
+        });
+        Map<String, String> actual = REPOSITORY.batchGet(Arrays.asList("/test/existed", "/test/not_existed"));
+        assertThat(actual, is(Collections.singletonMap("/test/existed", "value1")));
+    }
+    
+    @Test
+    @SneakyThrows
+    public void assertBatchDelete() {
+        when(getChildrenBuilder.forPath("/test")).thenReturn(Collections.singletonList("existed"));
+        TransactionOp transactionOp = mock(TransactionOp.class, RETURNS_DEEP_STUBS);
+        when(client.transactionOp()).thenReturn(transactionOp);
+        CuratorOp deleteOperation = mock(CuratorOp.class);
+        when(transactionOp.delete().forPath("/test/existed")).thenReturn(deleteOperation);
+        CuratorMultiTransaction transaction = mock(CuratorMultiTransaction.class);
+        when(client.transaction()).thenReturn(transaction);
+        REPOSITORY.batchDelete(Arrays.asList("/test/existed", "/test/not_existed"));
+        verify(transaction).forOperations(Collections.singletonList(deleteOperation));
+    }
+    
     @Test
     @SneakyThrows
     public void assertPersistEphemeralNotExist() {
@@ -193,6 +193,7 @@ public final class JDBCDatabaseCommunicationEngine extends DatabaseCommunication
     @Override
     public void close() throws SQLException {
         Collection<SQLException> result = new LinkedList<>();
+        closeMergedResult().ifPresent(result::add);
         result.addAll(closeResultSets());
         result.addAll(closeStatements());
         closeFederationExecutor().ifPresent(result::add);
@@ -204,6 +205,17 @@ public final class JDBCDatabaseCommunicationEngine extends DatabaseCommunication
         throw ex;
     }
     
+    private Optional<SQLException> closeMergedResult() {
+        if (null != getMergedResult()) {
+            try {
+                getMergedResult().close();
+            } catch (final SQLException ex) {
+                return Optional.of(ex);
+            }
+        }
+        return Optional.empty();
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
@@ -20,8 +20,10 @@ package org.apache.shardingsphere.proxy.backend.context;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceType;
 
 /**
  * Backend executor context.
@@ -32,8 +34,13 @@ public final class BackendExecutorContext {
     
     private static final BackendExecutorContext INSTANCE = new BackendExecutorContext();
     
-    private final ExecutorEngine executorEngine = ExecutorEngine.createExecutorEngineWithSize(
-            ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE));
+    private final ExecutorEngine executorEngine = createExecutorEngine();
+    
+    private static ExecutorEngine createExecutorEngine() {
+        ConfigurationProperties props = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps();
+        return ExecutorEngine.createExecutorEngineWithSize(props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE),
+                ExecutorServiceType.valueFrom(props.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_TYPE)));
+    }
     
     /**
      * Get executor context instance.
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.handler.distsql.ral.updatable;
+
+import com.google.common.base.Strings;
+import org.apache.shardingsphere.dialect.exception.syntax.database.NoDatabaseSelectedException;
+import org.apache.shardingsphere.dialect.exception.syntax.database.UnknownDatabaseException;
+import org.apache.shardingsphere.dialect.exception.syntax.table.NoSuchTableException;
+import org.apache.shardingsphere.distsql.parser.statement.ral.updatable.RefreshTableStatisticsStatement;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTableStatistics;
+import org.apache.shardingsphere.infra.metadata.database.schema.loader.common.TableStatisticsLoader;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.metadata.persist.service.DatabaseMetaDataPersistService;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.handler.distsql.ral.UpdatableRALBackendHandler;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Refresh table statistics handler.
+ */
+public final class RefreshTableStatisticsHandler extends UpdatableRALBackendHandler<RefreshTableStatisticsStatement> {
+    
+    @Override
+    protected void update(final ContextManager contextManager) throws SQLException {
+        String databaseName = getDatabaseName();
+        ShardingSphereDatabase database = contextManager.getMetaDataContexts().getMetaData().getDatabase(databaseName);
+        String schemaName = DatabaseTypeEngine.getDefaultSchemaName(getConnectionSession().getDatabaseType(), databaseName);
+        ShardingSphereSchema schema = database.getSchema(schemaName);
+        DatabaseMetaDataPersistService persistService = contextManager.getMetaDataContexts().getPersistService().getDatabaseMetaDataService();
+        for (ShardingSphereTable each : getTables(schema)) {
+            Optional<ShardingSphereTableStatistics> statistics = TableStatisticsLoader.load(database, each);
+            if (statistics.isPresent()) {
+                schema.putTable(each.getName(), each.withStatistics(statistics.get()));
+                persistService.persistTableStatistics(databaseName, schemaName, each.getName(), statistics.get());
+            }
+        }
+    }
+    
+    private String getDatabaseName() {
+        String result = getConnectionSession().getDatabaseName();
+        if (Strings.isNullOrEmpty(result)) {
+            throw new NoDatabaseSelectedException();
+        }
+        if (!ProxyContext.getInstance().databaseExists(result)) {
+            throw new UnknownDatabaseException(result);
+        }
+        return result;
+    }
+    
+    private Collection<ShardingSphereTable> getTables(final ShardingSphereSchema schema) {
+        if (!getSqlStatement().getTableName().isPresent()) {
+            return new ArrayList<>(schema.getTables().values());
+        }
+        String tableName = getSqlStatement().getTableName().get();
+        if (!schema.containsTable(tableName)) {
+            throw new NoSuchTableException(tableName);
+        }
+        return Collections.singleton(schema.getTable(tableName));
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.codec.DatabasePacketCodecEngine;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalescing packet writer.
+ * 
+ * <p>Packets are encoded by codec engine straight into a buffer allocated from pooled allocator of channel, the buffer is written and flushed to channel as a whole when its size reaches threshold.
+ * Buffered packets are also flushed by event loop of channel when flush interval elapsed, so slow result set does not hold encoded packets.
+ * First buffer of query is small and following buffers are allocated with threshold size, so short query does not occupy a whole threshold buffer.</p>
+ */
+public final class CoalescingPacketWriter {
+    
+    private static final int INITIAL_BUFFER_CAPACITY = 1024;
+    
+    @SuppressWarnings("rawtypes")
+    private final DatabasePacketCodecEngine codecEngine;
+    
+    private final ChannelHandlerContext context;
+    
+    private final int flushBytesThreshold;
+    
+    private final long flushIntervalNanos;
+    
+    private int bufferCapacity;
+    
+    private ByteBuf buffer;
+    
+    private ScheduledFuture<?> scheduledFlush;
+    
+    public CoalescingPacketWriter(final DatabasePacketCodecEngine<?> codecEngine, final ChannelHandlerContext context, final ConfigurationProperties props) {
+        this.codecEngine = codecEngine;
+        this.context = context;
+        flushBytesThreshold = props.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD);
+        flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(props.<Long>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_INTERVAL_MILLISECONDS));
+        bufferCapacity = Math.min(INITIAL_BUFFER_CAPACITY, flushBytesThreshold);
+    }
+    
+    /**
+     * Judge whether coalescing is enabled.
+     *
+     * @param props configuration properties
+     * @return whether coalescing is enabled
+     */
+    public static boolean isEnabled(final ConfigurationProperties props) {
+        return props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD) > 0;
+    }
+    
+    /**
+     * Encode packet into buffer, and flush buffer if threshold reached.
+     *
+     * @param packet packet to be written
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized void write(final DatabasePacket<?> packet) {
+        if (null == buffer) {
+            buffer = context.alloc().ioBuffer(bufferCapacity);
+            scheduleFlush();
+        }
+        codecEngine.encode(context, packet, buffer);
+        if (buffer.readableBytes() >= flushBytesThreshold) {
+            bufferCapacity = flushBytesThreshold;
+            flush();
+        }
+    }
+    
+    private void scheduleFlush() {
+        if (null == scheduledFlush) {
+            scheduledFlush = context.executor().schedule(this::flushScheduled, flushIntervalNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+    
+    private synchronized void flushScheduled() {
+        scheduledFlush = null;
+        if (null != buffer) {
+            flush();
+        }
+    }
+    
+    /**
+     * Write buffered packets and flush channel.
+     */
+    public synchronized void flush() {
+        writeBuffered();
+        context.flush();
+    }
+    
+    /**
+     * Write buffered packets to channel without flushing.
+     */
+    public synchronized void writeBuffered() {
+        if (null != scheduledFlush) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        if (null == buffer) {
+            return;
+        }
+        if (buffer.isReadable()) {
+            context.write(buffer);
+        } else {
+            buffer.release();
+        }
+        buffer = null;
+    }
+}
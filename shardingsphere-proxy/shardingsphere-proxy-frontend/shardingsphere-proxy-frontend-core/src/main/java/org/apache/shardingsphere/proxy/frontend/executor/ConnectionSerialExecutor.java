@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.executor;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Connection serial executor.
+ *
+ * <p>
+ * Run tasks of one connection one by one in submitted order on shared executor.
+ * Tasks may run on different threads, but never concurrently, so no thread is occupied by idle connection.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class ConnectionSerialExecutor implements Executor {
+    
+    private final Executor executor;
+    
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    
+    private final AtomicBoolean running = new AtomicBoolean();
+    
+    @Override
+    public void execute(final Runnable command) {
+        tasks.add(command);
+        scheduleNext();
+    }
+    
+    private void scheduleNext() {
+        if (!tasks.isEmpty() && running.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::runNext);
+            } catch (final RejectedExecutionException ex) {
+                running.set(false);
+                throw ex;
+            }
+        }
+    }
+    
+    private void runNext() {
+        try {
+            Runnable task = tasks.poll();
+            if (null != task) {
+                task.run();
+            }
+        } finally {
+            running.set(false);
+            scheduleNext();
+        }
+    }
+}
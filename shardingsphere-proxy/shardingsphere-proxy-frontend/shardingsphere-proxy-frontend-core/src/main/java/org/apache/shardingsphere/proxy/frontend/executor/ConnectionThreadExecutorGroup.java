@@ -22,6 +22,7 @@ import lombok.NoArgsConstructor;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -31,8 +32,9 @@ import java.util.concurrent.TimeUnit;
  * Connection thread executor group.
  *
  * <p>
- * Manage the thread for each connection session invoking.
- * This ensure XA transaction framework processed by current thread id.
+ * Manage the executors for each connection session invoking.
+ * Thread executor occupies a thread for connection, this ensure XA transaction framework and hint processed by current thread id.
+ * Serial executor only keeps commands of connection in order and runs them on shared user executor, so it does not occupy a thread.
  * </p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -42,6 +44,8 @@ public final class ConnectionThreadExecutorGroup {
     
     private final Map<Integer, ExecutorService> executorServices = new ConcurrentHashMap<>();
     
+    private final Map<Integer, Executor> serialExecutors = new ConcurrentHashMap<>();
+    
     /**
      * Get connection thread executor group.
      *
@@ -52,12 +56,13 @@ public final class ConnectionThreadExecutorGroup {
     }
     
     /**
-     * Register connection.
+     * Get executor service of connection, create it if absent.
      *
      * @param connectionId connection id
+     * @return executor service of current connection
      */
-    public void register(final int connectionId) {
-        executorServices.put(connectionId, newSingleThreadExecutorService(connectionId));
+    public ExecutorService get(final int connectionId) {
+        return executorServices.computeIfAbsent(connectionId, this::newSingleThreadExecutorService);
     }
     
     private ExecutorService newSingleThreadExecutorService(final int connectionId) {
@@ -65,13 +70,13 @@ public final class ConnectionThreadExecutorGroup {
     }
     
     /**
-     * Get executor service of connection.
+     * Get serial executor of connection, create it if absent.
      *
      * @param connectionId connection id
-     * @return executor service of current connection
+     * @return serial executor of current connection
      */
-    public ExecutorService get(final int connectionId) {
-        return executorServices.get(connectionId);
+    public Executor getSerialExecutor(final int connectionId) {
+        return serialExecutors.computeIfAbsent(connectionId, key -> new ConnectionSerialExecutor(UserExecutorGroup.getInstance().getExecutorService()));
     }
     
     /**
@@ -80,7 +85,11 @@ public final class ConnectionThreadExecutorGroup {
      * @param connectionId connection id
      */
     public void unregisterAndAwaitTermination(final int connectionId) {
+        serialExecutors.remove(connectionId);
         ExecutorService executorService = executorServices.remove(connectionId);
+        if (null == executorService) {
+            return;
+        }
         executorService.shutdown();
         try {
             executorService.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
@@ -32,7 +32,6 @@ import org.apache.shardingsphere.proxy.backend.exception.BackendConnectionExcept
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.authentication.AuthenticationResult;
 import org.apache.shardingsphere.proxy.frontend.executor.ConnectionThreadExecutorGroup;
-import org.apache.shardingsphere.proxy.frontend.executor.UserExecutorGroup;
 import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngine;
 import org.apache.shardingsphere.proxy.frontend.state.ProxyStateContext;
 import org.apache.shardingsphere.transaction.rule.TransactionRule;
@@ -58,7 +57,6 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     @Override
     public void channelActive(final ChannelHandlerContext context) {
         int connectionId = databaseProtocolFrontendEngine.getAuthenticationEngine().handshake(context);
-        ConnectionThreadExecutorGroup.getInstance().register(connectionId);
         connectionSession.setConnectionId(connectionId);
     }
     
@@ -92,7 +90,7 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     @Override
     public void channelInactive(final ChannelHandlerContext context) {
         context.fireChannelInactive();
-        UserExecutorGroup.getInstance().getExecutorService().execute(this::closeAllResources);
+        ConnectionThreadExecutorGroup.getInstance().getSerialExecutor(connectionSession.getConnectionId()).execute(this::closeAllResources);
     }
     
     private void closeAllResources() {
@@ -27,7 +27,7 @@ import org.apache.shardingsphere.proxy.frontend.executor.UserExecutorGroup;
 import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngine;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
 
 /**
  * JDBC OK proxy state.
@@ -37,18 +37,18 @@ public final class JDBCOKProxyState implements OKProxyState {
     @Override
     public void execute(final ChannelHandlerContext context, final Object message, final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine, final ConnectionSession connectionSession) {
         CommandExecutorTask commandExecutorTask = new CommandExecutorTask(databaseProtocolFrontendEngine, connectionSession, context, message);
-        ExecutorService executorService = determineSuitableExecutorService(context, message, databaseProtocolFrontendEngine, connectionSession);
-        executorService.execute(commandExecutorTask);
+        Executor executor = determineSuitableExecutor(context, message, databaseProtocolFrontendEngine, connectionSession);
+        executor.execute(commandExecutorTask);
     }
     
-    private ExecutorService determineSuitableExecutorService(final ChannelHandlerContext context, final Object message, final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine,
-                                                             final ConnectionSession connectionSession) {
+    private Executor determineSuitableExecutor(final ChannelHandlerContext context, final Object message, final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine,
+                                               final ConnectionSession connectionSession) {
         if (requireOccupyThreadForConnection(connectionSession)) {
             return ConnectionThreadExecutorGroup.getInstance().get(connectionSession.getConnectionId());
         } else if (isPreferNettyEventLoop()) {
             return context.executor();
-        } else if (databaseProtocolFrontendEngine.getFrontendContext().isRequiredSameThreadForConnection(message)) {
-            return ConnectionThreadExecutorGroup.getInstance().get(connectionSession.getConnectionId());
+        } else if (databaseProtocolFrontendEngine.getFrontendContext().isRequiredSerialExecutionForConnection(message)) {
+            return ConnectionThreadExecutorGroup.getInstance().getSerialExecutor(connectionSession.getConnectionId());
         }
         return UserExecutorGroup.getInstance().getExecutorService();
     }
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.ScheduledFuture;
+import org.apache.shardingsphere.db.protocol.codec.DatabasePacketCodecEngine;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class CoalescingPacketWriterTest {
+    
+    @Mock
+    private DatabasePacketCodecEngine<DatabasePacket<?>> codecEngine;
+    
+    @Mock
+    private ChannelHandlerContext context;
+    
+    @Mock
+    private EventExecutor eventExecutor;
+    
+    @Mock
+    private ScheduledFuture<?> scheduledFuture;
+    
+    @Test
+    public void assertIsEnabled() {
+        assertTrue(CoalescingPacketWriter.isEnabled(createProperties(8, 1000L)));
+        assertFalse(CoalescingPacketWriter.isEnabled(createProperties(0, 1000L)));
+    }
+    
+    @Test
+    public void assertWriteWithBytesThresholdReached() {
+        CoalescingPacketWriter writer = createWriter(8, 1000L);
+        writer.write(mock(DatabasePacket.class));
+        verify(context, never()).write(any());
+        writer.write(mock(DatabasePacket.class));
+        ArgumentCaptor<ByteBuf> captor = ArgumentCaptor.forClass(ByteBuf.class);
+        verify(context).write(captor.capture());
+        assertThat(captor.getValue().readableBytes(), is(8));
+        verify(context).flush();
+        verify(scheduledFuture).cancel(false);
+    }
+    
+    @Test
+    public void assertFlushOnEventLoopWhenFlushIntervalElapsed() {
+        CoalescingPacketWriter writer = createWriter(1024, 10L);
+        writer.write(mock(DatabasePacket.class));
+        writer.write(mock(DatabasePacket.class));
+        ArgumentCaptor<Runnable> flushTaskCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(eventExecutor).schedule(flushTaskCaptor.capture(), eq(TimeUnit.MILLISECONDS.toNanos(10L)), eq(TimeUnit.NANOSECONDS));
+        verify(context, never()).write(any());
+        flushTaskCaptor.getValue().run();
+        ArgumentCaptor<ByteBuf> captor = ArgumentCaptor.forClass(ByteBuf.class);
+        verify(context).write(captor.capture());
+        assertThat(captor.getValue().readableBytes(), is(8));
+        verify(context).flush();
+        writer.write(mock(DatabasePacket.class));
+        verify(eventExecutor, times(2)).schedule(any(Runnable.class), anyLong(), eq(TimeUnit.NANOSECONDS));
+    }
+    
+    @Test
+    public void assertWriteBuffered() {
+        CoalescingPacketWriter writer = createWriter(1024, 1000L);
+        writer.write(mock(DatabasePacket.class));
+        writer.writeBuffered();
+        writer.writeBuffered();
+        ArgumentCaptor<ByteBuf> captor = ArgumentCaptor.forClass(ByteBuf.class);
+        verify(context).write(captor.capture());
+        assertThat(captor.getValue().readableBytes(), is(4));
+        verify(context, never()).flush();
+        verify(scheduledFuture).cancel(false);
+    }
+    
+    private CoalescingPacketWriter createWriter(final int flushBytesThreshold, final long flushIntervalMilliseconds) {
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        when(context.executor()).thenReturn(eventExecutor);
+        doReturn(scheduledFuture).when(eventExecutor).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+        doAnswer(invocation -> {
+            ((ByteBuf) invocation.getArgument(2)).writeZero(4);
+            return null;
+        }).when(codecEngine).encode(eq(context), any(), any(ByteBuf.class));
+        return new CoalescingPacketWriter(codecEngine, context, createProperties(flushBytesThreshold, flushIntervalMilliseconds));
+    }
+    
+    private ConfigurationProperties createProperties(final int flushBytesThreshold, final long flushIntervalMilliseconds) {
+        Properties result = new Properties();
+        result.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD.getKey(), String.valueOf(flushBytesThreshold));
+        result.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_INTERVAL_MILLISECONDS.getKey(), String.valueOf(flushIntervalMilliseconds));
+        return new ConfigurationProperties(result);
+    }
+}
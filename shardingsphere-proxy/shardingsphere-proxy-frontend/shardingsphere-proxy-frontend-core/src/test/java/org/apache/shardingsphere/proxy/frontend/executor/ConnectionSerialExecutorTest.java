@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.executor;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ConnectionSerialExecutorTest {
+    
+    @Test
+    public void assertExecuteInSubmittedOrder() {
+        Queue<Runnable> scheduledTasks = new LinkedList<>();
+        ConnectionSerialExecutor actual = new ConnectionSerialExecutor(scheduledTasks::add);
+        List<Integer> results = new LinkedList<>();
+        actual.execute(() -> results.add(1));
+        actual.execute(() -> results.add(2));
+        actual.execute(() -> results.add(3));
+        assertThat(scheduledTasks.size(), is(1));
+        while (!scheduledTasks.isEmpty()) {
+            scheduledTasks.poll().run();
+        }
+        assertThat(results, is(Arrays.asList(1, 2, 3)));
+    }
+    
+    @Test
+    public void assertExecuteWithoutConcurrency() throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            ConnectionSerialExecutor actual = new ConnectionSerialExecutor(executorService);
+            AtomicInteger runningCount = new AtomicInteger();
+            AtomicInteger maxRunningCount = new AtomicInteger();
+            int taskCount = 100;
+            CountDownLatch latch = new CountDownLatch(taskCount);
+            for (int i = 0; i < taskCount; i++) {
+                actual.execute(() -> {
+                    maxRunningCount.accumulateAndGet(runningCount.incrementAndGet(), Math::max);
+                    runningCount.decrementAndGet();
+                    latch.countDown();
+                });
+            }
+            assertTrue(latch.await(10L, TimeUnit.SECONDS));
+            assertThat(maxRunningCount.get(), is(1));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+}
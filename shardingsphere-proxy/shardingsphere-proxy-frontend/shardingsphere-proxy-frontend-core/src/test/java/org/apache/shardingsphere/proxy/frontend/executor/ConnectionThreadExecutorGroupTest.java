@@ -17,26 +17,65 @@
 
 package org.apache.shardingsphere.proxy.frontend.executor;
 
+import lombok.SneakyThrows;
 import org.junit.Test;
 
-import static org.junit.Assert.assertNotNull;
-import static org.junit.Assert.assertNull;
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class ConnectionThreadExecutorGroupTest {
     
     @Test
-    public void assertRegister() {
+    public void assertGet() {
         int connectionId = 1;
-        ConnectionThreadExecutorGroup.getInstance().register(connectionId);
-        assertNotNull(ConnectionThreadExecutorGroup.getInstance().get(connectionId));
+        assertFalse(getExecutorServices().containsKey(connectionId));
+        ExecutorService actual = ConnectionThreadExecutorGroup.getInstance().get(connectionId);
+        assertThat(ConnectionThreadExecutorGroup.getInstance().get(connectionId), sameInstance(actual));
         ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
     }
     
     @Test
     public void assertUnregister() {
         int connectionId = 2;
-        ConnectionThreadExecutorGroup.getInstance().register(connectionId);
+        ExecutorService executorService = ConnectionThreadExecutorGroup.getInstance().get(connectionId);
+        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
+        assertTrue(executorService.isTerminated());
+        assertFalse(getExecutorServices().containsKey(connectionId));
+    }
+    
+    @Test
+    public void assertGetSerialExecutor() {
+        int connectionId = 4;
+        Executor actual = ConnectionThreadExecutorGroup.getInstance().getSerialExecutor(connectionId);
+        assertThat(actual, instanceOf(ConnectionSerialExecutor.class));
+        assertThat(ConnectionThreadExecutorGroup.getInstance().getSerialExecutor(connectionId), sameInstance(actual));
+        assertFalse(getExecutorServices().containsKey(connectionId));
+        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
+        assertThat(ConnectionThreadExecutorGroup.getInstance().getSerialExecutor(connectionId), not(sameInstance(actual)));
         ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
-        assertNull(ConnectionThreadExecutorGroup.getInstance().get(connectionId));
+    }
+    
+    @Test
+    public void assertUnregisterWithoutExecutorService() {
+        int connectionId = 3;
+        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
+        assertFalse(getExecutorServices().containsKey(connectionId));
+    }
+    
+    @SuppressWarnings("unchecked")
+    @SneakyThrows
+    private Map<Integer, ExecutorService> getExecutorServices() {
+        Field field = ConnectionThreadExecutorGroup.class.getDeclaredField("executorServices");
+        field.setAccessible(true);
+        return (Map<Integer, ExecutorService>) field.get(ConnectionThreadExecutorGroup.getInstance());
     }
 }
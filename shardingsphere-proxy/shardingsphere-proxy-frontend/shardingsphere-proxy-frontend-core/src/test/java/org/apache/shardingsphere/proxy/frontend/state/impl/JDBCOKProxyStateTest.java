@@ -39,6 +39,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import java.lang.reflect.Field;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -97,14 +98,14 @@ public final class JDBCOKProxyStateTest extends ProxyContextRestorer {
     }
     
     @Test
-    public void assertExecuteWithProxyBackendExecutorSuitableForOLAPAndRequiredSameThreadForConnection() {
+    public void assertExecuteWithProxyBackendExecutorSuitableForOLAPAndRequiredSerialExecutionForConnection() {
         when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_HINT_ENABLED)).thenReturn(false);
         when(ProxyContext.getInstance().getContextManager()
                 .getMetaDataContexts().getMetaData().getProps().<String>getValue(ConfigurationPropertyKey.PROXY_BACKEND_EXECUTOR_SUITABLE)).thenReturn("OLAP");
-        when(frontendEngine.getFrontendContext().isRequiredSameThreadForConnection(null)).thenReturn(true);
-        ExecutorService executorService = registerMockExecutorService(1);
+        when(frontendEngine.getFrontendContext().isRequiredSerialExecutionForConnection(null)).thenReturn(true);
+        Executor serialExecutor = registerMockSerialExecutor(1);
         new JDBCOKProxyState().execute(context, null, frontendEngine, connectionSession);
-        verify(executorService).execute(any(CommandExecutorTask.class));
+        verify(serialExecutor).execute(any(CommandExecutorTask.class));
         ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(1);
     }
     
@@ -126,4 +127,15 @@ public final class JDBCOKProxyStateTest extends ProxyContextRestorer {
         executorServices.put(connectionId, result);
         return result;
     }
+    
+    @SuppressWarnings({"unchecked", "SameParameterValue"})
+    @SneakyThrows
+    private Executor registerMockSerialExecutor(final int connectionId) {
+        Field serialExecutorsField = ConnectionThreadExecutorGroup.class.getDeclaredField("serialExecutors");
+        serialExecutorsField.setAccessible(true);
+        Map<Integer, Executor> serialExecutors = (Map<Integer, Executor>) serialExecutorsField.get(ConnectionThreadExecutorGroup.getInstance());
+        Executor result = mock(Executor.class);
+        serialExecutors.put(connectionId, result);
+        return result;
+    }
 }
@@ -29,7 +29,7 @@ public final class MySQLFrontendContext implements FrontendContext {
     private boolean previousCommandRequiresNoServerResponse;
     
     @Override
-    public boolean isRequiredSameThreadForConnection(final Object message) {
+    public boolean isRequiredSerialExecutionForConnection(final Object message) {
         ByteBuf byteBuf = (ByteBuf) message;
         if (byteBuf.readableBytes() < 2) {
             return false;
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.proxy.frontend.mysql.command;
 
 import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLPacketCodecEngine;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacketType;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacketTypeLoader;
@@ -27,11 +28,13 @@ import org.apache.shardingsphere.db.protocol.packet.CommandPacket;
 import org.apache.shardingsphere.db.protocol.packet.CommandPacketType;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.proxy.backend.communication.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.CoalescingPacketWriter;
 import org.apache.shardingsphere.proxy.frontend.command.CommandExecuteEngine;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
@@ -46,6 +49,8 @@ import java.util.Optional;
  */
 public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
     
+    private final MySQLPacketCodecEngine codecEngine = new MySQLPacketCodecEngine();
+    
     @Override
     public MySQLCommandPacketType getCommandPacketType(final PacketPayload payload) {
         return MySQLCommandPacketTypeLoader.getCommandPacketType((MySQLPacketPayload) payload);
@@ -77,14 +82,41 @@ public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
         if (ResponseType.QUERY != queryCommandExecutor.getResponseType() || !context.channel().isActive()) {
             return;
         }
+        ConfigurationProperties props = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps();
+        int currentSequenceId = CoalescingPacketWriter.isEnabled(props)
+                ? writeCoalescedQueryData(context, (JDBCBackendConnection) backendConnection, queryCommandExecutor, new CoalescingPacketWriter(codecEngine, context, props))
+                : writeQueryDataWithFlushThreshold(context, (JDBCBackendConnection) backendConnection, queryCommandExecutor,
+                        props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD));
+        context.write(new MySQLEofPacket(++currentSequenceId + headerPackagesCount, ServerStatusFlagCalculator.calculateFor(backendConnection.getConnectionSession())));
+    }
+    
+    private int writeCoalescedQueryData(final ChannelHandlerContext context, final JDBCBackendConnection backendConnection,
+                                        final QueryCommandExecutor queryCommandExecutor, final CoalescingPacketWriter packetWriter) throws SQLException {
+        int currentSequenceId = 0;
+        try {
+            while (queryCommandExecutor.next()) {
+                while (!context.channel().isWritable() && context.channel().isActive()) {
+                    packetWriter.flush();
+                    backendConnection.getResourceLock().doAwait();
+                }
+                packetWriter.write(queryCommandExecutor.getQueryRowPacket());
+                currentSequenceId++;
+            }
+        } finally {
+            packetWriter.writeBuffered();
+        }
+        return currentSequenceId;
+    }
+    
+    private int writeQueryDataWithFlushThreshold(final ChannelHandlerContext context, final JDBCBackendConnection backendConnection,
+                                                 final QueryCommandExecutor queryCommandExecutor, final int flushThreshold) throws SQLException {
         int count = 0;
-        int flushThreshold = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
         int currentSequenceId = 0;
         while (queryCommandExecutor.next()) {
             count++;
             while (!context.channel().isWritable() && context.channel().isActive()) {
                 context.flush();
-                ((JDBCBackendConnection) backendConnection).getResourceLock().doAwait();
+                backendConnection.getResourceLock().doAwait();
             }
             DatabasePacket<?> dataValue = queryCommandExecutor.getQueryRowPacket();
             context.write(dataValue);
@@ -94,6 +126,6 @@ public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
             }
             currentSequenceId++;
         }
-        context.write(new MySQLEofPacket(++currentSequenceId + headerPackagesCount, ServerStatusFlagCalculator.calculateFor(backendConnection.getConnectionSession())));
+        return currentSequenceId;
     }
 }
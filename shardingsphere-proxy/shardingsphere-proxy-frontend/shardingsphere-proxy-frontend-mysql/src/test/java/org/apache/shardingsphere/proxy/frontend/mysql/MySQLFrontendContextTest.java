@@ -28,25 +28,25 @@ import static org.junit.Assert.assertTrue;
 public final class MySQLFrontendContextTest {
     
     @Test
-    public void assertIsRequiredSameThreadForConnection() {
+    public void assertIsRequiredSerialExecutionForConnection() {
         MySQLFrontendContext actual = new MySQLFrontendContext();
         ByteBuf comStmtExecuteMessage = Unpooled.wrappedBuffer(new byte[]{0x00, (byte) MySQLCommandPacketType.COM_STMT_EXECUTE.getValue()});
         ByteBuf comStmtSendLongData = Unpooled.wrappedBuffer(new byte[]{0x00, (byte) MySQLCommandPacketType.COM_STMT_SEND_LONG_DATA.getValue()});
-        assertFalse(actual.isRequiredSameThreadForConnection(comStmtExecuteMessage));
-        assertTrue(actual.isRequiredSameThreadForConnection(comStmtSendLongData));
-        assertTrue(actual.isRequiredSameThreadForConnection(comStmtSendLongData));
-        assertTrue(actual.isRequiredSameThreadForConnection(comStmtExecuteMessage));
-        assertFalse(actual.isRequiredSameThreadForConnection(comStmtExecuteMessage));
+        assertFalse(actual.isRequiredSerialExecutionForConnection(comStmtExecuteMessage));
+        assertTrue(actual.isRequiredSerialExecutionForConnection(comStmtSendLongData));
+        assertTrue(actual.isRequiredSerialExecutionForConnection(comStmtSendLongData));
+        assertTrue(actual.isRequiredSerialExecutionForConnection(comStmtExecuteMessage));
+        assertFalse(actual.isRequiredSerialExecutionForConnection(comStmtExecuteMessage));
         ByteBuf comStmtCloseMessage = Unpooled.wrappedBuffer(new byte[]{0x00, (byte) MySQLCommandPacketType.COM_STMT_CLOSE.getValue()});
-        assertTrue(actual.isRequiredSameThreadForConnection(comStmtCloseMessage));
-        assertTrue(actual.isRequiredSameThreadForConnection(comStmtCloseMessage));
-        assertTrue(actual.isRequiredSameThreadForConnection(comStmtExecuteMessage));
-        assertFalse(actual.isRequiredSameThreadForConnection(comStmtExecuteMessage));
+        assertTrue(actual.isRequiredSerialExecutionForConnection(comStmtCloseMessage));
+        assertTrue(actual.isRequiredSerialExecutionForConnection(comStmtCloseMessage));
+        assertTrue(actual.isRequiredSerialExecutionForConnection(comStmtExecuteMessage));
+        assertFalse(actual.isRequiredSerialExecutionForConnection(comStmtExecuteMessage));
     }
     
     @Test
     public void assertNoEnoughReadableBytes() {
         MySQLFrontendContext actual = new MySQLFrontendContext();
-        assertFalse(actual.isRequiredSameThreadForConnection(Unpooled.wrappedBuffer(new byte[1])));
+        assertFalse(actual.isRequiredSerialExecutionForConnection(Unpooled.wrappedBuffer(new byte[1])));
     }
 }
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.Attribute;
+import io.netty.util.concurrent.EventExecutor;
+import org.apache.shardingsphere.db.protocol.CommonConstants;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.mode.metadata.persist.MetaDataPersistService;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.ResourceLock;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.transaction.TransactionStatus;
+import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
+import org.apache.shardingsphere.proxy.frontend.mysql.ProxyContextRestorer;
+import org.apache.shardingsphere.transaction.core.TransactionType;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class MySQLCommandExecuteEngineTest extends ProxyContextRestorer {
+    
+    @Mock
+    private ChannelHandlerContext channelHandlerContext;
+    
+    @Mock
+    private Channel channel;
+    
+    @Mock
+    private QueryCommandExecutor queryCommandExecutor;
+    
+    @Mock
+    private ConnectionSession connectionSession;
+    
+    @Mock
+    private ResourceLock resourceLock;
+    
+    @Mock
+    private JDBCBackendConnection backendConnection;
+    
+    @Mock
+    private MySQLPacket packet;
+    
+    @Before
+    public void setUp() {
+        when(channelHandlerContext.channel()).thenReturn(channel);
+        when(channel.isActive()).thenReturn(true);
+        when(channel.attr(CommonConstants.CHARSET_ATTRIBUTE_KEY)).thenReturn(mock(Attribute.class));
+        when(channelHandlerContext.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        when(channelHandlerContext.executor()).thenReturn(mock(EventExecutor.class));
+        when(queryCommandExecutor.getResponseType()).thenReturn(ResponseType.QUERY);
+        when(backendConnection.getConnectionSession()).thenReturn(connectionSession);
+        when(connectionSession.getTransactionStatus()).thenReturn(new TransactionStatus(TransactionType.LOCAL));
+        when(packet.getSequenceId()).thenReturn(1);
+        doAnswer(invocation -> {
+            ((MySQLPacketPayload) invocation.getArgument(0)).writeInt4(1);
+            return null;
+        }).when(packet).write(any(MySQLPacketPayload.class));
+        when(queryCommandExecutor.getQueryRowPacket()).thenReturn(packet);
+    }
+    
+    @Test
+    public void assertWriteQueryDataWithCoalescing() throws SQLException {
+        initProxyContext(new Properties());
+        when(queryCommandExecutor.next()).thenReturn(true, true, true, false);
+        when(channel.isWritable()).thenReturn(false, true);
+        when(backendConnection.getResourceLock()).thenReturn(resourceLock);
+        new MySQLCommandExecuteEngine().writeQueryData(channelHandlerContext, backendConnection, queryCommandExecutor, 0);
+        verify(resourceLock).doAwait();
+        ArgumentCaptor<ByteBuf> bufferCaptor = ArgumentCaptor.forClass(ByteBuf.class);
+        verify(channelHandlerContext).write(bufferCaptor.capture());
+        assertThat(bufferCaptor.getValue().readableBytes(), is(3 * 8));
+        verify(channelHandlerContext, never()).write(packet);
+        verify(channelHandlerContext).write(isA(MySQLEofPacket.class));
+    }
+    
+    @Test
+    public void assertWriteQueryDataWithCoalescingFlushedByBytesThreshold() throws SQLException {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD.getKey(), "16");
+        initProxyContext(props);
+        when(queryCommandExecutor.next()).thenReturn(true, true, true, false);
+        when(channel.isWritable()).thenReturn(true);
+        new MySQLCommandExecuteEngine().writeQueryData(channelHandlerContext, backendConnection, queryCommandExecutor, 0);
+        ArgumentCaptor<ByteBuf> bufferCaptor = ArgumentCaptor.forClass(ByteBuf.class);
+        verify(channelHandlerContext, times(2)).write(bufferCaptor.capture());
+        List<ByteBuf> actual = bufferCaptor.getAllValues();
+        assertThat(actual.get(0).readableBytes(), is(2 * 8));
+        assertThat(actual.get(1).readableBytes(), is(8));
+        verify(channelHandlerContext, atLeastOnce()).flush();
+        verify(channelHandlerContext, never()).write(packet);
+        verify(channelHandlerContext).write(isA(MySQLEofPacket.class));
+    }
+    
+    private void initProxyContext(final Properties props) {
+        ProxyContext.init(new ContextManager(new MetaDataContexts(mock(MetaDataPersistService.class),
+                new ShardingSphereMetaData(new LinkedHashMap<>(), new ShardingSphereRuleMetaData(Collections.emptyList()), new ConfigurationProperties(props))), mock(InstanceContext.class)));
+    }
+}
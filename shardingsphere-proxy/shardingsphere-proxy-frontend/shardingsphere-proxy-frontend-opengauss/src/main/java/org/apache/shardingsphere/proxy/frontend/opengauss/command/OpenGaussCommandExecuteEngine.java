@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.proxy.frontend.opengauss.command;
 
 import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.opengauss.codec.OpenGaussPacketCodecEngine;
 import org.apache.shardingsphere.db.protocol.opengauss.packet.command.OpenGaussCommandPacketFactory;
 import org.apache.shardingsphere.db.protocol.opengauss.packet.command.OpenGaussCommandPacketType;
 import org.apache.shardingsphere.db.protocol.packet.CommandPacket;
@@ -44,7 +45,7 @@ import java.util.Optional;
  */
 public final class OpenGaussCommandExecuteEngine implements CommandExecuteEngine {
     
-    private final PostgreSQLCommandExecuteEngine postgreSQLCommandExecuteEngine = new PostgreSQLCommandExecuteEngine();
+    private final PostgreSQLCommandExecuteEngine postgreSQLCommandExecuteEngine = new PostgreSQLCommandExecuteEngine(new OpenGaussPacketCodecEngine());
     
     @Override
     public CommandPacketType getCommandPacketType(final PacketPayload payload) {
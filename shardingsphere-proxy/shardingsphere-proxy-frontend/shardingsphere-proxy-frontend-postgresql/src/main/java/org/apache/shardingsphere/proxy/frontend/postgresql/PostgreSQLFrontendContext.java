@@ -25,7 +25,7 @@ import org.apache.shardingsphere.proxy.frontend.context.FrontendContext;
 public final class PostgreSQLFrontendContext implements FrontendContext {
     
     @Override
-    public boolean isRequiredSameThreadForConnection(final Object message) {
+    public boolean isRequiredSerialExecutionForConnection(final Object message) {
         return true;
     }
 }
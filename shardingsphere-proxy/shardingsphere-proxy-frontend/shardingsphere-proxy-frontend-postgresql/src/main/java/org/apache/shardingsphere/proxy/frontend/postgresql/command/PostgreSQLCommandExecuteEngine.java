@@ -18,10 +18,14 @@
 package org.apache.shardingsphere.proxy.frontend.postgresql.command;
 
 import io.netty.channel.ChannelHandlerContext;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.codec.DatabasePacketCodecEngine;
 import org.apache.shardingsphere.db.protocol.packet.CommandPacket;
 import org.apache.shardingsphere.db.protocol.packet.CommandPacketType;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
+import org.apache.shardingsphere.db.protocol.postgresql.codec.PostgreSQLPacketCodecEngine;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacketFactory;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacketType;
@@ -30,11 +34,13 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.Pos
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.proxy.backend.communication.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.CoalescingPacketWriter;
 import org.apache.shardingsphere.proxy.frontend.command.CommandExecuteEngine;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
@@ -48,8 +54,15 @@ import java.util.Optional;
 /**
  * Command execute engine for PostgreSQL.
  */
+@RequiredArgsConstructor
 public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngine {
     
+    private final DatabasePacketCodecEngine<PostgreSQLPacket> codecEngine;
+    
+    public PostgreSQLCommandExecuteEngine() {
+        this(new PostgreSQLPacketCodecEngine());
+    }
+    
     @Override
     public PostgreSQLCommandPacketType getCommandPacketType(final PacketPayload payload) {
         return PostgreSQLCommandPacketTypeLoader.getCommandPacketType((PostgreSQLPacketPayload) payload);
@@ -101,10 +114,37 @@ public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngin
     }
     
     private long writeDataPackets(final ChannelHandlerContext context, final JDBCBackendConnection backendConnection, final QueryCommandExecutor queryCommandExecutor) throws SQLException {
+        ConfigurationProperties props = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps();
+        return CoalescingPacketWriter.isEnabled(props)
+                ? writeCoalescedDataPackets(context, backendConnection, queryCommandExecutor, new CoalescingPacketWriter(codecEngine, context, props))
+                : writeDataPacketsWithFlushThreshold(context, backendConnection, queryCommandExecutor, props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD));
+    }
+    
+    private long writeCoalescedDataPackets(final ChannelHandlerContext context, final JDBCBackendConnection backendConnection,
+                                           final QueryCommandExecutor queryCommandExecutor, final CoalescingPacketWriter packetWriter) throws SQLException {
+        long dataRows = 0;
+        try {
+            while (queryCommandExecutor.next()) {
+                while (!context.channel().isWritable() && context.channel().isActive()) {
+                    packetWriter.flush();
+                    backendConnection.getResourceLock().doAwait();
+                }
+                DatabasePacket<?> resultValue = queryCommandExecutor.getQueryRowPacket();
+                packetWriter.write(resultValue);
+                if (resultValue instanceof PostgreSQLDataRowPacket) {
+                    dataRows++;
+                }
+            }
+        } finally {
+            packetWriter.writeBuffered();
+        }
+        return dataRows;
+    }
+    
+    private long writeDataPacketsWithFlushThreshold(final ChannelHandlerContext context, final JDBCBackendConnection backendConnection,
+                                                    final QueryCommandExecutor queryCommandExecutor, final int proxyFrontendFlushThreshold) throws SQLException {
         long dataRows = 0;
         int flushCount = 0;
-        int proxyFrontendFlushThreshold = ProxyContext.getInstance()
-                .getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
         while (queryCommandExecutor.next()) {
             flushCount++;
             while (!context.channel().isWritable() && context.channel().isActive()) {
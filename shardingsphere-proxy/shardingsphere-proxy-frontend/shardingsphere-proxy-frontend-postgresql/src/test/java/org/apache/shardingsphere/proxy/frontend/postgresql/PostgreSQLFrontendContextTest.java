@@ -24,7 +24,7 @@ import static org.junit.Assert.assertTrue;
 public final class PostgreSQLFrontendContextTest {
     
     @Test
-    public void assertIsRequiredSameThreadForConnection() {
-        assertTrue(new PostgreSQLFrontendContext().isRequiredSameThreadForConnection(null));
+    public void assertIsRequiredSerialExecutionForConnection() {
+        assertTrue(new PostgreSQLFrontendContext().isRequiredSerialExecutionForConnection(null));
     }
 }
@@ -18,12 +18,21 @@
 package org.apache.shardingsphere.proxy.frontend.postgresql.command;
 
 import io.netty.channel.Channel;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.Attribute;
+import io.netty.util.concurrent.EventExecutor;
+import org.apache.shardingsphere.db.protocol.CommonConstants;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.mode.metadata.persist.MetaDataPersistService;
@@ -43,11 +52,17 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.sql.SQLException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Properties;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -108,6 +123,40 @@ public final class PostgreSQLCommandExecuteEngineTest extends ProxyContextRestor
         PostgreSQLComQueryExecutor queryCommandExecutor = mock(PostgreSQLComQueryExecutor.class);
         when(queryCommandExecutor.getResponseType()).thenReturn(ResponseType.QUERY);
         when(channel.isActive()).thenReturn(true);
+        when(channel.attr(CommonConstants.CHARSET_ATTRIBUTE_KEY)).thenReturn(mock(Attribute.class));
+        when(channelHandlerContext.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        when(channelHandlerContext.executor()).thenReturn(mock(EventExecutor.class));
+        when(queryCommandExecutor.next()).thenReturn(true, false);
+        when(channel.isWritable()).thenReturn(false, true);
+        ResourceLock resourceLock = mock(ResourceLock.class);
+        JDBCBackendConnection backendConnection = mock(JDBCBackendConnection.class);
+        when(backendConnection.getResourceLock()).thenReturn(resourceLock);
+        when(backendConnection.getConnectionSession()).thenReturn(connectionSession);
+        PostgreSQLPacket packet = mock(PostgreSQLPacket.class);
+        doAnswer(invocation -> {
+            ((PostgreSQLPacketPayload) invocation.getArgument(0)).writeInt4(1);
+            return null;
+        }).when(packet).write(any(PostgreSQLPacketPayload.class));
+        when(queryCommandExecutor.getQueryRowPacket()).thenReturn(packet);
+        PostgreSQLCommandExecuteEngine commandExecuteEngine = new PostgreSQLCommandExecuteEngine();
+        commandExecuteEngine.writeQueryData(channelHandlerContext, backendConnection, queryCommandExecutor, 0);
+        verify(resourceLock).doAwait();
+        verify(channelHandlerContext).write(isA(ByteBuf.class));
+        verify(channelHandlerContext, never()).write(packet);
+        verify(channelHandlerContext).write(isA(PostgreSQLCommandCompletePacket.class));
+        verify(channelHandlerContext, atLeastOnce()).flush();
+        verify(channelHandlerContext).write(isA(PostgreSQLReadyForQueryPacket.class));
+    }
+    
+    @Test
+    public void assertWriteQueryDataWithHasNextResultWithoutCoalescing() throws SQLException {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD.getKey(), "0");
+        ProxyContext.init(new ContextManager(new MetaDataContexts(mock(MetaDataPersistService.class),
+                new ShardingSphereMetaData(new LinkedHashMap<>(), new ShardingSphereRuleMetaData(Collections.emptyList()), new ConfigurationProperties(props))), mock(InstanceContext.class)));
+        PostgreSQLComQueryExecutor queryCommandExecutor = mock(PostgreSQLComQueryExecutor.class);
+        when(queryCommandExecutor.getResponseType()).thenReturn(ResponseType.QUERY);
+        when(channel.isActive()).thenReturn(true);
         when(queryCommandExecutor.next()).thenReturn(true, false);
         when(channel.isWritable()).thenReturn(false, true);
         ResourceLock resourceLock = mock(ResourceLock.class);
@@ -23,10 +23,12 @@ package org.apache.shardingsphere.proxy.frontend.context;
 public interface FrontendContext {
     
     /**
-     * Whether Proxy should use same thread to execute tasks.
+     * Whether Proxy should execute tasks of connection serially in order.
+     * 
+     * <p>Tasks executed serially are not necessarily executed by the same thread.</p>
      *
      * @param message message
-     * @return is same thread required
+     * @return is serial execution required
      */
-    boolean isRequiredSameThreadForConnection(Object message);
+    boolean isRequiredSerialExecutionForConnection(Object message);
 }
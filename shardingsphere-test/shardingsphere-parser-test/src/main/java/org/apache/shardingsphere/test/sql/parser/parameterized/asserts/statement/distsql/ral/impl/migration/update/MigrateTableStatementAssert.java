@@ -42,5 +42,6 @@ public final class MigrateTableStatementAssert {
         assertThat(assertContext.getText("source table name does not match"), actual.getSourceTableName(), is(expected.getSourceTableName()));
         assertThat(assertContext.getText("target database name does not match"), actual.getTargetDatabaseName(), is(expected.getTargetDatabaseName()));
         assertThat(assertContext.getText("target table name does not match"), actual.getTargetTableName(), is(expected.getTargetTableName()));
+        assertThat(assertContext.getText("decoding plugin does not match"), actual.getDecodingPlugin(), is(expected.getDecodingPlugin()));
     }
 }
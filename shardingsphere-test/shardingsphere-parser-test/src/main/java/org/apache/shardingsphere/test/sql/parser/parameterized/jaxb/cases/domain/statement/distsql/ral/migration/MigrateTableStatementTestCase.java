@@ -44,4 +44,7 @@ public final class MigrateTableStatementTestCase extends SQLParserTestCase {
     
     @XmlElement(name = "target-table-name")
     private String targetTableName;
+    
+    @XmlElement(name = "decoding-plugin")
+    private String decodingPlugin;
 }
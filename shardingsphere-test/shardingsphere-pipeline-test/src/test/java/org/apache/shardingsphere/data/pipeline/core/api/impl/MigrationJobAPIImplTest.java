@@ -276,6 +276,14 @@ public final class MigrationJobAPIImplTest {
         assertThat(jobConfig.getTargetTableName(), is("t_order"));
     }
     
+    @Test
+    public void assertCreateJobConfigWithDecodingPlugin() {
+        CreateMigrationJobParameter parameter = new CreateMigrationJobParameter("ds_0", null, "t_order_item", "logic_db", "t_order_item");
+        parameter.setDecodingPlugin("pgoutput");
+        String jobId = jobAPI.createJobAndStart(parameter);
+        assertThat(jobAPI.getJobConfiguration(jobId).getDecodingPlugin(), is("pgoutput"));
+    }
+    
     @Test
     public void assertShowMigrationSourceResources() {
         Collection<Collection<Object>> actual = jobAPI.listMigrationSourceResources();
@@ -52,6 +52,8 @@ import java.util.Set;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -83,7 +85,7 @@ public final class DefaultImporterTest {
     @Before
     public void setUp() throws SQLException {
         jdbcImporter = new DefaultImporter(mockImporterConfiguration(), dataSourceManager, channel, new FixturePipelineJobProgressListener());
-        when(dataSourceManager.getDataSource(dataSourceConfig)).thenReturn(dataSource);
+        when(dataSourceManager.getDataSource(any(PipelineDataSourceConfiguration.class))).thenReturn(dataSource);
         when(dataSource.getConnection()).thenReturn(connection);
     }
     
@@ -99,6 +101,41 @@ public final class DefaultImporterTest {
         verify(preparedStatement).addBatch();
     }
     
+    @Test
+    public void assertWriteInsertDataRecordsWithMultiRowInsert() throws SQLException {
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        List<Record> records = new LinkedList<>();
+        records.add(getDataRecord("INSERT", 1));
+        records.add(getDataRecord("INSERT", 2));
+        records.add(new FinishedRecord(new PlaceholderPosition()));
+        when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(records);
+        PipelineDataSourceConfiguration mysqlDataSourceConfig = new StandardPipelineDataSourceConfiguration("jdbc:mysql://127.0.0.1:3306/test_db", "root", "root");
+        DefaultImporter mysqlImporter = new DefaultImporter(mockImporterConfiguration(mysqlDataSourceConfig), dataSourceManager, channel, new FixturePipelineJobProgressListener());
+        mysqlImporter.run();
+        verify(connection).prepareStatement("INSERT INTO test_table(id,user,status) VALUES(?,?,?),(?,?,?) ON DUPLICATE KEY UPDATE status=VALUES(status)");
+        verify(preparedStatement, times(6)).setObject(anyInt(), any());
+        verify(preparedStatement).executeUpdate();
+        verify(preparedStatement, never()).addBatch();
+        verify(channel).ack(records);
+    }
+    
+    @Test
+    public void assertAckRecordsInOrderAcrossBatches() throws SQLException {
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        List<Record> firstRecords = Collections.singletonList(getDataRecord("INSERT", 1));
+        List<Record> secondRecords = Collections.singletonList(getDataRecord("INSERT", 2));
+        List<Record> thirdRecords = mockRecords(getDataRecord("INSERT", 3));
+        when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(firstRecords, secondRecords, thirdRecords);
+        jdbcImporter.run();
+        InOrder inOrder = inOrder(connection, channel);
+        inOrder.verify(connection).commit();
+        inOrder.verify(channel).ack(firstRecords);
+        inOrder.verify(connection).commit();
+        inOrder.verify(channel).ack(secondRecords);
+        inOrder.verify(connection).commit();
+        inOrder.verify(channel).ack(thirdRecords);
+    }
+    
     @Test
     public void assertDeleteDataRecord() throws SQLException {
         DataRecord deleteRecord = getDataRecord("DELETE");
@@ -160,16 +197,24 @@ public final class DefaultImporterTest {
     }
     
     private DataRecord getDataRecord(final String recordType) {
+        return getDataRecord(recordType, 1);
+    }
+    
+    private DataRecord getDataRecord(final String recordType, final int id) {
         DataRecord result = new DataRecord(new PlaceholderPosition(), 3);
         result.setTableName(TABLE_NAME);
         result.setType(recordType);
-        result.addColumn(new Column("id", 1, false, true));
+        result.addColumn(new Column("id", id, false, true));
         result.addColumn(new Column("user", 10, true, false));
         result.addColumn(new Column("status", recordType, true, false));
         return result;
     }
     
     private ImporterConfiguration mockImporterConfiguration() {
+        return mockImporterConfiguration(dataSourceConfig);
+    }
+    
+    private ImporterConfiguration mockImporterConfiguration(final PipelineDataSourceConfiguration dataSourceConfig) {
         Map<LogicTableName, Set<String>> shardingColumnsMap = Collections.singletonMap(new LogicTableName("test_table"), Collections.singleton("user"));
         return new ImporterConfiguration(dataSourceConfig, shardingColumnsMap, new TableNameSchemaNameMapping(Collections.emptyMap()), 1000, null, 3, 3);
     }
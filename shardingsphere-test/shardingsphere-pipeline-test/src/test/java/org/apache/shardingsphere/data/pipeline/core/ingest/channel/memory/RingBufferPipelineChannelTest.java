@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.EmptyAckCallback;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class RingBufferPipelineChannelTest {
+    
+    @Test
+    public void assertFetchRecordsInPushOrder() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, RingBufferWaitStrategy.BUSY_SPIN, new EmptyAckCallback());
+        Record first = new PlaceholderRecord(new PlaceholderPosition());
+        Record second = new PlaceholderRecord(new PlaceholderPosition());
+        channel.pushRecord(first);
+        channel.pushRecord(second);
+        List<Record> actual = channel.fetchRecords(2, 0);
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0), sameInstance(first));
+        assertThat(actual.get(1), sameInstance(second));
+    }
+    
+    @Test
+    public void assertFetchRecordsReturnAvailableRecordsAfterTimeout() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, RingBufferWaitStrategy.SLEEPING, new EmptyAckCallback());
+        channel.pushRecord(new PlaceholderRecord(new PlaceholderPosition()));
+        assertThat(channel.fetchRecords(3, 0).size(), is(1));
+        assertTrue(channel.fetchRecords(3, 0).isEmpty());
+    }
+    
+    @Test
+    public void assertPushRecordWaitsForConsumerWhenFull() throws InterruptedException, ExecutionException, TimeoutException {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(3, RingBufferWaitStrategy.YIELDING, new EmptyAckCallback());
+        int recordCount = 1000;
+        CompletableFuture<Void> producer = CompletableFuture.runAsync(() -> {
+            for (int i = 0; i < recordCount; i++) {
+                channel.pushRecord(new PlaceholderRecord(new PlaceholderPosition()));
+            }
+            channel.pushRecord(new FinishedRecord(new PlaceholderPosition()));
+        });
+        List<Record> actual = new ArrayList<>(recordCount + 1);
+        while (actual.isEmpty() || !(actual.get(actual.size() - 1) instanceof FinishedRecord)) {
+            actual.addAll(channel.fetchRecords(10, 1));
+        }
+        producer.get(10, TimeUnit.SECONDS);
+        assertThat(actual.size(), is(recordCount + 1));
+        assertThat(actual.get(recordCount - 1), instanceOf(PlaceholderRecord.class));
+    }
+}
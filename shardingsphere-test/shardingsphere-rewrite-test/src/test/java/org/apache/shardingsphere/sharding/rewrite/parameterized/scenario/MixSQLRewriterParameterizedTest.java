@@ -40,6 +40,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -74,6 +75,7 @@ public final class MixSQLRewriterParameterizedTest extends AbstractSQLRewriterPa
         when(accountTable.getIndexes()).thenReturn(Collections.singletonMap("index_name", new ShardingSphereIndex("index_name")));
         when(result.containsTable("t_account")).thenReturn(true);
         when(result.getTable("t_account")).thenReturn(accountTable);
+        when(result.findTableNameByIndexName("index_name")).thenReturn(Optional.of("t_account"));
         ShardingSphereTable accountBakTable = mock(ShardingSphereTable.class);
         when(accountBakTable.getColumns()).thenReturn(createColumns());
         when(result.containsTable("t_account_bak")).thenReturn(true);
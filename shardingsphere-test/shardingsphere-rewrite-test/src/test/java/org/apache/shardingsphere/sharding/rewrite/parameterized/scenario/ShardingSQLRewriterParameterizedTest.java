@@ -87,6 +87,7 @@ public final class ShardingSQLRewriterParameterizedTest extends AbstractSQLRewri
         when(accountTableMetaData.getPrimaryKeyColumns()).thenReturn(Collections.singletonList("account_id"));
         when(result.containsTable("t_account")).thenReturn(true);
         when(result.getTable("t_account")).thenReturn(accountTableMetaData);
+        when(result.findTableNameByIndexName("status_idx_exist")).thenReturn(Optional.of("t_account"));
         when(result.getTable("t_account_detail")).thenReturn(mock(ShardingSphereTable.class));
         when(result.getAllColumnNames("t_account")).thenReturn(new ArrayList<>(Arrays.asList("account_id", "amount", "status")));
         when(result.getAllColumnNames("t_user")).thenReturn(new ArrayList<>(Arrays.asList("id", "content")));